@@ -0,0 +1,96 @@
+package com.github.zachsand.hs.deck.generator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetGroupMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.TypeMetadataEntity;
+import com.github.zachsand.hs.deck.generator.service.CardCatalog;
+
+/**
+ * In-memory card data shared by the benchmarks, sized like the collectible card pool of the Blizzard API.
+ */
+final class BenchmarkCards {
+
+	static final String[] CLASS_SLUGS = { "neutral", "hunter", "mage", "priest", "rogue", "warrior" };
+	static final String[] SET_SLUGS = { "core", "legacy", "naxxramas", "goblins-vs-gnomes", "the-grand-tournament", "forged-in-the-barrens" };
+	static final int STANDARD_SET_COUNT = 2;
+	static final int CARDS_PER_CLASS_AND_SET = 40;
+
+	final List<ClassMetadataEntity> classMetadata;
+	final List<SetMetadataEntity> setMetadata;
+	final List<SetGroupMetadataEntity> setGroupMetadata;
+	final List<CardEntity> cards;
+	final CardCatalog cardCatalog;
+
+	BenchmarkCards() {
+		classMetadata = IntStream.range(0, CLASS_SLUGS.length).mapToObj(index -> {
+			final ClassMetadataEntity classMetadataEntity = new ClassMetadataEntity();
+			classMetadataEntity.setId(index + 1);
+			classMetadataEntity.setSlug(CLASS_SLUGS[index]);
+			classMetadataEntity.setName(CLASS_SLUGS[index]);
+			classMetadataEntity.setCardId(index == 0 ? 0 : 1000 + index);
+			return classMetadataEntity;
+		}).collect(Collectors.toList());
+
+		setMetadata = IntStream.range(0, SET_SLUGS.length).mapToObj(index -> {
+			final SetMetadataEntity setMetadataEntity = new SetMetadataEntity();
+			setMetadataEntity.setId(index + 1);
+			setMetadataEntity.setSlug(SET_SLUGS[index]);
+			setMetadataEntity.setName(SET_SLUGS[index]);
+			return setMetadataEntity;
+		}).collect(Collectors.toList());
+
+		final SetGroupMetadataEntity standard = new SetGroupMetadataEntity();
+		standard.setSlug("standard");
+		standard.setStandard(true);
+		standard.setCardSets(Set.copyOf(setMetadata.subList(0, STANDARD_SET_COUNT)));
+		setGroupMetadata = List.of(standard);
+
+		final TypeMetadataEntity minion = new TypeMetadataEntity();
+		minion.setId(4);
+		minion.setSlug("minion");
+
+		cards = new ArrayList<>();
+		for (final ClassMetadataEntity classMetadataEntity : classMetadata) {
+			for (final SetMetadataEntity setMetadataEntity : setMetadata) {
+				for (int index = 0; index < CARDS_PER_CLASS_AND_SET; index++) {
+					final int id = 10_000 + cards.size();
+					final CardEntity card = new CardEntity();
+					card.setId(id);
+					card.setCollectible(1);
+					card.setSlug(id + "-" + classMetadataEntity.getSlug());
+					card.setClassMetadata(classMetadataEntity);
+					card.setMultiClassMetadata(Set.of());
+					card.setTypeMetadata(minion);
+					card.setSetMetadata(setMetadataEntity);
+					card.setRarityId(1 + index % 4);
+					card.setArtistName("Artist " + index);
+					card.setManaCost(index % 10);
+					card.setName("Card " + id);
+					card.setText("<b>Battlecry:</b> Deal " + index % 5 + " damage.");
+					card.setImage("https://example.com/cards/" + id + ".png");
+					card.setImageGold("https://example.com/cards/" + id + "-gold.png");
+					card.setFlavorText("Flavor text of card " + id + ".");
+					card.setCropImage("https://example.com/cards/" + id + "-crop.png");
+					cards.add(card);
+				}
+			}
+		}
+
+		cardCatalog = new CardCatalog(cards, classMetadata, setMetadata, setMetadata.subList(0, STANDARD_SET_COUNT), 1);
+	}
+
+	int countCards(final String classSlugName, final String setSlugName) {
+		return (int) cards.stream()
+				.filter(card -> card.getClassMetadata().getSlug().equals(classSlugName))
+				.filter(card -> card.getSetMetadata().getSlug().equals(setSlugName))
+				.count();
+	}
+}
@@ -0,0 +1,124 @@
+package com.github.zachsand.hs.deck.generator.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.TypeMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.util.CardModelUtil;
+
+/**
+ * Compares the card mapping of a deck and of a card page of the Blizzard API, with a {@link ModelMapper} built per
+ * call as the services used to, against the field by field mapping of {@link CardModelUtil}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardMappingBenchmark {
+
+	private static final int DECK_SIZE = 30;
+	private static final int PAGE_SIZE = 500;
+
+	private List<CardEntity> deckCards;
+	private CardModel[] pageCards;
+
+	@Setup
+	public void setup() {
+		final ClassMetadataEntity hunter = new ClassMetadataEntity();
+		hunter.setId(3);
+		hunter.setSlug("hunter");
+		final SetMetadataEntity core = new SetMetadataEntity();
+		core.setId(1);
+		core.setSlug("core");
+		final TypeMetadataEntity minion = new TypeMetadataEntity();
+		minion.setId(4);
+		minion.setSlug("minion");
+
+		deckCards = IntStream.range(0, DECK_SIZE).mapToObj(id -> {
+			final CardEntity card = new CardEntity();
+			card.setId(id);
+			card.setCollectible(1);
+			card.setSlug(id + "-card");
+			card.setClassMetadata(hunter);
+			card.setMultiClassMetadata(Set.of());
+			card.setTypeMetadata(minion);
+			card.setSetMetadata(core);
+			card.setRarityId(2);
+			card.setArtistName("Artist " + id);
+			card.setManaCost(id % 10);
+			card.setName("Card " + id);
+			card.setText("<b>Battlecry:</b> Draw a card.");
+			card.setImage("https://example.com/" + id + ".png");
+			card.setImageGold("https://example.com/" + id + "-gold.png");
+			card.setFlavorText("Flavor " + id);
+			card.setCropImage("https://example.com/" + id + "-crop.png");
+			return card;
+		}).collect(Collectors.toList());
+
+		pageCards = IntStream.range(0, PAGE_SIZE)
+				.mapToObj(id -> CardModelUtil.toCardModels(List.of(deckCards.get(id % DECK_SIZE)), DeckView.FULL).get(0))
+				.toArray(CardModel[]::new);
+	}
+
+	@Benchmark
+	public List<CardModel> deckWithModelMapper() {
+		final ModelMapper modelMapper = new ModelMapper();
+		modelMapper.typeMap(CardEntity.class, CardModel.class).addMappings(mapper -> {
+			mapper.map(src -> src.getClassMetadata().getId(), CardModel::setClassId);
+			mapper.map(src -> src.getSetMetadata().getId(), CardModel::setCardSetId);
+			mapper.map(src -> src.getTypeMetadata().getId(), CardModel::setCardTypeId);
+		});
+		return deckCards.stream()
+				.map(cardEntity -> modelMapper.map(cardEntity, CardModel.class))
+				.collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<CardModel> deckWithCardModelUtil() {
+		return CardModelUtil.toCardModels(deckCards, DeckView.FULL);
+	}
+
+	@Benchmark
+	public List<CardEntity> cardPageWithModelMapper() {
+		final ModelMapper modelMapper = new ModelMapper();
+		modelMapper.typeMap(CardModel.class, CardEntity.class).addMappings(mapper -> {
+			mapper.skip(CardEntity::setClassMetadata);
+			mapper.skip(CardEntity::setTypeMetadata);
+			mapper.skip(CardEntity::setSetMetadata);
+			mapper.skip(CardEntity::setMultiClassMetadata);
+		});
+		return Arrays.stream(pageCards)
+				.map(cardModel -> modelMapper.map(cardModel, CardEntity.class))
+				.collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<CardEntity> cardPageWithCardModelUtil() {
+		return Arrays.stream(pageCards)
+				.map(CardModelUtil::toCardEntity)
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,67 @@
+package com.github.zachsand.hs.deck.generator.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardsModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.service.CardService;
+import com.github.zachsand.hs.deck.generator.util.CardModelUtil;
+
+/**
+ * Measures the parsing of a 500 card page of the Blizzard card search API into {@link CardsModel}, as done by
+ * {@link CardService#retrieveAndPersistCardPage(int)}, with an object mapper configured like the application's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardPageParsingBenchmark {
+
+	private static final int PAGE_SIZE = 500;
+
+	private ObjectMapper objectMapper;
+	private String cardPage;
+
+	@Setup
+	public void setup() throws JsonProcessingException {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		final List<CardModel> cards = CardModelUtil.toCardModels(new BenchmarkCards().cards.subList(0, PAGE_SIZE), DeckView.FULL);
+		final List<Map<String, Object>> pageCards = cards.stream()
+				.map(card -> {
+					final Map<String, Object> pageCard = objectMapper.convertValue(card, new TypeReference<Map<String, Object>>() {});
+					/* Attributes of the Blizzard API that the card model does not map */
+					pageCard.put("health", 3);
+					pageCard.put("attack", 2);
+					pageCard.put("keywordIds", List.of(1, 8));
+					return pageCard;
+				})
+				.collect(Collectors.toList());
+		cardPage = objectMapper.writeValueAsString(Map.of("cards", pageCards, "cardCount", 4000, "pageCount", 8, "page", 1));
+	}
+
+	@Benchmark
+	public CardsModel parseCardPage() throws JsonProcessingException {
+		return objectMapper.readValue(cardPage, CardsModel.class);
+	}
+}
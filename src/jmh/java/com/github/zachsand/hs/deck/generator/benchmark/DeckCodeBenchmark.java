@@ -0,0 +1,49 @@
+package com.github.zachsand.hs.deck.generator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.service.CardCatalog;
+import com.github.zachsand.hs.deck.generator.util.DeckCodeGeneratorUtil;
+
+/**
+ * Measures {@link DeckCodeGeneratorUtil#generateDeckCode(List, int, String)} for a 30 card deck drawn from the
+ * in-memory catalog, with most cards drawn twice as in a generated deck.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeckCodeBenchmark {
+
+	private List<CardEntity> cards;
+	private int heroCardId;
+
+	@Setup
+	public void setup() {
+		final CardCatalog cardCatalog = new BenchmarkCards().cardCatalog;
+		cards = new ArrayList<>(cardCatalog.getRandomCards("hunter", 20));
+		cards.addAll(cardCatalog.getRandomCards("neutral", 10));
+		heroCardId = cardCatalog.getHeroCardId("hunter");
+	}
+
+	@Benchmark
+	public String generateDeckCode() {
+		return DeckCodeGeneratorUtil.generateDeckCode(cards, heroCardId, "standard");
+	}
+}
@@ -0,0 +1,99 @@
+package com.github.zachsand.hs.deck.generator.benchmark;
+
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckRequest;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckSet;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetGroupMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+import com.github.zachsand.hs.deck.generator.service.CardService;
+import com.github.zachsand.hs.deck.generator.service.ClassMetadataService;
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics;
+import com.github.zachsand.hs.deck.generator.service.SetGroupMetadataService;
+import com.github.zachsand.hs.deck.generator.service.SetMetadataService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Measures {@link DeckRequestValidator#validateDeckRequest(DeckRequestModel)} for a standard request over two sets and
+ * for a request with an unknown class. The metadata services answer from {@link BenchmarkCards} instead of the
+ * database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeckRequestValidatorBenchmark {
+
+	private DeckRequestValidator deckRequestValidator;
+	private DeckRequestModel validRequest;
+	private DeckRequestModel invalidRequest;
+
+	@Setup
+	public void setup() {
+		final BenchmarkCards benchmarkCards = new BenchmarkCards();
+		final ClassMetadataService classMetadataService = new ClassMetadataService(null, null, null) {
+
+			@Override
+			public List<ClassMetadataEntity> getClassMetadata() {
+				return benchmarkCards.classMetadata;
+			}
+		};
+		final SetMetadataService setMetadataService = new SetMetadataService(null, null, null) {
+
+			@Override
+			public List<SetMetadataEntity> getSetMetadata() {
+				return benchmarkCards.setMetadata;
+			}
+		};
+		final SetGroupMetadataService setGroupMetadataService = new SetGroupMetadataService(null, null, null, setMetadataService) {
+
+			@Override
+			public List<SetGroupMetadataEntity> getSetGroupMetadata() {
+				return benchmarkCards.setGroupMetadata;
+			}
+		};
+		final CardService cardService = new CardService(null, new ObjectMapper(), null, classMetadataService, null, setMetadataService) {
+
+			@Override
+			public int getCardCountForClassAndSet(final String classSlugName, final String setSlugName) {
+				return benchmarkCards.countCards(classSlugName, setSlugName);
+			}
+		};
+		deckRequestValidator = new DeckRequestValidator(setGroupMetadataService, setMetadataService, classMetadataService, cardService,
+				new DeckMetrics(new SimpleMeterRegistry()));
+
+		validRequest = deckRequest("hunter", "standard", deckSet(BenchmarkCards.SET_SLUGS[0], 10, 5), deckSet(BenchmarkCards.SET_SLUGS[1], 5, 10));
+		invalidRequest = deckRequest("notaclass", "standard", deckSet(BenchmarkCards.SET_SLUGS[0], 10, 20));
+	}
+
+	@Benchmark
+	public DeckResponseStatus validRequest() {
+		return deckRequestValidator.validateDeckRequest(validRequest);
+	}
+
+	@Benchmark
+	public DeckResponseStatus invalidClass() {
+		return deckRequestValidator.validateDeckRequest(invalidRequest);
+	}
+}
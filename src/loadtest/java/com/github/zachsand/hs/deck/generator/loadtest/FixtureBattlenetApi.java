@@ -0,0 +1,169 @@
+package com.github.zachsand.hs.deck.generator.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local stand-in for the Blizzard OAuth and Hearthstone APIs, serving generated metadata and card pages so the
+ * application ingests the same fixture data on every load test run.
+ */
+final class FixtureBattlenetApi implements AutoCloseable {
+
+	static final String[] CLASS_SLUGS = { "neutral", "hunter", "mage", "priest", "rogue", "warrior" };
+	static final String[] STANDARD_SET_SLUGS = { "core", "forged-in-the-barrens", "united-in-stormwind" };
+	static final String[] WILD_SET_SLUGS = { "legacy", "naxxramas", "goblins-vs-gnomes" };
+
+	private static final int LAST_PAGE = 1000;
+	private static final int HERO_TYPE_ID = 3;
+	private static final int MINION_TYPE_ID = 4;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpServer httpServer;
+	private final List<Map<String, Object>> cards = new ArrayList<>();
+	private final Map<String, String> metadata = new HashMap<>();
+
+	/**
+	 * Generates the fixture data and starts serving it on a free local port.
+	 *
+	 * @param cardsPerClassAndSet
+	 *            The number of collectible cards of each class in each set.
+	 * @throws IOException
+	 *             If the server cannot be started.
+	 */
+	FixtureBattlenetApi(final int cardsPerClassAndSet) throws IOException {
+		final List<String> setSlugs = new ArrayList<>(Arrays.asList(STANDARD_SET_SLUGS));
+		setSlugs.addAll(Arrays.asList(WILD_SET_SLUGS));
+
+		final List<Map<String, Object>> classes = new ArrayList<>();
+		for (int index = 0; index < CLASS_SLUGS.length; index++) {
+			classes.add(Map.of("id", index + 1, "slug", CLASS_SLUGS[index], "name", CLASS_SLUGS[index], "cardId", index == 0 ? 0 : 100 + index));
+		}
+		final List<Map<String, Object>> sets = new ArrayList<>();
+		for (int index = 0; index < setSlugs.size(); index++) {
+			sets.add(Map.of("id", index + 1, "slug", setSlugs.get(index), "name", setSlugs.get(index), "type", "expansion"));
+		}
+		metadata.put("/metadata/classes", toJson(classes));
+		metadata.put("/metadata/sets", toJson(sets));
+		metadata.put("/metadata/types", toJson(List.of(
+				Map.of("id", HERO_TYPE_ID, "slug", "hero", "name", "Hero"),
+				Map.of("id", MINION_TYPE_ID, "slug", "minion", "name", "Minion"))));
+		metadata.put("/metadata/setGroups", toJson(List.of(
+				Map.of("slug", "standard", "year", 2021, "name", "Standard", "standard", true, "cardSets", List.of(STANDARD_SET_SLUGS)),
+				Map.of("slug", "wild", "year", 2021, "name", "Wild", "standard", false, "cardSets", setSlugs))));
+
+		for (int classIndex = 0; classIndex < CLASS_SLUGS.length; classIndex++) {
+			for (int setIndex = 0; setIndex < setSlugs.size(); setIndex++) {
+				for (int index = 0; index < cardsPerClassAndSet; index++) {
+					final int id = 10_000 + cards.size();
+					final Map<String, Object> card = new LinkedHashMap<>();
+					card.put("id", id);
+					card.put("collectible", 1);
+					card.put("slug", id + "-" + CLASS_SLUGS[classIndex]);
+					card.put("classId", classIndex + 1);
+					card.put("cardTypeId", MINION_TYPE_ID);
+					card.put("cardSetId", setIndex + 1);
+					card.put("rarityId", 1 + index % 4);
+					card.put("artistName", "Artist " + index % 50);
+					card.put("manaCost", index % 10);
+					card.put("name", "Card " + id);
+					card.put("text", "<b>Battlecry:</b> Deal " + index % 5 + " damage.");
+					card.put("image", "https://example.com/cards/" + id + ".png");
+					card.put("imageGold", "https://example.com/cards/" + id + "-gold.png");
+					card.put("flavorText", "Flavor text of card " + id + ".");
+					card.put("cropImage", "https://example.com/cards/" + id + "-crop.png");
+					card.put("health", 1 + index % 8);
+					card.put("attack", index % 8);
+					cards.add(card);
+				}
+			}
+		}
+
+		httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		httpServer.createContext("/oauth/token", exchange -> respond(exchange, 200,
+				toJson(Map.of("access_token", "fixture", "token_type", "bearer", "expires_in", 86_400))));
+		httpServer.createContext("/hearthstone", this::handleHearthstone);
+		httpServer.start();
+	}
+
+	/**
+	 * @return The base URL of the fixture OAuth token endpoint.
+	 */
+	String getTokenUrl() {
+		return "http://" + getAuthority() + "/oauth/token?grant_type=client_credentials";
+	}
+
+	/**
+	 * @return The base URL of the fixture Hearthstone API.
+	 */
+	String getHearthstoneBaseUrl() {
+		return "http://" + getAuthority() + "/hearthstone";
+	}
+
+	/**
+	 * @return The number of fixture cards.
+	 */
+	int getCardCount() {
+		return cards.size();
+	}
+
+	@Override
+	public void close() {
+		httpServer.stop(0);
+	}
+
+	private void handleHearthstone(final HttpExchange exchange) throws IOException {
+		final String path = exchange.getRequestURI().getPath().substring("/hearthstone".length());
+		if (path.equals("/cards")) {
+			final Map<String, String> query = Arrays.stream(exchange.getRequestURI().getQuery().split("&"))
+					.map(parameter -> parameter.split("=", 2))
+					.collect(Collectors.toMap(parameter -> parameter[0], parameter -> parameter.length > 1 ? parameter[1] : ""));
+			respond(exchange, 200, cardPage(Integer.parseInt(query.get("page")), Integer.parseInt(query.get("pageSize"))));
+		} else if (metadata.containsKey(path)) {
+			respond(exchange, 200, metadata.get(path));
+		} else {
+			respond(exchange, 404, "{}");
+		}
+	}
+
+	private String cardPage(final int page, final int pageSize) {
+		final int pageCount = (cards.size() + pageSize - 1) / pageSize;
+		final int from = Math.min((page - 1) * pageSize, cards.size());
+		final List<Map<String, Object>> pageCards = page == LAST_PAGE ? List.of() : cards.subList(from, Math.min(from + pageSize, cards.size()));
+		return toJson(Map.of("cards", pageCards, "cardCount", cards.size(), "pageCount", pageCount, "page", page));
+	}
+
+	private String getAuthority() {
+		return httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort();
+	}
+
+	private String toJson(final Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (final IOException e) {
+			throw new IllegalStateException("Error encountered while serializing the fixture data.", e);
+		}
+	}
+
+	private static void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+		final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream responseBody = exchange.getResponseBody()) {
+			responseBody.write(bytes);
+		}
+	}
+}
@@ -0,0 +1,302 @@
+package com.github.zachsand.hs.deck.generator.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.Application;
+import com.github.zachsand.hs.deck.generator.loadtest.RequestMix.RequestType;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Load test of the deck endpoints, running entirely on one machine.
+ * <p>
+ * The application is started against an embedded Postgres and a local fixture of the Blizzard API, so it ingests the
+ * same cards on every run. Requests are then sent open loop at a fixed rate: each request has an intended start time
+ * on the schedule, and its latency is measured from that time rather than from when it was actually sent. A slow
+ * response therefore counts against every request queued behind it, which corrects the coordinated omission of
+ * closed loop load generators.
+ * </p>
+ * <p>
+ * Options are given as {@code key=value} arguments: {@code rate} (requests per second, 200), {@code duration} (seconds,
+ * 60), {@code warmup} (seconds, 15), {@code mix} ({@code all-sets:40,multi-set:30,wild:10,get-by-id:20}) and
+ * {@code cards} (cards per class and set, 40). Arguments given as {@code --name=value} are passed on to the application
+ * as properties, such as {@code --deck.threads.virtual=true} to compare platform and virtual threads. Any other argument
+ * is rejected.
+ * </p>
+ */
+public final class LoadTestHarness {
+
+	private static final Set<String> OPTIONS = Set.of("rate", "duration", "warmup", "mix", "cards");
+	private static final String APPLICATION_PROPERTY_PREFIX = "--";
+	private static final String DEFAULT_MIX = "all-sets:40,multi-set:30,wild:10,get-by-id:20";
+	private static final int CALIBRATION_REQUESTS = 50;
+	private static final int SEEDED_DECKS = 200;
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+	private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpClient httpClient;
+	private final String baseUrl;
+	private final Statistics statistics;
+	private final RequestMix requestMix;
+	private final Map<RequestType, String> requestBodies = new EnumMap<>(RequestType.class);
+	private final List<Integer> deckIds = Collections.synchronizedList(new ArrayList<>());
+
+	private LoadTestHarness(final HttpClient httpClient, final String baseUrl, final Statistics statistics, final RequestMix requestMix) {
+		this.httpClient = httpClient;
+		this.baseUrl = baseUrl;
+		this.statistics = statistics;
+		this.requestMix = requestMix;
+		requestBodies.put(RequestType.ALL_SETS, deckRequest("hunter", "standard", deckSet("all", 15, 15)));
+		requestBodies.put(RequestType.MULTI_SET, deckRequest("mage", "standard",
+				deckSet(FixtureBattlenetApi.STANDARD_SET_SLUGS[0], 10, 5), deckSet(FixtureBattlenetApi.STANDARD_SET_SLUGS[1], 5, 10)));
+		requestBodies.put(RequestType.WILD, deckRequest("priest", "wild",
+				deckSet(FixtureBattlenetApi.WILD_SET_SLUGS[0], 10, 10), deckSet("all", 5, 5)));
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final Map<String, String> options = parseOptions(args);
+		final Map<String, String> applicationProperties = parseApplicationProperties(args);
+		final int rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+		final Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+		final Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15")));
+		final RequestMix requestMix = RequestMix.parse(options.getOrDefault("mix", DEFAULT_MIX));
+		final int cardsPerClassAndSet = Integer.parseInt(options.getOrDefault("cards", "40"));
+
+		final ExecutorService clientExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try (FixtureBattlenetApi battlenetApi = new FixtureBattlenetApi(cardsPerClassAndSet);
+				EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+				ConfigurableApplicationContext context = startApplication(battlenetApi, postgres, applicationProperties)) {
+			final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			final Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+			final HttpClient httpClient = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.executor(clientExecutor)
+					.build();
+			System.out.printf("%nApplication started with %d fixture cards, request mix %s, properties %s%n", battlenetApi.getCardCount(), requestMix,
+					applicationProperties);
+
+			final LoadTestHarness harness = new LoadTestHarness(httpClient, "http://localhost:" + port + "/deckgenerator/api", statistics, requestMix);
+			harness.seedDecks();
+			harness.calibrate();
+			harness.runOpenLoop(rate, warmup, false);
+			harness.runOpenLoop(rate, duration, true);
+		} finally {
+			clientExecutor.shutdownNow();
+		}
+	}
+
+	private static ConfigurableApplicationContext startApplication(final FixtureBattlenetApi battlenetApi, final EmbeddedPostgres postgres,
+			final Map<String, String> applicationProperties) {
+		final Map<String, String> properties = new LinkedHashMap<>();
+		properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+		properties.put("spring.datasource.username", "postgres");
+		properties.put("spring.datasource.password", "");
+		properties.put("spring.jpa.properties.hibernate.generate_statistics", "true");
+		properties.put("logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener", "WARN");
+		properties.put("battlenet.api.token-url", battlenetApi.getTokenUrl());
+		properties.put("battlenet.api.hearthstone-base-url", battlenetApi.getHearthstoneBaseUrl());
+		properties.put("server.port", "0");
+		properties.put("deck.grpc.enabled", "false");
+		/* A property given twice on the command line is bound as a list, so the given properties replace the defaults */
+		properties.putAll(applicationProperties);
+
+		/* Command line arguments take precedence over application.yml */
+		return new SpringApplicationBuilder(Application.class).run(properties.entrySet().stream()
+				.map(property -> APPLICATION_PROPERTY_PREFIX + property.getKey() + "=" + property.getValue())
+				.toArray(String[]::new));
+	}
+
+	/**
+	 * Generates decks for the {@link RequestType#GET_BY_ID} requests to retrieve.
+	 */
+	private void seedDecks() throws IOException, InterruptedException {
+		for (int index = 0; index < SEEDED_DECKS; index++) {
+			send(RequestType.ALL_SETS);
+		}
+	}
+
+	/**
+	 * Sends each request type of the mix sequentially and reports the database statements it prepares.
+	 */
+	private void calibrate() throws IOException, InterruptedException {
+		System.out.printf("%n%-10s %12s%n", "type", "db stmts/req");
+		for (final RequestType requestType : requestMix.getWeights().keySet()) {
+			final long statementsBefore = statistics.getPrepareStatementCount();
+			for (int index = 0; index < CALIBRATION_REQUESTS; index++) {
+				send(requestType);
+			}
+			System.out.printf("%-10s %12.2f%n", requestType.getLabel(),
+					(double) (statistics.getPrepareStatementCount() - statementsBefore) / CALIBRATION_REQUESTS);
+		}
+	}
+
+	private void runOpenLoop(final int rate, final Duration duration, final boolean report) throws InterruptedException {
+		final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+		final long durationNanos = duration.toNanos();
+		final Map<RequestType, Recorder> recorders = new EnumMap<>(RequestType.class);
+		final Map<RequestType, AtomicLong> errors = new EnumMap<>(RequestType.class);
+		for (final RequestType requestType : RequestType.values()) {
+			recorders.put(requestType, new Recorder(3));
+			errors.put(requestType, new AtomicLong());
+		}
+		final AtomicLong completed = new AtomicLong();
+		final AtomicLong lastCompletion = new AtomicLong();
+		final long statementsBefore = statistics.getPrepareStatementCount();
+
+		final long start = System.nanoTime();
+		long sent = 0;
+		for (long intendedStart = start; intendedStart - start < durationNanos; intendedStart += intervalNanos) {
+			final long delay = intendedStart - System.nanoTime();
+			if (delay > 0) {
+				LockSupport.parkNanos(delay);
+			}
+			final RequestType requestType = requestMix.next();
+			final long scheduled = intendedStart;
+			httpClient.sendAsync(request(requestType), HttpResponse.BodyHandlers.ofByteArray())
+					.whenComplete((response, error) -> {
+						final long now = System.nanoTime();
+						recorders.get(requestType).recordValue(TimeUnit.NANOSECONDS.toMicros(now - scheduled));
+						if (error != null || response.statusCode() >= 400) {
+							errors.get(requestType).incrementAndGet();
+						}
+						lastCompletion.accumulateAndGet(now, Math::max);
+						completed.incrementAndGet();
+					});
+			sent++;
+		}
+
+		final long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+		while (completed.get() < sent && System.nanoTime() < drainDeadline) {
+			Thread.sleep(10);
+		}
+		if (!report) {
+			return;
+		}
+
+		final double elapsedSeconds = (Math.max(lastCompletion.get(), start + durationNanos) - start) / 1e9;
+		final Histogram total = new Histogram(3);
+		System.out.printf("%nOpen loop at %d req/s for %ds: %d sent, %d completed, %.1f req/s%n", rate, duration.toSeconds(), sent,
+				completed.get(), completed.get() / elapsedSeconds);
+		System.out.printf("%-10s %8s %7s %9s %9s %9s %9s%n", "type", "count", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+		for (final RequestType requestType : requestMix.getWeights().keySet()) {
+			final Histogram histogram = recorders.get(requestType).getIntervalHistogram();
+			total.add(histogram);
+			printLatencies(requestType.getLabel(), histogram, errors.get(requestType).get());
+		}
+		printLatencies("total", total, errors.values().stream().mapToLong(AtomicLong::get).sum());
+		System.out.printf("db stmts/req %.2f%n", (double) (statistics.getPrepareStatementCount() - statementsBefore) / Math.max(1, sent));
+	}
+
+	private static void printLatencies(final String label, final Histogram histogram, final long errors) {
+		System.out.printf("%-10s %8d %7d %9.2f %9.2f %9.2f %9.2f%n", label, histogram.getTotalCount(), errors,
+				histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0,
+				histogram.getValueAtPercentile(99.9) / 1000.0, histogram.getMaxValue() / 1000.0);
+	}
+
+	private void send(final RequestType requestType) throws IOException, InterruptedException {
+		final HttpResponse<byte[]> response = httpClient.send(request(requestType), HttpResponse.BodyHandlers.ofByteArray());
+		if (response.statusCode() >= 400) {
+			throw new IllegalStateException(requestType.getLabel() + " request failed with status " + response.statusCode() + ": "
+					+ new String(response.body()));
+		}
+		if (requestType != RequestType.GET_BY_ID) {
+			deckIds.add(objectMapper.readTree(response.body()).get("id").asInt());
+		}
+	}
+
+	private HttpRequest request(final RequestType requestType) {
+		if (requestType == RequestType.GET_BY_ID) {
+			final int deckId = deckIds.get(ThreadLocalRandom.current().nextInt(deckIds.size()));
+			return HttpRequest.newBuilder(URI.create(baseUrl + "/deck/" + deckId))
+					.header("Accept", "application/json")
+					.timeout(REQUEST_TIMEOUT)
+					.GET()
+					.build();
+		}
+		return HttpRequest.newBuilder(URI.create(baseUrl + "/deck"))
+				.header("Accept", "application/json")
+				.header("Content-Type", "application/json")
+				.timeout(REQUEST_TIMEOUT)
+				.POST(HttpRequest.BodyPublishers.ofString(requestBodies.get(requestType)))
+				.build();
+	}
+
+	@SafeVarargs
+	private String deckRequest(final String className, final String gameFormat, final Map<String, Object>... deckSets) {
+		try {
+			return objectMapper.writeValueAsString(Map.of("className", className, "gameFormat", gameFormat, "deckSets", List.of(deckSets)));
+		} catch (final IOException e) {
+			throw new IllegalStateException("Error encountered while serializing the deck request.", e);
+		}
+	}
+
+	private static Map<String, Object> deckSet(final String setName, final int classSetCount, final int neutralSetCount) {
+		return Map.of("setName", setName, "classSetCount", classSetCount, "neutralSetCount", neutralSetCount);
+	}
+
+	private static Map<String, String> parseOptions(final String[] args) {
+		final Map<String, String> options = new HashMap<>();
+		for (final String arg : args) {
+			if (arg.startsWith(APPLICATION_PROPERTY_PREFIX)) {
+				continue;
+			}
+			final String[] keyAndValue = splitKeyAndValue(arg);
+			if (!OPTIONS.contains(keyAndValue[0])) {
+				throw new IllegalArgumentException("Unknown load test option " + keyAndValue[0] + ": options are " + OPTIONS
+						+ ", and application properties are given as --name=value");
+			}
+			options.put(keyAndValue[0], keyAndValue[1]);
+		}
+		return options;
+	}
+
+	private static Map<String, String> parseApplicationProperties(final String[] args) {
+		final Map<String, String> applicationProperties = new LinkedHashMap<>();
+		for (final String arg : args) {
+			if (arg.startsWith(APPLICATION_PROPERTY_PREFIX)) {
+				final String[] keyAndValue = splitKeyAndValue(arg.substring(APPLICATION_PROPERTY_PREFIX.length()));
+				applicationProperties.put(keyAndValue[0], keyAndValue[1]);
+			}
+		}
+		return applicationProperties;
+	}
+
+	private static String[] splitKeyAndValue(final String arg) {
+		final String[] keyAndValue = arg.split("=", 2);
+		if (keyAndValue.length != 2 || keyAndValue[0].isEmpty()) {
+			throw new IllegalArgumentException("Load test options are given as key=value: " + arg);
+		}
+		return keyAndValue;
+	}
+}
@@ -0,0 +1,97 @@
+package com.github.zachsand.hs.deck.generator.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The weighted mix of request types sent by the load test, parsed from {@code all-sets:40,multi-set:30,...}.
+ */
+final class RequestMix {
+
+	/**
+	 * The request shapes of the load test.
+	 */
+	enum RequestType {
+		/** Standard deck drawn from all the standard sets. */
+		ALL_SETS("all-sets"),
+		/** Standard deck drawn from two named standard sets. */
+		MULTI_SET("multi-set"),
+		/** Wild deck drawn from a wild set and all the sets. */
+		WILD("wild"),
+		/** Retrieval of a previously generated deck by its ID. */
+		GET_BY_ID("get-by-id");
+
+		private final String label;
+
+		RequestType(final String label) {
+			this.label = label;
+		}
+
+		String getLabel() {
+			return label;
+		}
+
+		static RequestType fromLabel(final String label) {
+			for (final RequestType requestType : values()) {
+				if (requestType.label.equals(label)) {
+					return requestType;
+				}
+			}
+			throw new IllegalArgumentException("Unknown request type " + label + ": valid types are all-sets, multi-set, wild and get-by-id");
+		}
+	}
+
+	private final Map<RequestType, Integer> weights;
+	private final int totalWeight;
+
+	private RequestMix(final Map<RequestType, Integer> weights) {
+		this.weights = weights;
+		this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+		if (totalWeight <= 0) {
+			throw new IllegalArgumentException("The request mix needs at least one request type with a positive weight");
+		}
+	}
+
+	/**
+	 * Parses a request mix of comma separated {@code type:weight} pairs.
+	 *
+	 * @param mix
+	 *            The request mix, for example {@code all-sets:40,multi-set:30,wild:10,get-by-id:20}.
+	 * @return The parsed request mix.
+	 */
+	static RequestMix parse(final String mix) {
+		final Map<RequestType, Integer> weights = new EnumMap<>(RequestType.class);
+		for (final String entry : mix.split(",")) {
+			final String[] typeAndWeight = entry.trim().split(":");
+			weights.put(RequestType.fromLabel(typeAndWeight[0]), typeAndWeight.length > 1 ? Integer.parseInt(typeAndWeight[1]) : 1);
+		}
+		return new RequestMix(weights);
+	}
+
+	/**
+	 * @return A request type drawn at random according to the weights of the mix.
+	 */
+	RequestType next() {
+		int draw = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (final Map.Entry<RequestType, Integer> weight : weights.entrySet()) {
+			draw -= weight.getValue();
+			if (draw < 0) {
+				return weight.getKey();
+			}
+		}
+		throw new IllegalStateException("Request mix weights changed while drawing");
+	}
+
+	/**
+	 * @return The request types of the mix with their weights.
+	 */
+	Map<RequestType, Integer> getWeights() {
+		return weights;
+	}
+
+	@Override
+	public String toString() {
+		return weights.toString();
+	}
+}
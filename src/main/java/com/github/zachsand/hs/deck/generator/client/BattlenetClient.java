@@ -5,11 +5,12 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.message.BasicNameValuePair;
@@ -21,6 +22,7 @@ import org.springframework.stereotype.Component;
 import com.github.zachsand.hs.deck.generator.config.BattlenetApiConfig;
 import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
 import com.github.zachsand.hs.deck.generator.data.model.card.CardPageModel;
+import com.github.zachsand.hs.deck.generator.jfr.BattlenetCallEvent;
 import com.github.zachsand.hs.deck.generator.oauth.BattlenetOauthHandler;
 
 @Component
@@ -70,14 +72,16 @@ public class BattlenetClient {
 	}
 
 	/**
-	 * Retrieve cards from the Battlenet API using the {@link BattlenetApiConfig} pageSize and the given page number.
+	 * Retrieve cards from the Battlenet API using the {@link BattlenetApiConfig} pageSize and the given page number. The
+	 * page is returned undecoded, so that it is parsed from the downloaded bytes.
 	 *
 	 * @param pageNum
 	 *            The page number to use in the request to the Battlenet Card Search API.
+	 * @return The JSON card page.
 	 */
-	public String retrieveCardPage(final int pageNum) {
+	public byte[] retrieveCardPage(final int pageNum) {
 		try {
-			return sendRequest(HttpRequest.newBuilder()
+			return sendRequestForBytes(HttpRequest.newBuilder()
 					.uri(new URIBuilder(battlenetApiConfig.getHearthstoneBaseUrl() + CARD_ENDPOINT)
 							.addParameters(getCommonCardSearchParams())
 							.addParameter("page", String.valueOf(pageNum))
@@ -143,9 +147,26 @@ public class BattlenetClient {
 		}
 	}
 
-	private String sendRequest(final HttpRequest classMetaDataRequest) {
+	/**
+	 * Sends the request and decodes the body with the configured encoding.
+	 */
+	private String sendRequest(final HttpRequest request) {
+		return new String(sendRequestForBytes(request), Charset.forName(battlenetApiConfig.getEncoding()));
+	}
+
+	/**
+	 * Sends the request, recording it as a {@link BattlenetCallEvent} when a flight recording is running. The body is read
+	 * as bytes so that the event holds its size.
+	 */
+	private byte[] sendRequestForBytes(final HttpRequest classMetaDataRequest) {
+		final BattlenetCallEvent event = new BattlenetCallEvent();
+		event.begin();
+		int status = 0;
+		long bytes = 0;
 		try {
-			HttpResponse<String> resp = httpClient.send(classMetaDataRequest, HttpResponse.BodyHandlers.ofString());
+			final HttpResponse<byte[]> resp = httpClient.send(classMetaDataRequest, HttpResponse.BodyHandlers.ofByteArray());
+			status = resp.statusCode();
+			bytes = resp.body().length;
 			if (!HttpStatus.valueOf(resp.statusCode()).is2xxSuccessful()) {
 				throw new IllegalStateException("Response from Battlenet API was not successful: " + resp.statusCode());
 			}
@@ -153,10 +174,12 @@ public class BattlenetClient {
 		} catch (final InterruptedException e) {
 			LOGGER.error("Interrupted while executing {} for {} from from Battlenet API", classMetaDataRequest.method(), classMetaDataRequest.uri(), e);
 			Thread.currentThread().interrupt();
-			return StringUtils.EMPTY;
+			return ArrayUtils.EMPTY_BYTE_ARRAY;
 		} catch (IOException e) {
 			throw new IllegalStateException(
 					"Error encountered while executing " + classMetaDataRequest.method() + " for " + classMetaDataRequest.uri() + " from Battlenet API", e);
+		} finally {
+			event.commit(classMetaDataRequest.uri().getPath(), status, bytes);
 		}
 	}
 
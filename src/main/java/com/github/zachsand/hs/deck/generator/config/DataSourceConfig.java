@@ -0,0 +1,85 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import com.github.zachsand.hs.deck.generator.data.jdbc.QueryNames;
+import com.github.zachsand.hs.deck.generator.data.jdbc.QueryTimingListener;
+import com.github.zachsand.hs.deck.generator.data.jdbc.StatementDeadlineListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Configuration of the timing of the JDBC statements. The data source is wrapped in a proxy notifying the
+ * {@link StatementDeadlineListener} and the {@link QueryTimingListener} of every statement, and the repositories name
+ * the statements they execute with {@link QueryNames}.
+ */
+@Configuration
+public class DataSourceConfig {
+
+	/**
+	 * Wraps the data sources in a proxy bounding their statements by the request deadline and timing them. The post
+	 * processor is static and resolves its dependencies lazily, so that it does not initialize them before the other post
+	 * processors run.
+	 *
+	 * @param meterRegistry
+	 *            Provider of the registry to publish the statement timers to.
+	 * @param slowQueryConfig
+	 *            Provider of the {@link SlowQueryConfig} of the slow statements.
+	 * @param queryExplainExecutor
+	 *            Provider of the executor that samples the plans of the slow statements.
+	 * @return The data source post processor.
+	 */
+	@Bean
+	public static BeanPostProcessor queryTimingDataSourcePostProcessor(final ObjectProvider<MeterRegistry> meterRegistry,
+			final ObjectProvider<SlowQueryConfig> slowQueryConfig,
+			@Qualifier(ExecutorConfig.QUERY_EXPLAIN_EXECUTOR) final ObjectProvider<Executor> queryExplainExecutor) {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+				if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+					return bean;
+				}
+				final DataSource dataSource = (DataSource) bean;
+				return ProxyDataSourceBuilder.create(dataSource)
+						.name(beanName)
+						.listener(new StatementDeadlineListener())
+						.listener(new QueryTimingListener(meterRegistry.getObject(), slowQueryConfig.getObject(), dataSource,
+								queryExplainExecutor.getObject()))
+						.build();
+			}
+		};
+	}
+
+	/**
+	 * Names the statements executed by the repositories after the repository method executing them.
+	 *
+	 * @return The repository post processor.
+	 */
+	@Bean
+	public static BeanPostProcessor queryNamesRepositoryPostProcessor() {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+				if (bean instanceof RepositoryFactoryBeanSupport) {
+					((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(repositoryFactory -> repositoryFactory
+							.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(0,
+									new QueryNames(repositoryInformation.getRepositoryInterface()))));
+				}
+				return bean;
+			}
+		};
+	}
+}
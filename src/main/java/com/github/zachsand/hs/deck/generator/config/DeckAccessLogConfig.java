@@ -0,0 +1,56 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Deck access log configuration that retrieves and fills immutable properties from the application.yml file for the
+ * structured access log of the API requests.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.access-log")
+public class DeckAccessLogConfig {
+
+	private final boolean enabled;
+	private final double sampleRate;
+	private final Duration slowThreshold;
+
+	/**
+	 * Constructs the deck access log configuration.
+	 *
+	 * @param enabled
+	 *            Whether the API requests are logged.
+	 * @param sampleRate
+	 *            Fraction of the successful requests logged, between 0 and 1.
+	 * @param slowThreshold
+	 *            Requests taking at least this long are always logged.
+	 */
+	public DeckAccessLogConfig(final boolean enabled, final double sampleRate, final Duration slowThreshold) {
+		this.enabled = enabled;
+		this.sampleRate = sampleRate;
+		this.slowThreshold = slowThreshold;
+	}
+
+	/**
+	 * @return Whether the API requests are logged.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return The fraction of the successful requests logged. Failed requests are always logged.
+	 */
+	public double getSampleRate() {
+		return sampleRate;
+	}
+
+	/**
+	 * @return The duration from which a request is always logged.
+	 */
+	public Duration getSlowThreshold() {
+		return slowThreshold;
+	}
+}
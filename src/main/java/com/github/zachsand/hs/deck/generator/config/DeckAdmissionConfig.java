@@ -0,0 +1,112 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Deck admission configuration that retrieves and fills immutable properties from the application.yml file for the
+ * adaptive concurrency limits of the deck endpoints.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.admission")
+public class DeckAdmissionConfig {
+
+	private final boolean enabled;
+	private final int initialLimit;
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+	private final Duration latencyThreshold;
+	private final int queueCapacity;
+	private final Duration maxWait;
+
+	/**
+	 * Constructs the deck admission configuration.
+	 *
+	 * @param enabled
+	 *            Whether the concurrency of the deck endpoints is limited.
+	 * @param initialLimit
+	 *            Concurrent requests admitted to each endpoint at start up.
+	 * @param minLimit
+	 *            Lowest limit of concurrent requests of each endpoint.
+	 * @param maxLimit
+	 *            Highest limit of concurrent requests of each endpoint.
+	 * @param backoffRatio
+	 *            Ratio, between 0 and 1, applied to the limit when a request fails or is slow.
+	 * @param latencyThreshold
+	 *            Requests taking longer than this decrease the limit.
+	 * @param queueCapacity
+	 *            Maximum number of requests of each endpoint waiting for a slot when the limit is reached.
+	 * @param maxWait
+	 *            How long a request waits for a slot before it is rejected.
+	 */
+	public DeckAdmissionConfig(final boolean enabled, final int initialLimit, final int minLimit, final int maxLimit, final double backoffRatio,
+			final Duration latencyThreshold, final int queueCapacity, final Duration maxWait) {
+		this.enabled = enabled;
+		this.initialLimit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.backoffRatio = backoffRatio;
+		this.latencyThreshold = latencyThreshold;
+		this.queueCapacity = queueCapacity;
+		this.maxWait = maxWait;
+	}
+
+	/**
+	 * @return Whether the concurrency of the deck endpoints is limited.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return The number of concurrent requests admitted to each endpoint at start up.
+	 */
+	public int getInitialLimit() {
+		return initialLimit;
+	}
+
+	/**
+	 * @return The lowest limit of concurrent requests of each endpoint.
+	 */
+	public int getMinLimit() {
+		return minLimit;
+	}
+
+	/**
+	 * @return The highest limit of concurrent requests of each endpoint.
+	 */
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+
+	/**
+	 * @return The ratio applied to the limit when a request fails or is slow.
+	 */
+	public double getBackoffRatio() {
+		return backoffRatio;
+	}
+
+	/**
+	 * @return The latency above which a request decreases the limit.
+	 */
+	public Duration getLatencyThreshold() {
+		return latencyThreshold;
+	}
+
+	/**
+	 * @return The maximum number of requests of each endpoint waiting for a slot.
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * @return How long a request waits for a slot before it is rejected.
+	 */
+	public Duration getMaxWait() {
+		return maxWait;
+	}
+}
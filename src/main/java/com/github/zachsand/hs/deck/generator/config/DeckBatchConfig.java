@@ -0,0 +1,101 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Deck batch configuration that retrieves and fills immutable properties from the application.yml file for the batch
+ * deck generation endpoint.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.batch")
+public class DeckBatchConfig {
+
+	private final int maxSize;
+	private final int parallelism;
+	private final int streamMaxSize;
+	private final int streamChunkSize;
+	private final int streamPoolSize;
+	private final int streamQueueCapacity;
+	private final Duration streamTimeout;
+
+	/**
+	 * Constructs the deck batch configuration.
+	 *
+	 * @param maxSize
+	 *            Maximum number of decks generated for a single batch request.
+	 * @param parallelism
+	 *            Number of threads of the fork-join pool generating the decks of a batch.
+	 * @param streamMaxSize
+	 *            Maximum number of decks generated for a single streamed request.
+	 * @param streamChunkSize
+	 *            Number of decks generated, persisted and written at a time for a streamed request.
+	 * @param streamPoolSize
+	 *            Number of threads writing the streamed responses.
+	 * @param streamQueueCapacity
+	 *            Number of streamed requests waiting for a thread before new ones are rejected.
+	 * @param streamTimeout
+	 *            Time a streamed response may take before it is closed.
+	 */
+	public DeckBatchConfig(final int maxSize, final int parallelism, final int streamMaxSize, final int streamChunkSize, final int streamPoolSize,
+			final int streamQueueCapacity, final Duration streamTimeout) {
+		this.maxSize = maxSize;
+		this.parallelism = parallelism;
+		this.streamMaxSize = streamMaxSize;
+		this.streamChunkSize = streamChunkSize;
+		this.streamPoolSize = streamPoolSize;
+		this.streamQueueCapacity = streamQueueCapacity;
+		this.streamTimeout = streamTimeout;
+	}
+
+	/**
+	 * @return The maximum number of decks generated for a single batch request.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return The number of threads of the fork-join pool generating the decks of a batch.
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return The maximum number of decks generated for a single streamed request.
+	 */
+	public int getStreamMaxSize() {
+		return streamMaxSize;
+	}
+
+	/**
+	 * @return The number of decks generated, persisted and written at a time for a streamed request.
+	 */
+	public int getStreamChunkSize() {
+		return streamChunkSize;
+	}
+
+	/**
+	 * @return The number of threads writing the streamed responses.
+	 */
+	public int getStreamPoolSize() {
+		return streamPoolSize;
+	}
+
+	/**
+	 * @return The number of streamed requests waiting for a thread before new ones are rejected.
+	 */
+	public int getStreamQueueCapacity() {
+		return streamQueueCapacity;
+	}
+
+	/**
+	 * @return The time a streamed response may take before it is closed.
+	 */
+	public Duration getStreamTimeout() {
+		return streamTimeout;
+	}
+}
@@ -0,0 +1,56 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Deck cache configuration that retrieves and fills immutable properties from the application.yml file for the
+ * in-process cache of the stored decks.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.cache")
+public class DeckCacheConfig {
+
+	private final long maximumWeight;
+	private final Duration expireAfterWrite;
+	private final Duration negativeExpireAfterWrite;
+
+	/**
+	 * Constructs the deck cache configuration.
+	 *
+	 * @param maximumWeight
+	 *            Maximum estimated size of the cached decks, in bytes.
+	 * @param expireAfterWrite
+	 *            How long a stored deck is kept in the cache.
+	 * @param negativeExpireAfterWrite
+	 *            How long the absence of a deck ID is kept in the cache.
+	 */
+	public DeckCacheConfig(final long maximumWeight, final Duration expireAfterWrite, final Duration negativeExpireAfterWrite) {
+		this.maximumWeight = maximumWeight;
+		this.expireAfterWrite = expireAfterWrite;
+		this.negativeExpireAfterWrite = negativeExpireAfterWrite;
+	}
+
+	/**
+	 * @return The maximum estimated size of the cached decks, in bytes.
+	 */
+	public long getMaximumWeight() {
+		return maximumWeight;
+	}
+
+	/**
+	 * @return How long a stored deck is kept in the cache.
+	 */
+	public Duration getExpireAfterWrite() {
+		return expireAfterWrite;
+	}
+
+	/**
+	 * @return How long the absence of a deck ID is kept in the cache.
+	 */
+	public Duration getNegativeExpireAfterWrite() {
+		return negativeExpireAfterWrite;
+	}
+}
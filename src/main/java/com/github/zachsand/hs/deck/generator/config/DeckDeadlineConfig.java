@@ -0,0 +1,45 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Deck deadline configuration that retrieves and fills immutable properties from the application.yml file for the
+ * deadlines of the deck requests.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.deadline")
+public class DeckDeadlineConfig {
+
+	private final Duration defaultTimeout;
+	private final Duration maxTimeout;
+
+	/**
+	 * Constructs the deck deadline configuration.
+	 *
+	 * @param defaultTimeout
+	 *            Time a request has when it does not send a timeout of its own.
+	 * @param maxTimeout
+	 *            Longest time a request can ask for.
+	 */
+	public DeckDeadlineConfig(final Duration defaultTimeout, final Duration maxTimeout) {
+		this.defaultTimeout = defaultTimeout;
+		this.maxTimeout = maxTimeout;
+	}
+
+	/**
+	 * @return The time a request has when it does not send a timeout of its own.
+	 */
+	public Duration getDefaultTimeout() {
+		return defaultTimeout;
+	}
+
+	/**
+	 * @return The longest time a request can ask for.
+	 */
+	public Duration getMaxTimeout() {
+		return maxTimeout;
+	}
+}
@@ -0,0 +1,66 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Deck executor configuration that retrieves and fills immutable properties from the application.yml file for the
+ * executors that run the non-blocking deck endpoints off the request threads and that fetch the card pages during
+ * ingestion.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.executor")
+public class DeckExecutorConfig {
+
+	private final int corePoolSize;
+	private final int maxPoolSize;
+	private final int queueCapacity;
+	private final int ingestionPoolSize;
+
+	/**
+	 * Constructs the deck executor configuration.
+	 *
+	 * @param corePoolSize
+	 *            Number of threads kept in the pool.
+	 * @param maxPoolSize
+	 *            Maximum number of threads in the pool.
+	 * @param queueCapacity
+	 *            Number of tasks that can wait for a thread before new tasks are rejected.
+	 * @param ingestionPoolSize
+	 *            Number of card pages fetched concurrently during ingestion when running on platform threads.
+	 */
+	public DeckExecutorConfig(final int corePoolSize, final int maxPoolSize, final int queueCapacity, final int ingestionPoolSize) {
+		this.corePoolSize = corePoolSize;
+		this.maxPoolSize = maxPoolSize;
+		this.queueCapacity = queueCapacity;
+		this.ingestionPoolSize = ingestionPoolSize;
+	}
+
+	/**
+	 * @return The number of threads kept in the pool.
+	 */
+	public int getCorePoolSize() {
+		return corePoolSize;
+	}
+
+	/**
+	 * @return The maximum number of threads in the pool.
+	 */
+	public int getMaxPoolSize() {
+		return maxPoolSize;
+	}
+
+	/**
+	 * @return The number of tasks that can wait for a thread before new tasks are rejected.
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * @return The number of card pages fetched concurrently during ingestion when running on platform threads.
+	 */
+	public int getIngestionPoolSize() {
+		return ingestionPoolSize;
+	}
+}
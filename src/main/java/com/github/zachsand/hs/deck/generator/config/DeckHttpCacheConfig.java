@@ -0,0 +1,46 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Deck HTTP cache configuration that retrieves and fills immutable properties from the application.yml file for the
+ * caching headers of the deck retrieval endpoint.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.http-cache")
+public class DeckHttpCacheConfig {
+
+	private final Duration maxAge;
+	private final int etagIndexSize;
+
+	/**
+	 * Constructs the deck HTTP cache configuration.
+	 *
+	 * @param maxAge
+	 *            How long clients and shared caches may use a deck before revalidating it. Deck IDs restart on each
+	 *            boot, so this must stay short.
+	 * @param etagIndexSize
+	 *            Maximum number of deck ETags kept in memory for answering conditional requests without the database.
+	 */
+	public DeckHttpCacheConfig(final Duration maxAge, final int etagIndexSize) {
+		this.maxAge = maxAge;
+		this.etagIndexSize = etagIndexSize;
+	}
+
+	/**
+	 * @return How long clients and shared caches may use a deck before revalidating it.
+	 */
+	public Duration getMaxAge() {
+		return maxAge;
+	}
+
+	/**
+	 * @return The maximum number of deck ETags kept in memory.
+	 */
+	public int getEtagIndexSize() {
+		return etagIndexSize;
+	}
+}
@@ -0,0 +1,68 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Deck idempotency configuration that retrieves and fills immutable properties from the application.yml file for the
+ * idempotency keys of the deck generation requests.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.idempotency")
+public class DeckIdempotencyConfig {
+
+	private final long maximumSize;
+	private final Duration ttl;
+	private final Duration purgeInterval;
+	private final Duration claimTimeout;
+
+	/**
+	 * Constructs the deck idempotency configuration.
+	 *
+	 * @param maximumSize
+	 *            Maximum number of idempotency keys kept in memory.
+	 * @param ttl
+	 *            How long the deck generated for an idempotency key is returned to repeated requests.
+	 * @param purgeInterval
+	 *            How often the expired idempotency keys are deleted from the database.
+	 * @param claimTimeout
+	 *            How long an idempotency key claimed by a request that generated no deck blocks the key, in case the
+	 *            node running the request stopped before releasing it.
+	 */
+	public DeckIdempotencyConfig(final long maximumSize, final Duration ttl, final Duration purgeInterval, final Duration claimTimeout) {
+		this.maximumSize = maximumSize;
+		this.ttl = ttl;
+		this.purgeInterval = purgeInterval;
+		this.claimTimeout = claimTimeout;
+	}
+
+	/**
+	 * @return The maximum number of idempotency keys kept in memory.
+	 */
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return How long the deck generated for an idempotency key is returned to repeated requests.
+	 */
+	public Duration getTtl() {
+		return ttl;
+	}
+
+	/**
+	 * @return How often the expired idempotency keys are deleted from the database.
+	 */
+	public Duration getPurgeInterval() {
+		return purgeInterval;
+	}
+
+	/**
+	 * @return How long an idempotency key claimed by a request that generated no deck blocks the key.
+	 */
+	public Duration getClaimTimeout() {
+		return claimTimeout;
+	}
+}
@@ -0,0 +1,78 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Deck job configuration that retrieves and fills immutable properties from the application.yml file for the
+ * asynchronous deck generation jobs.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.jobs")
+public class DeckJobConfig {
+
+	private final int poolSize;
+	private final int parallelism;
+	private final int queueCapacity;
+	private final int maxSize;
+	private final Duration ttl;
+
+	/**
+	 * Constructs the deck job configuration.
+	 *
+	 * @param poolSize
+	 *            Number of worker threads running the jobs.
+	 * @param parallelism
+	 *            Number of threads of the fork-join pool generating the chunks of the jobs.
+	 * @param queueCapacity
+	 *            Maximum number of jobs waiting for a worker thread.
+	 * @param maxSize
+	 *            Maximum number of decks generated for a single job.
+	 * @param ttl
+	 *            How long the result of a finished job is kept.
+	 */
+	public DeckJobConfig(final int poolSize, final int parallelism, final int queueCapacity, final int maxSize, final Duration ttl) {
+		this.poolSize = poolSize;
+		this.parallelism = parallelism;
+		this.queueCapacity = queueCapacity;
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * @return The number of worker threads running the jobs.
+	 */
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	/**
+	 * @return The number of threads of the fork-join pool generating the chunks of the jobs.
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return The maximum number of jobs waiting for a worker thread.
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * @return The maximum number of decks generated for a single job.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return How long the result of a finished job is kept.
+	 */
+	public Duration getTtl() {
+		return ttl;
+	}
+}
@@ -0,0 +1,32 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Deck Server-Timing configuration that retrieves and fills immutable properties from the application.yml file for the
+ * Server-Timing header of the deck generation endpoint.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.server-timing")
+public class DeckServerTimingConfig {
+
+	private final boolean enabled;
+
+	/**
+	 * Constructs the deck Server-Timing configuration.
+	 *
+	 * @param enabled
+	 *            Whether the Server-Timing header is sent when the request does not switch it on or off.
+	 */
+	public DeckServerTimingConfig(final boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @return Whether the Server-Timing header is sent by default.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+}
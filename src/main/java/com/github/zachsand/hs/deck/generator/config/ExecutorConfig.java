@@ -0,0 +1,242 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration of the executors used by the application. When {@link ThreadingConfig#isVirtual()} is set and the Java
+ * runtime supports virtual threads, the executors and the Tomcat request handling start a virtual thread per task
+ * instead of using a bounded pool of platform threads.
+ */
+@Configuration
+public class ExecutorConfig {
+
+	/**
+	 * Bean name of the executor that runs the work of the non-blocking deck endpoints.
+	 */
+	public static final String DECK_TASK_EXECUTOR = "deckTaskExecutor";
+
+	/**
+	 * Bean name of the executor that fetches the card pages during ingestion.
+	 */
+	public static final String INGESTION_TASK_EXECUTOR = "ingestionTaskExecutor";
+
+	/**
+	 * Bean name of the fork-join pool that generates the decks of a batch in parallel.
+	 */
+	public static final String DECK_BATCH_POOL = "deckBatchPool";
+
+	/**
+	 * Bean name of the executor that runs the asynchronous deck generation jobs.
+	 */
+	public static final String DECK_JOB_EXECUTOR = "deckJobExecutor";
+
+	/**
+	 * Bean name of the fork-join pool that generates the chunks of the deck generation jobs in parallel.
+	 */
+	public static final String DECK_JOB_POOL = "deckJobPool";
+
+	/**
+	 * Bean name of the executor that writes the streamed deck responses.
+	 */
+	public static final String DECK_STREAM_EXECUTOR = "deckStreamExecutor";
+
+	/**
+	 * Bean name of the executor that samples the plans of the slow queries.
+	 */
+	public static final String QUERY_EXPLAIN_EXECUTOR = "queryExplainExecutor";
+
+	private static final Logger LOGGER = LogManager.getLogger(ExecutorConfig.class);
+
+	/**
+	 * Creates the executor that runs the work of the non-blocking deck endpoints, so request threads are released while
+	 * decks are generated and persisted.
+	 *
+	 * @param deckExecutorConfig
+	 *            The {@link DeckExecutorConfig} for sizing the executor.
+	 * @param threadingConfig
+	 *            The {@link ThreadingConfig} for choosing between platform and virtual threads.
+	 * @return The deck task executor.
+	 */
+	@Bean(name = DECK_TASK_EXECUTOR)
+	public Executor deckTaskExecutor(final DeckExecutorConfig deckExecutorConfig, final ThreadingConfig threadingConfig) {
+		return virtualThreadExecutor(threadingConfig).orElseGet(() -> {
+			final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(deckExecutorConfig.getCorePoolSize());
+			executor.setMaxPoolSize(deckExecutorConfig.getMaxPoolSize());
+			executor.setQueueCapacity(deckExecutorConfig.getQueueCapacity());
+			executor.setThreadNamePrefix("deck-");
+			return executor;
+		});
+	}
+
+	/**
+	 * Creates the executor that fetches the card pages from the Battlenet API during ingestion.
+	 *
+	 * @param deckExecutorConfig
+	 *            The {@link DeckExecutorConfig} for sizing the executor.
+	 * @param threadingConfig
+	 *            The {@link ThreadingConfig} for choosing between platform and virtual threads.
+	 * @return The ingestion task executor.
+	 */
+	@Bean(name = INGESTION_TASK_EXECUTOR)
+	public Executor ingestionTaskExecutor(final DeckExecutorConfig deckExecutorConfig, final ThreadingConfig threadingConfig) {
+		return virtualThreadExecutor(threadingConfig).orElseGet(() -> {
+			final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(deckExecutorConfig.getIngestionPoolSize());
+			executor.setMaxPoolSize(deckExecutorConfig.getIngestionPoolSize());
+			executor.setThreadNamePrefix("ingestion-");
+			return executor;
+		});
+	}
+
+	/**
+	 * Creates the fork-join pool that generates the decks of a batch in parallel. Deck generation against the in-memory
+	 * catalog is CPU bound, so the pool is sized to the cores instead of running on virtual threads.
+	 *
+	 * @param deckBatchConfig
+	 *            The {@link DeckBatchConfig} for sizing the pool.
+	 * @return The deck batch pool.
+	 */
+	@Bean(name = DECK_BATCH_POOL, destroyMethod = "shutdown")
+	public ForkJoinPool deckBatchPool(final DeckBatchConfig deckBatchConfig) {
+		return new ForkJoinPool(deckBatchConfig.getParallelism());
+	}
+
+	/**
+	 * Creates the executor that runs the asynchronous deck generation jobs, separate from the executors serving
+	 * interactive requests. Waiting jobs are ordered by their priority, so the submitted tasks must be comparable and
+	 * passed to {@link ThreadPoolExecutor#execute(Runnable)}. The priority queue is unbounded, the number of waiting jobs
+	 * is limited by the job service.
+	 *
+	 * @param deckJobConfig
+	 *            The {@link DeckJobConfig} for sizing the executor.
+	 * @return The deck job executor.
+	 */
+	@Bean(name = DECK_JOB_EXECUTOR, destroyMethod = "shutdownNow")
+	public ThreadPoolExecutor deckJobExecutor(final DeckJobConfig deckJobConfig) {
+		return new ThreadPoolExecutor(deckJobConfig.getPoolSize(), deckJobConfig.getPoolSize(), 0L, TimeUnit.MILLISECONDS,
+				new PriorityBlockingQueue<>(), new CustomizableThreadFactory("deck-job-"));
+	}
+
+	/**
+	 * Creates the fork-join pool that generates the chunks of the deck generation jobs in parallel, separate from the
+	 * deck batch pool, so that jobs do not slow down the batches of interactive requests.
+	 *
+	 * @param deckJobConfig
+	 *            The {@link DeckJobConfig} for sizing the pool.
+	 * @return The deck job pool.
+	 */
+	@Bean(name = DECK_JOB_POOL, destroyMethod = "shutdown")
+	public ForkJoinPool deckJobPool(final DeckJobConfig deckJobConfig) {
+		return new ForkJoinPool(deckJobConfig.getParallelism());
+	}
+
+	/**
+	 * Creates the executor that writes the streamed deck responses, in place of the unbounded executor Spring MVC uses by
+	 * default for asynchronous requests. Streams are bound by the cores and the database like the batches, so the pool
+	 * is bounded whether or not virtual threads are enabled, and streams beyond its queue are rejected.
+	 *
+	 * @param deckBatchConfig
+	 *            The {@link DeckBatchConfig} for sizing the executor.
+	 * @return The deck stream executor.
+	 */
+	@Bean(name = DECK_STREAM_EXECUTOR)
+	public ThreadPoolTaskExecutor deckStreamExecutor(final DeckBatchConfig deckBatchConfig) {
+		final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(deckBatchConfig.getStreamPoolSize());
+		executor.setMaxPoolSize(deckBatchConfig.getStreamPoolSize());
+		executor.setQueueCapacity(deckBatchConfig.getStreamQueueCapacity());
+		executor.setThreadNamePrefix("deck-stream-");
+		return executor;
+	}
+
+	/**
+	 * Creates the executor that samples the plans of the slow queries, on a single thread so that the samples add little
+	 * load to a database that is already slow. Samples beyond its queue are dropped.
+	 *
+	 * @param slowQueryConfig
+	 *            The {@link SlowQueryConfig} for sizing the queue of the executor.
+	 * @return The query explain executor.
+	 */
+	@Bean(name = QUERY_EXPLAIN_EXECUTOR)
+	public ThreadPoolTaskExecutor queryExplainExecutor(final SlowQueryConfig slowQueryConfig) {
+		final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(slowQueryConfig.getExplainQueueCapacity());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		executor.setThreadNamePrefix("slow-query-explain-");
+		return executor;
+	}
+
+	/**
+	 * Runs the asynchronous Spring MVC request processing, such as the streamed deck responses, on the deck stream
+	 * executor.
+	 *
+	 * @param deckStreamExecutor
+	 *            The executor that writes the streamed deck responses.
+	 * @return Configurer of the asynchronous request support.
+	 */
+	@Bean
+	public WebMvcConfigurer asyncSupportConfigurer(@Qualifier(DECK_STREAM_EXECUTOR) final AsyncTaskExecutor deckStreamExecutor) {
+		return new WebMvcConfigurer() {
+
+			@Override
+			public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+				configurer.setTaskExecutor(deckStreamExecutor);
+			}
+		};
+	}
+
+	/**
+	 * Runs the Tomcat request handling on virtual threads when virtual threads are enabled.
+	 *
+	 * @param threadingConfig
+	 *            The {@link ThreadingConfig} for choosing between platform and virtual threads.
+	 * @return Customizer replacing the Tomcat worker pool.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "deck.threads", name = "virtual", havingValue = "true")
+	public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(final ThreadingConfig threadingConfig) {
+		return protocolHandler -> virtualThreadExecutor(threadingConfig).ifPresent(protocolHandler::setExecutor);
+	}
+
+	/**
+	 * Looks up {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively, as the application is compiled for a
+	 * release without virtual threads.
+	 */
+	private static Optional<Executor> virtualThreadExecutor(final ThreadingConfig threadingConfig) {
+		if (!threadingConfig.isVirtual()) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of((Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+		} catch (final NoSuchMethodException e) {
+			LOGGER.warn("Virtual threads were requested but are not supported by Java {}, using platform threads", Runtime.version());
+			return Optional.empty();
+		} catch (final IllegalAccessException | InvocationTargetException e) {
+			throw new IllegalStateException("Error encountered while creating the virtual thread executor.", e);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Flight recording configuration that retrieves and fills immutable properties from the application.yml file for the
+ * recordings started from the flight recording endpoint.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.flight-recording")
+public class FlightRecordingConfig {
+
+	private final String settings;
+	private final Duration maxAge;
+	private final DataSize maxSize;
+
+	/**
+	 * Constructs the flight recording configuration.
+	 *
+	 * @param settings
+	 *            Name of the JDK recording settings used when a start request names none, {@code default} or
+	 *            {@code profile}.
+	 * @param maxAge
+	 *            How long a recording keeps its oldest data, so that a recording left running does not grow unbounded.
+	 * @param maxSize
+	 *            Maximum size of the data a recording keeps on disk.
+	 */
+	public FlightRecordingConfig(final String settings, final Duration maxAge, final DataSize maxSize) {
+		this.settings = settings;
+		this.maxAge = maxAge;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @return The name of the default JDK recording settings.
+	 */
+	public String getSettings() {
+		return settings;
+	}
+
+	/**
+	 * @return How long a recording keeps its oldest data.
+	 */
+	public Duration getMaxAge() {
+		return maxAge;
+	}
+
+	/**
+	 * @return The maximum size of the data a recording keeps on disk.
+	 */
+	public DataSize getMaxSize() {
+		return maxSize;
+	}
+}
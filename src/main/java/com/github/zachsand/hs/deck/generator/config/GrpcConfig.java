@@ -0,0 +1,54 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * gRPC configuration that retrieves and fills immutable properties from the application.yml file for the gRPC deck
+ * generation server.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.grpc")
+public class GrpcConfig {
+
+	private final boolean enabled;
+	private final int port;
+	private final int maxStreamDecks;
+
+	/**
+	 * Constructs the gRPC configuration.
+	 *
+	 * @param enabled
+	 *            Whether the gRPC server is started.
+	 * @param port
+	 *            The port the gRPC server listens on.
+	 * @param maxStreamDecks
+	 *            Maximum number of decks a single streaming call may request.
+	 */
+	public GrpcConfig(final boolean enabled, final int port, final int maxStreamDecks) {
+		this.enabled = enabled;
+		this.port = port;
+		this.maxStreamDecks = maxStreamDecks;
+	}
+
+	/**
+	 * @return Whether the gRPC server is started.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return The port the gRPC server listens on.
+	 */
+	public int getPort() {
+		return port;
+	}
+
+	/**
+	 * @return The maximum number of decks a single streaming call may request.
+	 */
+	public int getMaxStreamDecks() {
+		return maxStreamDecks;
+	}
+}
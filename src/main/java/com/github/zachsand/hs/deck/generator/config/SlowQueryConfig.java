@@ -0,0 +1,67 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Slow query configuration that retrieves and fills immutable properties from the application.yml file for the
+ * capture of the statements that take longer than a threshold.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.slow-query")
+public class SlowQueryConfig {
+
+	private final Duration threshold;
+	private final boolean explain;
+	private final Duration explainInterval;
+	private final int explainQueueCapacity;
+
+	/**
+	 * Constructs the slow query configuration.
+	 *
+	 * @param threshold
+	 *            Statements taking at least this long are logged with their bind values.
+	 * @param explain
+	 *            Whether slow select statements are sampled with {@code EXPLAIN (ANALYZE, BUFFERS)}.
+	 * @param explainInterval
+	 *            Minimum time between two samples of the plan of the same query.
+	 * @param explainQueueCapacity
+	 *            Number of plan samples waiting for the explain thread, beyond which samples are dropped.
+	 */
+	public SlowQueryConfig(final Duration threshold, final boolean explain, final Duration explainInterval, final int explainQueueCapacity) {
+		this.threshold = threshold;
+		this.explain = explain;
+		this.explainInterval = explainInterval;
+		this.explainQueueCapacity = explainQueueCapacity;
+	}
+
+	/**
+	 * @return The duration from which a statement is logged as slow.
+	 */
+	public Duration getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * @return Whether slow select statements are sampled with {@code EXPLAIN (ANALYZE, BUFFERS)}.
+	 */
+	public boolean isExplain() {
+		return explain;
+	}
+
+	/**
+	 * @return The minimum time between two samples of the plan of the same query.
+	 */
+	public Duration getExplainInterval() {
+		return explainInterval;
+	}
+
+	/**
+	 * @return The number of plan samples waiting for the explain thread, beyond which samples are dropped.
+	 */
+	public int getExplainQueueCapacity() {
+		return explainQueueCapacity;
+	}
+}
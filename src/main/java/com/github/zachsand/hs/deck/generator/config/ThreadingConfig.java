@@ -0,0 +1,33 @@
+package com.github.zachsand.hs.deck.generator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+/**
+ * Threading configuration that retrieves and fills immutable properties from the application.yml file for choosing
+ * between platform threads and virtual threads.
+ */
+@ConstructorBinding
+@ConfigurationProperties(prefix = "deck.threads")
+public class ThreadingConfig {
+
+	private final boolean virtual;
+
+	/**
+	 * Constructs the threading configuration.
+	 *
+	 * @param virtual
+	 *            true to run request handling, ingestion and deck work on virtual threads. Requires a Java runtime that
+	 *            supports virtual threads, otherwise platform threads are used.
+	 */
+	public ThreadingConfig(final boolean virtual) {
+		this.virtual = virtual;
+	}
+
+	/**
+	 * @return true if request handling, ingestion and deck work should run on virtual threads.
+	 */
+	public boolean isVirtual() {
+		return virtual;
+	}
+}
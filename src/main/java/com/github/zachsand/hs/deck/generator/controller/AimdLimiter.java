@@ -0,0 +1,162 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit adjusted by additive increase and multiplicative decrease. A request completing within the latency
+ * threshold while at least half of the limit is in use raises the limit by one. A failed request, or one taking longer
+ * than the threshold, multiplies it by the backoff ratio, so that the limit follows what the database can sustain.
+ * <p>
+ * Requests over the limit wait for a slot in a bounded queue for at most the given time, and are rejected when the
+ * queue is full or the time is up. A lock is used instead of synchronized blocks so that virtual threads are not pinned
+ * while waiting.
+ * </p>
+ */
+class AimdLimiter {
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+	private final long latencyThresholdNanos;
+	private final int queueCapacity;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition slotAvailable = lock.newCondition();
+
+	private int limit;
+	private int inFlight;
+	private int queued;
+
+	/**
+	 * Constructs the limiter.
+	 *
+	 * @param initialLimit
+	 *            The limit of concurrent requests at start up.
+	 * @param minLimit
+	 *            The lowest limit of concurrent requests.
+	 * @param maxLimit
+	 *            The highest limit of concurrent requests.
+	 * @param backoffRatio
+	 *            The ratio applied to the limit when a request fails or is slow.
+	 * @param latencyThresholdNanos
+	 *            The latency above which a request decreases the limit.
+	 * @param queueCapacity
+	 *            The maximum number of requests waiting for a slot.
+	 */
+	AimdLimiter(final int initialLimit, final int minLimit, final int maxLimit, final double backoffRatio, final long latencyThresholdNanos,
+			final int queueCapacity) {
+		if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+			throw new IllegalStateException("Concurrency limits must satisfy 1 <= min-limit <= initial-limit <= max-limit");
+		}
+		if (backoffRatio <= 0 || backoffRatio >= 1) {
+			throw new IllegalStateException("Concurrency limit backoff ratio must be between 0 and 1, was " + backoffRatio);
+		}
+		this.limit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.backoffRatio = backoffRatio;
+		this.latencyThresholdNanos = latencyThresholdNanos;
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Acquires a slot, waiting up to the given time in the queue if the limit is reached. A slot acquired must be
+	 * released with {@link #release(long, boolean)}.
+	 *
+	 * @param maxWaitNanos
+	 *            The longest time to wait for a slot.
+	 * @return Whether a slot was acquired.
+	 * @throws InterruptedException
+	 *             If the thread is interrupted while waiting.
+	 */
+	boolean tryAcquire(final long maxWaitNanos) throws InterruptedException {
+		lock.lock();
+		try {
+			if (inFlight < limit) {
+				inFlight++;
+				return true;
+			}
+			if (queued >= queueCapacity || maxWaitNanos <= 0) {
+				return false;
+			}
+			queued++;
+			try {
+				long remainingNanos = maxWaitNanos;
+				while (inFlight >= limit) {
+					if (remainingNanos <= 0) {
+						return false;
+					}
+					remainingNanos = slotAvailable.awaitNanos(remainingNanos);
+				}
+				inFlight++;
+				return true;
+			} finally {
+				queued--;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases a slot and adjusts the limit to the outcome of the request.
+	 *
+	 * @param latencyNanos
+	 *            The time the request held the slot.
+	 * @param failed
+	 *            Whether the request failed on the server side.
+	 */
+	void release(final long latencyNanos, final boolean failed) {
+		lock.lock();
+		try {
+			if (failed || latencyNanos > latencyThresholdNanos) {
+				limit = Math.max(minLimit, (int) (limit * backoffRatio));
+			} else if (inFlight * 2 >= limit) {
+				limit = Math.min(maxLimit, limit + 1);
+			}
+			inFlight--;
+			if (queued > 0 && inFlight < limit) {
+				slotAvailable.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return The current limit of concurrent requests.
+	 */
+	int getLimit() {
+		lock.lock();
+		try {
+			return limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return The number of requests holding a slot.
+	 */
+	int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return The number of requests waiting for a slot.
+	 */
+	int getQueued() {
+		lock.lock();
+		try {
+			return queued;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
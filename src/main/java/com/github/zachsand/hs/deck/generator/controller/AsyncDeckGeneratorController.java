@@ -0,0 +1,125 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.zachsand.hs.deck.generator.config.DeckHttpCacheConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.service.AsyncDeckGeneratorService;
+import com.github.zachsand.hs.deck.generator.service.DeckETagIndex;
+
+/**
+ * Non-blocking variant of the {@link DeckGeneratorController}. Each endpoint returns a {@link CompletableFuture}, so the
+ * request thread is released back to the container while the deck work runs on the deck task executor.
+ */
+@RestController
+@RequestMapping("api/async")
+public class AsyncDeckGeneratorController {
+
+	private final AsyncDeckGeneratorService asyncDeckGeneratorService;
+	private final DeckETagIndex deckETagIndex;
+	private final String deckCacheControl;
+
+	/**
+	 * Constructs the non-blocking controller for the deck generation.
+	 *
+	 * @param asyncDeckGeneratorService
+	 *            The non-blocking deck generation service to generate Hearthstone decks.
+	 * @param deckETagIndex
+	 *            The index of the ETags of the generated decks.
+	 * @param deckHttpCacheConfig
+	 *            The configuration of the deck caching headers.
+	 */
+	public AsyncDeckGeneratorController(final AsyncDeckGeneratorService asyncDeckGeneratorService, final DeckETagIndex deckETagIndex,
+			final DeckHttpCacheConfig deckHttpCacheConfig) {
+		this.asyncDeckGeneratorService = asyncDeckGeneratorService;
+		this.deckETagIndex = deckETagIndex;
+		this.deckCacheControl = DeckResponses.mapDeckCacheControl(deckHttpCacheConfig.getMaxAge());
+	}
+
+	/**
+	 * Non-blocking variant of {@link DeckGeneratorController#generateDeck}. The cards are drawn from the in-memory card
+	 * catalog.
+	 *
+	 * @param deckRequestModel
+	 *            The {@link DeckRequestModel} for the required arguments for generating a hearthstone deck.
+	 * @param view
+	 *            The {@link DeckView} selecting the card attributes of the response, {@link DeckView#FULL} by default.
+	 * @return Future of the {@link DeckResponseModel} which contains the deck code and associated ID.
+	 */
+	@PostMapping(path = "/deck", consumes = MediaType.APPLICATION_JSON_VALUE, produces = { MediaType.APPLICATION_JSON_VALUE,
+			MediaType.APPLICATION_CBOR_VALUE, DeckMediaTypes.APPLICATION_SMILE_VALUE, DeckMediaTypes.APPLICATION_PROTOBUF_VALUE })
+	public CompletableFuture<ResponseEntity<DeckResponseModel>> generateDeck(@RequestBody final DeckRequestModel deckRequestModel,
+			@RequestParam(defaultValue = "FULL") final DeckView view) {
+		DeckResponses.useDeckView(view);
+		return asyncDeckGeneratorService.validateDeckRequest(deckRequestModel)
+				.thenCompose(deckResponseStatus -> deckResponseStatus.getStatus().equals(DeckResponseStatus.ResponseStatus.ERROR.name())
+						? CompletableFuture.completedFuture(new ResponseEntity<>(DeckResponses.mapErrorResponse(deckResponseStatus), HttpStatus.BAD_REQUEST))
+						: asyncDeckGeneratorService.generateDeck(deckRequestModel, view)
+								.thenApply(deckResponseModel -> new ResponseEntity<>(deckResponseModel, HttpStatus.CREATED)))
+				.exceptionally(AsyncDeckGeneratorController::mapExceptionResponseEntity);
+	}
+
+	/**
+	 * Non-blocking variant of {@link DeckGeneratorController#getDeck}.
+	 *
+	 * @param id
+	 *            The ID of the deck to retrieve.
+	 * @param ifNoneMatch
+	 *            The ETags of the versions of the deck the client already has, if any.
+	 * @param view
+	 *            The {@link DeckView} selecting the card attributes of the response, {@link DeckView#FULL} by default.
+	 * @return Future of the {@link DeckResponseModel} which contains the deck code and associated ID.
+	 */
+	@GetMapping(path = "/deck/{id}", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+			DeckMediaTypes.APPLICATION_SMILE_VALUE, DeckMediaTypes.APPLICATION_PROTOBUF_VALUE })
+	public CompletableFuture<ResponseEntity<DeckResponseModel>> getDeck(@PathVariable final Integer id,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+			@RequestParam(defaultValue = "FULL") final DeckView view) {
+		final Optional<String> eTag = deckETagIndex.get(id, view);
+		if (eTag.isPresent() && DeckResponses.isNotModified(ifNoneMatch, eTag.get())) {
+			return CompletableFuture.completedFuture(DeckResponses.mapNotModifiedResponse(eTag.get(), deckCacheControl));
+		}
+		DeckResponses.useDeckView(view);
+		return asyncDeckGeneratorService.getDeck(id, view)
+				.thenApply(deckResponseModel -> deckResponseModel
+						.map(deck -> DeckResponses.mapCacheableResponse(deck, view, ifNoneMatch, deckCacheControl))
+						.orElseGet(() -> DeckResponses.mapNotFoundResponse(id)));
+	}
+
+	/**
+	 * Non-blocking variant of {@link DeckGeneratorController#deleteDeck}.
+	 *
+	 * @param id
+	 *            The ID of the deck to delete.
+	 * @return Future of {@link HttpStatus#NO_CONTENT}
+	 */
+	@DeleteMapping(path = "/deck/{id}")
+	public CompletableFuture<ResponseEntity<HttpStatus>> deleteDeck(@PathVariable final Integer id) {
+		return asyncDeckGeneratorService.deleteDeck(id)
+				.thenApply(ignored -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
+	}
+
+	private static ResponseEntity<DeckResponseModel> mapExceptionResponseEntity(final Throwable throwable) {
+		final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+		return new ResponseEntity<>(DeckResponses.mapExceptionResponse(cause), HttpStatus.INTERNAL_SERVER_ERROR);
+	}
+}
@@ -0,0 +1,176 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.MapMessage;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.github.zachsand.hs.deck.generator.config.DeckAccessLogConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+
+/**
+ * Structured access log of the API requests. Each logged request is a {@link MapMessage} with the method, path, status
+ * and latency of the request and the shape of its deck request, which the log4j2 configuration writes as a JSON line.
+ * <p>
+ * Failed requests and requests taking at least {@link DeckAccessLogConfig#getSlowThreshold()} are always logged, the
+ * other requests are sampled at {@link DeckAccessLogConfig#getSampleRate()}. Asynchronous requests are logged once
+ * their response completes. The filter runs before the {@link DeckAdmissionFilter}, so that shed requests are logged.
+ * </p>
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class DeckAccessLogFilter extends OncePerRequestFilter {
+
+	private static final Logger LOGGER = LogManager.getLogger(DeckAccessLogFilter.class);
+
+	/**
+	 * Request attribute holding the deck request read from the body, set by {@link DeckAccessLogRequestBodyAdvice}.
+	 */
+	static final String DECK_REQUEST_ATTRIBUTE = DeckAccessLogFilter.class.getName() + ".deckRequest";
+
+	private static final String API_PATH = "/api/";
+
+	private final boolean enabled;
+	private final double sampleRate;
+	private final long slowThresholdNanos;
+
+	/**
+	 * Constructs the access log filter.
+	 *
+	 * @param deckAccessLogConfig
+	 *            The {@link DeckAccessLogConfig} of the access log.
+	 */
+	public DeckAccessLogFilter(final DeckAccessLogConfig deckAccessLogConfig) {
+		this.enabled = deckAccessLogConfig.isEnabled();
+		this.sampleRate = deckAccessLogConfig.getSampleRate();
+		this.slowThresholdNanos = deckAccessLogConfig.getSlowThreshold().toNanos();
+	}
+
+	@Override
+	protected boolean shouldNotFilter(final HttpServletRequest request) {
+		return !enabled || !request.getServletPath().startsWith(API_PATH) || !LOGGER.isInfoEnabled();
+	}
+
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+			throws ServletException, IOException {
+		final long start = System.nanoTime();
+		try {
+			filterChain.doFilter(request, response);
+		} catch (final IOException | ServletException | RuntimeException e) {
+			log(request, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, System.nanoTime() - start, e);
+			throw e;
+		}
+		if (request.isAsyncStarted()) {
+			request.getAsyncContext().addListener(new AsyncListener() {
+
+				@Override
+				public void onComplete(final AsyncEvent event) {
+					log(request, response.getStatus(), System.nanoTime() - start, null);
+				}
+
+				@Override
+				public void onTimeout(final AsyncEvent event) {
+					// Logged on completion
+				}
+
+				@Override
+				public void onError(final AsyncEvent event) {
+					// Logged on completion
+				}
+
+				@Override
+				public void onStartAsync(final AsyncEvent event) {
+					// Logged on completion
+				}
+			});
+		} else {
+			log(request, response.getStatus(), System.nanoTime() - start, null);
+		}
+	}
+
+	private void log(final HttpServletRequest request, final int status, final long latencyNanos, final Throwable error) {
+		final MapMessage<?, Object> message = accessLogMessage(request, status, latencyNanos, error);
+		if (message != null) {
+			LOGGER.info(message);
+		}
+	}
+
+	/**
+	 * Builds the access log message of a request.
+	 *
+	 * @return The message, or {@code null} if the request is not logged.
+	 */
+	MapMessage<?, Object> accessLogMessage(final HttpServletRequest request, final int status, final long latencyNanos, final Throwable error) {
+		final String reason;
+		if (error != null || status >= HttpServletResponse.SC_BAD_REQUEST) {
+			reason = "error";
+		} else if (latencyNanos >= slowThresholdNanos) {
+			reason = "slow";
+		} else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+			reason = "sampled";
+		} else {
+			return null;
+		}
+
+		final MapMessage<?, Object> message = new MapMessage<>()
+				.with("method", request.getMethod())
+				.with("path", request.getServletPath())
+				.with("status", status)
+				.with("latencyMs", latencyNanos / 1_000_000.0)
+				.with("reason", reason);
+		final String view = request.getParameter("view");
+		if (view != null) {
+			message.with("view", view);
+		}
+		withRequestShape(message, request.getAttribute(DECK_REQUEST_ATTRIBUTE));
+		if (error != null) {
+			message.with("error", error.toString());
+		}
+		return message;
+	}
+
+	private static void withRequestShape(final MapMessage<?, Object> message, final Object deckRequest) {
+		if (deckRequest instanceof DeckRequestModel) {
+			withDeckRequestShape(message, (DeckRequestModel) deckRequest);
+		} else if (deckRequest instanceof DeckBatchRequestModel) {
+			final DeckBatchRequestModel deckBatchRequestModel = (DeckBatchRequestModel) deckRequest;
+			final List<DeckRequestModel> requests = deckBatchRequestModel.getRequests();
+			if (requests != null) {
+				message.with("decks", requests.size());
+			} else {
+				if (deckBatchRequestModel.getCount() != null) {
+					message.with("decks", deckBatchRequestModel.getCount().intValue());
+				}
+				if (deckBatchRequestModel.getRequest() != null) {
+					withDeckRequestShape(message, deckBatchRequestModel.getRequest());
+				}
+			}
+		}
+	}
+
+	private static void withDeckRequestShape(final MapMessage<?, Object> message, final DeckRequestModel deckRequestModel) {
+		if (deckRequestModel.getClassName() != null) {
+			message.with("className", deckRequestModel.getClassName());
+		}
+		if (deckRequestModel.getGameFormat() != null) {
+			message.with("gameFormat", deckRequestModel.getGameFormat());
+		}
+		message.with("deckSets", deckRequestModel.getDeckSets() == null ? 0 : deckRequestModel.getDeckSets().size());
+	}
+}
@@ -0,0 +1,37 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import java.lang.reflect.Type;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+
+/**
+ * Keeps the deck request read from the body of an API request, so that the {@link DeckAccessLogFilter} logs its shape.
+ */
+@RestControllerAdvice
+class DeckAccessLogRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+	@Override
+	public boolean supports(final MethodParameter methodParameter, final Type targetType,
+			final Class<? extends HttpMessageConverter<?>> converterType) {
+		return targetType == DeckRequestModel.class || targetType == DeckBatchRequestModel.class;
+	}
+
+	@Override
+	public Object afterBodyRead(final Object body, final HttpInputMessage inputMessage, final MethodParameter parameter, final Type targetType,
+			final Class<? extends HttpMessageConverter<?>> converterType) {
+		final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes != null) {
+			requestAttributes.setAttribute(DeckAccessLogFilter.DECK_REQUEST_ATTRIBUTE, body, RequestAttributes.SCOPE_REQUEST);
+		}
+		return body;
+	}
+}
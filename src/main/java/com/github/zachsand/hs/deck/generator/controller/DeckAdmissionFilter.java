@@ -0,0 +1,189 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.config.DeckAdmissionConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admission control of the {@link DeckGeneratorController} endpoints. Each endpoint has its own {@link AimdLimiter}, so
+ * that slow deck generation does not starve deck retrieval. A request over the limit of its endpoint is answered with
+ * {@link HttpServletResponse#SC_SERVICE_UNAVAILABLE} and a Retry-After header as soon as it has waited
+ * {@link DeckAdmissionConfig#getMaxWait()}, or right away when the queue of the endpoint is full, instead of holding a
+ * request thread and waiting on a database connection until it times out.
+ * <p>
+ * The limit, requests in flight and requests queued of each endpoint are published as gauges for autoscaling, next to
+ * a counter of the rejected requests.
+ * </p>
+ */
+@Component
+public class DeckAdmissionFilter extends OncePerRequestFilter {
+
+	/**
+	 * Name of the gauges of the concurrency limits.
+	 */
+	public static final String LIMIT_GAUGE_NAME = "deck.admission.limit";
+
+	/**
+	 * Name of the gauges of the requests holding a slot.
+	 */
+	public static final String IN_FLIGHT_GAUGE_NAME = "deck.admission.inflight";
+
+	/**
+	 * Name of the gauges of the requests waiting for a slot.
+	 */
+	public static final String QUEUED_GAUGE_NAME = "deck.admission.queued";
+
+	/**
+	 * Name of the counters of the rejected requests.
+	 */
+	public static final String REJECTED_COUNTER_NAME = "deck.admission.rejected";
+
+	private static final String DECK_PATH = "/api/deck";
+	private static final String DECK_ID_PATH_PREFIX = DECK_PATH + "/";
+	private static final String RETRY_AFTER_SECONDS = "1";
+
+	/**
+	 * Endpoint of the {@link DeckGeneratorController} with its own concurrency limit.
+	 */
+	enum Endpoint {
+		/** Deck generation, {@code POST /api/deck}. */
+		GENERATE("generate"),
+		/** Deck retrieval, {@code GET /api/deck/{id}}. */
+		GET("get"),
+		/** Deck deletion, {@code DELETE /api/deck/{id}}. */
+		DELETE("delete");
+
+		private final String tag;
+
+		Endpoint(final String tag) {
+			this.tag = tag;
+		}
+	}
+
+	private final boolean enabled;
+	private final long maxWaitNanos;
+	private final Map<Endpoint, AimdLimiter> limiters = new EnumMap<>(Endpoint.class);
+	private final Map<Endpoint, Counter> rejected = new EnumMap<>(Endpoint.class);
+	private final byte[] rejectedBody;
+
+	/**
+	 * Constructs the admission filter.
+	 *
+	 * @param deckAdmissionConfig
+	 *            The {@link DeckAdmissionConfig} of the concurrency limits.
+	 * @param meterRegistry
+	 *            The registry of the limit gauges and rejected request counters.
+	 * @param objectMapper
+	 *            The object mapper serializing the response of the rejected requests.
+	 */
+	public DeckAdmissionFilter(final DeckAdmissionConfig deckAdmissionConfig, final MeterRegistry meterRegistry, final ObjectMapper objectMapper) {
+		this.enabled = deckAdmissionConfig.isEnabled();
+		this.maxWaitNanos = deckAdmissionConfig.getMaxWait().toNanos();
+		for (final Endpoint endpoint : Endpoint.values()) {
+			final AimdLimiter limiter = new AimdLimiter(deckAdmissionConfig.getInitialLimit(), deckAdmissionConfig.getMinLimit(),
+					deckAdmissionConfig.getMaxLimit(), deckAdmissionConfig.getBackoffRatio(), deckAdmissionConfig.getLatencyThreshold().toNanos(),
+					deckAdmissionConfig.getQueueCapacity());
+			limiters.put(endpoint, limiter);
+			Gauge.builder(LIMIT_GAUGE_NAME, limiter, AimdLimiter::getLimit)
+					.tag("endpoint", endpoint.tag)
+					.description("Concurrent requests admitted to the deck endpoint")
+					.register(meterRegistry);
+			Gauge.builder(IN_FLIGHT_GAUGE_NAME, limiter, AimdLimiter::getInFlight)
+					.tag("endpoint", endpoint.tag)
+					.description("Requests of the deck endpoint being processed")
+					.register(meterRegistry);
+			Gauge.builder(QUEUED_GAUGE_NAME, limiter, AimdLimiter::getQueued)
+					.tag("endpoint", endpoint.tag)
+					.description("Requests of the deck endpoint waiting to be admitted")
+					.register(meterRegistry);
+			rejected.put(endpoint, Counter.builder(REJECTED_COUNTER_NAME)
+					.tag("endpoint", endpoint.tag)
+					.description("Requests of the deck endpoint rejected over its concurrency limit")
+					.register(meterRegistry));
+		}
+		try {
+			this.rejectedBody = objectMapper.writeValueAsBytes(DeckResponses.mapErrorResponse(new DeckResponseStatus(
+					DeckResponseStatus.ResponseStatus.ERROR.name(), Collections.singletonList("Too many deck requests in flight, retry later."))));
+		} catch (final JsonProcessingException e) {
+			throw new IllegalStateException("Error encountered while serializing the rejected deck request response", e);
+		}
+	}
+
+	@Override
+	protected boolean shouldNotFilter(final HttpServletRequest request) {
+		return !enabled || endpointOf(request) == null;
+	}
+
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+			throws ServletException, IOException {
+		final Endpoint endpoint = endpointOf(request);
+		final AimdLimiter limiter = limiters.get(endpoint);
+		if (!tryAcquire(limiter)) {
+			rejected.get(endpoint).increment();
+			response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+			response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.setContentLength(rejectedBody.length);
+			response.getOutputStream().write(rejectedBody);
+			return;
+		}
+
+		final long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			filterChain.doFilter(request, response);
+			failed = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+		} finally {
+			limiter.release(System.nanoTime() - start, failed);
+		}
+	}
+
+	private boolean tryAcquire(final AimdLimiter limiter) {
+		try {
+			return limiter.tryAcquire(maxWaitNanos);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * @return The limited endpoint of the request, or {@code null} if the request is not limited.
+	 */
+	static Endpoint endpointOf(final HttpServletRequest request) {
+		final String path = request.getServletPath();
+		final String method = request.getMethod();
+		if (DECK_PATH.equals(path)) {
+			return HttpMethod.POST.matches(method) ? Endpoint.GENERATE : null;
+		}
+		if (path.startsWith(DECK_ID_PATH_PREFIX) && path.indexOf('/', DECK_ID_PATH_PREFIX.length()) < 0) {
+			if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+				return Endpoint.GET;
+			}
+			return HttpMethod.DELETE.matches(method) ? Endpoint.DELETE : null;
+		}
+		return null;
+	}
+}
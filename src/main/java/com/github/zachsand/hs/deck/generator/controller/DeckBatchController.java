@@ -0,0 +1,142 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.config.DeckBatchConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.service.DeckBatchService;
+
+/**
+ * The deck batch controller for generating many decks in a single request.
+ */
+@RestController
+@RequestMapping("api")
+public class DeckBatchController {
+
+	private static final Logger LOGGER = LogManager.getLogger(DeckBatchController.class);
+
+	private static final String STREAM_TIMEOUT_INTERCEPTOR_KEY = DeckBatchController.class.getName() + ".streamTimeout";
+
+	private final DeckBatchService deckBatchService;
+	private final ObjectMapper objectMapper;
+	private final CallableProcessingInterceptor streamTimeoutInterceptor;
+
+	/**
+	 * Constructs the controller for the batch deck generation.
+	 *
+	 * @param deckBatchService
+	 *            The deck batch service to generate the decks of a batch.
+	 * @param deckBatchConfig
+	 *            The configuration of the streamed batches.
+	 * @param objectMapper
+	 *            The object mapper writing the validation errors of the streamed batches.
+	 */
+	public DeckBatchController(final DeckBatchService deckBatchService, final DeckBatchConfig deckBatchConfig, final ObjectMapper objectMapper) {
+		this.deckBatchService = deckBatchService;
+		this.objectMapper = objectMapper;
+		final long streamTimeoutMillis = deckBatchConfig.getStreamTimeout().toMillis();
+		this.streamTimeoutInterceptor = new CallableProcessingInterceptor() {
+
+			/* Called with the asynchronous request before it starts, the only point where its timeout can be set */
+			@Override
+			public <T> void beforeConcurrentHandling(final NativeWebRequest request, final Callable<T> task) {
+				((AsyncWebRequest) request).setTimeout(streamTimeoutMillis);
+			}
+		};
+	}
+
+	/**
+	 * The batch deck generation endpoint. Generates either {@code count} decks for a single request, or one deck for
+	 * each of a list of requests.
+	 *
+	 * @param deckBatchRequestModel
+	 *            The {@link DeckBatchRequestModel} holding the requests of the batch.
+	 * @param view
+	 *            The {@link DeckView} selecting the card attributes of the decks, {@link DeckView#FULL} by default.
+	 * @return The {@link DeckBatchResponseModel} which contains the generated decks.
+	 */
+	@PostMapping(path = "/decks/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = { MediaType.APPLICATION_JSON_VALUE,
+			MediaType.APPLICATION_CBOR_VALUE, DeckMediaTypes.APPLICATION_SMILE_VALUE })
+	public ResponseEntity<DeckBatchResponseModel> generateDecks(@RequestBody final DeckBatchRequestModel deckBatchRequestModel,
+			@RequestParam(defaultValue = "FULL") final DeckView view) {
+		LOGGER.debug("Batch request received {}", deckBatchRequestModel);
+		final DeckView deckView = deckBatchService.resolveDeckView(deckBatchRequestModel, view);
+		DeckResponses.useDeckView(deckView);
+		final DeckBatchResponseModel deckBatchResponseModel = new DeckBatchResponseModel();
+		try {
+			final DeckResponseStatus deckResponseStatus = deckBatchService.validateDeckBatchRequest(deckBatchRequestModel);
+			deckBatchResponseModel.setStatus(deckResponseStatus);
+			if (deckResponseStatus.getStatus().equals(DeckResponseStatus.ResponseStatus.ERROR.name())) {
+				return new ResponseEntity<>(deckBatchResponseModel, HttpStatus.BAD_REQUEST);
+			}
+			deckBatchResponseModel.setDecks(deckBatchService.generateDecks(deckBatchRequestModel, deckView));
+			return new ResponseEntity<>(deckBatchResponseModel, HttpStatus.CREATED);
+		} catch (final Exception e) {
+			deckBatchResponseModel.setStatus(DeckResponses.mapExceptionResponse(e).getStatus());
+			return new ResponseEntity<>(deckBatchResponseModel, HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	/**
+	 * The streaming batch deck generation endpoint, for batches too large to be returned in a single document. The
+	 * decks are written as newline delimited JSON with chunked transfer encoding as they are generated, and the
+	 * generation stops when the client disconnects. Unique decks are not supported. The decks are written on the deck
+	 * stream executor, and the response is closed once the configured stream timeout has passed.
+	 *
+	 * @param deckBatchRequestModel
+	 *            The {@link DeckBatchRequestModel} holding the requests of the batch.
+	 * @param view
+	 *            The {@link DeckView} selecting the card attributes of the decks, {@link DeckView#FULL} by default.
+	 * @param request
+	 *            The request, to set the timeout of the stream on.
+	 * @return The generated decks, one {@link com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel}
+	 *         per line, or the {@link DeckBatchResponseModel} holding the validation errors. Both are streaming bodies, as
+	 *         Spring MVC only streams a response entity declared with a {@link StreamingResponseBody}.
+	 */
+	@PostMapping(path = "/decks/stream", consumes = MediaType.APPLICATION_JSON_VALUE, produces = { DeckMediaTypes.APPLICATION_NDJSON_VALUE,
+			MediaType.APPLICATION_JSON_VALUE })
+	public ResponseEntity<StreamingResponseBody> streamDecks(@RequestBody final DeckBatchRequestModel deckBatchRequestModel,
+			@RequestParam(defaultValue = "FULL") final DeckView view, final HttpServletRequest request) {
+		LOGGER.debug("Stream request received {}", deckBatchRequestModel);
+		final DeckResponseStatus deckResponseStatus = deckBatchService.validateDeckStreamRequest(deckBatchRequestModel);
+		if (deckResponseStatus.getStatus().equals(DeckResponseStatus.ResponseStatus.ERROR.name())) {
+			final DeckBatchResponseModel deckBatchResponseModel = new DeckBatchResponseModel();
+			deckBatchResponseModel.setStatus(deckResponseStatus);
+			return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+					.body(outputStream -> objectMapper.writeValue(outputStream, deckBatchResponseModel));
+		}
+		WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(STREAM_TIMEOUT_INTERCEPTOR_KEY, streamTimeoutInterceptor);
+		final StreamingResponseBody streamingResponseBody = outputStream -> {
+			try {
+				deckBatchService.streamDecks(deckBatchRequestModel, view, outputStream);
+			} catch (final IOException e) {
+				LOGGER.debug("Deck stream closed before completion: {}", e.getMessage());
+			}
+		};
+		return ResponseEntity.status(HttpStatus.CREATED).contentType(MediaType.parseMediaType(DeckMediaTypes.APPLICATION_NDJSON_VALUE))
+				.body(streamingResponseBody);
+	}
+}
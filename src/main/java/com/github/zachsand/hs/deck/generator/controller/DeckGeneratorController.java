@@ -1,13 +1,10 @@
 package com.github.zachsand.hs.deck.generator.controller;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Optional;
 
-import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,14 +13,26 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.github.zachsand.hs.deck.generator.config.DeckDeadlineConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckHttpCacheConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckServerTimingConfig;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
 import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+import com.github.zachsand.hs.deck.generator.service.DeadlineExceededException;
+import com.github.zachsand.hs.deck.generator.service.DeckETagIndex;
 import com.github.zachsand.hs.deck.generator.service.DeckGeneratorService;
+import com.github.zachsand.hs.deck.generator.service.DeckIdempotencyService;
+import com.github.zachsand.hs.deck.generator.service.DeckIdempotencyService.Claim;
+import com.github.zachsand.hs.deck.generator.service.RequestDeadline;
+import com.github.zachsand.hs.deck.generator.service.StageTimings;
 
 /**
  * The deck generation controller that controls the deck generation endpoints.
@@ -32,57 +41,225 @@ import com.github.zachsand.hs.deck.generator.service.DeckGeneratorService;
 @RequestMapping("api")
 public class DeckGeneratorController {
 
-	private static final Logger LOGGER = LogManager.getLogger(DeckGeneratorController.class);
-
 	private final DeckGeneratorService deckGeneratorService;
 	private final DeckRequestValidator deckRequestValidator;
+	private final DeckETagIndex deckETagIndex;
+	private final DeckIdempotencyService deckIdempotencyService;
+	private final String deckCacheControl;
+	private final boolean serverTimingEnabled;
+	private final Duration defaultTimeout;
+	private final Duration maxTimeout;
 
 	/**
 	 * Constructs the controller for the deck generation.
 	 *
 	 * @param deckGeneratorService
 	 *            The deck generation service to generate Hearthstone decks.
+	 * @param deckRequestValidator
+	 *            The validator for the deck requests.
+	 * @param deckETagIndex
+	 *            The index of the ETags of the generated decks.
+	 * @param deckIdempotencyService
+	 *            The idempotency keys of the deck generation requests.
+	 * @param deckHttpCacheConfig
+	 *            The configuration of the deck caching headers.
+	 * @param deckServerTimingConfig
+	 *            The configuration of the Server-Timing header.
+	 * @param deckDeadlineConfig
+	 *            The configuration of the request deadlines.
 	 */
-	public DeckGeneratorController(final DeckGeneratorService deckGeneratorService, final DeckRequestValidator deckRequestValidator) {
+	public DeckGeneratorController(final DeckGeneratorService deckGeneratorService, final DeckRequestValidator deckRequestValidator,
+			final DeckETagIndex deckETagIndex, final DeckIdempotencyService deckIdempotencyService, final DeckHttpCacheConfig deckHttpCacheConfig,
+			final DeckServerTimingConfig deckServerTimingConfig, final DeckDeadlineConfig deckDeadlineConfig) {
 		this.deckGeneratorService = deckGeneratorService;
 		this.deckRequestValidator = deckRequestValidator;
+		this.deckETagIndex = deckETagIndex;
+		this.deckIdempotencyService = deckIdempotencyService;
+		this.deckCacheControl = DeckResponses.mapDeckCacheControl(deckHttpCacheConfig.getMaxAge());
+		this.serverTimingEnabled = deckServerTimingConfig.isEnabled();
+		this.defaultTimeout = deckDeadlineConfig.getDefaultTimeout();
+		this.maxTimeout = deckDeadlineConfig.getMaxTimeout();
 	}
 
 	/**
 	 * The deck generation endpoint for generating a deck. If successful, this will create a deck code and return the
 	 * deck code, and an associated ID of the created entity.
+	 * <p>
+	 * The response carries a Server-Timing header with the durations of the validation, card sampling, deck code
+	 * generation, persistence and mapping of the request, unless it is switched off by the configuration or by the
+	 * X-Server-Timing request header.
+	 * </p>
+	 * <p>
+	 * The request has until the deadline set by the X-Request-Timeout header, or the configured default, to complete.
+	 * Once it has passed, the remaining stages are skipped, running statements are cancelled and the request is answered
+	 * with {@link HttpStatus#GATEWAY_TIMEOUT}.
+	 * </p>
+	 * <p>
+	 * A request with an Idempotency-Key header generates a deck only once for the key. A repeated request is answered
+	 * with the deck of the first one and an Idempotent-Replayed header, waiting for it if the first request is still
+	 * running. A key reused for a different deck request is answered with {@link HttpStatus#UNPROCESSABLE_ENTITY}.
+	 * </p>
 	 *
 	 * @param deckRequestModel
 	 *            The {@link DeckRequestModel} for the required arguments for generating a hearthstone deck.
+	 * @param view
+	 *            The {@link DeckView} selecting the card attributes of the response, {@link DeckView#FULL} by default.
+	 * @param serverTiming
+	 *            Switches the Server-Timing header on or off for the request, the configured default if absent.
+	 * @param timeoutMillis
+	 *            The milliseconds the client waits for the response, the configured default if absent.
+	 * @param idempotencyKey
+	 *            The key under which the deck is generated at most once, if any.
 	 * @return The {@link DeckResponseModel} which contains the deck code and associated ID.
 	 */
-	@PostMapping(path = "/deck", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-	public ResponseEntity<DeckResponseModel> generateDeck(@RequestBody final DeckRequestModel deckRequestModel) {
-		LOGGER.info("Request received {}", deckRequestModel);
+	@PostMapping(path = "/deck", consumes = MediaType.APPLICATION_JSON_VALUE, produces = { MediaType.APPLICATION_JSON_VALUE,
+			MediaType.APPLICATION_CBOR_VALUE, DeckMediaTypes.APPLICATION_SMILE_VALUE, DeckMediaTypes.APPLICATION_PROTOBUF_VALUE })
+	public ResponseEntity<DeckResponseModel> generateDeck(@RequestBody final DeckRequestModel deckRequestModel,
+			@RequestParam(defaultValue = "FULL") final DeckView view,
+			@RequestHeader(name = DeckResponses.SERVER_TIMING_REQUEST_HEADER, required = false) final Boolean serverTiming,
+			@RequestHeader(name = DeckResponses.REQUEST_TIMEOUT_HEADER, required = false) final Long timeoutMillis,
+			@RequestHeader(name = DeckResponses.IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey) {
+		DeckResponses.useDeckView(view);
+		RequestDeadline.start(requestTimeout(timeoutMillis));
+		try {
+			if (!(serverTiming == null ? serverTimingEnabled : serverTiming)) {
+				return generateDeckResponse(deckRequestModel, view, idempotencyKey);
+			}
+			final long start = System.nanoTime();
+			final StageTimings stageTimings = StageTimings.start();
+			try {
+				return DeckResponses.withServerTiming(generateDeckResponse(deckRequestModel, view, idempotencyKey), stageTimings,
+						System.nanoTime() - start);
+			} finally {
+				StageTimings.stop();
+			}
+		} finally {
+			RequestDeadline.stop();
+		}
+	}
+
+	private ResponseEntity<DeckResponseModel> generateDeckResponse(final DeckRequestModel deckRequestModel, final DeckView view,
+			final String idempotencyKey) {
+		if (idempotencyKey == null) {
+			return generateNewDeckResponse(deckRequestModel, view);
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > DeckIdempotencyService.MAX_KEY_LENGTH) {
+			return mapErrorResponse(DeckResponses.IDEMPOTENCY_KEY_HEADER + " must have between 1 and " + DeckIdempotencyService.MAX_KEY_LENGTH
+					+ " characters.", HttpStatus.BAD_REQUEST);
+		}
+
+		final Claim claim;
+		try {
+			claim = deckIdempotencyService.claim(idempotencyKey, DeckIdempotencyService.requestHash(deckRequestModel));
+			switch (claim.getState()) {
+				case MISMATCH:
+					return mapErrorResponse(DeckResponses.IDEMPOTENCY_KEY_HEADER + " " + idempotencyKey + " was used for a different deck request.",
+							HttpStatus.UNPROCESSABLE_ENTITY);
+				case IN_PROGRESS:
+					return mapErrorResponse(DeckResponses.IDEMPOTENCY_KEY_HEADER + " " + idempotencyKey + " is used by a deck request in progress.",
+							HttpStatus.CONFLICT);
+				case REPLAY:
+					return deckGeneratorService.getDeck(claim.getDeckId(), view)
+							.map(DeckResponses::mapReplayedResponse)
+							.orElseGet(() -> DeckResponses.mapNotFoundResponse(claim.getDeckId()));
+				default:
+					break;
+			}
+		} catch (final Exception e) {
+			return mapFailureResponse(e);
+		}
+
+		ResponseEntity<DeckResponseModel> response = null;
+		try {
+			response = generateNewDeckResponse(deckRequestModel, view);
+			return response;
+		} finally {
+			if (response != null && response.getStatusCode() == HttpStatus.CREATED && response.getBody() != null) {
+				deckIdempotencyService.complete(claim, response.getBody().getId());
+			} else {
+				deckIdempotencyService.abandon(claim);
+			}
+		}
+	}
+
+	private ResponseEntity<DeckResponseModel> generateNewDeckResponse(final DeckRequestModel deckRequestModel, final DeckView view) {
 		try {
 			final DeckResponseStatus deckResponseStatus = deckRequestValidator.validateDeckRequest(deckRequestModel);
 			if (deckResponseStatus.getStatus().equals(DeckResponseStatus.ResponseStatus.ERROR.name())) {
-				final DeckResponseModel errorResponse = new DeckResponseModel();
-				errorResponse.setStatus(deckResponseStatus);
-				return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+				return new ResponseEntity<>(DeckResponses.mapErrorResponse(deckResponseStatus), HttpStatus.BAD_REQUEST);
 			}
-			return new ResponseEntity<>(deckGeneratorService.generateDeck(deckRequestModel), HttpStatus.CREATED);
+			return new ResponseEntity<>(deckGeneratorService.generateDeck(deckRequestModel, view), HttpStatus.CREATED);
 		} catch (final Exception e) {
-			return new ResponseEntity<>(mapExceptionResponse(e), HttpStatus.INTERNAL_SERVER_ERROR);
+			return mapFailureResponse(e);
 		}
 	}
 
+	private static ResponseEntity<DeckResponseModel> mapFailureResponse(final Exception e) {
+		if (e instanceof DeadlineExceededException || RequestDeadline.isExpired()) {
+			return DeckResponses.mapDeadlineExceededResponse(e);
+		}
+		return new ResponseEntity<>(DeckResponses.mapExceptionResponse(e), HttpStatus.INTERNAL_SERVER_ERROR);
+	}
+
+	private static ResponseEntity<DeckResponseModel> mapErrorResponse(final String message, final HttpStatus status) {
+		return new ResponseEntity<>(DeckResponses.mapErrorResponse(new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(),
+				Collections.singletonList(message))), status);
+	}
+
 	/**
 	 * The deck retrieval endpoint for a deck that has already been generated by the
 	 * {@link DeckGeneratorController#generateDeck} creation endpoint.
+	 * <p>
+	 * The response carries a weak ETag derived from the deck code and the view, and a short-lived Cache-Control header
+	 * requiring revalidation, as the ID names another deck once the database is recreated. A conditional request whose ETag is found in the {@link DeckETagIndex} is
+	 * answered with {@link HttpStatus#NOT_MODIFIED} without loading the deck, and one matching the ETag of the loaded deck
+	 * is answered with {@link HttpStatus#NOT_MODIFIED} as well. An unknown ID is answered with
+	 * {@link HttpStatus#NOT_FOUND}. A deck that cannot be loaded before the deadline of the request is answered with
+	 * {@link HttpStatus#GATEWAY_TIMEOUT}.
+	 * </p>
 	 *
 	 * @param id
 	 *            The ID of the deck to retrieve.
+	 * @param ifNoneMatch
+	 *            The ETags of the versions of the deck the client already has, if any.
+	 * @param view
+	 *            The {@link DeckView} selecting the card attributes of the response, {@link DeckView#FULL} by default.
+	 * @param timeoutMillis
+	 *            The milliseconds the client waits for the response, the configured default if absent.
 	 * @return The {@link DeckResponseModel} which contains the deck code and associated ID.
 	 */
-	@GetMapping(path = "/deck/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-	public ResponseEntity<DeckResponseModel> getDeck(@PathVariable final Integer id) {
-		return new ResponseEntity<>(deckGeneratorService.getDeck(id), HttpStatus.OK);
+	@GetMapping(path = "/deck/{id}", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+			DeckMediaTypes.APPLICATION_SMILE_VALUE, DeckMediaTypes.APPLICATION_PROTOBUF_VALUE })
+	public ResponseEntity<DeckResponseModel> getDeck(@PathVariable final Integer id,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+			@RequestParam(defaultValue = "FULL") final DeckView view,
+			@RequestHeader(name = DeckResponses.REQUEST_TIMEOUT_HEADER, required = false) final Long timeoutMillis) {
+		final Optional<String> eTag = deckETagIndex.get(id, view);
+		if (eTag.isPresent() && DeckResponses.isNotModified(ifNoneMatch, eTag.get())) {
+			return DeckResponses.mapNotModifiedResponse(eTag.get(), deckCacheControl);
+		}
+		DeckResponses.useDeckView(view);
+		RequestDeadline.start(requestTimeout(timeoutMillis));
+		try {
+			return deckGeneratorService.getDeck(id, view)
+					.map(deckResponseModel -> DeckResponses.mapCacheableResponse(deckResponseModel, view, ifNoneMatch, deckCacheControl))
+					.orElseGet(() -> DeckResponses.mapNotFoundResponse(id));
+		} catch (final RuntimeException e) {
+			if (e instanceof DeadlineExceededException || RequestDeadline.isExpired()) {
+				return DeckResponses.mapDeadlineExceededResponse(e);
+			}
+			throw e;
+		} finally {
+			RequestDeadline.stop();
+		}
+	}
+
+	private Duration requestTimeout(final Long timeoutMillis) {
+		if (timeoutMillis == null) {
+			return defaultTimeout;
+		}
+		final Duration timeout = Duration.ofMillis(Math.max(0, timeoutMillis));
+		return timeout.compareTo(maxTimeout) < 0 ? timeout : maxTimeout;
 	}
 
 	/**
@@ -97,24 +274,4 @@ public class DeckGeneratorController {
 		deckGeneratorService.deleteDeck(id);
 		return new ResponseEntity<>(HttpStatus.NO_CONTENT);
 	}
-
-	private DeckResponseModel mapExceptionResponse(final Exception e) {
-		LOGGER.error(e);
-		final DeckResponseModel deckResponseModel = new DeckResponseModel();
-		final DeckResponseStatus deckResponseStatus = new DeckResponseStatus();
-		deckResponseStatus.setStatus(DeckResponseStatus.ResponseStatus.ERROR.name());
-
-		final List<String> errorMessages = new ArrayList<>();
-		errorMessages.add("Exception encountered while processing the request.");
-		errorMessages.add(ExceptionUtils.getMessage(e));
-		Optional<String> firstFrameInProject = Arrays.stream(ExceptionUtils.getStackFrames(e))
-				.filter(stackFrame -> stackFrame.contains("com.github.zachsand.hs.deck.generator"))
-				.findFirst();
-		firstFrameInProject.ifPresent(errorMessages::add);
-
-		deckResponseStatus.setMessage(errorMessages);
-		deckResponseModel.setStatus(deckResponseStatus);
-		LOGGER.debug("Error response {}.", deckResponseModel);
-		return deckResponseModel;
-	}
 }
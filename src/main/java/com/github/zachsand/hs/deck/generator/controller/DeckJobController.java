@@ -0,0 +1,115 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import java.net.URI;
+import java.util.Collections;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel.JobPriority;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.service.DeckJobService;
+
+/**
+ * The deck job controller for generating large deck batches asynchronously. A job is submitted, then polled until it
+ * has finished.
+ */
+@RestController
+@RequestMapping("api")
+public class DeckJobController {
+
+	private static final Logger LOGGER = LogManager.getLogger(DeckJobController.class);
+
+	private final DeckJobService deckJobService;
+
+	/**
+	 * Constructs the controller for the deck jobs.
+	 *
+	 * @param deckJobService
+	 *            The deck job service running the jobs.
+	 */
+	public DeckJobController(final DeckJobService deckJobService) {
+		this.deckJobService = deckJobService;
+	}
+
+	/**
+	 * Submits a job generating the decks of the batch request. The job is answered with {@link HttpStatus#ACCEPTED} and a
+	 * Location header to poll, or {@link HttpStatus#SERVICE_UNAVAILABLE} if too many jobs are waiting.
+	 *
+	 * @param deckBatchRequestModel
+	 *            The {@link DeckBatchRequestModel} holding the requests of the batch.
+	 * @param priority
+	 *            The {@link JobPriority} of the job, {@link JobPriority#NORMAL} by default.
+	 * @return The {@link DeckJobResponseModel} of the queued job.
+	 */
+	@PostMapping(path = "/jobs", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<DeckJobResponseModel> submitJob(@RequestBody final DeckBatchRequestModel deckBatchRequestModel,
+			@RequestParam(defaultValue = "NORMAL") final JobPriority priority) {
+		LOGGER.debug("Job request received {}", deckBatchRequestModel);
+		final DeckResponseStatus deckResponseStatus = deckJobService.validateDeckJobRequest(deckBatchRequestModel);
+		if (deckResponseStatus.getStatus().equals(DeckResponseStatus.ResponseStatus.ERROR.name())) {
+			return new ResponseEntity<>(mapStatusResponse(deckResponseStatus), HttpStatus.BAD_REQUEST);
+		}
+		return deckJobService.submitJob(deckBatchRequestModel, priority)
+				.map(deckJobResponseModel -> {
+					final URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
+							.buildAndExpand(deckJobResponseModel.getId()).toUri();
+					return ResponseEntity.accepted().location(location).body(deckJobResponseModel);
+				})
+				.orElseGet(() -> new ResponseEntity<>(mapStatusResponse(new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(),
+						Collections.singletonList("Too many deck jobs are waiting, retry later."))), HttpStatus.SERVICE_UNAVAILABLE));
+	}
+
+	/**
+	 * Retrieves the state and progress of the job, with the IDs and deck codes of its decks once it has completed.
+	 *
+	 * @param id
+	 *            The ID of the job.
+	 * @return The {@link DeckJobResponseModel}, or {@link HttpStatus#NOT_FOUND} for an unknown or expired job.
+	 */
+	@GetMapping(path = "/jobs/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<DeckJobResponseModel> getJob(@PathVariable final String id) {
+		return deckJobService.getJob(id)
+				.map(ResponseEntity::ok)
+				.orElseGet(() -> mapNotFoundResponse(id));
+	}
+
+	/**
+	 * Cancels the job. A running job stops after its current chunk and keeps the decks generated so far.
+	 *
+	 * @param id
+	 *            The ID of the job.
+	 * @return The {@link DeckJobResponseModel}, or {@link HttpStatus#NOT_FOUND} for an unknown or expired job.
+	 */
+	@DeleteMapping(path = "/jobs/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<DeckJobResponseModel> cancelJob(@PathVariable final String id) {
+		return deckJobService.cancelJob(id)
+				.map(ResponseEntity::ok)
+				.orElseGet(() -> mapNotFoundResponse(id));
+	}
+
+	private static ResponseEntity<DeckJobResponseModel> mapNotFoundResponse(final String id) {
+		return new ResponseEntity<>(mapStatusResponse(new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(),
+				Collections.singletonList("No deck job found with ID " + id + "."))), HttpStatus.NOT_FOUND);
+	}
+
+	private static DeckJobResponseModel mapStatusResponse(final DeckResponseStatus deckResponseStatus) {
+		final DeckJobResponseModel deckJobResponseModel = new DeckJobResponseModel();
+		deckJobResponseModel.setStatus(deckResponseStatus);
+		return deckJobResponseModel;
+	}
+}
@@ -0,0 +1,143 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.service.CardJsonFragments;
+
+/**
+ * Writes the {@link DeckResponseModel} and {@link DeckBatchResponseModel} as JSON, copying the pre-serialized
+ * {@link CardJsonFragments} of the cards into the output instead of serializing each card. Cards without a fragment,
+ * such as cards drawn before the catalog was loaded, are serialized with the {@link ObjectMapper}. The output is the
+ * same as the one of the {@link ObjectMapper} in the {@link DeckView} selected by the handler.
+ */
+@Component
+public class DeckJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+	private final ObjectMapper objectMapper;
+	private final CardJsonFragments cardJsonFragments;
+	private final ObjectWriter[] writers;
+
+	/**
+	 * Constructs the JSON converter for the deck responses.
+	 *
+	 * @param objectMapper
+	 *            The object mapper serializing the rest of the responses.
+	 * @param cardJsonFragments
+	 *            The pre-serialized JSON of the cards.
+	 */
+	public DeckJsonHttpMessageConverter(final ObjectMapper objectMapper, final CardJsonFragments cardJsonFragments) {
+		super(MediaType.APPLICATION_JSON);
+		this.objectMapper = objectMapper;
+		this.cardJsonFragments = cardJsonFragments;
+		this.writers = new ObjectWriter[DeckView.values().length];
+		for (final DeckView deckView : DeckView.values()) {
+			writers[deckView.ordinal()] = (deckView == DeckView.FULL ? objectMapper.writer() : objectMapper.writerWithView(deckView.getJsonView()))
+					.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		}
+	}
+
+	@Override
+	protected boolean supports(final Class<?> clazz) {
+		return DeckResponseModel.class.isAssignableFrom(clazz) || DeckBatchResponseModel.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	protected boolean canRead(final MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected Object readInternal(final Class<?> clazz, final HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("Reading deck responses with the deck JSON converter is not supported.", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(final Object response, final HttpOutputMessage outputMessage) throws IOException {
+		final DeckView deckView = currentDeckView();
+		try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+			jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			if (response instanceof DeckBatchResponseModel) {
+				writeDeckBatch(jsonGenerator, (DeckBatchResponseModel) response, deckView);
+			} else {
+				writeDeck(jsonGenerator, (DeckResponseModel) response, deckView);
+			}
+		}
+	}
+
+	private void writeDeckBatch(final JsonGenerator jsonGenerator, final DeckBatchResponseModel deckBatchResponseModel, final DeckView deckView)
+			throws IOException {
+		jsonGenerator.writeStartObject();
+		jsonGenerator.writeFieldName("status");
+		writers[deckView.ordinal()].writeValue(jsonGenerator, deckBatchResponseModel.getStatus());
+		jsonGenerator.writeFieldName("decks");
+		if (deckBatchResponseModel.getDecks() == null) {
+			jsonGenerator.writeNull();
+		} else {
+			jsonGenerator.writeStartArray();
+			for (final DeckResponseModel deckResponseModel : deckBatchResponseModel.getDecks()) {
+				writeDeck(jsonGenerator, deckResponseModel, deckView);
+			}
+			jsonGenerator.writeEndArray();
+		}
+		jsonGenerator.writeEndObject();
+	}
+
+	private void writeDeck(final JsonGenerator jsonGenerator, final DeckResponseModel deckResponseModel, final DeckView deckView)
+			throws IOException {
+		if (deckResponseModel == null) {
+			jsonGenerator.writeNull();
+			return;
+		}
+		final ObjectWriter writer = writers[deckView.ordinal()];
+		jsonGenerator.writeStartObject();
+		jsonGenerator.writeFieldName("status");
+		writer.writeValue(jsonGenerator, deckResponseModel.getStatus());
+		jsonGenerator.writeNumberField("id", deckResponseModel.getId());
+		jsonGenerator.writeStringField("deckCode", deckResponseModel.getDeckCode());
+		jsonGenerator.writeFieldName("cards");
+		final List<CardModel> cards = deckResponseModel.getCards();
+		if (cards == null) {
+			jsonGenerator.writeNull();
+		} else {
+			jsonGenerator.writeStartArray();
+			for (final CardModel card : cards) {
+				final SerializableString fragment = card == null || card.getId() == null ? null : cardJsonFragments.get(card.getId(), deckView);
+				if (fragment != null) {
+					jsonGenerator.writeRawValue(fragment);
+				} else {
+					writer.writeValue(jsonGenerator, card);
+				}
+			}
+			jsonGenerator.writeEndArray();
+		}
+		jsonGenerator.writeEndObject();
+	}
+
+	private static DeckView currentDeckView() {
+		final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		final Object deckView = requestAttributes == null
+				? null
+				: requestAttributes.getAttribute(DeckResponses.DECK_VIEW_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		return deckView instanceof DeckView ? (DeckView) deckView : DeckView.FULL;
+	}
+}
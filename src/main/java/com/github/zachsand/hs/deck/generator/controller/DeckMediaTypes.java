@@ -0,0 +1,32 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Media types the deck endpoints can respond with, in addition to JSON. The encoding is negotiated with the Accept
+ * header of the request.
+ */
+final class DeckMediaTypes {
+
+	/**
+	 * Smile, the binary encoding of JSON.
+	 */
+	static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+	/**
+	 * Protobuf encoding of the messages defined in {@code deck.proto}.
+	 */
+	static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+
+	/**
+	 * Protobuf encoding of the messages defined in {@code deck.proto}.
+	 */
+	static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE);
+
+	/**
+	 * Newline delimited JSON, one JSON document per line, used to stream many decks.
+	 */
+	static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+	private DeckMediaTypes() {}
+}
@@ -0,0 +1,49 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.proto.DeckResponse;
+import com.github.zachsand.hs.deck.generator.util.DeckProtoUtil;
+
+/**
+ * Writes the {@link DeckResponseModel} as the {@link DeckResponse} protobuf message when the client accepts
+ * {@value DeckMediaTypes#APPLICATION_PROTOBUF_VALUE}.
+ */
+@Component
+public class DeckProtobufHttpMessageConverter extends AbstractHttpMessageConverter<DeckResponseModel> {
+
+	/**
+	 * Constructs the protobuf converter for the deck responses.
+	 */
+	public DeckProtobufHttpMessageConverter() {
+		super(DeckMediaTypes.APPLICATION_PROTOBUF);
+	}
+
+	@Override
+	protected boolean supports(final Class<?> clazz) {
+		return DeckResponseModel.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	protected boolean canRead(final MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected DeckResponseModel readInternal(final Class<? extends DeckResponseModel> clazz, final HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("Reading deck responses from protobuf is not supported.", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(final DeckResponseModel deckResponseModel, final HttpOutputMessage outputMessage) throws IOException {
+		DeckProtoUtil.toDeckResponse(deckResponseModel).writeTo(outputMessage.getBody());
+	}
+}
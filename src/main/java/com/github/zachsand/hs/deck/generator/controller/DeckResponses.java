@@ -0,0 +1,276 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.service.DeadlineExceededException;
+import com.github.zachsand.hs.deck.generator.service.DeckETagIndex;
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics.Stage;
+import com.github.zachsand.hs.deck.generator.service.StageTimings;
+
+/**
+ * Builds the {@link DeckResponseModel} responses shared by the deck controllers.
+ */
+final class DeckResponses {
+
+	private static final Logger LOGGER = LogManager.getLogger(DeckResponses.class);
+
+	private static final String WEAK_ETAG_PREFIX = "W/";
+	private static final String ANY_ETAG = "*";
+
+	/**
+	 * Request attribute holding the {@link DeckView} the response is serialized with.
+	 */
+	static final String DECK_VIEW_ATTRIBUTE = DeckResponses.class.getName() + ".deckView";
+
+	/**
+	 * Response header with the durations of the stages of the request.
+	 */
+	static final String SERVER_TIMING = "Server-Timing";
+
+	/**
+	 * Request header switching the {@link #SERVER_TIMING} response header on or off for the request.
+	 */
+	static final String SERVER_TIMING_REQUEST_HEADER = "X-Server-Timing";
+
+	/**
+	 * Request header with the milliseconds the client waits for the response, bounding the deadline of the request.
+	 */
+	static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+	/**
+	 * Request header with the key under which a deck generation is done at most once.
+	 */
+	static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	/**
+	 * Response header set when the response is the deck generated by an earlier request with the same idempotency key.
+	 */
+	static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+	private static final long NANOS_PER_MICRO = 1_000L;
+	private static final long MICROS_PER_MILLI = 1_000L;
+
+	private DeckResponses() {}
+
+	/**
+	 * Serializes the response of the current request with the Jackson view of the {@link DeckView}. The full view
+	 * writes every attribute, so it needs no Jackson view.
+	 *
+	 * @param deckView
+	 *            The {@link DeckView} of the response.
+	 */
+	static void useDeckView(final DeckView deckView) {
+		if (deckView != DeckView.FULL) {
+			RequestContextHolder.currentRequestAttributes().setAttribute(DECK_VIEW_ATTRIBUTE, deckView, RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+
+	/**
+	 * Deck IDs are only unique for the lifetime of the database, which is dropped on shutdown, so the same URL may name
+	 * another deck after a restart or once the deck is deleted. Decks are therefore cached for a short time only and
+	 * revalidated against their ETag afterwards, rather than marked immutable.
+	 *
+	 * @param maxAge
+	 *            How long clients and shared caches may use a deck before revalidating it.
+	 * @return The Cache-Control header value for decks.
+	 */
+	static String mapDeckCacheControl(final Duration maxAge) {
+		return CacheControl.maxAge(maxAge).cachePublic().mustRevalidate().getHeaderValue();
+	}
+
+	/**
+	 * Compares the ETags of the If-None-Match header with the weak comparison, which ignores the weak indicator.
+	 *
+	 * @param ifNoneMatch
+	 *            The If-None-Match request header, may be null.
+	 * @param eTag
+	 *            The current ETag of the deck.
+	 * @return true if the client already holds the current version of the deck.
+	 */
+	static boolean isNotModified(final String ifNoneMatch, final String eTag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		final String opaqueTag = stripWeakIndicator(eTag);
+		return Arrays.stream(ifNoneMatch.split(","))
+				.map(String::trim)
+				.map(DeckResponses::stripWeakIndicator)
+				.anyMatch(candidate -> candidate.equals(ANY_ETAG) || candidate.equals(opaqueTag));
+	}
+
+	private static String stripWeakIndicator(final String eTag) {
+		return eTag.startsWith(WEAK_ETAG_PREFIX) ? eTag.substring(WEAK_ETAG_PREFIX.length()) : eTag;
+	}
+
+	/**
+	 * @param eTag
+	 *            The current ETag of the deck.
+	 * @param cacheControl
+	 *            The Cache-Control header value.
+	 * @return Empty {@link HttpStatus#NOT_MODIFIED} response.
+	 */
+	static ResponseEntity<DeckResponseModel> mapNotModifiedResponse(final String eTag, final String cacheControl) {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(eTag)
+				.varyBy(HttpHeaders.ACCEPT)
+				.header(HttpHeaders.CACHE_CONTROL, cacheControl)
+				.build();
+	}
+
+	/**
+	 * @param deckResponseModel
+	 *            The deck to return.
+	 * @param deckView
+	 *            The {@link DeckView} the deck is returned with.
+	 * @param ifNoneMatch
+	 *            The If-None-Match request header, may be null.
+	 * @param cacheControl
+	 *            The Cache-Control header value.
+	 * @return {@link HttpStatus#NOT_MODIFIED} response if the client already holds the view of the deck, otherwise
+	 *         {@link HttpStatus#OK} response with the deck ETag and caching headers.
+	 */
+	static ResponseEntity<DeckResponseModel> mapCacheableResponse(final DeckResponseModel deckResponseModel, final DeckView deckView,
+			final String ifNoneMatch, final String cacheControl) {
+		final String eTag = DeckETagIndex.toETag(deckResponseModel.getDeckCode(), deckView);
+		if (isNotModified(ifNoneMatch, eTag)) {
+			return mapNotModifiedResponse(eTag, cacheControl);
+		}
+		return ResponseEntity.ok()
+				.eTag(eTag)
+				.varyBy(HttpHeaders.ACCEPT)
+				.header(HttpHeaders.CACHE_CONTROL, cacheControl)
+				.body(deckResponseModel);
+	}
+
+	/**
+	 * @param deckResponseModel
+	 *            The deck generated by an earlier request with the same idempotency key.
+	 * @return {@link HttpStatus#CREATED} response with the {@link #IDEMPOTENT_REPLAYED_HEADER} header.
+	 */
+	static ResponseEntity<DeckResponseModel> mapReplayedResponse(final DeckResponseModel deckResponseModel) {
+		return ResponseEntity.status(HttpStatus.CREATED)
+				.header(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString())
+				.body(deckResponseModel);
+	}
+
+	/**
+	 * Adds the {@link #SERVER_TIMING} header to the response, with the durations in milliseconds of the stages that ran:
+	 * {@code validate}, {@code sample}, {@code encode}, {@code persist} and {@code map}, followed by the {@code total}
+	 * of the request.
+	 *
+	 * @param response
+	 *            The response to add the header to.
+	 * @param stageTimings
+	 *            The {@link StageTimings} of the request.
+	 * @param totalNanos
+	 *            The nanoseconds spent handling the request.
+	 * @return The response with the header.
+	 */
+	static ResponseEntity<DeckResponseModel> withServerTiming(final ResponseEntity<DeckResponseModel> response, final StageTimings stageTimings,
+			final long totalNanos) {
+		final StringBuilder serverTiming = new StringBuilder();
+		appendServerTiming(serverTiming, "validate", stageTimings.getNanos(Stage.BEAN_VALIDATION) + stageTimings.getNanos(Stage.SLUG_CHECKS));
+		appendServerTiming(serverTiming, "sample", stageTimings.getNanos(Stage.CARD_SAMPLING));
+		appendServerTiming(serverTiming, "encode", stageTimings.getNanos(Stage.DECK_CODE));
+		appendServerTiming(serverTiming, "persist", stageTimings.getNanos(Stage.SAVE));
+		appendServerTiming(serverTiming, "map", stageTimings.getNanos(Stage.MAPPING));
+		appendServerTiming(serverTiming, "total", totalNanos);
+		return ResponseEntity.status(response.getStatusCode())
+				.headers(response.getHeaders())
+				.header(SERVER_TIMING, serverTiming.toString())
+				.body(response.getBody());
+	}
+
+	private static void appendServerTiming(final StringBuilder serverTiming, final String name, final long nanos) {
+		if (nanos == 0) {
+			return;
+		}
+		final long micros = nanos / NANOS_PER_MICRO;
+		final long fraction = micros % MICROS_PER_MILLI;
+		if (serverTiming.length() > 0) {
+			serverTiming.append(", ");
+		}
+		serverTiming.append(name).append(";dur=").append(micros / MICROS_PER_MILLI).append('.');
+		if (fraction < 100) {
+			serverTiming.append(fraction < 10 ? "00" : "0");
+		}
+		serverTiming.append(fraction);
+	}
+
+	/**
+	 * @param id
+	 *            The ID of the deck that was requested.
+	 * @return {@link HttpStatus#NOT_FOUND} response with an error status naming the ID.
+	 */
+	static ResponseEntity<DeckResponseModel> mapNotFoundResponse(final Integer id) {
+		final DeckResponseStatus deckResponseStatus = new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(),
+				Collections.singletonList("No deck found with ID " + id + "."));
+		return new ResponseEntity<>(mapErrorResponse(deckResponseStatus), HttpStatus.NOT_FOUND);
+	}
+
+	/**
+	 * @param e
+	 *            The exception aborting the request once its deadline passed.
+	 * @return {@link HttpStatus#GATEWAY_TIMEOUT} response with an error status describing the deadline.
+	 */
+	static ResponseEntity<DeckResponseModel> mapDeadlineExceededResponse(final Exception e) {
+		LOGGER.debug("Deadline exceeded", e);
+		final DeckResponseStatus deckResponseStatus = new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(),
+				Collections.singletonList(e instanceof DeadlineExceededException ? e.getMessage() : "Deadline of the request exceeded."));
+		return new ResponseEntity<>(mapErrorResponse(deckResponseStatus), HttpStatus.GATEWAY_TIMEOUT);
+	}
+
+	/**
+	 * @param deckResponseStatus
+	 *            The error status from validating the request.
+	 * @return Response holding only the error status.
+	 */
+	static DeckResponseModel mapErrorResponse(final DeckResponseStatus deckResponseStatus) {
+		final DeckResponseModel errorResponse = new DeckResponseModel();
+		errorResponse.setStatus(deckResponseStatus);
+		return errorResponse;
+	}
+
+	/**
+	 * @param e
+	 *            The exception encountered while processing the request.
+	 * @return Response with an error status describing the exception.
+	 */
+	static DeckResponseModel mapExceptionResponse(final Throwable e) {
+		LOGGER.error(e);
+		final DeckResponseModel deckResponseModel = new DeckResponseModel();
+		final DeckResponseStatus deckResponseStatus = new DeckResponseStatus();
+		deckResponseStatus.setStatus(DeckResponseStatus.ResponseStatus.ERROR.name());
+
+		final List<String> errorMessages = new ArrayList<>();
+		errorMessages.add("Exception encountered while processing the request.");
+		errorMessages.add(ExceptionUtils.getMessage(e));
+		Optional<String> firstFrameInProject = Arrays.stream(ExceptionUtils.getStackFrames(e))
+				.filter(stackFrame -> stackFrame.contains("com.github.zachsand.hs.deck.generator"))
+				.findFirst();
+		firstFrameInProject.ifPresent(errorMessages::add);
+
+		deckResponseStatus.setMessage(errorMessages);
+		deckResponseModel.setStatus(deckResponseStatus);
+		LOGGER.debug("Error response {}.", deckResponseModel);
+		return deckResponseModel;
+	}
+}
@@ -0,0 +1,19 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+
+/**
+ * Converts the {@code view} request parameter of the deck endpoints, such as {@code view=slim}, to its
+ * {@link DeckView} regardless of case. An unknown view is answered with a bad request.
+ */
+@Component
+class DeckViewConverter implements Converter<String, DeckView> {
+
+	@Override
+	public DeckView convert(final String source) {
+		return DeckView.valueOf(source.trim().toUpperCase());
+	}
+}
@@ -0,0 +1,32 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+
+/**
+ * Serializes the Jackson encoded deck responses with the Jackson view of the {@link DeckView} the handler selected
+ * through {@link DeckResponses#useDeckView(DeckView)}, so the card attributes outside of the view are not written.
+ * Protobuf responses are not affected, as the attributes outside of the view are never mapped.
+ */
+@RestControllerAdvice
+class DeckViewResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+	@Override
+	protected void beforeBodyWriteInternal(final MappingJacksonValue bodyContainer, final MediaType contentType,
+			final MethodParameter returnType, final ServerHttpRequest request, final ServerHttpResponse response) {
+		if (request instanceof ServletServerHttpRequest) {
+			final Object deckView = ((ServletServerHttpRequest) request).getServletRequest().getAttribute(DeckResponses.DECK_VIEW_ATTRIBUTE);
+			if (deckView instanceof DeckView && bodyContainer.getSerializationView() == null) {
+				bodyContainer.setSerializationView(((DeckView) deckView).getJsonView());
+			}
+		}
+	}
+}
@@ -8,7 +8,10 @@ import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.OneToMany;
+import javax.persistence.JoinTable;
+import javax.persistence.ManyToMany;
+import javax.persistence.OrderColumn;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import com.github.zachsand.hs.deck.generator.data.model.deck.GameFormat;
@@ -20,8 +23,10 @@ import com.github.zachsand.hs.deck.generator.data.model.deck.GameFormat;
 @Table(name = "deck")
 public class DeckEntity {
 
+	/* Pooled sequence, so a batch of decks is inserted without a sequence round trip per deck */
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "deck_sequence")
+	@SequenceGenerator(name = "deck_sequence", sequenceName = "deck_sequence", allocationSize = 50)
 	private int id;
 
 	private String deckCode;
@@ -30,7 +35,10 @@ public class DeckEntity {
 	@Enumerated(EnumType.STRING)
 	private GameFormat gameFormat;
 
-	@OneToMany
+	/* A deck holds up to two copies of a card, so the cards are a list ordered by the position of each copy */
+	@ManyToMany
+	@JoinTable(name = "deck_cards")
+	@OrderColumn
 	private List<CardEntity> cards;
 
 	/**
@@ -0,0 +1,103 @@
+package com.github.zachsand.hs.deck.generator.data.entity;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * The idempotency key entity. This entity maps the idempotency key of a deck generation request to the deck it
+ * generated, with a hash of the request to recognize a key reused for a different request.
+ * <p>
+ * A key is inserted without a deck when a request claims it, so the primary key lets a single request on any node
+ * generate its deck, and is then completed with the deck ID. A constructed entity is always new, so saving it inserts it
+ * and fails on a key already claimed instead of merging into it.
+ * </p>
+ */
+@Entity
+@Table(name = "deck_idempotency_key", indexes = @Index(name = "deck_idempotency_key_created_at", columnList = "createdAt"))
+public class IdempotencyKeyEntity implements Persistable<String> {
+
+	@Id
+	@Column(name = "idempotency_key")
+	private String key;
+
+	private Integer deckId;
+
+	@Column(length = 64)
+	private String requestHash;
+
+	private Instant createdAt;
+
+	@Transient
+	private boolean isNew = true;
+
+	/**
+	 * Constructs an empty idempotency key entity for JPA.
+	 */
+	protected IdempotencyKeyEntity() {}
+
+	/**
+	 * Constructs the idempotency key entity.
+	 *
+	 * @param key
+	 *            The idempotency key sent by the client.
+	 * @param deckId
+	 *            The ID of the deck generated for the key, or {@code null} while the deck is being generated.
+	 * @param requestHash
+	 *            The SHA-256 hash of the deck request sent with the key.
+	 * @param createdAt
+	 *            When the key was claimed.
+	 */
+	public IdempotencyKeyEntity(final String key, final Integer deckId, final String requestHash, final Instant createdAt) {
+		this.key = key;
+		this.deckId = deckId;
+		this.requestHash = requestHash;
+		this.createdAt = createdAt;
+	}
+
+	@Override
+	public String getId() {
+		return key;
+	}
+
+	@Override
+	public boolean isNew() {
+		return isNew;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markNotNew() {
+		isNew = false;
+	}
+
+	/**
+	 * @return The ID of the deck generated for the key, or {@code null} while the deck is being generated.
+	 */
+	public Integer getDeckId() {
+		return deckId;
+	}
+
+	/**
+	 * @return The SHA-256 hash of the deck request sent with the key.
+	 */
+	public String getRequestHash() {
+		return requestHash;
+	}
+
+	/**
+	 * @return When the key was claimed.
+	 */
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+}
@@ -0,0 +1,53 @@
+package com.github.zachsand.hs.deck.generator.data.jdbc;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Names the JDBC statements after the repository method executing them, such as
+ * {@code CardRepository.findRandomCardsByClassWithLimit}. The name is bound to the thread for the duration of the
+ * repository call, including the flush of its transaction.
+ */
+public final class QueryNames implements MethodInterceptor {
+
+	/**
+	 * Name of the statements executed outside a repository call, such as the lazy loading of an association.
+	 */
+	public static final String UNNAMED = "other";
+
+	private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+	private final String repositoryName;
+
+	/**
+	 * Constructs the interceptor naming the statements of a repository.
+	 *
+	 * @param repositoryInterface
+	 *            The interface of the repository.
+	 */
+	public QueryNames(final Class<?> repositoryInterface) {
+		this.repositoryName = repositoryInterface.getSimpleName() + '.';
+	}
+
+	/**
+	 * @return The name of the repository method executing on the current thread, or {@link #UNNAMED}.
+	 */
+	public static String current() {
+		final String name = CURRENT.get();
+		return name == null ? UNNAMED : name;
+	}
+
+	@Override
+	public Object invoke(final MethodInvocation invocation) throws Throwable {
+		final String outerName = CURRENT.get();
+		if (outerName != null) {
+			return invocation.proceed();
+		}
+		CURRENT.set(repositoryName + invocation.getMethod().getName());
+		try {
+			return invocation.proceed();
+		} finally {
+			CURRENT.remove();
+		}
+	}
+}
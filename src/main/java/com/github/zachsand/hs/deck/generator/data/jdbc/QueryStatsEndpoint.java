@@ -0,0 +1,254 @@
+package com.github.zachsand.hs.deck.generator.data.jdbc;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+/**
+ * Admin endpoint describing the database work of the application: {@code GET /actuator/querystats} answers the
+ * latencies of the JDBC statements of each {@link QueryNames query}, timed by the {@link QueryTimingListener}, and the
+ * Hibernate statistics of the session factory.
+ */
+@Component
+@Endpoint(id = "querystats")
+public class QueryStatsEndpoint {
+
+	private final MeterRegistry meterRegistry;
+	private final Statistics statistics;
+
+	/**
+	 * Constructs the query statistics endpoint.
+	 *
+	 * @param meterRegistry
+	 *            The registry the statement timers are published to.
+	 * @param entityManagerFactory
+	 *            The {@link EntityManagerFactory} whose Hibernate statistics are described.
+	 */
+	public QueryStatsEndpoint(final MeterRegistry meterRegistry, final EntityManagerFactory entityManagerFactory) {
+		this.meterRegistry = meterRegistry;
+		this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	/**
+	 * Describes the database work since the start of the application.
+	 *
+	 * @return The {@link QueryStatsDescriptor}.
+	 */
+	@ReadOperation
+	public QueryStatsDescriptor queryStats() {
+		final Map<String, QueryTimingDescriptor> queries = new TreeMap<>();
+		for (final Timer timer : meterRegistry.find(QueryTimingListener.QUERY_TIMER_NAME).timers()) {
+			queries.put(timer.getId().getTag("query"), new QueryTimingDescriptor(timer.takeSnapshot()));
+		}
+		return new QueryStatsDescriptor(queries, new HibernateStatisticsDescriptor(statistics));
+	}
+
+	/**
+	 * Description of the database work.
+	 */
+	public static final class QueryStatsDescriptor {
+
+		private final Map<String, QueryTimingDescriptor> queries;
+		private final HibernateStatisticsDescriptor hibernate;
+
+		private QueryStatsDescriptor(final Map<String, QueryTimingDescriptor> queries, final HibernateStatisticsDescriptor hibernate) {
+			this.queries = queries;
+			this.hibernate = hibernate;
+		}
+
+		/**
+		 * @return The latencies of the statements by query name.
+		 */
+		public Map<String, QueryTimingDescriptor> getQueries() {
+			return queries;
+		}
+
+		/**
+		 * @return The Hibernate statistics.
+		 */
+		public HibernateStatisticsDescriptor getHibernate() {
+			return hibernate;
+		}
+	}
+
+	/**
+	 * Latencies of the statements of a query, in milliseconds.
+	 */
+	public static final class QueryTimingDescriptor {
+
+		private final long count;
+		private final double meanMillis;
+		private final double maxMillis;
+		private final Map<String, Double> percentileMillis = new TreeMap<>();
+
+		private QueryTimingDescriptor(final HistogramSnapshot snapshot) {
+			this.count = snapshot.count();
+			this.meanMillis = snapshot.mean(TimeUnit.MILLISECONDS);
+			this.maxMillis = snapshot.max(TimeUnit.MILLISECONDS);
+			for (final ValueAtPercentile percentile : snapshot.percentileValues()) {
+				percentileMillis.put("p" + BigDecimal.valueOf(percentile.percentile()).movePointRight(2).stripTrailingZeros().toPlainString(), percentile.value(TimeUnit.MILLISECONDS));
+			}
+		}
+
+		/**
+		 * @return The number of statements executed.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return The mean latency.
+		 */
+		public double getMeanMillis() {
+			return meanMillis;
+		}
+
+		/**
+		 * @return The maximum latency over the recent distribution window.
+		 */
+		public double getMaxMillis() {
+			return maxMillis;
+		}
+
+		/**
+		 * @return The latency percentiles over the recent distribution window, such as {@code p99.9}.
+		 */
+		public Map<String, Double> getPercentileMillis() {
+			return percentileMillis;
+		}
+	}
+
+	/**
+	 * Hibernate statistics of the session factory, which are only counted when
+	 * {@code spring.jpa.properties.hibernate.generate_statistics} is set.
+	 */
+	public static final class HibernateStatisticsDescriptor {
+
+		private final boolean enabled;
+		private final long queryExecutionCount;
+		private final long queryExecutionMaxTime;
+		private final String queryExecutionMaxTimeQueryString;
+		private final long prepareStatementCount;
+		private final long entityLoadCount;
+		private final long entityFetchCount;
+		private final long entityInsertCount;
+		private final long collectionLoadCount;
+		private final long flushCount;
+		private final long sessionOpenCount;
+		private final long transactionCount;
+
+		private HibernateStatisticsDescriptor(final Statistics statistics) {
+			this.enabled = statistics.isStatisticsEnabled();
+			this.queryExecutionCount = statistics.getQueryExecutionCount();
+			this.queryExecutionMaxTime = statistics.getQueryExecutionMaxTime();
+			this.queryExecutionMaxTimeQueryString = statistics.getQueryExecutionMaxTimeQueryString();
+			this.prepareStatementCount = statistics.getPrepareStatementCount();
+			this.entityLoadCount = statistics.getEntityLoadCount();
+			this.entityFetchCount = statistics.getEntityFetchCount();
+			this.entityInsertCount = statistics.getEntityInsertCount();
+			this.collectionLoadCount = statistics.getCollectionLoadCount();
+			this.flushCount = statistics.getFlushCount();
+			this.sessionOpenCount = statistics.getSessionOpenCount();
+			this.transactionCount = statistics.getTransactionCount();
+		}
+
+		/**
+		 * @return Whether the statistics are counted.
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * @return The number of HQL and native queries executed.
+		 */
+		public long getQueryExecutionCount() {
+			return queryExecutionCount;
+		}
+
+		/**
+		 * @return The time of the slowest query, in milliseconds.
+		 */
+		public long getQueryExecutionMaxTime() {
+			return queryExecutionMaxTime;
+		}
+
+		/**
+		 * @return The slowest query.
+		 */
+		public String getQueryExecutionMaxTimeQueryString() {
+			return queryExecutionMaxTimeQueryString;
+		}
+
+		/**
+		 * @return The number of JDBC statements prepared.
+		 */
+		public long getPrepareStatementCount() {
+			return prepareStatementCount;
+		}
+
+		/**
+		 * @return The number of entities loaded from the database.
+		 */
+		public long getEntityLoadCount() {
+			return entityLoadCount;
+		}
+
+		/**
+		 * @return The number of entities fetched lazily.
+		 */
+		public long getEntityFetchCount() {
+			return entityFetchCount;
+		}
+
+		/**
+		 * @return The number of entities inserted.
+		 */
+		public long getEntityInsertCount() {
+			return entityInsertCount;
+		}
+
+		/**
+		 * @return The number of collections loaded.
+		 */
+		public long getCollectionLoadCount() {
+			return collectionLoadCount;
+		}
+
+		/**
+		 * @return The number of session flushes.
+		 */
+		public long getFlushCount() {
+			return flushCount;
+		}
+
+		/**
+		 * @return The number of sessions opened.
+		 */
+		public long getSessionOpenCount() {
+			return sessionOpenCount;
+		}
+
+		/**
+		 * @return The number of transactions completed.
+		 */
+		public long getTransactionCount() {
+			return transactionCount;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package com.github.zachsand.hs.deck.generator.data.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.github.zachsand.hs.deck.generator.config.SlowQueryConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Times every JDBC statement of the application, tagged with the {@link QueryNames name} of the repository method
+ * executing it.
+ * <p>
+ * Statements taking at least {@link SlowQueryConfig#getThreshold()} are logged with the types of their bind values,
+ * never the values themselves. When {@link SlowQueryConfig#isExplain()} is set, the plan of a slow select statement is
+ * also logged, from an {@code EXPLAIN (ANALYZE, BUFFERS)} of the statement with the same bind values. The plans are
+ * sampled at most once per {@link SlowQueryConfig#getExplainInterval()} for each query, on a read-only connection of the
+ * given executor, which drops the samples it has no room for.
+ * </p>
+ */
+public class QueryTimingListener implements QueryExecutionListener {
+
+	/**
+	 * Name of the timers of the statements.
+	 */
+	public static final String QUERY_TIMER_NAME = "deck.db.query";
+
+	private static final Logger LOGGER = LogManager.getLogger(QueryTimingListener.class);
+
+	private static final String START_NANOS = QueryTimingListener.class.getName() + ".startNanos";
+	private static final String EXPLAIN_PREFIX = "EXPLAIN (ANALYZE, BUFFERS) ";
+
+	private final MeterRegistry meterRegistry;
+	private final SlowQueryConfig slowQueryConfig;
+	private final DataSource dataSource;
+	private final long thresholdNanos;
+	private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Long> lastExplainNanos = new ConcurrentHashMap<>();
+	private final Executor explainExecutor;
+
+	/**
+	 * Constructs the listener timing the statements of a data source.
+	 *
+	 * @param meterRegistry
+	 *            The registry to publish the timers to.
+	 * @param slowQueryConfig
+	 *            The {@link SlowQueryConfig} of the slow statements.
+	 * @param dataSource
+	 *            The data source, without the proxy, to explain the slow statements on.
+	 * @param explainExecutor
+	 *            The bounded executor sampling the plans of the slow statements, dropping the samples it has no room for.
+	 */
+	public QueryTimingListener(final MeterRegistry meterRegistry, final SlowQueryConfig slowQueryConfig, final DataSource dataSource,
+			final Executor explainExecutor) {
+		this.meterRegistry = meterRegistry;
+		this.slowQueryConfig = slowQueryConfig;
+		this.dataSource = dataSource;
+		this.thresholdNanos = slowQueryConfig.getThreshold().toNanos();
+		this.explainExecutor = explainExecutor;
+	}
+
+	@Override
+	public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+		execInfo.addCustomValue(START_NANOS, System.nanoTime());
+	}
+
+	@Override
+	public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+		final Long startNanos = execInfo.getCustomValue(START_NANOS, Long.class);
+		if (startNanos == null) {
+			return;
+		}
+		final long durationNanos = System.nanoTime() - startNanos;
+		final String queryName = QueryNames.current();
+		timers.computeIfAbsent(queryName, this::registerTimer).record(durationNanos, TimeUnit.NANOSECONDS);
+
+		if (durationNanos >= thresholdNanos) {
+			logSlowQuery(queryName, durationNanos, execInfo, queryInfoList);
+		}
+	}
+
+	private Timer registerTimer(final String queryName) {
+		return Timer.builder(QUERY_TIMER_NAME)
+				.description("Time spent executing a JDBC statement")
+				.tag("query", queryName)
+				.register(meterRegistry);
+	}
+
+	private void logSlowQuery(final String queryName, final long durationNanos, final ExecutionInfo execInfo,
+			final List<QueryInfo> queryInfoList) {
+		final double durationMillis = durationNanos / 1_000_000.0;
+		for (final QueryInfo queryInfo : queryInfoList) {
+			final List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+			LOGGER.warn("Slow query {} took {} ms{}: {} with parameters {}", queryName, durationMillis,
+					execInfo.isSuccess() ? "" : " and failed", queryInfo.getQuery(), bindTypes(parametersList));
+			if (slowQueryConfig.isExplain() && !execInfo.isBatch() && parametersList.size() <= 1 && isSelect(queryInfo.getQuery())
+					&& claimExplain(queryName)) {
+				final List<ParameterSetOperation> parameters = parametersList.isEmpty() ? List.of() : parametersList.get(0);
+				explainExecutor.execute(() -> explain(queryName, queryInfo.getQuery(), parameters));
+			}
+		}
+	}
+
+	/**
+	 * Masks the bind values of a statement, which may hold user or secret data, keeping only their types.
+	 */
+	static List<List<String>> bindTypes(final List<List<ParameterSetOperation>> parametersList) {
+		final List<List<String>> bindTypes = new ArrayList<>(parametersList.size());
+		for (final List<ParameterSetOperation> parameters : parametersList) {
+			final List<String> types = new ArrayList<>(parameters.size());
+			for (final ParameterSetOperation parameter : parameters) {
+				final Object value = ParameterSetOperation.isSetNullParameterOperation(parameter) ? null : parameter.getArgs()[1];
+				types.add(value == null ? "null" : value.getClass().getSimpleName());
+			}
+			bindTypes.add(types);
+		}
+		return bindTypes;
+	}
+
+	private static boolean isSelect(final String query) {
+		return query.stripLeading().regionMatches(true, 0, "select", 0, 6);
+	}
+
+	private boolean claimExplain(final String queryName) {
+		final long now = System.nanoTime();
+		final long intervalNanos = slowQueryConfig.getExplainInterval().toNanos();
+		final long[] claimed = new long[1];
+		lastExplainNanos.compute(queryName, (name, last) -> {
+			if (last != null && now - last < intervalNanos) {
+				return last;
+			}
+			claimed[0] = 1;
+			return now;
+		});
+		return claimed[0] == 1;
+	}
+
+	private void explain(final String queryName, final String query, final List<ParameterSetOperation> parameters) {
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setReadOnly(true);
+			try (PreparedStatement statement = connection.prepareStatement(EXPLAIN_PREFIX + query)) {
+				for (final ParameterSetOperation parameter : parameters) {
+					if (!ParameterSetOperation.isRegisterOutParameterOperation(parameter)) {
+						parameter.getMethod().invoke(statement, parameter.getArgs());
+					}
+				}
+				final StringBuilder plan = new StringBuilder();
+				try (ResultSet resultSet = statement.executeQuery()) {
+					while (resultSet.next()) {
+						plan.append(System.lineSeparator()).append(resultSet.getString(1));
+					}
+				}
+				LOGGER.warn("Plan of slow query {}:{}", queryName, plan);
+			}
+		} catch (final SQLException | IllegalAccessException | InvocationTargetException e) {
+			LOGGER.warn("Error encountered while explaining slow query {}", queryName, e);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.github.zachsand.hs.deck.generator.data.jdbc;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.postgresql.jdbc.PgStatement;
+
+import com.github.zachsand.hs.deck.generator.service.RequestDeadline;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Bounds the JDBC statements executed for a request by the time left until its {@link RequestDeadline}. A statement
+ * executed after the deadline has passed is not sent to the database, and the others are given the remaining time as
+ * their query timeout, after which the driver cancels them on the server.
+ * <p>
+ * The Postgres driver takes the timeout in milliseconds. Other drivers only take whole seconds, so the timeout is
+ * rounded up for them.
+ * </p>
+ */
+public class StatementDeadlineListener implements QueryExecutionListener {
+
+	@Override
+	public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+		final long remainingNanos = RequestDeadline.remainingNanos();
+		if (remainingNanos == Long.MAX_VALUE) {
+			return;
+		}
+		RequestDeadline.check("executing " + QueryNames.current());
+		try {
+			setQueryTimeout(execInfo.getStatement(), remainingNanos);
+		} catch (final SQLException e) {
+			throw new IllegalStateException("Error encountered while setting the query timeout of " + QueryNames.current(), e);
+		}
+	}
+
+	@Override
+	public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+		// The timeout only applies to the statement it was set on
+	}
+
+	/**
+	 * Sets the query timeout of a statement, rounded up to the precision the driver supports.
+	 *
+	 * @param statement
+	 *            The statement about to be executed.
+	 * @param timeoutNanos
+	 *            The time the statement may take.
+	 * @throws SQLException
+	 *             If the driver fails to set the timeout.
+	 */
+	static void setQueryTimeout(final Statement statement, final long timeoutNanos) throws SQLException {
+		if (statement.isWrapperFor(PgStatement.class)) {
+			statement.unwrap(PgStatement.class).setQueryTimeoutMs(Math.max(1, ceilDiv(timeoutNanos, TimeUnit.MILLISECONDS.toNanos(1))));
+		} else {
+			statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, Math.max(1, ceilDiv(timeoutNanos, TimeUnit.SECONDS.toNanos(1)))));
+		}
+	}
+
+	private static long ceilDiv(final long dividend, final long divisor) {
+		return -Math.floorDiv(-dividend, divisor);
+	}
+}
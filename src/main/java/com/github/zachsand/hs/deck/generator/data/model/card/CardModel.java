@@ -1,29 +1,49 @@
 package com.github.zachsand.hs.deck.generator.data.model.card;
 
+import com.fasterxml.jackson.annotation.JsonView;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+
 /**
  * The Card model from the Hearthstone API card search.
  *
  * @see <a href="https://develop.battle.net/documentation/hearthstone/guides/card-search target="_top"">
  *      https://develop.battle.net/documentation/hearthstone/guides/card-search</a>
+ * @see DeckView
  */
 public class CardModel {
 
 	private Long id;
+	@JsonView(DeckView.Slim.class)
 	private int collectible;
+	@JsonView(DeckView.Slim.class)
 	private String slug;
+	@JsonView(DeckView.Slim.class)
 	private int classId;
+	@JsonView(DeckView.Full.class)
 	private int[] multiClassIds;
+	@JsonView(DeckView.Slim.class)
 	private int cardTypeId;
+	@JsonView(DeckView.Slim.class)
 	private int cardSetId;
+	@JsonView(DeckView.Slim.class)
 	private int rarityId;
+	@JsonView(DeckView.Full.class)
 	private String artistName;
+	@JsonView(DeckView.Slim.class)
 	private int manaCost;
+	@JsonView(DeckView.Slim.class)
 	private String name;
+	@JsonView(DeckView.Full.class)
 	private String text;
+	@JsonView(DeckView.Full.class)
 	private String image;
+	@JsonView(DeckView.Full.class)
 	private String imageGold;
+	@JsonView(DeckView.Full.class)
 	private String flavorText;
+	@JsonView(DeckView.Full.class)
 	private String cropImage;
+	@JsonView(DeckView.Full.class)
 	private int[] childIds;
 
 	/**
@@ -0,0 +1,113 @@
+package com.github.zachsand.hs.deck.generator.data.model.deck;
+
+import java.util.List;
+
+/**
+ * The deck batch request model for generating many decks in one request. Holds either a single
+ * {@link DeckRequestModel} together with the number of decks to generate for it, or a list of
+ * {@link DeckRequestModel}s that each generate one deck.
+ */
+public class DeckBatchRequestModel {
+
+	private DeckRequestModel request;
+	private Integer count;
+	private List<DeckRequestModel> requests;
+	private boolean unique;
+	private boolean codeOnly;
+
+	/**
+	 * @return The request to generate {@link DeckBatchRequestModel#getCount()} decks for.
+	 */
+	public DeckRequestModel getRequest() {
+		return request;
+	}
+
+	/**
+	 * Sets the request to generate {@link DeckBatchRequestModel#getCount()} decks for.
+	 *
+	 * @param request
+	 *            The request to generate the decks for.
+	 */
+	public void setRequest(final DeckRequestModel request) {
+		this.request = request;
+	}
+
+	/**
+	 * @return The number of decks to generate for {@link DeckBatchRequestModel#getRequest()}.
+	 */
+	public Integer getCount() {
+		return count;
+	}
+
+	/**
+	 * Sets the number of decks to generate for {@link DeckBatchRequestModel#getRequest()}.
+	 *
+	 * @param count
+	 *            The number of decks to generate.
+	 */
+	public void setCount(final Integer count) {
+		this.count = count;
+	}
+
+	/**
+	 * @return The requests to generate one deck each for.
+	 */
+	public List<DeckRequestModel> getRequests() {
+		return requests;
+	}
+
+	/**
+	 * Sets the requests to generate one deck each for.
+	 *
+	 * @param requests
+	 *            The requests to generate one deck each for.
+	 */
+	public void setRequests(final List<DeckRequestModel> requests) {
+		this.requests = requests;
+	}
+
+	/**
+	 * @return Whether no two decks of the batch may be identical.
+	 */
+	public boolean isUnique() {
+		return unique;
+	}
+
+	/**
+	 * Sets whether no two decks of the batch may be identical.
+	 *
+	 * @param unique
+	 *            Whether no two decks of the batch may be identical.
+	 */
+	public void setUnique(final boolean unique) {
+		this.unique = unique;
+	}
+
+	/**
+	 * @return Whether the cards of the decks only hold their IDs instead of the full card details.
+	 */
+	public boolean isCodeOnly() {
+		return codeOnly;
+	}
+
+	/**
+	 * Sets whether the cards of the decks only hold their IDs instead of the full card details.
+	 *
+	 * @param codeOnly
+	 *            Whether the cards of the decks only hold their IDs.
+	 */
+	public void setCodeOnly(final boolean codeOnly) {
+		this.codeOnly = codeOnly;
+	}
+
+	@Override
+	public String toString() {
+		return "DeckBatchRequestModel{" +
+				"request=" + request +
+				", count=" + count +
+				", requests=" + requests +
+				", unique=" + unique +
+				", codeOnly=" + codeOnly +
+				'}';
+	}
+}
@@ -0,0 +1,46 @@
+package com.github.zachsand.hs.deck.generator.data.model.deck;
+
+import java.util.List;
+
+/**
+ * The deck batch response model for holding the decks generated for a {@link DeckBatchRequestModel}.
+ */
+public class DeckBatchResponseModel {
+
+	private DeckResponseStatus status;
+	private List<DeckResponseModel> decks;
+
+	/**
+	 * @return The status of the response.
+	 */
+	public DeckResponseStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Sets the status of the response.
+	 *
+	 * @param status
+	 *            The status of the response.
+	 */
+	public void setStatus(final DeckResponseStatus status) {
+		this.status = status;
+	}
+
+	/**
+	 * @return The generated decks, in the order of the requests.
+	 */
+	public List<DeckResponseModel> getDecks() {
+		return decks;
+	}
+
+	/**
+	 * Sets the generated decks.
+	 *
+	 * @param decks
+	 *            The generated decks, in the order of the requests.
+	 */
+	public void setDecks(final List<DeckResponseModel> decks) {
+		this.decks = decks;
+	}
+}
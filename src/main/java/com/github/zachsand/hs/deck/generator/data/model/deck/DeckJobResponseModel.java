@@ -0,0 +1,151 @@
+package com.github.zachsand.hs.deck.generator.data.model.deck;
+
+import java.util.List;
+
+/**
+ * The deck job response model for holding the state, progress and, once completed, the decks of an asynchronous deck
+ * generation job.
+ */
+public class DeckJobResponseModel {
+
+	private String id;
+	private String state;
+	private String priority;
+	private int total;
+	private int completed;
+	private DeckResponseStatus status;
+	private List<DeckResponseModel> decks;
+
+	/**
+	 * @return The ID of the job.
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Sets the ID of the job.
+	 *
+	 * @param id
+	 *            The ID of the job.
+	 */
+	public void setId(final String id) {
+		this.id = id;
+	}
+
+	/**
+	 * @return The {@link JobState} of the job.
+	 */
+	public String getState() {
+		return state;
+	}
+
+	/**
+	 * Sets the {@link JobState} of the job.
+	 *
+	 * @param state
+	 *            The {@link JobState} of the job.
+	 */
+	public void setState(final String state) {
+		this.state = state;
+	}
+
+	/**
+	 * @return The {@link JobPriority} of the job.
+	 */
+	public String getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Sets the {@link JobPriority} of the job.
+	 *
+	 * @param priority
+	 *            The {@link JobPriority} of the job.
+	 */
+	public void setPriority(final String priority) {
+		this.priority = priority;
+	}
+
+	/**
+	 * @return The number of decks the job generates.
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Sets the number of decks the job generates.
+	 *
+	 * @param total
+	 *            The number of decks the job generates.
+	 */
+	public void setTotal(final int total) {
+		this.total = total;
+	}
+
+	/**
+	 * @return The number of decks generated so far.
+	 */
+	public int getCompleted() {
+		return completed;
+	}
+
+	/**
+	 * Sets the number of decks generated so far.
+	 *
+	 * @param completed
+	 *            The number of decks generated so far.
+	 */
+	public void setCompleted(final int completed) {
+		this.completed = completed;
+	}
+
+	/**
+	 * @return The status of the response, holding the error of a failed job.
+	 */
+	public DeckResponseStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Sets the status of the response.
+	 *
+	 * @param status
+	 *            The status of the response, holding the error of a failed job.
+	 */
+	public void setStatus(final DeckResponseStatus status) {
+		this.status = status;
+	}
+
+	/**
+	 * @return The IDs and deck codes of the generated decks, in the order of the requests, once the job has completed.
+	 */
+	public List<DeckResponseModel> getDecks() {
+		return decks;
+	}
+
+	/**
+	 * Sets the generated decks.
+	 *
+	 * @param decks
+	 *            The IDs and deck codes of the generated decks, in the order of the requests.
+	 */
+	public void setDecks(final List<DeckResponseModel> decks) {
+		this.decks = decks;
+	}
+
+	public enum JobState {
+		QUEUED,
+		RUNNING,
+		COMPLETED,
+		FAILED,
+		CANCELLED
+	}
+
+	public enum JobPriority {
+		HIGH,
+		NORMAL,
+		LOW
+	}
+}
@@ -6,6 +6,9 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * The deck request model for generating decks. Contains the necessary information for generating a deck.
  */
@@ -73,6 +76,32 @@ public class DeckRequestModel {
 		this.deckSets = deckSets;
 	}
 
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o)
+			return true;
+
+		if (o == null || getClass() != o.getClass())
+			return false;
+
+		final DeckRequestModel that = (DeckRequestModel) o;
+
+		return new EqualsBuilder()
+				.append(className, that.className)
+				.append(gameFormat, that.gameFormat)
+				.append(deckSets, that.deckSets)
+				.isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(17, 37)
+				.append(className)
+				.append(gameFormat)
+				.append(deckSets)
+				.toHashCode();
+	}
+
 	@Override
 	public String toString() {
 		return "DeckRequestModel{" +
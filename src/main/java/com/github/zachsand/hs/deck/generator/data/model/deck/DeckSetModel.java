@@ -4,6 +4,9 @@ import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
 /**
  * The deck set model. Contains information about how to generate the cards from each set.
  */
@@ -73,6 +76,32 @@ public class DeckSetModel {
 		this.neutralSetCount = neutralSetCount;
 	}
 
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o)
+			return true;
+
+		if (o == null || getClass() != o.getClass())
+			return false;
+
+		final DeckSetModel that = (DeckSetModel) o;
+
+		return new EqualsBuilder()
+				.append(setName, that.setName)
+				.append(classSetCount, that.classSetCount)
+				.append(neutralSetCount, that.neutralSetCount)
+				.isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(17, 37)
+				.append(setName)
+				.append(classSetCount)
+				.append(neutralSetCount)
+				.toHashCode();
+	}
+
 	@Override
 	public String toString() {
 		return "DeckSetModel{" +
@@ -0,0 +1,48 @@
+package com.github.zachsand.hs.deck.generator.data.model.deck;
+
+/**
+ * Enum representing how much of each card a deck response holds. The card attributes of a view are the only ones
+ * mapped from the card entities, and the nested interfaces are the Jackson views restricting the serialized ones.
+ */
+public enum DeckView {
+	/**
+	 * Only the deck code and the card IDs.
+	 */
+	CODE(Code.class),
+	/**
+	 * The card IDs with the attributes needed to list the deck: name, mana cost, class, set, type, rarity.
+	 */
+	SLIM(Slim.class),
+	/**
+	 * Every card attribute, including the card texts and image URLs.
+	 */
+	FULL(Full.class);
+
+	private final Class<?> jsonView;
+
+	DeckView(final Class<?> jsonView) {
+		this.jsonView = jsonView;
+	}
+
+	/**
+	 * @return The Jackson view restricting the serialized card attributes to the ones of the {@link DeckView}.
+	 */
+	public Class<?> getJsonView() {
+		return jsonView;
+	}
+
+	/**
+	 * Jackson view of {@link DeckView#CODE}.
+	 */
+	public interface Code {}
+
+	/**
+	 * Jackson view of {@link DeckView#SLIM}.
+	 */
+	public interface Slim extends Code {}
+
+	/**
+	 * Jackson view of {@link DeckView#FULL}.
+	 */
+	public interface Full extends Slim {}
+}
@@ -1,7 +1,9 @@
 package com.github.zachsand.hs.deck.generator.data.model.deck.validator;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -20,11 +22,21 @@ import com.github.zachsand.hs.deck.generator.data.model.deck.DeckSetModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.GameFormat;
 import com.github.zachsand.hs.deck.generator.service.CardService;
 import com.github.zachsand.hs.deck.generator.service.ClassMetadataService;
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics;
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics.Stage;
+import com.github.zachsand.hs.deck.generator.service.RequestCoalescer;
+import com.github.zachsand.hs.deck.generator.service.RequestDeadline;
 import com.github.zachsand.hs.deck.generator.service.SetGroupMetadataService;
 import com.github.zachsand.hs.deck.generator.service.SetMetadataService;
 
 /**
  * Validates the deck request.
+ * <p>
+ * The validation of a request only depends on the request and the ingested metadata, so concurrent validations of equal
+ * requests are coalesced by a {@link RequestCoalescer} and share the result of the first one. Requests are keyed on their
+ * normalized form, with lower-case slugs and the deck sets sorted by set name, so requests differing only in the case
+ * of a slug or the order of their deck sets are coalesced as well.
+ * </p>
  */
 @Component
 public class DeckRequestValidator {
@@ -32,6 +44,8 @@ public class DeckRequestValidator {
 	private static final int DECK_MAX_SIZE = 30;
 	private static final int NUM_CARD_COPIES_ALLOWED = 2;
 	private static final String NEUTRAL_CLASS_SLUG_NAME = "neutral";
+	private static final Comparator<DeckSetModel> DECK_SET_ORDER = Comparator.comparing(DeckSetModel::getSetName,
+			Comparator.nullsFirst(Comparator.naturalOrder()));
 	private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
 	private final SetGroupMetadataService setGroupMetadataService;
@@ -42,6 +56,10 @@ public class DeckRequestValidator {
 
 	private final CardService cardService;
 
+	private final DeckMetrics deckMetrics;
+
+	private final RequestCoalescer<DeckRequestModel, DeckResponseStatus> validations;
+
 	/**
 	 * Constructs the deck request validator for validating requests.
 	 *
@@ -53,30 +71,99 @@ public class DeckRequestValidator {
 	 *            {@link ClassMetadataService} Class Metadata service.
 	 * @param cardService
 	 *            {@link CardService} Card service.
+	 * @param deckMetrics
+	 *            {@link DeckMetrics} Timers of the validation stages.
 	 */
 	public DeckRequestValidator(final SetGroupMetadataService setGroupMetadataService, final SetMetadataService setMetadataService,
-			final ClassMetadataService classMetadataService, final CardService cardService) {
+			final ClassMetadataService classMetadataService, final CardService cardService, final DeckMetrics deckMetrics) {
 		this.setGroupMetadataService = setGroupMetadataService;
 		this.setMetadataService = setMetadataService;
 		this.classMetadataService = classMetadataService;
 		this.cardService = cardService;
+		this.deckMetrics = deckMetrics;
+		this.validations = new RequestCoalescer<>(deckMetrics::recordCoalesced);
 	}
 
 	/**
-	 * Validates the deck request.
+	 * Validates the deck request. The slugs of the request are lower-cased first, as the slugs of the ingested metadata
+	 * are, so the deck is generated with the slugs that were validated.
 	 *
 	 * @param deckRequestModel
 	 *            {@link DeckRequestModel} request containing the data to validate.
-	 * @return {@link DeckResponseStatus}.
+	 * @return {@link DeckResponseStatus}, shared with the validations of equal requests, which must not be modified.
 	 */
 	public DeckResponseStatus validateDeckRequest(final DeckRequestModel deckRequestModel) {
+		normalizeSlugs(deckRequestModel);
+		final DeckRequestModel validationKey = mapValidationKey(deckRequestModel);
+		final DeckResponseStatus deckResponseStatus = validations.execute(validationKey, () -> validate(validationKey));
+		if (deckResponseStatus.getStatus().equals(DeckResponseStatus.ResponseStatus.ERROR.name())) {
+			deckMetrics.recordRejected(deckRequestModel);
+		}
+		return deckResponseStatus;
+	}
+
+	private static void normalizeSlugs(final DeckRequestModel deckRequestModel) {
+		deckRequestModel.setClassName(toLowerCase(deckRequestModel.getClassName()));
+		deckRequestModel.setGameFormat(toLowerCase(deckRequestModel.getGameFormat()));
+		if (deckRequestModel.getDeckSets() != null) {
+			deckRequestModel.getDeckSets().forEach(deckSet -> deckSet.setSetName(toLowerCase(deckSet.getSetName())));
+		}
+	}
+
+	private static String toLowerCase(final String slug) {
+		return slug == null ? null : slug.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * The validation is computed on the key rather than on the request, so its result only depends on the key and holds
+	 * for every request sharing it.
+	 *
+	 * @param deckRequestModel
+	 *            The deck request with normalized slugs.
+	 * @return Copy of the deck request with the deck sets sorted by set name.
+	 */
+	private static DeckRequestModel mapValidationKey(final DeckRequestModel deckRequestModel) {
+		final DeckRequestModel validationKey = new DeckRequestModel();
+		validationKey.setClassName(deckRequestModel.getClassName());
+		validationKey.setGameFormat(deckRequestModel.getGameFormat());
+		if (deckRequestModel.getDeckSets() != null) {
+			final List<DeckSetModel> deckSets = new ArrayList<>(deckRequestModel.getDeckSets());
+			deckSets.sort(DECK_SET_ORDER);
+			validationKey.setDeckSets(deckSets);
+		}
+		return validationKey;
+	}
+
+	private DeckResponseStatus validate(final DeckRequestModel deckRequestModel) {
 		final DeckResponseStatus deckResponseStatus = new DeckResponseStatus();
 		final List<String> errorMessages = new ArrayList<>();
 
-		final Set<ConstraintViolation<DeckRequestModel>> violations = validator.validate(deckRequestModel);
+		/* The deck sets are validated up front to time the bean validation apart from the slug checks */
+		final List<Set<ConstraintViolation<DeckSetModel>>> deckSetViolations = new ArrayList<>();
+		final Set<ConstraintViolation<DeckRequestModel>> violations = deckMetrics.record(Stage.BEAN_VALIDATION, deckRequestModel, () -> {
+			if (deckRequestModel.getDeckSets() != null) {
+				deckRequestModel.getDeckSets().forEach(deckSet -> deckSetViolations.add(validator.validate(deckSet)));
+			}
+			return validator.validate(deckRequestModel);
+		});
 		violations.forEach(deckSetModelConstraintViolation -> errorMessages
 				.add(deckSetModelConstraintViolation.getPropertyPath() + ": " + deckSetModelConstraintViolation.getMessage()));
 
+		RequestDeadline.check("the slug checks");
+		deckMetrics.record(Stage.SLUG_CHECKS, deckRequestModel, () -> validateSlugs(deckRequestModel, deckSetViolations, errorMessages));
+
+		if (!errorMessages.isEmpty()) {
+			deckResponseStatus.setStatus(DeckResponseStatus.ResponseStatus.ERROR.name());
+			deckResponseStatus.setMessage(errorMessages);
+		} else {
+			return DeckResponseStatus.SUCCESS_RESPONSE;
+		}
+
+		return deckResponseStatus;
+	}
+
+	private void validateSlugs(final DeckRequestModel deckRequestModel, final List<Set<ConstraintViolation<DeckSetModel>>> deckSetViolations,
+			final List<String> errorMessages) {
 		/* Game format option should be a lowercase version of the enum */
 		GameFormat gameFormat = null;
 		try {
@@ -95,17 +182,8 @@ public class DeckRequestValidator {
 							.map(ClassMetadataEntity::getSlug)
 							.collect(Collectors.toList()));
 		} else {
-			errorMessages.addAll(validateDeckSets(deckRequestModel, gameFormat));
+			errorMessages.addAll(validateDeckSets(deckRequestModel, gameFormat, deckSetViolations));
 		}
-
-		if (!errorMessages.isEmpty()) {
-			deckResponseStatus.setStatus(DeckResponseStatus.ResponseStatus.ERROR.name());
-			deckResponseStatus.setMessage(errorMessages);
-		} else {
-			return DeckResponseStatus.SUCCESS_RESPONSE;
-		}
-
-		return deckResponseStatus;
 	}
 
 	/**
@@ -113,18 +191,21 @@ public class DeckRequestValidator {
 	 *
 	 * @param resolvedGameFormat
 	 *            The game format given resolved by the enum {@link GameFormat}.
+	 * @param deckSetViolations
+	 *            The bean validation violations of each deck set, in the order of the deck sets.
 	 * @return List of error messages, if any, from validating the deck sets.
 	 */
-	private List<String> validateDeckSets(final DeckRequestModel deckRequestModel, final GameFormat resolvedGameFormat) {
+	private List<String> validateDeckSets(final DeckRequestModel deckRequestModel, final GameFormat resolvedGameFormat,
+			final List<Set<ConstraintViolation<DeckSetModel>>> deckSetViolations) {
 		final List<String> errorMessages = new ArrayList<>();
 
 		int deckCount = 0;
-		for (final DeckSetModel deckSet : deckRequestModel.getDeckSets()) {
+		for (int i = 0; i < deckRequestModel.getDeckSets().size(); i++) {
+			final DeckSetModel deckSet = deckRequestModel.getDeckSets().get(i);
 			deckCount += deckSet.getClassSetCount();
 			deckCount += deckSet.getNeutralSetCount();
 
-			final Set<ConstraintViolation<DeckSetModel>> violations = validator.validate(deckSet);
-			violations.forEach(deckSetModelConstraintViolation -> errorMessages
+			deckSetViolations.get(i).forEach(deckSetModelConstraintViolation -> errorMessages
 					.add(deckSetModelConstraintViolation.getPropertyPath() + ": " + deckSetModelConstraintViolation.getMessage()));
 
 			if (!deckSet.getSetName().equals(DeckSetModel.CUSTOM_SET_USE_ALL)) {
@@ -72,5 +72,13 @@ public interface CardRepository extends JpaRepository<CardEntity, Integer> {
 			" ORDER BY random() limit ?2", nativeQuery = true)
 	List<CardEntity> findRandomStandardCardsByClassWithLimit(int classId, int limit);
 
+	/**
+	 * Finds all the cards with their multi class metadata fetched, for building the in-memory card catalog.
+	 *
+	 * @return List of all {@link CardEntity}.
+	 */
+	@Query("SELECT DISTINCT card FROM CardEntity card LEFT JOIN FETCH card.multiClassMetadata")
+	List<CardEntity> findAllWithMultiClassMetadata();
+
 	int countAllByClassMetadataAndSetMetadata(ClassMetadataEntity classMetadataEntity, SetMetadataEntity setMetadataEntity);
 }
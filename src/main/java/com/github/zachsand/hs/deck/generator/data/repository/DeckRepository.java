@@ -1,10 +1,25 @@
 package com.github.zachsand.hs.deck.generator.data.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.github.zachsand.hs.deck.generator.data.entity.DeckEntity;
 
 /**
  * Repository for the {@link DeckEntity}
  */
-public interface DeckRepository extends JpaRepository<DeckEntity, Integer> {}
+public interface DeckRepository extends JpaRepository<DeckEntity, Integer> {
+
+	/**
+	 * Retrieves a deck together with its cards in a single query, so the cards can be read outside of a session.
+	 *
+	 * @param id
+	 *            The ID of the deck.
+	 * @return The deck with its cards, if it exists.
+	 */
+	@Query("SELECT deck FROM DeckEntity deck LEFT JOIN FETCH deck.cards WHERE deck.id = :id")
+	Optional<DeckEntity> findWithCardsById(@Param("id") int id);
+}
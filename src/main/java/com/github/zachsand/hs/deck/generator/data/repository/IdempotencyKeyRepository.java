@@ -0,0 +1,70 @@
+package com.github.zachsand.hs.deck.generator.data.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.zachsand.hs.deck.generator.data.entity.IdempotencyKeyEntity;
+
+/**
+ * Repository for the {@link IdempotencyKeyEntity}
+ */
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+	/**
+	 * Deletes the idempotency keys created before the given time in a single statement.
+	 *
+	 * @param cutoff
+	 *            Keys created before this time are deleted.
+	 * @return The number of keys deleted.
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM IdempotencyKeyEntity idempotencyKey WHERE idempotencyKey.createdAt < :cutoff")
+	int deleteCreatedBefore(@Param("cutoff") Instant cutoff);
+
+	/**
+	 * Deletes an idempotency key if it was created before the given time, so that a key claimed again in the meantime is
+	 * kept.
+	 *
+	 * @param key
+	 *            The idempotency key.
+	 * @param cutoff
+	 *            The key is deleted if it was created before this time.
+	 * @return The number of keys deleted.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM IdempotencyKeyEntity idempotencyKey WHERE idempotencyKey.key = :key AND idempotencyKey.createdAt < :cutoff")
+	int deleteByKeyCreatedBefore(@Param("key") String key, @Param("cutoff") Instant cutoff);
+
+	/**
+	 * Deletes an idempotency key for which no deck was generated.
+	 *
+	 * @param key
+	 *            The idempotency key.
+	 * @return The number of keys deleted.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM IdempotencyKeyEntity idempotencyKey WHERE idempotencyKey.key = :key AND idempotencyKey.deckId IS NULL")
+	int deletePending(@Param("key") String key);
+
+	/**
+	 * Completes a claimed idempotency key with the deck generated for it.
+	 *
+	 * @param key
+	 *            The idempotency key.
+	 * @param deckId
+	 *            The ID of the generated deck.
+	 * @return The number of keys updated.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE IdempotencyKeyEntity idempotencyKey SET idempotencyKey.deckId = :deckId WHERE idempotencyKey.key = :key")
+	int complete(@Param("key") String key, @Param("deckId") int deckId);
+}
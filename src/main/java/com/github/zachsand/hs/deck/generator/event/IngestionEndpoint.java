@@ -0,0 +1,225 @@
+package com.github.zachsand.hs.deck.generator.event;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import com.github.zachsand.hs.deck.generator.event.IngestionProgress.Phase;
+import com.github.zachsand.hs.deck.generator.event.IngestionProgress.Stage;
+
+/**
+ * Admin endpoint describing the load of the Hearthstone data and starting a manual refresh of it.
+ * <p>
+ * {@code GET /actuator/ingestion} describes the {@link IngestionProgress} of the running or last load.
+ * {@code POST /actuator/ingestion} starts a refresh, which is rejected with a conflict while a load is running.
+ * </p>
+ */
+@Component
+@Endpoint(id = "ingestion")
+public class IngestionEndpoint {
+
+	private static final int STATUS_ACCEPTED = 202;
+	private static final int STATUS_CONFLICT = 409;
+
+	private final IngestionProgress ingestionProgress;
+	private final LoadHearthstoneDataOnStartUpEvent loadHearthstoneDataOnStartUpEvent;
+
+	/**
+	 * Constructs the ingestion endpoint.
+	 *
+	 * @param ingestionProgress
+	 *            {@link IngestionProgress} Progress of the load.
+	 * @param loadHearthstoneDataOnStartUpEvent
+	 *            {@link LoadHearthstoneDataOnStartUpEvent} The loader of the Hearthstone data.
+	 */
+	public IngestionEndpoint(final IngestionProgress ingestionProgress, final LoadHearthstoneDataOnStartUpEvent loadHearthstoneDataOnStartUpEvent) {
+		this.ingestionProgress = ingestionProgress;
+		this.loadHearthstoneDataOnStartUpEvent = loadHearthstoneDataOnStartUpEvent;
+	}
+
+	/**
+	 * Describes the running or last load.
+	 *
+	 * @return The {@link IngestionDescriptor}.
+	 */
+	@ReadOperation
+	public IngestionDescriptor ingestion() {
+		return new IngestionDescriptor(ingestionProgress);
+	}
+
+	/**
+	 * Starts a refresh of the Hearthstone data.
+	 *
+	 * @return The {@link IngestionDescriptor} of the started refresh with the accepted status, or of the running load
+	 *         with a conflict.
+	 */
+	@WriteOperation
+	public WebEndpointResponse<IngestionDescriptor> refresh() {
+		final boolean started = loadHearthstoneDataOnStartUpEvent.refresh();
+		return new WebEndpointResponse<>(new IngestionDescriptor(ingestionProgress), started ? STATUS_ACCEPTED : STATUS_CONFLICT);
+	}
+
+	/**
+	 * Description of a load.
+	 */
+	public static final class IngestionDescriptor {
+
+		private final Phase phase;
+		private final boolean running;
+		private final Instant startTime;
+		private final Instant finishTime;
+		private final int pagesDone;
+		private final int pagesTotal;
+		private final long cardsWritten;
+		private final long bytesDownloaded;
+		private final Map<Stage, StageDescriptor> stages = new EnumMap<>(Stage.class);
+		private final Instant estimatedCompletion;
+		private final String lastError;
+		private final Instant lastErrorTime;
+
+		private IngestionDescriptor(final IngestionProgress ingestionProgress) {
+			this.phase = ingestionProgress.getPhase();
+			this.running = ingestionProgress.isRunning();
+			this.startTime = ingestionProgress.getStartTime();
+			this.finishTime = ingestionProgress.getFinishTime();
+			this.pagesDone = ingestionProgress.getPagesDone();
+			this.pagesTotal = ingestionProgress.getPagesTotal();
+			this.cardsWritten = ingestionProgress.getCardsWritten();
+			this.bytesDownloaded = ingestionProgress.getBytesDownloaded();
+			this.estimatedCompletion = ingestionProgress.getEstimatedCompletion();
+			this.lastError = ingestionProgress.getLastError();
+			this.lastErrorTime = ingestionProgress.getLastErrorTime();
+			stages.put(Stage.FETCH, new StageDescriptor(ingestionProgress.getStageNanos(Stage.FETCH), bytesDownloaded, "bytes"));
+			stages.put(Stage.PARSE, new StageDescriptor(ingestionProgress.getStageNanos(Stage.PARSE), bytesDownloaded, "bytes"));
+			stages.put(Stage.PERSIST, new StageDescriptor(ingestionProgress.getStageNanos(Stage.PERSIST), cardsWritten, "cards"));
+		}
+
+		/**
+		 * @return The phase of the load.
+		 */
+		public Phase getPhase() {
+			return phase;
+		}
+
+		/**
+		 * @return Whether the load is running.
+		 */
+		public boolean isRunning() {
+			return running;
+		}
+
+		/**
+		 * @return The start time of the load.
+		 */
+		public Instant getStartTime() {
+			return startTime;
+		}
+
+		/**
+		 * @return The end time of the load, {@code null} while it is running.
+		 */
+		public Instant getFinishTime() {
+			return finishTime;
+		}
+
+		/**
+		 * @return The number of card pages ingested.
+		 */
+		public int getPagesDone() {
+			return pagesDone;
+		}
+
+		/**
+		 * @return The number of card pages to ingest, from the page count of the Blizzard API.
+		 */
+		public int getPagesTotal() {
+			return pagesTotal;
+		}
+
+		/**
+		 * @return The number of cards written.
+		 */
+		public long getCardsWritten() {
+			return cardsWritten;
+		}
+
+		/**
+		 * @return The number of bytes of card pages downloaded.
+		 */
+		public long getBytesDownloaded() {
+			return bytesDownloaded;
+		}
+
+		/**
+		 * @return The time spent and throughput of each stage of the card pages.
+		 */
+		public Map<Stage, StageDescriptor> getStages() {
+			return stages;
+		}
+
+		/**
+		 * @return The estimated time the last card page is ingested, {@code null} outside of the card pages phase.
+		 */
+		public Instant getEstimatedCompletion() {
+			return estimatedCompletion;
+		}
+
+		/**
+		 * @return The last error of a load, {@code null} if none failed.
+		 */
+		public String getLastError() {
+			return lastError;
+		}
+
+		/**
+		 * @return The time of the last error.
+		 */
+		public Instant getLastErrorTime() {
+			return lastErrorTime;
+		}
+	}
+
+	/**
+	 * Time spent in a stage of the card pages and its throughput. The pages are ingested concurrently, so the time is
+	 * summed over the workers and the throughput is the one of a single worker.
+	 */
+	public static final class StageDescriptor {
+
+		private final double totalMillis;
+		private final double throughputPerSecond;
+		private final String throughputUnit;
+
+		private StageDescriptor(final long totalNanos, final long units, final String throughputUnit) {
+			this.totalMillis = totalNanos / 1_000_000.0;
+			this.throughputPerSecond = totalNanos == 0 ? 0 : units * 1_000_000_000.0 / totalNanos;
+			this.throughputUnit = throughputUnit;
+		}
+
+		/**
+		 * @return The time spent in the stage, in milliseconds.
+		 */
+		public double getTotalMillis() {
+			return totalMillis;
+		}
+
+		/**
+		 * @return The units processed per second of the stage.
+		 */
+		public double getThroughputPerSecond() {
+			return throughputPerSecond;
+		}
+
+		/**
+		 * @return The unit of the throughput, {@code bytes} or {@code cards}.
+		 */
+		public String getThroughputUnit() {
+			return throughputUnit;
+		}
+	}
+}
@@ -0,0 +1,313 @@
+package com.github.zachsand.hs.deck.generator.event;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.github.zachsand.hs.deck.generator.service.IngestedCardPage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Progress of the load of the Hearthstone data by {@link LoadHearthstoneDataOnStartUpEvent}: the phase of the load,
+ * the card pages done and what they downloaded and wrote, the time spent in each stage of a page and the last error.
+ * <p>
+ * The progress is published as metrics: gauges of the phase and of the pages of the running load, counters of the
+ * cards written and bytes downloaded, and a {@code deck.ingestion.stage} timer of the fetch, parse and persist stages
+ * of each page. Only one load runs at a time, see {@link #tryStart()}.
+ * </p>
+ */
+@Component
+public class IngestionProgress {
+
+	/**
+	 * Name of the timers of the stages of a card page.
+	 */
+	public static final String STAGE_TIMER_NAME = "deck.ingestion.stage";
+
+	/**
+	 * Phase of the load.
+	 */
+	public enum Phase {
+		/** No load has run yet. */
+		IDLE,
+		/** Loading the set, set group, class and type metadata. */
+		METADATA,
+		/** Fetching, parsing and persisting the card pages. */
+		CARD_PAGES,
+		/** Rebuilding the in-memory card catalog. */
+		CATALOG,
+		/** The last load completed. */
+		COMPLETED,
+		/** The last load failed. */
+		FAILED
+	}
+
+	/**
+	 * Stage of the ingestion of a card page.
+	 */
+	public enum Stage {
+		/** Download of the page from the Blizzard API. */
+		FETCH,
+		/** Parsing of the page. */
+		PARSE,
+		/** Mapping and saving of the cards of the page. */
+		PERSIST
+	}
+
+	private final Timer[] stageTimers = new Timer[Stage.values().length];
+	private final Counter cardsCounter;
+	private final Counter bytesCounter;
+
+	private final AtomicInteger pagesTotal = new AtomicInteger();
+	private final AtomicInteger pagesDone = new AtomicInteger();
+	private final AtomicLong cardsWritten = new AtomicLong();
+	private final AtomicLong bytesDownloaded = new AtomicLong();
+	private final AtomicLong[] stageNanos = { new AtomicLong(), new AtomicLong(), new AtomicLong() };
+
+	private volatile Phase phase = Phase.IDLE;
+	private volatile boolean running;
+	private volatile Instant startTime;
+	private volatile Instant cardPagesStartTime;
+	private volatile Instant finishTime;
+	private volatile String lastError;
+	private volatile Instant lastErrorTime;
+
+	/**
+	 * Constructs the ingestion progress and registers its meters.
+	 *
+	 * @param meterRegistry
+	 *            The registry to publish the metrics to.
+	 */
+	public IngestionProgress(final MeterRegistry meterRegistry) {
+		for (final Stage stage : Stage.values()) {
+			stageTimers[stage.ordinal()] = Timer.builder(STAGE_TIMER_NAME)
+					.description("Time spent in a stage of the ingestion of a card page")
+					.tag("stage", stage.name().toLowerCase())
+					.register(meterRegistry);
+		}
+		for (final Phase gaugePhase : Phase.values()) {
+			Gauge.builder("deck.ingestion.phase", this, progress -> progress.phase == gaugePhase ? 1 : 0)
+					.description("Whether the load of the Hearthstone data is in the phase")
+					.tag("phase", gaugePhase.name().toLowerCase())
+					.register(meterRegistry);
+		}
+		Gauge.builder("deck.ingestion.pages.done", pagesDone, AtomicInteger::get)
+				.description("Card pages ingested by the running or last load")
+				.register(meterRegistry);
+		Gauge.builder("deck.ingestion.pages.total", pagesTotal, AtomicInteger::get)
+				.description("Card pages to ingest by the running or last load")
+				.register(meterRegistry);
+		cardsCounter = Counter.builder("deck.ingestion.cards")
+				.description("Cards written by the ingestion")
+				.register(meterRegistry);
+		bytesCounter = Counter.builder("deck.ingestion.bytes")
+				.description("Bytes of card pages downloaded by the ingestion")
+				.baseUnit("bytes")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Starts a load in the {@link Phase#METADATA} phase, resetting the progress of the previous one.
+	 *
+	 * @return Whether the load was started, {@code false} if another load is running.
+	 */
+	public synchronized boolean tryStart() {
+		if (running) {
+			return false;
+		}
+		running = true;
+		pagesTotal.set(0);
+		pagesDone.set(0);
+		cardsWritten.set(0);
+		bytesDownloaded.set(0);
+		for (final AtomicLong nanos : stageNanos) {
+			nanos.set(0);
+		}
+		startTime = Instant.now();
+		cardPagesStartTime = null;
+		finishTime = null;
+		phase = Phase.METADATA;
+		return true;
+	}
+
+	/**
+	 * Moves the running load to the {@link Phase#CARD_PAGES} phase.
+	 *
+	 * @param pageCount
+	 *            The number of card pages to ingest.
+	 */
+	public void startCardPages(final int pageCount) {
+		pagesTotal.set(pageCount);
+		cardPagesStartTime = Instant.now();
+		phase = Phase.CARD_PAGES;
+	}
+
+	/**
+	 * Moves the running load to the {@link Phase#CATALOG} phase.
+	 */
+	public void startCatalog() {
+		phase = Phase.CATALOG;
+	}
+
+	/**
+	 * Records an ingested card page.
+	 *
+	 * @param ingestedCardPage
+	 *            The {@link IngestedCardPage}.
+	 */
+	public void recordPage(final IngestedCardPage ingestedCardPage) {
+		record(Stage.FETCH, ingestedCardPage.getFetchNanos());
+		record(Stage.PARSE, ingestedCardPage.getParseNanos());
+		record(Stage.PERSIST, ingestedCardPage.getPersistNanos());
+		bytesDownloaded.addAndGet(ingestedCardPage.getBytes());
+		bytesCounter.increment(ingestedCardPage.getBytes());
+		cardsWritten.addAndGet(ingestedCardPage.getCardsWritten());
+		cardsCounter.increment(ingestedCardPage.getCardsWritten());
+		pagesDone.incrementAndGet();
+	}
+
+	private void record(final Stage stage, final long nanos) {
+		stageTimers[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+		stageNanos[stage.ordinal()].addAndGet(nanos);
+	}
+
+	/**
+	 * Records an error of the running load, which may still go on, such as the failure of a single card page.
+	 *
+	 * @param error
+	 *            The error.
+	 */
+	public void recordError(final Throwable error) {
+		lastError = error.toString();
+		lastErrorTime = Instant.now();
+	}
+
+	/**
+	 * Ends the running load in the {@link Phase#COMPLETED} phase.
+	 */
+	public synchronized void complete() {
+		finish(Phase.COMPLETED);
+	}
+
+	/**
+	 * Ends the running load in the {@link Phase#FAILED} phase.
+	 *
+	 * @param error
+	 *            The error failing the load.
+	 */
+	public synchronized void fail(final Throwable error) {
+		recordError(error);
+		finish(Phase.FAILED);
+	}
+
+	private void finish(final Phase finalPhase) {
+		finishTime = Instant.now();
+		phase = finalPhase;
+		running = false;
+	}
+
+	/**
+	 * @return The phase of the running or last load.
+	 */
+	public Phase getPhase() {
+		return phase;
+	}
+
+	/**
+	 * @return Whether a load is running.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * @return The start time of the running or last load, {@code null} if no load has run.
+	 */
+	public Instant getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * @return The end time of the last load, {@code null} while it is running.
+	 */
+	public Instant getFinishTime() {
+		return finishTime;
+	}
+
+	/**
+	 * @return The number of card pages to ingest.
+	 */
+	public int getPagesTotal() {
+		return pagesTotal.get();
+	}
+
+	/**
+	 * @return The number of card pages ingested.
+	 */
+	public int getPagesDone() {
+		return pagesDone.get();
+	}
+
+	/**
+	 * @return The number of cards written.
+	 */
+	public long getCardsWritten() {
+		return cardsWritten.get();
+	}
+
+	/**
+	 * @return The number of bytes of card pages downloaded.
+	 */
+	public long getBytesDownloaded() {
+		return bytesDownloaded.get();
+	}
+
+	/**
+	 * @param stage
+	 *            The {@link Stage}.
+	 * @return The time spent in the stage over all the pages of the load, in nanoseconds. The pages are ingested
+	 *         concurrently, so this is the sum of the time of every worker.
+	 */
+	public long getStageNanos(final Stage stage) {
+		return stageNanos[stage.ordinal()].get();
+	}
+
+	/**
+	 * Estimates the completion of the card pages from the pages done so far.
+	 *
+	 * @return The estimated time the last card page is ingested, {@code null} outside the {@link Phase#CARD_PAGES}
+	 *         phase or before the first page is done.
+	 */
+	public Instant getEstimatedCompletion() {
+		final Instant pagesStart = cardPagesStartTime;
+		final int done = pagesDone.get();
+		if (phase != Phase.CARD_PAGES || pagesStart == null || done == 0) {
+			return null;
+		}
+		final Instant now = Instant.now();
+		final long elapsedNanos = Duration.between(pagesStart, now).toNanos();
+		return now.plusNanos(elapsedNanos / done * Math.max(pagesTotal.get() - done, 0));
+	}
+
+	/**
+	 * @return The last error of a load, {@code null} if none failed.
+	 */
+	public String getLastError() {
+		return lastError;
+	}
+
+	/**
+	 * @return The time of the last error, {@code null} if no load failed.
+	 */
+	public Instant getLastErrorTime() {
+		return lastErrorTime;
+	}
+}
@@ -1,10 +1,21 @@
 package com.github.zachsand.hs.deck.generator.event;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import com.github.zachsand.hs.deck.generator.config.ExecutorConfig;
 import com.github.zachsand.hs.deck.generator.data.model.card.CardPageModel;
+import com.github.zachsand.hs.deck.generator.service.CardCatalogService;
 import com.github.zachsand.hs.deck.generator.service.CardService;
 import com.github.zachsand.hs.deck.generator.service.ClassMetadataService;
 import com.github.zachsand.hs.deck.generator.service.SetGroupMetadataService;
@@ -13,16 +24,21 @@ import com.github.zachsand.hs.deck.generator.service.TypeMetadataService;
 
 /**
  * Component for loading Hearthstone data when the application is first run. This will query the Hearthstone API for
- * the necessary data for this application.
+ * the necessary data for this application. The load can be run again with {@link #refresh()}.
  */
 @Component
 public class LoadHearthstoneDataOnStartUpEvent {
 
+	private static final Logger LOGGER = LogManager.getLogger(LoadHearthstoneDataOnStartUpEvent.class);
+
 	private final CardService cardService;
 	private final ClassMetadataService classMetadataService;
 	private final SetMetadataService setMetadataService;
 	private final SetGroupMetadataService setGroupMetadataService;
 	private final TypeMetadataService typeMetadataService;
+	private final CardCatalogService cardCatalogService;
+	private final Executor ingestionTaskExecutor;
+	private final IngestionProgress ingestionProgress;
 
 	/**
 	 * Constructs the HS data loader with the services needed to query and persist the hearthstone data when the application
@@ -38,33 +54,107 @@ public class LoadHearthstoneDataOnStartUpEvent {
 	 *            {@link SetGroupMetadataService} Set group metadata service.
 	 * @param typeMetadataService
 	 *            {@link TypeMetadataService} Type metadata service.
+	 * @param cardCatalogService
+	 *            {@link CardCatalogService} Card catalog service.
+	 * @param ingestionTaskExecutor
+	 *            The executor to fetch the card pages on.
+	 * @param ingestionProgress
+	 *            {@link IngestionProgress} Progress of the load.
 	 */
 	public LoadHearthstoneDataOnStartUpEvent(final CardService cardService, final ClassMetadataService classMetadataService,
 			final SetMetadataService setMetadataService,
-			final SetGroupMetadataService setGroupMetadataService, final TypeMetadataService typeMetadataService) {
+			final SetGroupMetadataService setGroupMetadataService, final TypeMetadataService typeMetadataService,
+			final CardCatalogService cardCatalogService, @Qualifier(ExecutorConfig.INGESTION_TASK_EXECUTOR) final Executor ingestionTaskExecutor,
+			final IngestionProgress ingestionProgress) {
 		this.cardService = cardService;
 		this.classMetadataService = classMetadataService;
 		this.setMetadataService = setMetadataService;
 		this.setGroupMetadataService = setGroupMetadataService;
 		this.typeMetadataService = typeMetadataService;
+		this.cardCatalogService = cardCatalogService;
+		this.ingestionTaskExecutor = ingestionTaskExecutor;
+		this.ingestionProgress = ingestionProgress;
 	}
 
 	/**
-	 * Queries the Hearthstone API for Hearthstone data and persists it to the database for later use by the application.
+	 * Queries the Hearthstone API for Hearthstone data and persists it to the database for later use by the application
+	 * when it starts. The card pages are skipped when the database already holds as many cards as the API.
+	 *
+	 * @see #loadHearthstoneData(boolean)
 	 */
 	@EventListener(ApplicationReadyEvent.class)
-	public void loadHearthstoneData() {
-		setMetadataService.retrieveAndPersistSetMetadata();
-		setGroupMetadataService.retrieveAndPersistSetGroupMetadata();
-		classMetadataService.retrieveAndPersistClassMetadata();
-		typeMetadataService.retrieveAndPersistTypeMetadata();
+	public void loadHearthstoneDataOnStartUp() {
+		if (!ingestionProgress.tryStart()) {
+			throw new IllegalStateException("The Hearthstone data is already being loaded");
+		}
+		loadHearthstoneData(false).join();
+	}
+
+	/**
+	 * Starts a manual refresh of the Hearthstone data on the ingestion executor. Every card page is ingested again, so that
+	 * changes to existing cards are picked up.
+	 *
+	 * @return Whether the refresh was started, {@code false} if a load is already running.
+	 */
+	public boolean refresh() {
+		if (!ingestionProgress.tryStart()) {
+			return false;
+		}
+		CompletableFuture.supplyAsync(() -> loadHearthstoneData(true), ingestionTaskExecutor)
+				.thenCompose(Function.identity())
+				.exceptionally(e -> {
+					LOGGER.error("Error encountered while refreshing the Hearthstone data", e);
+					return null;
+				});
+		return true;
+	}
+
+	/**
+	 * Queries the Hearthstone API for Hearthstone data and persists it to the database for later use by the application.
+	 * The card pages are fetched and persisted concurrently on the ingestion executor. Once persisted, the in-memory card
+	 * catalog is rebuilt from the database. The progress of the load is tracked by the {@link IngestionProgress}.
+	 *
+	 * @param allCardPages
+	 *            Whether to ingest the card pages even when the database holds as many cards as the API.
+	 * @return Future completed once the card catalog is rebuilt, without holding an ingestion thread while the card pages
+	 *         are ingested.
+	 */
+	private CompletableFuture<Void> loadHearthstoneData(final boolean allCardPages) {
+		try {
+			setMetadataService.retrieveAndPersistSetMetadata();
+			setGroupMetadataService.retrieveAndPersistSetGroupMetadata();
+			classMetadataService.retrieveAndPersistClassMetadata();
+			typeMetadataService.retrieveAndPersistTypeMetadata();
 
-		final CardPageModel cardPageModel = cardService.retrieveCardSearchPageData();
-		if (cardService.getTotalCardCount() != cardPageModel.getCardCount()) {
-			final int totalPages = cardPageModel.getPageCount();
-			for (int i = 1; i <= totalPages; i++) {
-				cardService.retrieveAndPersistCardPage(i);
+			final CardPageModel cardPageModel = cardService.retrieveCardSearchPageData();
+			CompletableFuture<Void> cardPages = CompletableFuture.completedFuture(null);
+			if (allCardPages || cardService.getTotalCardCount() != cardPageModel.getCardCount()) {
+				ingestionProgress.startCardPages(cardPageModel.getPageCount());
+				cardPages = CompletableFuture.allOf(IntStream.rangeClosed(1, cardPageModel.getPageCount())
+						.mapToObj(pageNum -> CompletableFuture.runAsync(() -> retrieveAndPersistCardPage(pageNum), ingestionTaskExecutor))
+						.toArray(CompletableFuture[]::new));
 			}
+			return cardPages.thenRun(() -> {
+				ingestionProgress.startCatalog();
+				cardCatalogService.refresh();
+				ingestionProgress.complete();
+			}).whenComplete((result, e) -> {
+				if (e != null) {
+					ingestionProgress.fail(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+				}
+			});
+		} catch (final RuntimeException e) {
+			ingestionProgress.fail(e);
+			throw e;
+		}
+	}
+
+	private void retrieveAndPersistCardPage(final int pageNum) {
+		try {
+			ingestionProgress.recordPage(cardService.retrieveAndPersistCardPage(pageNum));
+		} catch (final RuntimeException e) {
+			ingestionProgress.recordError(e);
+			throw e;
 		}
 	}
 }
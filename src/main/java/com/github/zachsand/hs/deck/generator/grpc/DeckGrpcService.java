@@ -0,0 +1,136 @@
+package com.github.zachsand.hs.deck.generator.grpc;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Component;
+
+import com.github.zachsand.hs.deck.generator.config.GrpcConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+import com.github.zachsand.hs.deck.generator.proto.DeckGeneratorGrpc;
+import com.github.zachsand.hs.deck.generator.proto.DeckRequest;
+import com.github.zachsand.hs.deck.generator.proto.DeckResponse;
+import com.github.zachsand.hs.deck.generator.proto.GenerateDecksRequest;
+import com.github.zachsand.hs.deck.generator.service.CardCatalogService;
+import com.github.zachsand.hs.deck.generator.service.DeckGeneratorService;
+import com.github.zachsand.hs.deck.generator.util.DeckProtoUtil;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * gRPC variant of the deck generation endpoint. The requests are validated with the {@link DeckRequestValidator} and
+ * the decks are generated by the {@link DeckGeneratorService} from the in-memory card catalog, the same engine as the
+ * non-blocking REST endpoints.
+ */
+@Component
+public class DeckGrpcService extends DeckGeneratorGrpc.DeckGeneratorImplBase {
+
+	private static final Logger LOGGER = LogManager.getLogger(DeckGrpcService.class);
+
+	private final DeckGeneratorService deckGeneratorService;
+	private final DeckRequestValidator deckRequestValidator;
+	private final CardCatalogService cardCatalogService;
+	private final GrpcConfig grpcConfig;
+
+	/**
+	 * Constructs the gRPC deck generation service.
+	 *
+	 * @param deckGeneratorService
+	 *            {@link DeckGeneratorService} Deck generator service.
+	 * @param deckRequestValidator
+	 *            {@link DeckRequestValidator} Validator for the deck requests.
+	 * @param cardCatalogService
+	 *            {@link CardCatalogService} Service holding the in-memory card catalog.
+	 * @param grpcConfig
+	 *            {@link GrpcConfig} The gRPC configuration.
+	 */
+	public DeckGrpcService(final DeckGeneratorService deckGeneratorService, final DeckRequestValidator deckRequestValidator,
+			final CardCatalogService cardCatalogService, final GrpcConfig grpcConfig) {
+		this.deckGeneratorService = deckGeneratorService;
+		this.deckRequestValidator = deckRequestValidator;
+		this.cardCatalogService = cardCatalogService;
+		this.grpcConfig = grpcConfig;
+	}
+
+	@Override
+	public void generateDeck(final DeckRequest request, final StreamObserver<DeckResponse> responseObserver) {
+		try {
+			final DeckRequestModel deckRequestModel = DeckProtoUtil.toDeckRequestModel(request);
+			if (!isValid(deckRequestModel, responseObserver)) {
+				return;
+			}
+			responseObserver.onNext(generateDeck(deckRequestModel, request.getCodeOnly()));
+			responseObserver.onCompleted();
+		} catch (final Exception e) {
+			onError(e, responseObserver);
+		}
+	}
+
+	/**
+	 * Streams the requested number of decks. The request is validated once for all decks, and the decks are only
+	 * generated while the client is ready to receive them, so a slow client is not buffered for.
+	 */
+	@Override
+	public void generateDecks(final GenerateDecksRequest request, final StreamObserver<DeckResponse> responseObserver) {
+		if (request.getCount() < 1 || request.getCount() > grpcConfig.getMaxStreamDecks()) {
+			responseObserver.onError(Status.INVALID_ARGUMENT
+					.withDescription("count: must be between 1 and " + grpcConfig.getMaxStreamDecks())
+					.asRuntimeException());
+			return;
+		}
+		final DeckRequestModel deckRequestModel;
+		try {
+			deckRequestModel = DeckProtoUtil.toDeckRequestModel(request.getRequest());
+			if (!isValid(deckRequestModel, responseObserver)) {
+				return;
+			}
+		} catch (final Exception e) {
+			onError(e, responseObserver);
+			return;
+		}
+
+		final ServerCallStreamObserver<DeckResponse> serverCallStreamObserver = (ServerCallStreamObserver<DeckResponse>) responseObserver;
+		final boolean codeOnly = request.getRequest().getCodeOnly();
+		final int[] remaining = { request.getCount() };
+		serverCallStreamObserver.setOnCancelHandler(() -> LOGGER.debug("Deck stream cancelled with {} decks remaining", remaining[0]));
+		/* The ready handler invocations are serialized for the call, so the remaining count needs no synchronization */
+		serverCallStreamObserver.setOnReadyHandler(() -> {
+			try {
+				while (remaining[0] > 0 && serverCallStreamObserver.isReady() && !serverCallStreamObserver.isCancelled()) {
+					serverCallStreamObserver.onNext(generateDeck(deckRequestModel, codeOnly));
+					if (--remaining[0] == 0) {
+						serverCallStreamObserver.onCompleted();
+					}
+				}
+			} catch (final Exception e) {
+				remaining[0] = 0;
+				onError(e, serverCallStreamObserver);
+			}
+		});
+	}
+
+	private DeckResponse generateDeck(final DeckRequestModel deckRequestModel, final boolean codeOnly) {
+		return DeckProtoUtil.toDeckResponse(deckGeneratorService.generateDeck(deckRequestModel, cardCatalogService.getCardSource(),
+				codeOnly ? DeckView.CODE : DeckView.FULL));
+	}
+
+	private boolean isValid(final DeckRequestModel deckRequestModel, final StreamObserver<DeckResponse> responseObserver) {
+		final DeckResponseStatus deckResponseStatus = deckRequestValidator.validateDeckRequest(deckRequestModel);
+		if (deckResponseStatus.getStatus().equals(DeckResponseStatus.ResponseStatus.ERROR.name())) {
+			responseObserver.onError(Status.INVALID_ARGUMENT
+					.withDescription(String.join("; ", deckResponseStatus.getMessage()))
+					.asRuntimeException());
+			return false;
+		}
+		return true;
+	}
+
+	private static void onError(final Exception e, final StreamObserver<DeckResponse> responseObserver) {
+		LOGGER.error("Error encountered while generating a deck over gRPC.", e);
+		responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+	}
+}
@@ -0,0 +1,81 @@
+package com.github.zachsand.hs.deck.generator.grpc;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.github.zachsand.hs.deck.generator.config.ExecutorConfig;
+import com.github.zachsand.hs.deck.generator.config.GrpcConfig;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+
+/**
+ * Starts and stops the gRPC server serving the {@link DeckGrpcService} together with the application context. The
+ * calls run on the deck task executor, so they use virtual threads when those are enabled.
+ */
+@Component
+@ConditionalOnProperty(prefix = "deck.grpc", name = "enabled", havingValue = "true")
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+	private static final Logger LOGGER = LogManager.getLogger(GrpcServerLifecycle.class);
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+	private final Server server;
+	private volatile boolean running;
+
+	/**
+	 * Constructs the gRPC server.
+	 *
+	 * @param deckGrpcService
+	 *            {@link DeckGrpcService} The gRPC deck generation service.
+	 * @param grpcConfig
+	 *            {@link GrpcConfig} The gRPC configuration.
+	 * @param deckTaskExecutor
+	 *            The executor to run the calls on.
+	 */
+	public GrpcServerLifecycle(final DeckGrpcService deckGrpcService, final GrpcConfig grpcConfig,
+			@Qualifier(ExecutorConfig.DECK_TASK_EXECUTOR) final Executor deckTaskExecutor) {
+		this.server = ServerBuilder.forPort(grpcConfig.getPort())
+				.addService(deckGrpcService)
+				.executor(deckTaskExecutor)
+				.build();
+	}
+
+	@Override
+	public void start() {
+		try {
+			server.start();
+		} catch (final IOException e) {
+			throw new IllegalStateException("Error encountered while starting the gRPC server.", e);
+		}
+		running = true;
+		LOGGER.info("gRPC server listening on port {}", server.getPort());
+	}
+
+	@Override
+	public void stop() {
+		server.shutdown();
+		try {
+			if (!server.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				server.shutdownNow();
+			}
+		} catch (final InterruptedException e) {
+			server.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+}
@@ -0,0 +1,58 @@
+package com.github.zachsand.hs.deck.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a call to the Blizzard API. The endpoint is the path of the call, without the query holding
+ * the access token.
+ */
+@Name(BattlenetCallEvent.NAME)
+@Label("Battlenet Call")
+@Category({ "Deck Generator", "Battlenet" })
+@Description("Call to the Blizzard API")
+@StackTrace(false)
+public class BattlenetCallEvent extends Event {
+
+	/**
+	 * Name of the event in the recordings.
+	 */
+	public static final String NAME = "com.github.zachsand.hs.deck.generator.BattlenetCall";
+
+	@Label("Endpoint")
+	String endpoint;
+
+	@Label("Status")
+	@Description("HTTP status of the response, or 0 if no response was received")
+	int status;
+
+	@Label("Bytes")
+	@Description("Size of the response body")
+	@DataAmount
+	long bytes;
+
+	/**
+	 * Ends the event and commits it if the recording is enabled for it.
+	 *
+	 * @param endpoint
+	 *            The path of the call.
+	 * @param status
+	 *            The HTTP status of the response, or 0 if no response was received.
+	 * @param bytes
+	 *            The size of the response body.
+	 */
+	public void commit(final String endpoint, final int status, final long bytes) {
+		end();
+		if (shouldCommit()) {
+			this.endpoint = endpoint;
+			this.status = status;
+			this.bytes = bytes;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.github.zachsand.hs.deck.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the generation of a single deck. The {@link DeckStageEvent}s of the generation are recorded
+ * on the same thread within the duration of this event.
+ */
+@Name(DeckGenerationEvent.NAME)
+@Label("Deck Generation")
+@Category({ "Deck Generator", "Decks" })
+@Description("Generation of a single deck")
+@StackTrace(false)
+public class DeckGenerationEvent extends Event {
+
+	/**
+	 * Name of the event in the recordings.
+	 */
+	public static final String NAME = "com.github.zachsand.hs.deck.generator.DeckGeneration";
+
+	@Label("Class")
+	String className;
+
+	@Label("Game Format")
+	String gameFormat;
+
+	@Label("Deck Sets")
+	@Description("Number of deck sets of the request")
+	int deckSets;
+
+	@Label("Cards Drawn")
+	int cardsDrawn;
+
+	@Label("Deck View")
+	String deckView;
+
+	/**
+	 * Ends the event and commits it if the recording is enabled for it.
+	 *
+	 * @param className
+	 *            The class of the deck.
+	 * @param gameFormat
+	 *            The game format of the request.
+	 * @param deckSets
+	 *            The number of deck sets of the request.
+	 * @param cardsDrawn
+	 *            The number of cards drawn for the deck.
+	 * @param deckView
+	 *            The name of the view of the response.
+	 */
+	public void commit(final String className, final String gameFormat, final int deckSets, final int cardsDrawn, final String deckView) {
+		end();
+		if (shouldCommit()) {
+			this.className = className;
+			this.gameFormat = gameFormat;
+			this.deckSets = deckSets;
+			this.cardsDrawn = cardsDrawn;
+			this.deckView = deckView;
+			commit();
+		}
+	}
+}
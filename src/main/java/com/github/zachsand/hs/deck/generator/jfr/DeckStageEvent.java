@@ -0,0 +1,55 @@
+package com.github.zachsand.hs.deck.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a stage of deck generation, with the same stage and request shape as the stage timers of
+ * the metrics.
+ */
+@Name(DeckStageEvent.NAME)
+@Label("Deck Generation Stage")
+@Category({ "Deck Generator", "Decks" })
+@Description("A stage of the validation or generation of a deck")
+@StackTrace(false)
+public class DeckStageEvent extends Event {
+
+	/**
+	 * Name of the event in the recordings.
+	 */
+	public static final String NAME = "com.github.zachsand.hs.deck.generator.DeckStage";
+
+	@Label("Stage")
+	String stage;
+
+	@Label("Game Format")
+	String gameFormat;
+
+	@Label("Deck Sets")
+	@Description("Number of deck sets of the request")
+	int deckSets;
+
+	/**
+	 * Ends the event and commits it if the recording is enabled for it.
+	 *
+	 * @param stage
+	 *            The stage.
+	 * @param gameFormat
+	 *            The game format of the request.
+	 * @param deckSets
+	 *            The number of deck sets of the request.
+	 */
+	public void commit(final String stage, final String gameFormat, final int deckSets) {
+		end();
+		if (shouldCommit()) {
+			this.stage = stage;
+			this.gameFormat = gameFormat;
+			this.deckSets = deckSets;
+			commit();
+		}
+	}
+}
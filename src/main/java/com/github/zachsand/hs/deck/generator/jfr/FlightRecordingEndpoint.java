@@ -0,0 +1,234 @@
+package com.github.zachsand.hs.deck.generator.jfr;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.github.zachsand.hs.deck.generator.config.FlightRecordingConfig;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * Admin endpoint starting and stopping a Java Flight Recorder recording of the application, including the deck
+ * generator events of this package.
+ * <p>
+ * {@code POST /actuator/flightrecording} starts a recording, optionally with the name of the JDK settings to record
+ * with. {@code DELETE /actuator/flightrecording} stops it and answers the {@code .jfr} file, and
+ * {@code GET /actuator/flightrecording} describes the running recording. Only one recording runs at a time.
+ * </p>
+ * <p>
+ * The endpoint is not exposed over HTTP by default. The recordings leave out the environment variables and system
+ * properties of the JVM, which hold secrets such as the Battlenet client secret.
+ * </p>
+ */
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+	private static final Logger LOGGER = LogManager.getLogger(FlightRecordingEndpoint.class);
+
+	private static final String RECORDING_NAME = "deck-generator";
+	private static final int STATUS_CONFLICT = 409;
+	private static final Map<String, String> DISABLED_EVENTS = Map.of("jdk.InitialEnvironmentVariable#enabled", "false",
+			"jdk.InitialSystemProperty#enabled", "false");
+
+	private final ReentrantLock recordingLock = new ReentrantLock();
+	private final FlightRecordingConfig flightRecordingConfig;
+	private Recording recording;
+	private String recordingSettings;
+
+	/**
+	 * Constructs the flight recording endpoint.
+	 *
+	 * @param flightRecordingConfig
+	 *            The {@link FlightRecordingConfig} of the recordings.
+	 */
+	public FlightRecordingEndpoint(final FlightRecordingConfig flightRecordingConfig) {
+		this.flightRecordingConfig = flightRecordingConfig;
+	}
+
+	/**
+	 * Describes the running recording.
+	 *
+	 * @return The {@link RecordingDescriptor} of the running recording, or {@link WebEndpointResponse#STATUS_NOT_FOUND}
+	 *         if no recording is running.
+	 */
+	@ReadOperation
+	public WebEndpointResponse<RecordingDescriptor> recording() {
+		recordingLock.lock();
+		try {
+			return recording == null ? new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND)
+					: new WebEndpointResponse<>(new RecordingDescriptor(recording, recordingSettings));
+		} finally {
+			recordingLock.unlock();
+		}
+	}
+
+	/**
+	 * Starts a recording.
+	 *
+	 * @param settings
+	 *            Name of the JDK recording settings, {@code default} or {@code profile}. The configured settings are
+	 *            used when none is given.
+	 * @return The {@link RecordingDescriptor} of the started recording, {@link WebEndpointResponse#STATUS_BAD_REQUEST}
+	 *         if there are no settings with the name, or a conflict if a recording is already running.
+	 */
+	@WriteOperation
+	public WebEndpointResponse<RecordingDescriptor> start(@Nullable final String settings) {
+		final String settingsName = settings == null ? flightRecordingConfig.getSettings() : settings;
+		final Configuration configuration;
+		try {
+			configuration = Configuration.getConfiguration(settingsName);
+		} catch (final NoSuchFileException e) {
+			return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+		} catch (final IOException | ParseException e) {
+			throw new IllegalStateException("Error encountered while reading the flight recording settings " + settingsName, e);
+		}
+
+		recordingLock.lock();
+		try {
+			if (recording != null) {
+				return new WebEndpointResponse<>(new RecordingDescriptor(recording, recordingSettings), STATUS_CONFLICT);
+			}
+			final Map<String, String> recordingSettingsMap = new HashMap<>(configuration.getSettings());
+			recordingSettingsMap.putAll(DISABLED_EVENTS);
+			final Recording newRecording = new Recording(recordingSettingsMap);
+			newRecording.setName(RECORDING_NAME);
+			newRecording.setToDisk(true);
+			newRecording.setMaxAge(flightRecordingConfig.getMaxAge());
+			newRecording.setMaxSize(flightRecordingConfig.getMaxSize().toBytes());
+			newRecording.start();
+			recording = newRecording;
+			recordingSettings = settingsName;
+			LOGGER.info("Flight recording started with the {} settings", settingsName);
+			return new WebEndpointResponse<>(new RecordingDescriptor(recording, recordingSettings));
+		} finally {
+			recordingLock.unlock();
+		}
+	}
+
+	/**
+	 * Stops the running recording.
+	 *
+	 * @return The {@code .jfr} file of the recording, which is deleted once it has been sent, or
+	 *         {@link WebEndpointResponse#STATUS_NOT_FOUND} if no recording is running.
+	 */
+	@DeleteOperation(produces = "application/octet-stream")
+	public WebEndpointResponse<Resource> stop() {
+		recordingLock.lock();
+		try {
+			if (recording == null) {
+				return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+			}
+			try (Recording stoppedRecording = recording) {
+				recording = null;
+				stoppedRecording.stop();
+				final Path file = Files.createTempFile(RECORDING_NAME + '-', ".jfr");
+				stoppedRecording.dump(file);
+				LOGGER.info("Flight recording stopped with {} bytes", Files.size(file));
+				return new WebEndpointResponse<>(new TemporaryFileResource(file));
+			}
+		} catch (final IOException e) {
+			throw new IllegalStateException("Error encountered while writing the flight recording", e);
+		} finally {
+			recordingLock.unlock();
+		}
+	}
+
+	/**
+	 * Description of the running recording.
+	 */
+	public static final class RecordingDescriptor {
+
+		private final String name;
+		private final String settings;
+		private final Instant startTime;
+		private final long size;
+
+		private RecordingDescriptor(final Recording recording, final String settings) {
+			this.name = recording.getName();
+			this.settings = settings;
+			this.startTime = recording.getStartTime();
+			this.size = recording.getSize();
+		}
+
+		/**
+		 * @return The name of the recording.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return The name of the JDK settings of the recording.
+		 */
+		public String getSettings() {
+			return settings;
+		}
+
+		/**
+		 * @return The start time of the recording.
+		 */
+		public Instant getStartTime() {
+			return startTime;
+		}
+
+		/**
+		 * @return The bytes the recording has written to disk so far.
+		 */
+		public long getSize() {
+			return size;
+		}
+	}
+
+	/**
+	 * A file deleted once its content has been read.
+	 */
+	private static final class TemporaryFileResource extends FileSystemResource {
+
+		private TemporaryFileResource(final Path file) {
+			super(file);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return new FilterInputStream(super.getInputStream()) {
+
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						Files.deleteIfExists(getFile().toPath());
+					}
+				}
+			};
+		}
+
+		@Override
+		public boolean isFile() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.github.zachsand.hs.deck.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event of the ingestion of a card page of the Blizzard API: its retrieval, parsing and persistence.
+ */
+@Name(IngestionPageEvent.NAME)
+@Label("Ingestion Page")
+@Category({ "Deck Generator", "Ingestion" })
+@Description("Retrieval, parsing and persistence of a card page")
+@StackTrace(false)
+public class IngestionPageEvent extends Event {
+
+	/**
+	 * Name of the event in the recordings.
+	 */
+	public static final String NAME = "com.github.zachsand.hs.deck.generator.IngestionPage";
+
+	@Label("Page")
+	int page;
+
+	@Label("Parse Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long parseTime;
+
+	@Label("Rows Written")
+	int rowsWritten;
+
+	/**
+	 * Ends the event and commits it if the recording is enabled for it.
+	 *
+	 * @param page
+	 *            The page number.
+	 * @param parseTime
+	 *            The nanoseconds spent parsing the page.
+	 * @param rowsWritten
+	 *            The number of cards persisted.
+	 */
+	public void commit(final int page, final long parseTime, final int rowsWritten) {
+		end();
+		if (shouldCommit()) {
+			this.page = page;
+			this.parseTime = parseTime;
+			this.rowsWritten = rowsWritten;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.github.zachsand.hs.deck.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event of a refresh of the Battlenet OAuth token. Callers waiting on the token lock during the refresh
+ * are blocked for the duration of this event.
+ */
+@Name(TokenRefreshEvent.NAME)
+@Label("Token Refresh")
+@Category({ "Deck Generator", "Battlenet" })
+@Description("Refresh of the Battlenet OAuth token")
+@StackTrace(false)
+public class TokenRefreshEvent extends Event {
+
+	/**
+	 * Name of the event in the recordings.
+	 */
+	public static final String NAME = "com.github.zachsand.hs.deck.generator.TokenRefresh";
+
+	@Label("Expires In")
+	@Timespan(Timespan.SECONDS)
+	long expiresIn;
+
+	@Label("Succeeded")
+	boolean succeeded;
+
+	/**
+	 * Ends the event and commits it if the recording is enabled for it.
+	 *
+	 * @param expiresIn
+	 *            The seconds until the new token expires, or 0 if the refresh failed.
+	 * @param succeeded
+	 *            Whether a token was received.
+	 */
+	public void commit(final long expiresIn, final boolean succeeded) {
+		end();
+		if (shouldCommit()) {
+			this.expiresIn = expiresIn;
+			this.succeeded = succeeded;
+			commit();
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.github.zachsand.hs.deck.generator.oauth;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Base64;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.http.HttpHeaders;
 import org.apache.http.client.fluent.Request;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.zachsand.hs.deck.generator.config.BattlenetApiConfig;
 import com.github.zachsand.hs.deck.generator.config.BattlenetOauthEnvConfig;
+import com.github.zachsand.hs.deck.generator.jfr.TokenRefreshEvent;
 
 /**
  * Handler for getting the Battlenet Oauth access token.
@@ -25,7 +27,7 @@ import com.github.zachsand.hs.deck.generator.config.BattlenetOauthEnvConfig;
 @Component
 public class BattlenetOauthHandler {
 
-	private final Object tokenLock = new Object();
+	private final ReentrantLock tokenLock = new ReentrantLock();
 	private final BattlenetOauthEnvConfig envConfig;
 	private final BattlenetApiConfig appConfig;
 	private final ObjectMapper objectMapper;
@@ -50,47 +52,62 @@ public class BattlenetOauthHandler {
 	}
 
 	/**
-	 * Retrieves an oauth token from the Battlenet Oauth API.
+	 * Retrieves an oauth token from the Battlenet Oauth API. The token is cached until it expires, and only one caller
+	 * refreshes an expired token while the others wait for it.
+	 * <p>
+	 * A {@link ReentrantLock} is used rather than {@code synchronized} so that a virtual thread waiting on the token
+	 * request does not pin its carrier thread.
+	 * </p>
 	 *
 	 * @return A valid Battlenet Oauth token.
 	 */
 	public BattlenetOauthToken retrieveOauthToken() {
-		if (tokenIsInvalid()) {
-			try {
-				final String encodedCredentials = Base64.getEncoder()
-						.encodeToString(
-								String.format("%s:%s",
-										envConfig.getClientId(),
-										envConfig.getClientSecret()).getBytes(appConfig.getEncoding()));
-
-				final String oauthResponse = new String(Request.Post(appConfig.getTokenUrl())
-						.addHeader(HttpHeaders.AUTHORIZATION, String.format("Basic %s", encodedCredentials))
-						.execute()
-						.returnContent()
-						.asBytes(),
-						appConfig.getEncoding());
-
-				battlenetOauthToken = objectMapper.readValue(oauthResponse, BattlenetOauthToken.class);
-
-				synchronized (tokenLock) {
-					tokenExpiration = Instant.now().plusSeconds(battlenetOauthToken.getExpiresIn());
+		tokenLock.lock();
+		try {
+			if (tokenIsInvalid()) {
+				final TokenRefreshEvent event = new TokenRefreshEvent();
+				event.begin();
+				try {
+					battlenetOauthToken = requestOauthToken();
+				} catch (final RuntimeException e) {
+					event.commit(0, false);
+					throw e;
 				}
-			} catch (final IOException e) {
-				throw new IllegalStateException("Error encountered when generating Battlenet OAuth token", e);
+				event.commit(battlenetOauthToken.getExpiresIn(), true);
+				tokenExpiration = Instant.now().plusSeconds(battlenetOauthToken.getExpiresIn());
 			}
-		}
-		synchronized (tokenLock) {
 			return battlenetOauthToken;
+		} finally {
+			tokenLock.unlock();
+		}
+	}
+
+	private BattlenetOauthToken requestOauthToken() {
+		try {
+			final String encodedCredentials = Base64.getEncoder()
+					.encodeToString(
+							String.format("%s:%s",
+									envConfig.getClientId(),
+									envConfig.getClientSecret()).getBytes(appConfig.getEncoding()));
+
+			final String oauthResponse = new String(Request.Post(appConfig.getTokenUrl())
+					.addHeader(HttpHeaders.AUTHORIZATION, String.format("Basic %s", encodedCredentials))
+					.execute()
+					.returnContent()
+					.asBytes(),
+					appConfig.getEncoding());
+
+			return objectMapper.readValue(oauthResponse, BattlenetOauthToken.class);
+		} catch (final IOException e) {
+			throw new IllegalStateException("Error encountered when generating Battlenet OAuth token", e);
 		}
 	}
 
 	/**
-	 * @return true if the token is invalid, false if the token is valid.
+	 * @return true if the token is invalid, false if the token is valid. Must be called while holding the token lock.
 	 */
 	private boolean tokenIsInvalid() {
-		synchronized (tokenLock) {
-			return battlenetOauthToken == null || tokenExpiration == null || Instant.now().isAfter(tokenExpiration);
-		}
+		return battlenetOauthToken == null || tokenExpiration == null || Instant.now().isAfter(tokenExpiration);
 	}
 
 }
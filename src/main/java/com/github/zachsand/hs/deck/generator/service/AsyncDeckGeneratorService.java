@@ -0,0 +1,98 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.github.zachsand.hs.deck.generator.config.ExecutorConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+
+/**
+ * Non-blocking variant of the {@link DeckGeneratorService}. The work runs on the bounded deck task executor and the
+ * cards are drawn from the in-memory {@link CardCatalog}, so the calling thread is never blocked on the database.
+ */
+@Service
+public class AsyncDeckGeneratorService {
+
+	private final DeckGeneratorService deckGeneratorService;
+	private final DeckRequestValidator deckRequestValidator;
+	private final CardCatalogService cardCatalogService;
+	private final Executor deckTaskExecutor;
+
+	/**
+	 * Constructs the non-blocking deck generator service.
+	 *
+	 * @param deckGeneratorService
+	 *            {@link DeckGeneratorService} Deck generator service.
+	 * @param deckRequestValidator
+	 *            {@link DeckRequestValidator} Validator for the deck requests.
+	 * @param cardCatalogService
+	 *            {@link CardCatalogService} Service holding the in-memory card catalog.
+	 * @param deckTaskExecutor
+	 *            The executor to run the deck work on.
+	 */
+	public AsyncDeckGeneratorService(final DeckGeneratorService deckGeneratorService, final DeckRequestValidator deckRequestValidator,
+			final CardCatalogService cardCatalogService, @Qualifier(ExecutorConfig.DECK_TASK_EXECUTOR) final Executor deckTaskExecutor) {
+		this.deckGeneratorService = deckGeneratorService;
+		this.deckRequestValidator = deckRequestValidator;
+		this.cardCatalogService = cardCatalogService;
+		this.deckTaskExecutor = deckTaskExecutor;
+	}
+
+	/**
+	 * Validates the deck request.
+	 *
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} request containing the data to validate.
+	 * @return Future of the {@link DeckResponseStatus}.
+	 */
+	public CompletableFuture<DeckResponseStatus> validateDeckRequest(final DeckRequestModel deckRequestModel) {
+		return CompletableFuture.supplyAsync(() -> deckRequestValidator.validateDeckRequest(deckRequestModel), deckTaskExecutor);
+	}
+
+	/**
+	 * Generates a Hearthstone deck from the in-memory card catalog.
+	 *
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} The request information needed to generate a deck.
+	 * @param deckView
+	 *            {@link DeckView} The card attributes the response holds.
+	 * @return Future of the {@link DeckResponseModel} that includes the deck ID and deck code.
+	 */
+	public CompletableFuture<DeckResponseModel> generateDeck(final DeckRequestModel deckRequestModel, final DeckView deckView) {
+		return CompletableFuture.supplyAsync(() -> deckGeneratorService.generateDeck(deckRequestModel, cardCatalogService.getCardSource(), deckView),
+				deckTaskExecutor);
+	}
+
+	/**
+	 * Retrieves the deck with the given ID.
+	 *
+	 * @param id
+	 *            ID of the deck to retrieve from the already generated decks.
+	 * @param deckView
+	 *            {@link DeckView} The card attributes the response holds.
+	 * @return Future of the {@link DeckResponseModel} that includes the deck ID and deck code, or an empty optional if
+	 *         there is no deck with the ID.
+	 */
+	public CompletableFuture<Optional<DeckResponseModel>> getDeck(final Integer id, final DeckView deckView) {
+		return CompletableFuture.supplyAsync(() -> deckGeneratorService.getDeck(id, deckView), deckTaskExecutor);
+	}
+
+	/**
+	 * Deletes the deck with the given ID.
+	 *
+	 * @param id
+	 *            The Id of the deck to delete.
+	 * @return Future completed once the deck has been deleted.
+	 */
+	public CompletableFuture<Void> deleteDeck(final Integer id) {
+		return CompletableFuture.runAsync(() -> deckGeneratorService.deleteDeck(id), deckTaskExecutor);
+	}
+}
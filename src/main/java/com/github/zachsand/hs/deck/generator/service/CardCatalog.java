@@ -0,0 +1,215 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetMetadataEntity;
+
+/**
+ * Immutable in-memory snapshot of the card catalog. Random cards are drawn with the same rules as the native queries in
+ * the card repository, without a round trip to the database: every card can be drawn at most twice, and dual-class cards
+ * belong to the classes in their multi class metadata rather than to the neutral class.
+ */
+public class CardCatalog implements CardSource {
+
+	private static final int NUM_CARD_COPIES_ALLOWED = 2;
+	private static final CardCatalog EMPTY = new CardCatalog(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+			Collections.emptyList(), 0);
+
+	private final long version;
+	private final Map<Integer, CardEntity> cardsById;
+	private final Map<String, ClassMetadataEntity> classMetadataBySlug;
+	private final Map<String, SetMetadataEntity> setMetadataBySlug;
+	private final Map<Integer, CardEntity[]> cardsByClass;
+	private final Map<Integer, CardEntity[]> standardCardsByClass;
+	private final Map<Long, CardEntity[]> cardsBySetAndClass;
+
+	/**
+	 * Constructs the card catalog snapshot.
+	 *
+	 * @param cards
+	 *            All the cards in the catalog. The multi class metadata of each card must already be loaded.
+	 * @param classMetadata
+	 *            All the class metadata.
+	 * @param setMetadata
+	 *            All the set metadata.
+	 * @param standardSets
+	 *            The set metadata of the sets in the standard set group.
+	 * @param version
+	 *            The version of the catalog, incremented on each refresh.
+	 */
+	public CardCatalog(final Collection<CardEntity> cards, final Collection<ClassMetadataEntity> classMetadata,
+			final Collection<SetMetadataEntity> setMetadata, final Collection<SetMetadataEntity> standardSets, final long version) {
+		this.version = version;
+		this.cardsById = cards.stream().collect(Collectors.toUnmodifiableMap(CardEntity::getId, Function.identity()));
+		this.classMetadataBySlug = classMetadata.stream().collect(Collectors.toUnmodifiableMap(ClassMetadataEntity::getSlug, Function.identity()));
+		this.setMetadataBySlug = setMetadata.stream().collect(Collectors.toUnmodifiableMap(SetMetadataEntity::getSlug, Function.identity()));
+
+		final Set<Integer> standardSetIds = standardSets.stream().map(SetMetadataEntity::getId).collect(Collectors.toSet());
+		final Map<Integer, List<CardEntity>> byClass = new HashMap<>();
+		final Map<Integer, List<CardEntity>> standardByClass = new HashMap<>();
+		final Map<Long, List<CardEntity>> bySetAndClass = new HashMap<>();
+		for (final CardEntity card : cards) {
+			for (final Integer classId : getDrawableClassIds(card)) {
+				byClass.computeIfAbsent(classId, key -> new ArrayList<>()).add(card);
+				if (card.getSetMetadata() != null) {
+					bySetAndClass.computeIfAbsent(setAndClassKey(card.getSetMetadata().getId(), classId), key -> new ArrayList<>()).add(card);
+					if (standardSetIds.contains(card.getSetMetadata().getId())) {
+						standardByClass.computeIfAbsent(classId, key -> new ArrayList<>()).add(card);
+					}
+				}
+			}
+		}
+		this.cardsByClass = toArrays(byClass);
+		this.standardCardsByClass = toArrays(standardByClass);
+		this.cardsBySetAndClass = toArrays(bySetAndClass);
+	}
+
+	/**
+	 * @return An empty catalog, used until the card data has been loaded.
+	 */
+	public static CardCatalog empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * @return The version of the catalog, incremented on each refresh.
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return true if the catalog does not contain any cards.
+	 */
+	public boolean isEmpty() {
+		return cardsById.isEmpty();
+	}
+
+	/**
+	 * @return All the cards in the catalog.
+	 */
+	public Collection<CardEntity> getCards() {
+		return cardsById.values();
+	}
+
+	/**
+	 * Finds the card with the given ID.
+	 *
+	 * @param cardId
+	 *            The ID of the card.
+	 * @return The card, or null if the card is not in the catalog.
+	 */
+	public CardEntity getCard(final int cardId) {
+		return cardsById.get(cardId);
+	}
+
+	/**
+	 * Finds the class metadata for the class name slug.
+	 *
+	 * @param classSlugName
+	 *            The class name slug.
+	 * @return The class metadata, or null if the class is not in the catalog.
+	 */
+	public ClassMetadataEntity getClassMetadataForSlug(final String classSlugName) {
+		return classMetadataBySlug.get(classSlugName);
+	}
+
+	/**
+	 * Finds the set metadata for the set name slug.
+	 *
+	 * @param setSlugName
+	 *            The set name slug.
+	 * @return The set metadata, or null if the set is not in the catalog.
+	 */
+	public SetMetadataEntity getSetMetadataForSlug(final String setSlugName) {
+		return setMetadataBySlug.get(setSlugName);
+	}
+
+	@Override
+	public List<CardEntity> getRandomSetCards(final String setSlugName, final String classSlugName, final int limit) {
+		final SetMetadataEntity setMetadata = setMetadataBySlug.get(setSlugName);
+		final ClassMetadataEntity classMetadata = classMetadataBySlug.get(classSlugName);
+		if (setMetadata == null || classMetadata == null) {
+			return Collections.emptyList();
+		}
+		return draw(cardsBySetAndClass.get(setAndClassKey(setMetadata.getId(), classMetadata.getId())), limit);
+	}
+
+	@Override
+	public List<CardEntity> getRandomCards(final String classSlugName, final int limit) {
+		final ClassMetadataEntity classMetadata = classMetadataBySlug.get(classSlugName);
+		return classMetadata == null ? Collections.emptyList() : draw(cardsByClass.get(classMetadata.getId()), limit);
+	}
+
+	@Override
+	public List<CardEntity> getRandomStandardCards(final String classSlugName, final int limit) {
+		final ClassMetadataEntity classMetadata = classMetadataBySlug.get(classSlugName);
+		return classMetadata == null ? Collections.emptyList() : draw(standardCardsByClass.get(classMetadata.getId()), limit);
+	}
+
+	@Override
+	public int getHeroCardId(final String classSlugName) {
+		final ClassMetadataEntity classMetadata = classMetadataBySlug.get(classSlugName);
+		if (classMetadata == null) {
+			throw new IllegalStateException("Class " + classSlugName + " is not in the card catalog");
+		}
+		return classMetadata.getCardId();
+	}
+
+	/**
+	 * Draws random cards from the pool without replacement, where the pool holds two copies of every card. Uses Floyd's
+	 * sampling algorithm so only the drawn positions are allocated, rather than shuffling the whole pool.
+	 */
+	private static List<CardEntity> draw(final CardEntity[] pool, final int limit) {
+		if (pool == null || limit <= 0) {
+			return Collections.emptyList();
+		}
+
+		final int poolSize = pool.length * NUM_CARD_COPIES_ALLOWED;
+		final int drawCount = Math.min(limit, poolSize);
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final Set<Integer> drawnPositions = new HashSet<>(drawCount * 2);
+		final List<CardEntity> drawnCards = new ArrayList<>(drawCount);
+		for (int upperBound = poolSize - drawCount; upperBound < poolSize; upperBound++) {
+			final int position = random.nextInt(upperBound + 1);
+			final int drawnPosition = drawnPositions.add(position) ? position : upperBound;
+			drawnPositions.add(drawnPosition);
+			drawnCards.add(pool[drawnPosition % pool.length]);
+		}
+		Collections.shuffle(drawnCards, random);
+		return drawnCards;
+	}
+
+	/**
+	 * Mirrors the class conditions of the native random card queries: dual-class cards are only drawable for the classes in
+	 * their multi class metadata.
+	 */
+	private static Set<Integer> getDrawableClassIds(final CardEntity card) {
+		if (card.getMultiClassMetadata() != null && !card.getMultiClassMetadata().isEmpty()) {
+			return card.getMultiClassMetadata().stream().map(ClassMetadataEntity::getId).collect(Collectors.toSet());
+		}
+		return card.getClassMetadata() == null ? Collections.emptySet() : Set.of(card.getClassMetadata().getId());
+	}
+
+	private static long setAndClassKey(final int setId, final int classId) {
+		return ((long) setId << Integer.SIZE) | (classId & 0xFFFFFFFFL);
+	}
+
+	private static <K> Map<K, CardEntity[]> toArrays(final Map<K, List<CardEntity>> cardLists) {
+		return cardLists.entrySet()
+				.stream()
+				.collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().toArray(new CardEntity[0])));
+	}
+}
@@ -0,0 +1,91 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.zachsand.hs.deck.generator.data.entity.SetGroupMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.model.deck.GameFormat;
+import com.github.zachsand.hs.deck.generator.data.repository.CardRepository;
+
+/**
+ * Service holding the in-memory {@link CardCatalog}. The catalog is rebuilt from the database after the Hearthstone
+ * data has been loaded, and is then used to draw cards without querying the database.
+ */
+@Service
+public class CardCatalogService {
+
+	private static final Logger LOGGER = LogManager.getLogger(CardCatalogService.class);
+
+	private final CardRepository cardRepository;
+	private final CardService cardService;
+	private final ClassMetadataService classMetadataService;
+	private final SetMetadataService setMetadataService;
+	private final SetGroupMetadataService setGroupMetadataService;
+	private volatile CardCatalog cardCatalog = CardCatalog.empty();
+
+	/**
+	 * Constructs the card catalog service.
+	 *
+	 * @param cardRepository
+	 *            {@link CardRepository} Card repository to load the cards from.
+	 * @param cardService
+	 *            {@link CardService} Card service, used to draw cards while the catalog has not been loaded yet.
+	 * @param classMetadataService
+	 *            {@link ClassMetadataService} Class metadata service.
+	 * @param setMetadataService
+	 *            {@link SetMetadataService} Set metadata service.
+	 * @param setGroupMetadataService
+	 *            {@link SetGroupMetadataService} Set group metadata service.
+	 */
+	public CardCatalogService(final CardRepository cardRepository, final CardService cardService, final ClassMetadataService classMetadataService,
+			final SetMetadataService setMetadataService, final SetGroupMetadataService setGroupMetadataService) {
+		this.cardRepository = cardRepository;
+		this.cardService = cardService;
+		this.classMetadataService = classMetadataService;
+		this.setMetadataService = setMetadataService;
+		this.setGroupMetadataService = setGroupMetadataService;
+	}
+
+	/**
+	 * @return The current {@link CardCatalog}. Empty until {@link CardCatalogService#refresh()} has been called.
+	 */
+	public CardCatalog getCatalog() {
+		return cardCatalog;
+	}
+
+	/**
+	 * @return The {@link CardSource} to draw cards from: the current {@link CardCatalog}, or the database backed
+	 *         {@link CardService} while the catalog has not been loaded yet.
+	 */
+	public CardSource getCardSource() {
+		final CardCatalog catalog = cardCatalog;
+		return catalog.isEmpty() ? cardService : catalog;
+	}
+
+	/**
+	 * Rebuilds the catalog from the cards and metadata in the database and swaps it in for the current catalog.
+	 */
+	@Transactional(readOnly = true)
+	public void refresh() {
+		final Set<SetMetadataEntity> standardSets = setGroupMetadataService.getSetGroupMetadata()
+				.stream()
+				.filter(setGroup -> setGroup.getSlug().equals(GameFormat.STANDARD.name().toLowerCase()))
+				.map(SetGroupMetadataEntity::getCardSets)
+				.findFirst()
+				.orElse(Collections.emptySet());
+
+		cardCatalog = new CardCatalog(
+				cardRepository.findAllWithMultiClassMetadata(),
+				classMetadataService.getClassMetadata(),
+				setMetadataService.getSetMetadata(),
+				standardSets,
+				cardCatalog.getVersion() + 1);
+		LOGGER.info("Card catalog version {} loaded with {} cards", cardCatalog.getVersion(), cardCatalog.getCards().size());
+	}
+}
@@ -0,0 +1,118 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.util.CardModelUtil;
+
+/**
+ * The JSON of each card of the {@link CardCatalog} in each {@link DeckView}, serialized once per catalog version.
+ * <p>
+ * The fragments are rebuilt by the first lookup after the catalog has been refreshed. Each fragment keeps its UTF-8
+ * bytes, so writing it to a JSON generator is a copy into the output buffer.
+ * </p>
+ */
+@Component
+public class CardJsonFragments {
+
+	private static final Logger LOGGER = LogManager.getLogger(CardJsonFragments.class);
+
+	private final CardCatalogService cardCatalogService;
+	private final ObjectMapper objectMapper;
+	private volatile Fragments fragments = new Fragments(0, Collections.emptyMap());
+
+	/**
+	 * Constructs the card JSON fragments.
+	 *
+	 * @param cardCatalogService
+	 *            {@link CardCatalogService} Service holding the in-memory card catalog.
+	 * @param objectMapper
+	 *            The object mapper the deck responses are serialized with.
+	 */
+	public CardJsonFragments(final CardCatalogService cardCatalogService, final ObjectMapper objectMapper) {
+		this.cardCatalogService = cardCatalogService;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Retrieves the JSON of the card in the view, as serialized for the current catalog version.
+	 *
+	 * @param cardId
+	 *            The ID of the card.
+	 * @param deckView
+	 *            The {@link DeckView} of the JSON.
+	 * @return The JSON of the card, or {@code null} if the card is not in the catalog.
+	 */
+	public SerializableString get(final long cardId, final DeckView deckView) {
+		final SerializableString[] cardFragments = getFragments().byCardId.get(cardId);
+		return cardFragments == null ? null : cardFragments[deckView.ordinal()];
+	}
+
+	private Fragments getFragments() {
+		final CardCatalog catalog = cardCatalogService.getCatalog();
+		final Fragments current = fragments;
+		if (current.version == catalog.getVersion()) {
+			return current;
+		}
+		synchronized (this) {
+			if (fragments.version != catalog.getVersion()) {
+				fragments = build(catalog);
+			}
+			return fragments;
+		}
+	}
+
+	private Fragments build(final CardCatalog catalog) {
+		final List<CardEntity> cards = new ArrayList<>(catalog.getCards());
+		final List<CardModel> cardModels = CardModelUtil.toCardModels(cards, DeckView.FULL);
+		final DeckView[] deckViews = DeckView.values();
+		final ObjectWriter[] writers = new ObjectWriter[deckViews.length];
+		for (final DeckView deckView : deckViews) {
+			writers[deckView.ordinal()] = deckView == DeckView.FULL ? objectMapper.writer() : objectMapper.writerWithView(deckView.getJsonView());
+		}
+
+		final Map<Long, SerializableString[]> byCardId = new HashMap<>(cardModels.size() * 2);
+		try {
+			for (final CardModel cardModel : cardModels) {
+				final SerializableString[] cardFragments = new SerializableString[deckViews.length];
+				for (final DeckView deckView : deckViews) {
+					final SerializedString fragment = new SerializedString(writers[deckView.ordinal()].writeValueAsString(
+							CardModelUtil.toCardModel(cardModel, deckView)));
+					fragment.asUnquotedUTF8();
+					cardFragments[deckView.ordinal()] = fragment;
+				}
+				byCardId.put(cardModel.getId(), cardFragments);
+			}
+		} catch (final JsonProcessingException e) {
+			throw new IllegalStateException("Error encountered while serializing the cards of catalog version " + catalog.getVersion(), e);
+		}
+		LOGGER.info("Card JSON fragments built for catalog version {} with {} cards", catalog.getVersion(), byCardId.size());
+		return new Fragments(catalog.getVersion(), byCardId);
+	}
+
+	private static final class Fragments {
+
+		private final long version;
+		private final Map<Long, SerializableString[]> byCardId;
+
+		private Fragments(final long version, final Map<Long, SerializableString[]> byCardId) {
+			this.version = version;
+			this.byCardId = byCardId;
+		}
+	}
+}
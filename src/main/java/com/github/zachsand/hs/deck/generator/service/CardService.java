@@ -8,7 +8,6 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ArrayUtils;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -22,6 +21,8 @@ import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
 import com.github.zachsand.hs.deck.generator.data.model.card.CardPageModel;
 import com.github.zachsand.hs.deck.generator.data.model.card.CardsModel;
 import com.github.zachsand.hs.deck.generator.data.repository.CardRepository;
+import com.github.zachsand.hs.deck.generator.jfr.IngestionPageEvent;
+import com.github.zachsand.hs.deck.generator.util.CardModelUtil;
 
 /**
  * Service for querying Hearthstone API for cards.
@@ -30,7 +31,7 @@ import com.github.zachsand.hs.deck.generator.data.repository.CardRepository;
  *      https://develop.battle.net/documentation/hearthstone/guides/card-search</a>
  */
 @Service
-public class CardService {
+public class CardService implements CardSource {
 
 	private final BattlenetClient battlenetClient;
 	private final ObjectMapper objectMapper;
@@ -43,7 +44,8 @@ public class CardService {
 	 * Constructs the card search service.
 	 *
 	 * @param objectMapper
-	 *            The object mapper for JSON serialization.
+	 *            The object mapper for JSON serialization, configured here once since the card pages are parsed
+	 *            concurrently.
 	 * @param cardRepository
 	 *            {@link CardRepository} Card repository for card persistence.
 	 * @param classMetadataService
@@ -58,6 +60,7 @@ public class CardService {
 			final ClassMetadataService classMetadataService, final TypeMetadataService typeMetadataService, final SetMetadataService setMetadataService) {
 		this.battlenetClient = battlenetClient;
 		this.objectMapper = objectMapper;
+		this.objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
 		this.cardRepository = cardRepository;
 		this.classMetadataService = classMetadataService;
 		this.typeMetadataService = typeMetadataService;
@@ -71,7 +74,6 @@ public class CardService {
 	 */
 	public CardPageModel retrieveCardSearchPageData() {
 		try {
-			objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
 			return objectMapper.readValue(battlenetClient.retrieveCardSearchPageData(), CardPageModel.class);
 		} catch (final JsonProcessingException e) {
 			throw new IllegalStateException("Error encountered while retrieving cards max page from Blizzard API", e);
@@ -81,16 +83,25 @@ public class CardService {
 	/**
 	 * Retrieve cards from the Blizzard API using the {@link BattlenetApiConfig} pageSize and the given page number and
 	 * persists them to the database. Should be used in conjunction with {@link CardService#retrieveCardSearchPageData()}.
+	 * Each page is recorded as an {@link IngestionPageEvent} when a flight recording is running.
 	 *
 	 * @param pageNum
 	 *            The page number to use in the request to the Blizzard Card Search API.
+	 * @return The {@link IngestedCardPage} with the time spent fetching, parsing and persisting the page.
 	 */
-	public void retrieveAndPersistCardPage(final int pageNum) {
+	public IngestedCardPage retrieveAndPersistCardPage(final int pageNum) {
+		final IngestionPageEvent event = new IngestionPageEvent();
+		event.begin();
 		try {
-			objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-			cardRepository.saveAll(
-					mapCardModelToEntity(objectMapper.readValue(battlenetClient.retrieveCardPage(pageNum), CardsModel.class)
-							.getCards()));
+			final long fetchStart = System.nanoTime();
+			final byte[] cardPage = battlenetClient.retrieveCardPage(pageNum);
+			final long parseStart = System.nanoTime();
+			final CardsModel cardsModel = objectMapper.readValue(cardPage, CardsModel.class);
+			final long persistStart = System.nanoTime();
+			final List<CardEntity> cards = cardRepository.saveAll(mapCardModelToEntity(cardsModel.getCards()));
+			final long persistEnd = System.nanoTime();
+			event.commit(pageNum, persistStart - parseStart, cards.size());
+			return new IngestedCardPage(parseStart - fetchStart, cardPage.length, persistStart - parseStart, persistEnd - persistStart, cards.size());
 		} catch (final IOException e) {
 			throw new IllegalStateException("Error encountered while retrieving cards from Blizzard API", e);
 		}
@@ -107,6 +118,7 @@ public class CardService {
 	 *            Limit of cards to return.
 	 * @return List of random cards IDs based on the parameters.
 	 */
+	@Override
 	public List<CardEntity> getRandomSetCards(final String setSlugName, final String classSlugName, final int limit) {
 		return cardRepository.findRandomCardsByClassAndSetWithLimit(
 				setMetadataService.getSetMetadataBySlugName(setSlugName).getId(),
@@ -123,6 +135,7 @@ public class CardService {
 	 *            Limit of cards to return.
 	 * @return List of random cards IDs based on the parameters.
 	 */
+	@Override
 	public List<CardEntity> getRandomCards(final String classSlugName, final int limit) {
 		return limit > 0
 				? cardRepository.findRandomCardsByClassWithLimit(classMetadataService.getClassMetadataForSlug(classSlugName).getId(), limit)
@@ -139,12 +152,18 @@ public class CardService {
 	 *            Limit of cards to return.
 	 * @return List of random cards IDs based on the parameters.
 	 */
+	@Override
 	public List<CardEntity> getRandomStandardCards(final String classSlugName, final int limit) {
 		return limit > 0
 				? cardRepository.findRandomStandardCardsByClassWithLimit(classMetadataService.getClassMetadataForSlug(classSlugName).getId(), limit)
 				: Collections.emptyList();
 	}
 
+	@Override
+	public int getHeroCardId(final String classSlugName) {
+		return classMetadataService.getClassMetadataForSlug(classSlugName).getCardId();
+	}
+
 	/**
 	 * @return Total count of cards in the database.
 	 */
@@ -168,14 +187,6 @@ public class CardService {
 	}
 
 	private List<CardEntity> mapCardModelToEntity(final CardModel[] cards) {
-		final ModelMapper modelMapper = new ModelMapper();
-		modelMapper.typeMap(CardModel.class, CardEntity.class).addMappings(mapper -> {
-			mapper.skip(CardEntity::setClassMetadata);
-			mapper.skip(CardEntity::setTypeMetadata);
-			mapper.skip(CardEntity::setSetMetadata);
-			mapper.skip(CardEntity::setMultiClassMetadata);
-		});
-
 		/*
 		 * The Cards search API seems to return set IDs that aren't in the set metadata. For some of these cards it
 		 * seems like it is because there's a duplicate of the card, so for now just only consider that cards where
@@ -194,12 +205,12 @@ public class CardService {
 		return Arrays.stream(cards)
 				.filter(cardModel -> cardModel.getCardTypeId() != typeForHeroCards)
 				.filter(cardModel -> cardSetIds.contains(cardModel.getCardSetId()))
-				.map(cardModel -> mapCardModelToEntityHelper(cardModel, modelMapper))
+				.map(this::mapCardModelToEntityHelper)
 				.collect(Collectors.toList());
 	}
 
-	private CardEntity mapCardModelToEntityHelper(final CardModel cardModel, final ModelMapper modelMapper) {
-		final CardEntity card = modelMapper.map(cardModel, CardEntity.class);
+	private CardEntity mapCardModelToEntityHelper(final CardModel cardModel) {
+		final CardEntity card = CardModelUtil.toCardEntity(cardModel);
 		card.setClassMetadata(classMetadataService.getClassMetadataForId(cardModel.getClassId()));
 		card.setTypeMetadata(typeMetadataService.getTypeMetadataById(cardModel.getCardTypeId()));
 		card.setSetMetadata(setMetadataService.getSetMetadataById(cardModel.getCardSetId()));
@@ -0,0 +1,57 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.List;
+
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+
+/**
+ * Source of random cards used when drawing the cards for a generated deck. Implemented by the database backed
+ * {@link CardService} and by the in-memory {@link CardCatalog}.
+ */
+public interface CardSource {
+
+	/**
+	 * Retrieves random cards based on the set and class name.
+	 *
+	 * @param setSlugName
+	 *            Set slug name to find cards.
+	 * @param classSlugName
+	 *            Class slug name to find cards.
+	 * @param limit
+	 *            Limit of cards to return.
+	 * @return List of random cards based on the parameters.
+	 */
+	List<CardEntity> getRandomSetCards(String setSlugName, String classSlugName, int limit);
+
+	/**
+	 * Retrieves random cards based on the class name. If the class slug name is neutral, neutral cards will be returned.
+	 *
+	 * @param classSlugName
+	 *            Class slug name to find cards.
+	 * @param limit
+	 *            Limit of cards to return.
+	 * @return List of random cards based on the parameters.
+	 */
+	List<CardEntity> getRandomCards(String classSlugName, int limit);
+
+	/**
+	 * Retrieves random cards from the standard set group based on the class name. If the class slug name is neutral,
+	 * neutral cards will be returned.
+	 *
+	 * @param classSlugName
+	 *            Class slug name to find cards.
+	 * @param limit
+	 *            Limit of cards to return.
+	 * @return List of random cards based on the parameters.
+	 */
+	List<CardEntity> getRandomStandardCards(String classSlugName, int limit);
+
+	/**
+	 * Retrieves the hero card ID for the class name slug.
+	 *
+	 * @param classSlugName
+	 *            The class name slug.
+	 * @return The card ID of the hero for the class.
+	 */
+	int getHeroCardId(String classSlugName);
+}
@@ -49,10 +49,10 @@ public class ClassMetadataService {
 	}
 
 	/**
-	 * Retrieves all the class metadata and persists it to the database.
+	 * Retrieves all the class metadata and persists it to the database. Existing metadata is updated in place, as the
+	 * cards refer to it.
 	 */
 	public void retrieveAndPersistClassMetadata() {
-		classMetadataRepository.deleteAll();
 		classMetadataRepository.saveAll(retrieveAllClassMetadata());
 	}
 
@@ -0,0 +1,19 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+/**
+ * Thrown when the work of a request is aborted because its {@link RequestDeadline} has passed.
+ */
+public class DeadlineExceededException extends IllegalStateException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructs the exception.
+	 *
+	 * @param message
+	 *            Description of the deadline and the work that was aborted.
+	 */
+	public DeadlineExceededException(final String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,219 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.zachsand.hs.deck.generator.config.DeckBatchConfig;
+import com.github.zachsand.hs.deck.generator.config.ExecutorConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+
+/**
+ * Service for generating a batch of decks based on the {@link DeckBatchRequestModel}. Each distinct request of the
+ * batch is validated once, the decks are generated in parallel from the in-memory card catalog and persisted together.
+ * Very large batches can be streamed instead, in which case the decks are generated, persisted and written in chunks.
+ */
+@Service
+public class DeckBatchService {
+
+	private static final Logger LOGGER = LogManager.getLogger(DeckBatchService.class);
+
+	private final DeckGeneratorService deckGeneratorService;
+	private final DeckRequestValidator deckRequestValidator;
+	private final CardCatalogService cardCatalogService;
+	private final DeckBatchConfig deckBatchConfig;
+	private final ForkJoinPool deckBatchPool;
+	private final ObjectWriter deckWriter;
+
+	/**
+	 * Constructs the deck batch service.
+	 *
+	 * @param deckGeneratorService
+	 *            {@link DeckGeneratorService} Deck generator service.
+	 * @param deckRequestValidator
+	 *            {@link DeckRequestValidator} Validator for the deck requests.
+	 * @param cardCatalogService
+	 *            {@link CardCatalogService} Service holding the in-memory card catalog.
+	 * @param deckBatchConfig
+	 *            {@link DeckBatchConfig} The deck batch configuration.
+	 * @param deckBatchPool
+	 *            The fork-join pool to generate the decks on.
+	 * @param objectMapper
+	 *            The object mapper used to write the streamed decks.
+	 */
+	public DeckBatchService(final DeckGeneratorService deckGeneratorService, final DeckRequestValidator deckRequestValidator,
+			final CardCatalogService cardCatalogService, final DeckBatchConfig deckBatchConfig,
+			@Qualifier(ExecutorConfig.DECK_BATCH_POOL) final ForkJoinPool deckBatchPool, final ObjectMapper objectMapper) {
+		this.deckGeneratorService = deckGeneratorService;
+		this.deckRequestValidator = deckRequestValidator;
+		this.cardCatalogService = cardCatalogService;
+		this.deckBatchConfig = deckBatchConfig;
+		this.deckBatchPool = deckBatchPool;
+		this.deckWriter = objectMapper.writerFor(DeckResponseModel.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+				.withRootValueSeparator("");
+	}
+
+	/**
+	 * Validates the deck batch request. Requests that occur several times in the batch are validated once.
+	 *
+	 * @param deckBatchRequestModel
+	 *            {@link DeckBatchRequestModel} request containing the data to validate.
+	 * @return {@link DeckResponseStatus}.
+	 */
+	public DeckResponseStatus validateDeckBatchRequest(final DeckBatchRequestModel deckBatchRequestModel) {
+		return validateDeckBatchRequest(deckBatchRequestModel, deckBatchConfig.getMaxSize());
+	}
+
+	/**
+	 * Validates the deck batch request to stream. Streamed batches may be larger than regular batches, but cannot ask
+	 * for unique decks since that would require remembering every deck written.
+	 *
+	 * @param deckBatchRequestModel
+	 *            {@link DeckBatchRequestModel} request containing the data to validate.
+	 * @return {@link DeckResponseStatus}.
+	 */
+	public DeckResponseStatus validateDeckStreamRequest(final DeckBatchRequestModel deckBatchRequestModel) {
+		return validateDeckChunkedRequest(deckBatchRequestModel, deckBatchConfig.getStreamMaxSize());
+	}
+
+	/**
+	 * Validates a deck batch request that is generated a chunk at a time, which rules out unique decks.
+	 */
+	DeckResponseStatus validateDeckChunkedRequest(final DeckBatchRequestModel deckBatchRequestModel, final int maxSize) {
+		if (deckBatchRequestModel.isUnique()) {
+			return errorStatus("unique: is not supported for batches generated in chunks.");
+		}
+		return validateDeckBatchRequest(deckBatchRequestModel, maxSize);
+	}
+
+	private DeckResponseStatus validateDeckBatchRequest(final DeckBatchRequestModel deckBatchRequestModel, final int maxSize) {
+		final boolean hasRequest = deckBatchRequestModel.getRequest() != null;
+		final boolean hasRequests = deckBatchRequestModel.getRequests() != null;
+		if (hasRequest == hasRequests) {
+			return errorStatus("Exactly one of request with count, or requests must be given.");
+		}
+		if (hasRequest && deckBatchRequestModel.getCount() == null) {
+			return errorStatus("count: must not be null when request is given.");
+		}
+		if (hasRequests && deckBatchRequestModel.getRequests().stream().anyMatch(Objects::isNull)) {
+			return errorStatus("requests: must not contain null.");
+		}
+		final int size = hasRequest ? deckBatchRequestModel.getCount() : deckBatchRequestModel.getRequests().size();
+		if (size < 1 || size > maxSize) {
+			return errorStatus("The batch must contain between 1 and " + maxSize + " decks: size given was " + size);
+		}
+
+		final List<String> errorMessages = new ArrayList<>();
+		for (final DeckRequestModel deckRequestModel : new LinkedHashSet<>(expandRequests(deckBatchRequestModel))) {
+			final DeckResponseStatus deckResponseStatus = deckRequestValidator.validateDeckRequest(deckRequestModel);
+			if (deckResponseStatus.getStatus().equals(DeckResponseStatus.ResponseStatus.ERROR.name())) {
+				deckResponseStatus.getMessage().forEach(message -> errorMessages.add(deckRequestModel.getClassName() + ": " + message));
+			}
+		}
+		return errorMessages.isEmpty()
+				? DeckResponseStatus.SUCCESS_RESPONSE
+				: new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(), errorMessages);
+	}
+
+	/**
+	 * Generates the decks of the deck batch request.
+	 *
+	 * @param deckBatchRequestModel
+	 *            {@link DeckBatchRequestModel} The validated batch request.
+	 * @param deckView
+	 *            {@link DeckView} The card attributes the decks hold, unless the request asks for the deck codes only.
+	 * @return {@link DeckResponseModel} The generated decks, in the order of the requests.
+	 */
+	public List<DeckResponseModel> generateDecks(final DeckBatchRequestModel deckBatchRequestModel, final DeckView deckView) {
+		return deckGeneratorService.generateDecks(expandRequests(deckBatchRequestModel), cardCatalogService.getCardSource(),
+				deckBatchRequestModel.isUnique(), resolveDeckView(deckBatchRequestModel, deckView), deckBatchPool);
+	}
+
+	/**
+	 * Resolves the view of the decks of the batch request. Asking for the deck codes only takes precedence.
+	 *
+	 * @param deckBatchRequestModel
+	 *            {@link DeckBatchRequestModel} The batch request.
+	 * @param deckView
+	 *            {@link DeckView} The requested view.
+	 * @return {@link DeckView} The view of the decks of the batch.
+	 */
+	public DeckView resolveDeckView(final DeckBatchRequestModel deckBatchRequestModel, final DeckView deckView) {
+		return deckBatchRequestModel.isCodeOnly() ? DeckView.CODE : deckView;
+	}
+
+	/**
+	 * Generates the decks of the deck batch request and writes them as newline delimited JSON, one deck per line. The
+	 * decks are generated, persisted and written a chunk at a time, and the output is flushed after each chunk, so the
+	 * memory used does not depend on the size of the batch. Writes block while the client is not reading, which holds
+	 * back the generation of the next chunk, and fail once the client has disconnected, which ends the generation.
+	 *
+	 * @param deckBatchRequestModel
+	 *            {@link DeckBatchRequestModel} The validated batch request.
+	 * @param deckView
+	 *            {@link DeckView} The card attributes the decks hold, unless the request asks for the deck codes only.
+	 * @param outputStream
+	 *            The stream to write the decks to. It is not closed.
+	 * @throws IOException
+	 *             If writing to the stream fails, typically because the client disconnected.
+	 */
+	public void streamDecks(final DeckBatchRequestModel deckBatchRequestModel, final DeckView deckView, final OutputStream outputStream)
+			throws IOException {
+		final List<DeckRequestModel> deckRequestModels = expandRequests(deckBatchRequestModel);
+		final DeckView resolvedDeckView = resolveDeckView(deckBatchRequestModel, deckView);
+		final ObjectWriter viewWriter = deckWriter.withView(resolvedDeckView.getJsonView());
+		final CardSource cardSource = cardCatalogService.getCardSource();
+		final int chunkSize = deckBatchConfig.getStreamChunkSize();
+		try (JsonGenerator jsonGenerator = viewWriter.createGenerator(outputStream)) {
+			jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			for (int from = 0; from < deckRequestModels.size(); from += chunkSize) {
+				final List<DeckRequestModel> chunk = deckRequestModels.subList(from, Math.min(from + chunkSize, deckRequestModels.size()));
+				for (final DeckResponseModel deckResponseModel : generateDeckChunk(chunk, cardSource, resolvedDeckView, deckBatchPool)) {
+					viewWriter.writeValue(jsonGenerator, deckResponseModel);
+					jsonGenerator.writeRaw('\n');
+				}
+				jsonGenerator.flush();
+				LOGGER.debug("Streamed {} of {} decks", from + chunk.size(), deckRequestModels.size());
+			}
+		}
+	}
+
+	/**
+	 * Generates and persists a chunk of the decks of a batch in parallel on the given pool, without guaranteeing unique
+	 * decks.
+	 */
+	List<DeckResponseModel> generateDeckChunk(final List<DeckRequestModel> chunk, final CardSource cardSource, final DeckView deckView,
+			final ForkJoinPool forkJoinPool) {
+		return deckGeneratorService.generateDecks(chunk, cardSource, false, deckView, forkJoinPool);
+	}
+
+	static List<DeckRequestModel> expandRequests(final DeckBatchRequestModel deckBatchRequestModel) {
+		return deckBatchRequestModel.getRequest() != null
+				? Collections.nCopies(deckBatchRequestModel.getCount(), deckBatchRequestModel.getRequest())
+				: deckBatchRequestModel.getRequests();
+	}
+
+	private static DeckResponseStatus errorStatus(final String message) {
+		return new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(), Collections.singletonList(message));
+	}
+}
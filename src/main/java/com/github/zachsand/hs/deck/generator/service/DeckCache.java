@@ -0,0 +1,133 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.zachsand.hs.deck.generator.config.DeckCacheConfig;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded read-through cache of the fully built {@link DeckResponseModel}s of the stored decks, keyed by deck ID.
+ * <p>
+ * The cache is bounded by the estimated size of the decks and evicts with Caffeine's W-TinyLFU policy, which combines
+ * recency and frequency. IDs without a stored deck are cached as well, with a shorter expiry, so repeated lookups of
+ * unknown IDs do not reach the database. The cached models are shared between requests and must not be modified.
+ * </p>
+ */
+@Component
+public class DeckCache {
+
+	/**
+	 * Name of the cache in the cache metrics.
+	 */
+	public static final String CACHE_NAME = "decks";
+
+	private static final int MODEL_WEIGHT = 64;
+	private static final int CARD_WEIGHT = 128;
+	private static final int CHAR_WEIGHT = 2;
+
+	private final Cache<Integer, Optional<DeckResponseModel>> decks;
+
+	/**
+	 * Constructs the deck cache and registers its metrics.
+	 *
+	 * @param deckCacheConfig
+	 *            The {@link DeckCacheConfig} for sizing and expiring the cache.
+	 * @param meterRegistry
+	 *            The registry to publish the cache metrics to.
+	 */
+	public DeckCache(final DeckCacheConfig deckCacheConfig, final MeterRegistry meterRegistry) {
+		final long expireNanos = deckCacheConfig.getExpireAfterWrite().toNanos();
+		final long negativeExpireNanos = deckCacheConfig.getNegativeExpireAfterWrite().toNanos();
+		this.decks = Caffeine.newBuilder()
+				.maximumWeight(deckCacheConfig.getMaximumWeight())
+				.<Integer, Optional<DeckResponseModel>> weigher((id, deck) -> deck.map(DeckCache::estimateWeight).orElse(MODEL_WEIGHT))
+				.expireAfter(new Expiry<Integer, Optional<DeckResponseModel>>() {
+
+					@Override
+					public long expireAfterCreate(final Integer id, final Optional<DeckResponseModel> deck, final long currentTime) {
+						return deck.isPresent() ? expireNanos : negativeExpireNanos;
+					}
+
+					@Override
+					public long expireAfterUpdate(final Integer id, final Optional<DeckResponseModel> deck, final long currentTime,
+							final long currentDuration) {
+						return expireAfterCreate(id, deck, currentTime);
+					}
+
+					@Override
+					public long expireAfterRead(final Integer id, final Optional<DeckResponseModel> deck, final long currentTime,
+							final long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.recordStats()
+				.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, decks, CACHE_NAME);
+		Gauge.builder("cache.hit.ratio", decks, cache -> cache.stats().hitRate())
+				.tag("cache", CACHE_NAME)
+				.description("The ratio of cache requests which were hits")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Retrieves the deck with the given ID, loading it on a miss. Concurrent misses for the same ID load the deck once.
+	 *
+	 * @param id
+	 *            The ID of the deck.
+	 * @param loader
+	 *            Loads the deck, or an empty optional if there is no deck with the ID.
+	 * @return The deck, or an empty optional if there is no deck with the ID.
+	 */
+	public Optional<DeckResponseModel> get(final int id, final Function<Integer, Optional<DeckResponseModel>> loader) {
+		return decks.get(id, loader);
+	}
+
+	/**
+	 * Caches a deck that has just been stored, replacing a cached absence of its ID.
+	 *
+	 * @param deckResponseModel
+	 *            The stored deck.
+	 */
+	public void put(final DeckResponseModel deckResponseModel) {
+		decks.put(deckResponseModel.getId(), Optional.of(deckResponseModel));
+	}
+
+	/**
+	 * Removes the deck with the given ID. Waits for a load of the same ID that is in progress, so a deck loaded before
+	 * it was deleted is not left in the cache.
+	 *
+	 * @param id
+	 *            The ID of the deck.
+	 */
+	public void invalidate(final int id) {
+		decks.invalidate(id);
+	}
+
+	private static int estimateWeight(final DeckResponseModel deckResponseModel) {
+		int weight = MODEL_WEIGHT + length(deckResponseModel.getDeckCode()) * CHAR_WEIGHT;
+		if (deckResponseModel.getCards() != null) {
+			for (final CardModel card : deckResponseModel.getCards()) {
+				weight += CARD_WEIGHT + CHAR_WEIGHT * (length(card.getSlug()) + length(card.getName()) + length(card.getText())
+						+ length(card.getFlavorText()) + length(card.getArtistName()) + length(card.getImage())
+						+ length(card.getImageGold()) + length(card.getCropImage()));
+			}
+		}
+		return weight;
+	}
+
+	private static int length(final String value) {
+		return value == null ? 0 : value.length();
+	}
+}
@@ -0,0 +1,86 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.zachsand.hs.deck.generator.config.DeckHttpCacheConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+
+/**
+ * Bounded in-memory index of the ETags of generated decks, keyed by deck ID. Decks never change after they are
+ * generated, so a conditional request can be answered from this index without loading the deck from the database. The
+ * index holds the deck codes, and the ETag of each {@link DeckView} of a deck is derived from its deck code.
+ * <p>
+ * The index is bounded by the number of decks and evicts with Caffeine's W-TinyLFU policy, without a lock shared by
+ * the lookups.
+ * </p>
+ */
+@Component
+public class DeckETagIndex {
+
+	private final Cache<Integer, String> deckCodes;
+
+	/**
+	 * Constructs the deck ETag index.
+	 *
+	 * @param deckHttpCacheConfig
+	 *            The {@link DeckHttpCacheConfig} for sizing the index.
+	 */
+	public DeckETagIndex(final DeckHttpCacheConfig deckHttpCacheConfig) {
+		this.deckCodes = Caffeine.newBuilder()
+				.maximumSize(deckHttpCacheConfig.getEtagIndexSize())
+				.build();
+	}
+
+	/**
+	 * Derives the ETag of a view of a deck from its deck code. The views hold different card attributes, so each has its
+	 * own ETag. The ETag is weak, as the encodings of a view are equivalent but not byte for byte equal, and a strong ETag
+	 * would keep the server from compressing the response.
+	 *
+	 * @param deckCode
+	 *            The deck code, a Base64 encoded string parsable by the Hearthstone application that represents a deck.
+	 * @param deckView
+	 *            The {@link DeckView} of the response.
+	 * @return The quoted weak ETag.
+	 */
+	public static String toETag(final String deckCode, final DeckView deckView) {
+		return "W/\"" + deckCode + ":" + deckView.name().toLowerCase(Locale.ROOT) + "\"";
+	}
+
+	/**
+	 * Records the deck code the ETags of a deck are derived from.
+	 *
+	 * @param id
+	 *            The ID of the deck.
+	 * @param deckCode
+	 *            The deck code of the deck.
+	 */
+	public void put(final int id, final String deckCode) {
+		deckCodes.put(id, deckCode);
+	}
+
+	/**
+	 * @param id
+	 *            The ID of the deck.
+	 * @param deckView
+	 *            The {@link DeckView} of the response.
+	 * @return The ETag of the view of the deck, if the deck is in the index.
+	 */
+	public Optional<String> get(final int id, final DeckView deckView) {
+		return Optional.ofNullable(deckCodes.getIfPresent(id)).map(deckCode -> toETag(deckCode, deckView));
+	}
+
+	/**
+	 * Removes the ETags of a deleted deck.
+	 *
+	 * @param id
+	 *            The ID of the deck.
+	 */
+	public void remove(final int id) {
+		deckCodes.invalidate(id);
+	}
+}
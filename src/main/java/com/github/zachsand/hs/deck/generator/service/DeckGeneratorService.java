@@ -1,21 +1,30 @@
 package com.github.zachsand.hs.deck.generator.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
 import com.github.zachsand.hs.deck.generator.data.entity.DeckEntity;
-import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckSetModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
 import com.github.zachsand.hs.deck.generator.data.model.deck.GameFormat;
 import com.github.zachsand.hs.deck.generator.data.repository.DeckRepository;
+import com.github.zachsand.hs.deck.generator.jfr.DeckGenerationEvent;
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics.Stage;
+import com.github.zachsand.hs.deck.generator.util.CardModelUtil;
 import com.github.zachsand.hs.deck.generator.util.DeckCodeGeneratorUtil;
 
 /**
@@ -25,10 +34,13 @@ import com.github.zachsand.hs.deck.generator.util.DeckCodeGeneratorUtil;
 public class DeckGeneratorService {
 
 	private static final String NEUTRAL_CLASS_SLUG_NAME = "neutral";
+	private static final int MAX_UNIQUE_DECK_ATTEMPTS = 100;
 
 	private final CardService cardService;
 	private final DeckRepository deckRepository;
-	private final ClassMetadataService classMetadataService;
+	private final DeckETagIndex deckETagIndex;
+	private final DeckCache deckCache;
+	private final DeckMetrics deckMetrics;
 
 	/**
 	 * Constructs the deck generator service which generates decks based on the {@link DeckRequestModel}.
@@ -37,13 +49,20 @@ public class DeckGeneratorService {
 	 *            {@link CardService} Service retrieving cards.
 	 * @param deckRepository
 	 *            {@link DeckRepository} Repository for saving the deck that is generated.
-	 * @param classMetadataService
-	 *            {@link ClassMetadataService} Class metadata service.
+	 * @param deckETagIndex
+	 *            {@link DeckETagIndex} Index of the ETags of the generated decks.
+	 * @param deckCache
+	 *            {@link DeckCache} Read-through cache of the stored decks.
+	 * @param deckMetrics
+	 *            {@link DeckMetrics} Timers of the generation stages.
 	 */
-	public DeckGeneratorService(final CardService cardService, final DeckRepository deckRepository, final ClassMetadataService classMetadataService) {
+	public DeckGeneratorService(final CardService cardService, final DeckRepository deckRepository, final DeckETagIndex deckETagIndex,
+			final DeckCache deckCache, final DeckMetrics deckMetrics) {
 		this.cardService = cardService;
 		this.deckRepository = deckRepository;
-		this.classMetadataService = classMetadataService;
+		this.deckETagIndex = deckETagIndex;
+		this.deckCache = deckCache;
+		this.deckMetrics = deckMetrics;
 	}
 
 	/**
@@ -54,50 +73,153 @@ public class DeckGeneratorService {
 	 * @return {@link DeckResponseModel} The response that includes the deck ID and deck code.
 	 */
 	public DeckResponseModel generateDeck(final DeckRequestModel deckRequestModel) {
-		final List<CardEntity> cards = new ArrayList<>();
-		deckRequestModel.getDeckSets().forEach(deckSet -> {
-			if (deckSet.getSetName().equals(DeckSetModel.CUSTOM_SET_USE_ALL)) {
-				if (GameFormat.valueOf(deckRequestModel.getGameFormat().toUpperCase()) == GameFormat.STANDARD) {
-					cards.addAll(cardService.getRandomStandardCards(deckRequestModel.getClassName(), deckSet.getClassSetCount()));
-					cards.addAll(cardService.getRandomStandardCards(NEUTRAL_CLASS_SLUG_NAME, deckSet.getNeutralSetCount()));
-				} else {
-					cards.addAll(cardService.getRandomCards(deckRequestModel.getClassName(), deckSet.getClassSetCount()));
-					cards.addAll(cardService.getRandomCards(NEUTRAL_CLASS_SLUG_NAME, deckSet.getNeutralSetCount()));
-				}
-			} else {
-				cards.addAll(cardService.getRandomSetCards(deckSet.getSetName(), deckRequestModel.getClassName(), deckSet.getClassSetCount()));
-				cards.addAll(cardService.getRandomSetCards(deckSet.getSetName(), NEUTRAL_CLASS_SLUG_NAME, deckSet.getNeutralSetCount()));
-			}
-		});
+		return generateDeck(deckRequestModel, DeckView.FULL);
+	}
 
-		final String deckCode = DeckCodeGeneratorUtil.generateDeckCode(cards,
-				classMetadataService.getClassMetadataForSlug(deckRequestModel.getClassName()).getCardId(), deckRequestModel.getGameFormat());
+	/**
+	 * Generates a Hearthstone deck.
+	 *
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} The request information needed to generate a deck.
+	 * @param deckView
+	 *            {@link DeckView} The card attributes the response holds.
+	 * @return {@link DeckResponseModel} The response that includes the deck ID and deck code.
+	 */
+	public DeckResponseModel generateDeck(final DeckRequestModel deckRequestModel, final DeckView deckView) {
+		return generateDeck(deckRequestModel, cardService, deckView);
+	}
 
-		final DeckResponseModel deckResponseModel = new DeckResponseModel();
-		deckResponseModel.setDeckCode(deckCode);
+	/**
+	 * Generates a Hearthstone deck, drawing the cards from the given {@link CardSource}.
+	 *
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} The request information needed to generate a deck.
+	 * @param cardSource
+	 *            {@link CardSource} The source to draw the random cards from.
+	 * @return {@link DeckResponseModel} The response that includes the deck ID and deck code.
+	 */
+	public DeckResponseModel generateDeck(final DeckRequestModel deckRequestModel, final CardSource cardSource) {
+		return generateDeck(deckRequestModel, cardSource, DeckView.FULL);
+	}
 
-		final DeckEntity deckEntity = deckRepository.save(mapDeckEntity(deckRequestModel, deckResponseModel));
-		deckResponseModel.setCards(mapCardEntityToModel(cards));
-		deckResponseModel.setId(deckEntity.getId());
-		deckResponseModel.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+	/**
+	 * Generates a Hearthstone deck, drawing the cards from the given {@link CardSource}. The card draws and the save of
+	 * the deck are skipped with a {@link DeadlineExceededException} once the {@link RequestDeadline} of the request has
+	 * passed.
+	 *
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} The request information needed to generate a deck.
+	 * @param cardSource
+	 *            {@link CardSource} The source to draw the random cards from.
+	 * @param deckView
+	 *            {@link DeckView} The card attributes the response holds.
+	 * @return {@link DeckResponseModel} The response that includes the deck ID and deck code.
+	 */
+	public DeckResponseModel generateDeck(final DeckRequestModel deckRequestModel, final CardSource cardSource, final DeckView deckView) {
+		final DeckGenerationEvent event = new DeckGenerationEvent();
+		event.begin();
+		final List<CardEntity> cards = drawCards(deckRequestModel, cardSource);
+		final String deckCode = generateDeckCode(deckRequestModel, cards, cardSource);
+
+		RequestDeadline.check("saving the deck");
+		final DeckEntity deckEntity = deckMetrics.record(Stage.SAVE, deckRequestModel,
+				() -> deckRepository.save(mapDeckEntity(deckRequestModel, deckCode, cards)));
+		deckETagIndex.put(deckEntity.getId(), deckCode);
+		final DeckResponseModel deckResponseModel = mapDeckResponseModel(deckRequestModel, deckEntity, cards, deckView);
+		if (deckView == DeckView.FULL) {
+			deckCache.put(deckResponseModel);
+		} else {
+			/* Drops a not found entry cached for the ID by an earlier lookup */
+			deckCache.invalidate(deckEntity.getId());
+		}
+		event.commit(deckRequestModel.getClassName(), deckMetrics.gameFormatTag(deckRequestModel), DeckMetrics.deckSets(deckRequestModel),
+				cards.size(), deckView.name());
 		return deckResponseModel;
 	}
 
 	/**
-	 * Retrieves the deck with the given ID. The deck has to be created already.
+	 * Generates a batch of Hearthstone decks, one for each request. The cards are drawn and the responses are mapped in
+	 * parallel on the given fork-join pool, and the decks are persisted together in a single batch insert.
+	 *
+	 * @param deckRequestModels
+	 *            {@link DeckRequestModel} The requests to generate one deck each for. Must already be validated.
+	 * @param cardSource
+	 *            {@link CardSource} The source to draw the random cards from. Must be safe for concurrent draws.
+	 * @param unique
+	 *            If true, no two decks of the batch have the same class, game format and cards.
+	 * @param deckView
+	 *            {@link DeckView} The card attributes the responses hold.
+	 * @param forkJoinPool
+	 *            The pool to draw the cards and map the responses on.
+	 * @return {@link DeckResponseModel} The responses that include the deck IDs and deck codes, in the order of the
+	 *         requests.
+	 */
+	public List<DeckResponseModel> generateDecks(final List<DeckRequestModel> deckRequestModels, final CardSource cardSource,
+			final boolean unique, final DeckView deckView, final ForkJoinPool forkJoinPool) {
+		final List<List<CardEntity>> decks = forkJoinPool.submit(() -> deckRequestModels.parallelStream()
+				.map(deckRequestModel -> drawCards(deckRequestModel, cardSource))
+				.collect(Collectors.toList()))
+				.join();
+		if (unique) {
+			redrawDuplicateDecks(deckRequestModels, decks, cardSource);
+		}
+
+		final List<DeckEntity> deckEntities = forkJoinPool.submit(() -> IntStream.range(0, decks.size())
+				.parallel()
+				.mapToObj(i -> mapDeckEntity(deckRequestModels.get(i), generateDeckCode(deckRequestModels.get(i), decks.get(i), cardSource), decks.get(i)))
+				.collect(Collectors.toList()))
+				.join();
+		final List<DeckEntity> savedDeckEntities = deckRepository.saveAll(deckEntities);
+		savedDeckEntities.forEach(deckEntity -> {
+			deckETagIndex.put(deckEntity.getId(), deckEntity.getDeckCode());
+			deckCache.invalidate(deckEntity.getId());
+		});
+
+		return forkJoinPool.submit(() -> IntStream.range(0, savedDeckEntities.size())
+				.parallel()
+				.mapToObj(i -> mapDeckResponseModel(deckRequestModels.get(i), savedDeckEntities.get(i), decks.get(i), deckView))
+				.collect(Collectors.toList()))
+				.join();
+	}
+
+	/**
+	 * Retrieves the deck with the given ID from the {@link DeckCache}, loading it from the database on a miss.
 	 *
 	 * @param id
 	 *            ID of the deck to retrieve from the already generated decks.
-	 * @return {@link DeckResponseModel} The response that includes the deck ID and deck code.
+	 * @return {@link DeckResponseModel} The response that includes the deck ID and deck code, or an empty optional if
+	 *         there is no deck with the ID.
 	 */
-	public DeckResponseModel getDeck(final Integer id) {
-		final DeckEntity deckEntity = deckRepository.findById(id).orElseThrow(() -> new IllegalStateException(""));
-		final DeckResponseModel deckResponseModel = new DeckResponseModel();
-		deckResponseModel.setId(deckEntity.getId());
-		deckResponseModel.setDeckCode(deckEntity.getDeckCode());
-		deckResponseModel.setCards(mapCardEntityToModel(deckEntity.getCards()));
-		deckResponseModel.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
-		return deckResponseModel;
+	public Optional<DeckResponseModel> getDeck(final Integer id) {
+		return deckCache.get(id, this::loadDeck);
+	}
+
+	/**
+	 * Retrieves the deck with the given ID from the {@link DeckCache}, holding only the card attributes of the view. The
+	 * cache holds the full decks, which are copied for the smaller views.
+	 *
+	 * @param id
+	 *            ID of the deck to retrieve from the already generated decks.
+	 * @param deckView
+	 *            {@link DeckView} The card attributes the response holds.
+	 * @return {@link DeckResponseModel} The response that includes the deck ID and deck code, or an empty optional if
+	 *         there is no deck with the ID.
+	 */
+	public Optional<DeckResponseModel> getDeck(final Integer id, final DeckView deckView) {
+		final Optional<DeckResponseModel> deck = getDeck(id);
+		if (deckView == DeckView.FULL) {
+			return deck;
+		}
+		return deck.map(fullDeck -> {
+			final DeckResponseModel deckResponseModel = new DeckResponseModel();
+			deckResponseModel.setId(fullDeck.getId());
+			deckResponseModel.setDeckCode(fullDeck.getDeckCode());
+			deckResponseModel.setStatus(fullDeck.getStatus());
+			deckResponseModel.setCards(fullDeck.getCards().stream()
+					.map(card -> CardModelUtil.toCardModel(card, deckView))
+					.collect(Collectors.toList()));
+			return deckResponseModel;
+		});
 	}
 
 	/**
@@ -108,24 +230,97 @@ public class DeckGeneratorService {
 	 */
 	public void deleteDeck(final Integer id) {
 		deckRepository.deleteById(id);
+		deckCache.invalidate(id);
+		deckETagIndex.remove(id);
+	}
+
+	private Optional<DeckResponseModel> loadDeck(final Integer id) {
+		return deckRepository.findWithCardsById(id).map(deckEntity -> {
+			deckETagIndex.put(deckEntity.getId(), deckEntity.getDeckCode());
+			final DeckResponseModel deckResponseModel = new DeckResponseModel();
+			deckResponseModel.setId(deckEntity.getId());
+			deckResponseModel.setDeckCode(deckEntity.getDeckCode());
+			deckResponseModel.setCards(CardModelUtil.toCardModels(deckEntity.getCards(), DeckView.FULL));
+			deckResponseModel.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+			return deckResponseModel;
+		});
+	}
+
+	/**
+	 * Replaces the decks that are identical to an earlier deck of the batch with newly drawn decks. Identical decks are
+	 * rare, so the replacements are drawn sequentially.
+	 */
+	private void redrawDuplicateDecks(final List<DeckRequestModel> deckRequestModels, final List<List<CardEntity>> decks,
+			final CardSource cardSource) {
+		final Set<String> deckKeys = new HashSet<>();
+		for (int i = 0; i < decks.size(); i++) {
+			final DeckRequestModel deckRequestModel = deckRequestModels.get(i);
+			int attempts = 0;
+			while (!deckKeys.add(mapDeckKey(deckRequestModel, decks.get(i)))) {
+				if (++attempts > MAX_UNIQUE_DECK_ATTEMPTS) {
+					throw new IllegalStateException("Unable to generate " + decks.size() + " unique decks: the request " + deckRequestModel
+							+ " does not allow enough distinct decks.");
+				}
+				decks.set(i, drawCards(deckRequestModel, cardSource));
+			}
+		}
 	}
 
-	private List<CardModel> mapCardEntityToModel(final List<CardEntity> cards) {
-		final ModelMapper modelMapper = new ModelMapper();
-		modelMapper.typeMap(CardEntity.class, CardModel.class).addMappings(mapper -> {
-			mapper.map(src -> src.getClassMetadata().getId(), CardModel::setClassId);
-			mapper.map(src -> src.getSetMetadata().getId(), CardModel::setCardSetId);
-			mapper.map(src -> src.getTypeMetadata().getId(), CardModel::setCardTypeId);
+	private List<CardEntity> drawCards(final DeckRequestModel deckRequestModel, final CardSource cardSource) {
+		final List<CardEntity> cards = new ArrayList<>();
+		deckRequestModel.getDeckSets().forEach(deckSet -> {
+			if (deckSet.getSetName().equals(DeckSetModel.CUSTOM_SET_USE_ALL)) {
+				if (GameFormat.valueOf(deckRequestModel.getGameFormat().toUpperCase()) == GameFormat.STANDARD) {
+					cards.addAll(sample(deckRequestModel, () -> cardSource.getRandomStandardCards(deckRequestModel.getClassName(), deckSet.getClassSetCount())));
+					cards.addAll(sample(deckRequestModel, () -> cardSource.getRandomStandardCards(NEUTRAL_CLASS_SLUG_NAME, deckSet.getNeutralSetCount())));
+				} else {
+					cards.addAll(sample(deckRequestModel, () -> cardSource.getRandomCards(deckRequestModel.getClassName(), deckSet.getClassSetCount())));
+					cards.addAll(sample(deckRequestModel, () -> cardSource.getRandomCards(NEUTRAL_CLASS_SLUG_NAME, deckSet.getNeutralSetCount())));
+				}
+			} else {
+				cards.addAll(sample(deckRequestModel,
+						() -> cardSource.getRandomSetCards(deckSet.getSetName(), deckRequestModel.getClassName(), deckSet.getClassSetCount())));
+				cards.addAll(sample(deckRequestModel,
+						() -> cardSource.getRandomSetCards(deckSet.getSetName(), NEUTRAL_CLASS_SLUG_NAME, deckSet.getNeutralSetCount())));
+			}
 		});
+		return cards;
+	}
 
-		return cards.stream()
-				.map(cardEntity -> modelMapper.map(cardEntity, CardModel.class))
-				.collect(Collectors.toList());
+	private List<CardEntity> sample(final DeckRequestModel deckRequestModel, final Supplier<List<CardEntity>> draw) {
+		RequestDeadline.check("drawing cards");
+		return deckMetrics.record(Stage.CARD_SAMPLING, deckRequestModel, draw);
+	}
+
+	private String generateDeckCode(final DeckRequestModel deckRequestModel, final List<CardEntity> cards, final CardSource cardSource) {
+		return deckMetrics.record(Stage.DECK_CODE, deckRequestModel, () -> DeckCodeGeneratorUtil.generateDeckCode(cards,
+				cardSource.getHeroCardId(deckRequestModel.getClassName()), deckRequestModel.getGameFormat()));
+	}
+
+	/**
+	 * The deck code encodes the cards in hash set order, so identical decks are compared on their sorted card IDs.
+	 */
+	private static String mapDeckKey(final DeckRequestModel deckRequestModel, final List<CardEntity> cards) {
+		return deckRequestModel.getClassName() + '/' + deckRequestModel.getGameFormat().toLowerCase() + '/'
+				+ Arrays.toString(cards.stream().mapToInt(CardEntity::getId).sorted().toArray());
+	}
+
+	private DeckResponseModel mapDeckResponseModel(final DeckRequestModel deckRequestModel, final DeckEntity deckEntity, final List<CardEntity> cards,
+			final DeckView deckView) {
+		return deckMetrics.record(Stage.MAPPING, deckRequestModel, () -> {
+			final DeckResponseModel deckResponseModel = new DeckResponseModel();
+			deckResponseModel.setDeckCode(deckEntity.getDeckCode());
+			deckResponseModel.setCards(CardModelUtil.toCardModels(cards, deckView));
+			deckResponseModel.setId(deckEntity.getId());
+			deckResponseModel.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+			return deckResponseModel;
+		});
 	}
 
-	private DeckEntity mapDeckEntity(final DeckRequestModel deckRequestModel, final DeckResponseModel deckResponseModel) {
+	private DeckEntity mapDeckEntity(final DeckRequestModel deckRequestModel, final String deckCode, final List<CardEntity> cards) {
 		final DeckEntity deckEntity = new DeckEntity();
-		deckEntity.setDeckCode(deckResponseModel.getDeckCode());
+		deckEntity.setDeckCode(deckCode);
+		deckEntity.setCards(cards);
 		deckEntity.setClassName(deckRequestModel.getClassName());
 		deckEntity.setGameFormat(GameFormat.valueOf(deckRequestModel.getGameFormat().toUpperCase()));
 		return deckEntity;
@@ -0,0 +1,322 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.zachsand.hs.deck.generator.config.DeckIdempotencyConfig;
+import com.github.zachsand.hs.deck.generator.data.entity.IdempotencyKeyEntity;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.repository.IdempotencyKeyRepository;
+
+/**
+ * Idempotency keys of the deck generation requests, so that a client retrying a request does not generate a second
+ * deck. The first request with a key {@link #claim(String, int) claims} it, generates the deck and
+ * {@link #complete(Claim, int) completes} the claim with the deck ID, or {@link #abandon(Claim) abandons} it if no deck
+ * was generated.
+ * <p>
+ * The keys are kept in a bounded in-memory cache of their pending deck IDs, so that concurrent requests with the same key
+ * wait for the deck of the first one, and in the {@link IdempotencyKeyRepository} so that later requests find the deck
+ * after the key was evicted, after a restart or on another node. The key is inserted in the repository when it is
+ * claimed, so a request with the key on another node finds it {@link ClaimState#IN_PROGRESS in progress} instead of
+ * generating a second deck. A key maps to the deck ID and the {@link #requestHash(DeckRequestModel) request hash} only,
+ * and the repeated response is built from the stored deck. Keys expire after {@link DeckIdempotencyConfig#getTtl()}.
+ * </p>
+ */
+@Service
+public class DeckIdempotencyService {
+
+	/**
+	 * The longest idempotency key accepted.
+	 */
+	public static final int MAX_KEY_LENGTH = 255;
+
+	private static final Logger LOGGER = LogManager.getLogger(DeckIdempotencyService.class);
+
+	/**
+	 * Writes the deck requests with their properties sorted, so that equal requests always hash the same.
+	 */
+	private static final ObjectWriter CANONICAL_WRITER = JsonMapper.builder()
+			.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+			.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+			.build()
+			.writerFor(DeckRequestModel.class);
+
+	/**
+	 * State of an idempotency key for a request claiming it.
+	 */
+	public enum ClaimState {
+		/** The key is new, the request generates the deck. */
+		NEW,
+		/** A deck was already generated for the key and is returned again. */
+		REPLAY,
+		/** A request with the key is generating its deck on another node. */
+		IN_PROGRESS,
+		/** The key was used for a different request. */
+		MISMATCH
+	}
+
+	/**
+	 * Outcome of claiming an idempotency key.
+	 */
+	public static final class Claim {
+
+		private static final Claim MISMATCH = new Claim(ClaimState.MISMATCH, 0, null, null);
+		private static final Claim IN_PROGRESS = new Claim(ClaimState.IN_PROGRESS, 0, null, null);
+
+		private final ClaimState state;
+		private final int deckId;
+		private final String key;
+		private final PendingDeck pendingDeck;
+
+		private Claim(final ClaimState state, final int deckId, final String key, final PendingDeck pendingDeck) {
+			this.state = state;
+			this.deckId = deckId;
+			this.key = key;
+			this.pendingDeck = pendingDeck;
+		}
+
+		private static Claim replay(final int deckId) {
+			return new Claim(ClaimState.REPLAY, deckId, null, null);
+		}
+
+		/**
+		 * @return The {@link ClaimState} of the key.
+		 */
+		public ClaimState getState() {
+			return state;
+		}
+
+		/**
+		 * @return The ID of the deck generated for the key, when it is replayed.
+		 */
+		public int getDeckId() {
+			return deckId;
+		}
+	}
+
+	/**
+	 * Pending or generated deck of a key, with the hash of the request that claimed it.
+	 */
+	private static final class PendingDeck {
+
+		private final String requestHash;
+		private final CompletableFuture<Optional<Integer>> deckId = new CompletableFuture<>();
+
+		private PendingDeck(final String requestHash) {
+			this.requestHash = requestHash;
+		}
+	}
+
+	private final IdempotencyKeyRepository idempotencyKeyRepository;
+	private final Duration ttl;
+	private final Duration claimTimeout;
+	private final long purgeIntervalNanos;
+	private final Cache<String, PendingDeck> pendingDecks;
+	private final AtomicLong lastPurgeNanos = new AtomicLong(System.nanoTime());
+
+	/**
+	 * Constructs the deck idempotency service.
+	 *
+	 * @param idempotencyKeyRepository
+	 *            {@link IdempotencyKeyRepository} Repository of the generated decks of the keys.
+	 * @param deckIdempotencyConfig
+	 *            The {@link DeckIdempotencyConfig} for sizing and expiring the keys.
+	 */
+	public DeckIdempotencyService(final IdempotencyKeyRepository idempotencyKeyRepository, final DeckIdempotencyConfig deckIdempotencyConfig) {
+		this.idempotencyKeyRepository = idempotencyKeyRepository;
+		this.ttl = deckIdempotencyConfig.getTtl();
+		this.claimTimeout = deckIdempotencyConfig.getClaimTimeout();
+		this.purgeIntervalNanos = deckIdempotencyConfig.getPurgeInterval().toNanos();
+		this.pendingDecks = Caffeine.newBuilder()
+				.maximumSize(deckIdempotencyConfig.getMaximumSize())
+				.expireAfterWrite(ttl)
+				.build();
+	}
+
+	/**
+	 * Hashes a deck request with SHA-256 over its canonical JSON form, to recognize a key reused for a different request.
+	 *
+	 * @param deckRequestModel
+	 *            The deck request.
+	 * @return The hexadecimal SHA-256 hash of the request.
+	 */
+	public static String requestHash(final DeckRequestModel deckRequestModel) {
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(CANONICAL_WRITER.writeValueAsBytes(deckRequestModel));
+			return String.format("%064x", new BigInteger(1, digest));
+		} catch (final NoSuchAlgorithmException | JsonProcessingException e) {
+			throw new IllegalStateException("Error encountered while hashing the deck request", e);
+		}
+	}
+
+	/**
+	 * Claims an idempotency key for a request. If another request with the key is generating its deck, waits for it until
+	 * the {@link RequestDeadline} of the request.
+	 *
+	 * @param key
+	 *            The idempotency key sent by the client.
+	 * @param requestHash
+	 *            The {@link #requestHash(DeckRequestModel) hash} of the deck request, to recognize a key reused for a
+	 *            different request.
+	 * @return The {@link Claim} of the key. A {@link ClaimState#NEW} claim must be {@link #complete(Claim, int)
+	 *         completed} or {@link #abandon(Claim) abandoned}.
+	 * @throws DeadlineExceededException
+	 *             If the deadline passes while waiting for the deck of another request.
+	 */
+	public Claim claim(final String key, final String requestHash) {
+		while (true) {
+			final PendingDeck claimed = new PendingDeck(requestHash);
+			final PendingDeck pendingDeck = pendingDecks.asMap().putIfAbsent(key, claimed);
+			if (pendingDeck == null) {
+				return claimStored(key, claimed);
+			}
+			if (!pendingDeck.requestHash.equals(requestHash)) {
+				return Claim.MISMATCH;
+			}
+			final Optional<Integer> deckId = await(pendingDeck);
+			if (deckId.isPresent()) {
+				return Claim.replay(deckId.get());
+			}
+			/* The first request did not generate a deck, so the key is claimed again */
+		}
+	}
+
+	/**
+	 * Completes a {@link ClaimState#NEW} claim with the deck generated for it, releasing the requests waiting for it, and
+	 * stores the deck of the key, even when the {@link RequestDeadline} of the request has passed.
+	 *
+	 * @param claim
+	 *            The claim of the key.
+	 * @param deckId
+	 *            The ID of the generated deck.
+	 */
+	public void complete(final Claim claim, final int deckId) {
+		claim.pendingDeck.deckId.complete(Optional.of(deckId));
+		try {
+			/* The deck is committed, so storing its key must not be cancelled by the request deadline */
+			RequestDeadline.suspend(() -> {
+				idempotencyKeyRepository.complete(claim.key, deckId);
+				purgeExpired();
+			});
+		} catch (final RuntimeException e) {
+			/* The deck is generated either way, only later requests on other nodes or after eviction generate it again */
+			LOGGER.warn("Error encountered while storing idempotency key {}", claim.key, e);
+		}
+	}
+
+	/**
+	 * Abandons a {@link ClaimState#NEW} claim for which no deck was generated, so that the next request with the key
+	 * generates it, even when the {@link RequestDeadline} of the request has passed.
+	 *
+	 * @param claim
+	 *            The claim of the key.
+	 */
+	public void abandon(final Claim claim) {
+		release(claim.key, claim.pendingDeck);
+		try {
+			RequestDeadline.suspend(() -> idempotencyKeyRepository.deletePending(claim.key));
+		} catch (final RuntimeException e) {
+			/* The key stays claimed in the database until the claim timeout */
+			LOGGER.warn("Error encountered while releasing idempotency key {}", claim.key, e);
+		}
+	}
+
+	private void release(final String key, final PendingDeck pendingDeck) {
+		pendingDecks.asMap().remove(key, pendingDeck);
+		pendingDeck.deckId.complete(Optional.empty());
+	}
+
+	/**
+	 * Claims the key in the repository by inserting it. When another request stored the key first, whether on this node
+	 * before a restart or on another node, the insert conflicts and the stored key is read instead.
+	 */
+	private Claim claimStored(final String key, final PendingDeck claimed) {
+		try {
+			while (true) {
+				final Optional<IdempotencyKeyEntity> stored = idempotencyKeyRepository.findById(key);
+				if (stored.isEmpty()) {
+					if (insert(key, claimed.requestHash)) {
+						return new Claim(ClaimState.NEW, 0, key, claimed);
+					}
+					/* Another request inserted the key since it was read */
+					continue;
+				}
+				final IdempotencyKeyEntity storedKey = stored.get();
+				final Instant cutoff = Instant.now().minus(storedKey.getDeckId() == null ? claimTimeout : ttl);
+				if (storedKey.getCreatedAt().isBefore(cutoff)) {
+					idempotencyKeyRepository.deleteByKeyCreatedBefore(key, cutoff);
+					continue;
+				}
+				if (!storedKey.getRequestHash().equals(claimed.requestHash)) {
+					release(key, claimed);
+					return Claim.MISMATCH;
+				}
+				if (storedKey.getDeckId() == null) {
+					release(key, claimed);
+					return Claim.IN_PROGRESS;
+				}
+				claimed.deckId.complete(Optional.of(storedKey.getDeckId()));
+				return Claim.replay(storedKey.getDeckId());
+			}
+		} catch (final RuntimeException e) {
+			release(key, claimed);
+			throw e;
+		}
+	}
+
+	private boolean insert(final String key, final String requestHash) {
+		try {
+			idempotencyKeyRepository.saveAndFlush(new IdempotencyKeyEntity(key, null, requestHash, Instant.now()));
+			return true;
+		} catch (final DataIntegrityViolationException e) {
+			return false;
+		}
+	}
+
+	private static Optional<Integer> await(final PendingDeck pendingDeck) {
+		RequestDeadline.check("waiting for the deck of the idempotency key");
+		try {
+			return pendingDeck.deckId.get(RequestDeadline.remainingNanos(), TimeUnit.NANOSECONDS);
+		} catch (final TimeoutException e) {
+			RequestDeadline.check("receiving the deck of the idempotency key");
+			throw new DeadlineExceededException("Timed out waiting for the deck of the idempotency key");
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the deck of the idempotency key", e);
+		} catch (final ExecutionException e) {
+			throw new IllegalStateException("Error encountered while waiting for the deck of the idempotency key", e.getCause());
+		}
+	}
+
+	private void purgeExpired() {
+		final long now = System.nanoTime();
+		final long lastPurge = lastPurgeNanos.get();
+		if (now - lastPurge < purgeIntervalNanos || !lastPurgeNanos.compareAndSet(lastPurge, now)) {
+			return;
+		}
+		final int purged = idempotencyKeyRepository.deleteCreatedBefore(Instant.now().minus(ttl));
+		LOGGER.debug("Purged {} expired idempotency keys", purged);
+	}
+}
@@ -0,0 +1,142 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel.JobPriority;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel.JobState;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+
+/**
+ * An asynchronous deck generation job. Jobs are ordered by priority, then by submission, on the job executor.
+ * <p>
+ * Only the ID and the deck code of each generated deck are kept, in two arrays, which the worker fills before
+ * publishing the progress. The full decks can be retrieved by ID.
+ * </p>
+ */
+final class DeckJob implements Runnable, Comparable<DeckJob> {
+
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	private final String id;
+	private final JobPriority priority;
+	private final long sequence = SEQUENCE.incrementAndGet();
+	private final List<DeckRequestModel> deckRequestModels;
+	private final Consumer<DeckJob> worker;
+	private final int[] deckIds;
+	private final String[] deckCodes;
+	private final AtomicInteger completed = new AtomicInteger();
+	private final AtomicReference<JobState> state = new AtomicReference<>(JobState.QUEUED);
+	private volatile boolean cancelRequested;
+	private volatile String error;
+
+	DeckJob(final String id, final JobPriority priority, final List<DeckRequestModel> deckRequestModels, final Consumer<DeckJob> worker) {
+		this.id = id;
+		this.priority = priority;
+		this.deckRequestModels = deckRequestModels;
+		this.worker = worker;
+		this.deckIds = new int[deckRequestModels.size()];
+		this.deckCodes = new String[deckRequestModels.size()];
+	}
+
+	@Override
+	public void run() {
+		if (state.compareAndSet(JobState.QUEUED, JobState.RUNNING)) {
+			worker.accept(this);
+		}
+	}
+
+	@Override
+	public int compareTo(final DeckJob other) {
+		final int byPriority = priority.compareTo(other.priority);
+		return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+	}
+
+	String getId() {
+		return id;
+	}
+
+	List<DeckRequestModel> getDeckRequestModels() {
+		return deckRequestModels;
+	}
+
+	/**
+	 * Records the generated decks following the ones already completed, then publishes the new progress.
+	 */
+	void addDecks(final List<DeckResponseModel> decks) {
+		int index = completed.get();
+		for (final DeckResponseModel deck : decks) {
+			deckIds[index] = deck.getId();
+			deckCodes[index] = deck.getDeckCode();
+			index++;
+		}
+		completed.set(index);
+	}
+
+	boolean isCancelRequested() {
+		return cancelRequested;
+	}
+
+	/**
+	 * Cancels the job. A queued job is cancelled immediately, a running job once its current chunk is generated.
+	 *
+	 * @return {@code true} if the job was still queued.
+	 */
+	boolean cancel() {
+		if (state.compareAndSet(JobState.QUEUED, JobState.CANCELLED)) {
+			return true;
+		}
+		cancelRequested = true;
+		return false;
+	}
+
+	void finish(final JobState finalState) {
+		state.compareAndSet(JobState.RUNNING, finalState);
+	}
+
+	void fail(final String message) {
+		error = message;
+		finish(JobState.FAILED);
+	}
+
+	boolean isFinished() {
+		final JobState current = state.get();
+		return current != JobState.QUEUED && current != JobState.RUNNING;
+	}
+
+	/**
+	 * @return The current state of the job. The decks are included once the job has completed or was cancelled.
+	 */
+	DeckJobResponseModel toDeckJobResponseModel() {
+		final JobState current = state.get();
+		final int done = completed.get();
+		final DeckJobResponseModel deckJobResponseModel = new DeckJobResponseModel();
+		deckJobResponseModel.setId(id);
+		deckJobResponseModel.setState(current.name());
+		deckJobResponseModel.setPriority(priority.name());
+		deckJobResponseModel.setTotal(deckIds.length);
+		deckJobResponseModel.setCompleted(done);
+		deckJobResponseModel.setStatus(current == JobState.FAILED
+				? new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(), Collections.singletonList(error))
+				: DeckResponseStatus.SUCCESS_RESPONSE);
+		if (current == JobState.COMPLETED || current == JobState.CANCELLED) {
+			final List<DeckResponseModel> decks = new ArrayList<>(done);
+			for (int i = 0; i < done; i++) {
+				final DeckResponseModel deck = new DeckResponseModel();
+				deck.setId(deckIds[i]);
+				deck.setDeckCode(deckCodes[i]);
+				decks.add(deck);
+			}
+			deckJobResponseModel.setDecks(decks);
+		}
+		return deckJobResponseModel;
+	}
+}
@@ -0,0 +1,182 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.zachsand.hs.deck.generator.config.DeckBatchConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckJobConfig;
+import com.github.zachsand.hs.deck.generator.config.ExecutorConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel.JobPriority;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel.JobState;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+
+/**
+ * Service for running deck batches as asynchronous jobs, for batches too large to be generated within a request.
+ * <p>
+ * Jobs run on a dedicated executor ordered by priority, and generate and persist their decks a chunk at a time so they
+ * only hold a database connection while a chunk is saved. The number of waiting jobs is bounded. Running jobs are kept
+ * until they finish, finished jobs expire after {@link DeckJobConfig#getTtl()}.
+ * </p>
+ */
+@Service
+public class DeckJobService {
+
+	private static final Logger LOGGER = LogManager.getLogger(DeckJobService.class);
+
+	private final DeckBatchService deckBatchService;
+	private final CardCatalogService cardCatalogService;
+	private final DeckBatchConfig deckBatchConfig;
+	private final DeckJobConfig deckJobConfig;
+	private final ThreadPoolExecutor deckJobExecutor;
+	private final ForkJoinPool deckJobPool;
+	private final Cache<String, DeckJob> jobs;
+
+	/**
+	 * Constructs the deck job service.
+	 *
+	 * @param deckBatchService
+	 *            {@link DeckBatchService} Service generating the chunks of the jobs.
+	 * @param cardCatalogService
+	 *            {@link CardCatalogService} Service holding the in-memory card catalog.
+	 * @param deckBatchConfig
+	 *            {@link DeckBatchConfig} The deck batch configuration, for the chunk size.
+	 * @param deckJobConfig
+	 *            {@link DeckJobConfig} The deck job configuration.
+	 * @param deckJobExecutor
+	 *            The executor to run the jobs on.
+	 * @param deckJobPool
+	 *            The fork-join pool to generate the chunks of the jobs on.
+	 */
+	public DeckJobService(final DeckBatchService deckBatchService, final CardCatalogService cardCatalogService,
+			final DeckBatchConfig deckBatchConfig, final DeckJobConfig deckJobConfig,
+			@Qualifier(ExecutorConfig.DECK_JOB_EXECUTOR) final ThreadPoolExecutor deckJobExecutor,
+			@Qualifier(ExecutorConfig.DECK_JOB_POOL) final ForkJoinPool deckJobPool) {
+		this.deckBatchService = deckBatchService;
+		this.cardCatalogService = cardCatalogService;
+		this.deckBatchConfig = deckBatchConfig;
+		this.deckJobConfig = deckJobConfig;
+		this.deckJobExecutor = deckJobExecutor;
+		this.deckJobPool = deckJobPool;
+		final long ttlNanos = deckJobConfig.getTtl().toNanos();
+		this.jobs = Caffeine.newBuilder()
+				.expireAfter(new Expiry<String, DeckJob>() {
+
+					@Override
+					public long expireAfterCreate(final String id, final DeckJob job, final long currentTime) {
+						return job.isFinished() ? ttlNanos : Long.MAX_VALUE;
+					}
+
+					@Override
+					public long expireAfterUpdate(final String id, final DeckJob job, final long currentTime, final long currentDuration) {
+						return expireAfterCreate(id, job, currentTime);
+					}
+
+					@Override
+					public long expireAfterRead(final String id, final DeckJob job, final long currentTime, final long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.scheduler(Scheduler.systemScheduler())
+				.build();
+	}
+
+	/**
+	 * Validates the deck batch request of a job. Jobs are generated in chunks, so unique decks are not supported.
+	 *
+	 * @param deckBatchRequestModel
+	 *            {@link DeckBatchRequestModel} request containing the data to validate.
+	 * @return {@link DeckResponseStatus}.
+	 */
+	public DeckResponseStatus validateDeckJobRequest(final DeckBatchRequestModel deckBatchRequestModel) {
+		return deckBatchService.validateDeckChunkedRequest(deckBatchRequestModel, deckJobConfig.getMaxSize());
+	}
+
+	/**
+	 * Queues a job generating the decks of the validated batch request.
+	 *
+	 * @param deckBatchRequestModel
+	 *            {@link DeckBatchRequestModel} The validated batch request.
+	 * @param priority
+	 *            The {@link JobPriority} of the job.
+	 * @return The queued job, or an empty optional if too many jobs are waiting.
+	 */
+	public synchronized Optional<DeckJobResponseModel> submitJob(final DeckBatchRequestModel deckBatchRequestModel, final JobPriority priority) {
+		if (deckJobExecutor.getQueue().size() >= deckJobConfig.getQueueCapacity()) {
+			return Optional.empty();
+		}
+		final DeckJob job = new DeckJob(UUID.randomUUID().toString(), priority, DeckBatchService.expandRequests(deckBatchRequestModel),
+				this::runJob);
+		jobs.put(job.getId(), job);
+		deckJobExecutor.execute(job);
+		return Optional.of(job.toDeckJobResponseModel());
+	}
+
+	/**
+	 * Retrieves the state of the job, with its decks once it has completed.
+	 *
+	 * @param id
+	 *            The ID of the job.
+	 * @return The job, or an empty optional if there is no job with the ID or it has expired.
+	 */
+	public Optional<DeckJobResponseModel> getJob(final String id) {
+		return Optional.ofNullable(jobs.getIfPresent(id)).map(DeckJob::toDeckJobResponseModel);
+	}
+
+	/**
+	 * Cancels the job. A queued job is removed from the queue, a running job stops after its current chunk and keeps
+	 * the decks generated so far. Finished jobs are left as they are.
+	 *
+	 * @param id
+	 *            The ID of the job.
+	 * @return The job, or an empty optional if there is no job with the ID or it has expired.
+	 */
+	public Optional<DeckJobResponseModel> cancelJob(final String id) {
+		final DeckJob job = jobs.getIfPresent(id);
+		if (job == null) {
+			return Optional.empty();
+		}
+		if (job.cancel()) {
+			deckJobExecutor.remove(job);
+			jobs.put(id, job);
+		}
+		return Optional.of(job.toDeckJobResponseModel());
+	}
+
+	private void runJob(final DeckJob job) {
+		final List<DeckRequestModel> deckRequestModels = job.getDeckRequestModels();
+		final int chunkSize = deckBatchConfig.getStreamChunkSize();
+		try {
+			final CardSource cardSource = cardCatalogService.getCardSource();
+			for (int from = 0; from < deckRequestModels.size(); from += chunkSize) {
+				if (job.isCancelRequested()) {
+					job.finish(JobState.CANCELLED);
+					return;
+				}
+				final List<DeckRequestModel> chunk = deckRequestModels.subList(from, Math.min(from + chunkSize, deckRequestModels.size()));
+				job.addDecks(deckBatchService.generateDeckChunk(chunk, cardSource, DeckView.CODE, deckJobPool));
+			}
+			job.finish(JobState.COMPLETED);
+		} catch (final RuntimeException e) {
+			LOGGER.error("Deck job {} failed", job.getId(), e);
+			job.fail(e.getMessage());
+		} finally {
+			jobs.put(job.getId(), job);
+		}
+	}
+}
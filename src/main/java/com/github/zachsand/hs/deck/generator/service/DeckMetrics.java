@@ -0,0 +1,231 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.GameFormat;
+import com.github.zachsand.hs.deck.generator.jfr.DeckStageEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Timers of the stages of deck generation, tagged with the shape of the request: its game format and number of deck
+ * sets. Each stage is also recorded as a {@link DeckStageEvent} when a flight recording is running, and added to the
+ * {@link StageTimings} of the request when they are started.
+ * <p>
+ * The tags are resolved to a fixed set of values, so that requests with unknown game formats or many deck sets do not
+ * create new meters. All the meters are registered up front and are looked up by index on each request.
+ * </p>
+ */
+@Component
+public class DeckMetrics {
+
+	/**
+	 * Name of the timers of the stages.
+	 */
+	public static final String STAGE_TIMER_NAME = "deck.generation.stage";
+
+	/**
+	 * Name of the counter of the requests failing validation.
+	 */
+	public static final String REJECTED_COUNTER_NAME = "deck.generation.rejected";
+
+	/**
+	 * Name of the counter of the validations sharing the result of an identical request.
+	 */
+	public static final String COALESCED_COUNTER_NAME = "deck.generation.coalesced";
+
+	/**
+	 * Requests with at least this many deck sets share the last deck set tag.
+	 */
+	static final int MAX_DECK_SETS_TAG = 5;
+
+	private static final String INVALID_GAME_FORMAT_TAG = "invalid";
+	private static final GameFormat[] GAME_FORMATS = GameFormat.values();
+
+	/**
+	 * Stage of deck generation.
+	 */
+	public enum Stage {
+		/** Bean validation of the request and its deck sets. */
+		BEAN_VALIDATION("bean-validation"),
+		/** Checks of the game format, class and set slugs and of the card counts of the sets. */
+		SLUG_CHECKS("slug-checks"),
+		/** A single draw of random cards from the card source. */
+		CARD_SAMPLING("card-sampling"),
+		/** Generation of the deck code. */
+		DECK_CODE("deck-code"),
+		/** Save of the deck to the database. */
+		SAVE("save"),
+		/** Mapping of the drawn cards to the response. */
+		MAPPING("mapping");
+
+		private final String tag;
+
+		Stage(final String tag) {
+			this.tag = tag;
+		}
+
+		/**
+		 * @return The value of the stage tag.
+		 */
+		public String getTag() {
+			return tag;
+		}
+	}
+
+	private final String[] gameFormatTags;
+	private final Timer[][][] timers;
+	private final Counter[][] rejected;
+	private final Counter coalesced;
+
+	/**
+	 * Constructs the deck metrics and registers the meters of every stage and request shape.
+	 *
+	 * @param meterRegistry
+	 *            The registry to publish the metrics to.
+	 */
+	public DeckMetrics(final MeterRegistry meterRegistry) {
+		final Stage[] stages = Stage.values();
+		gameFormatTags = new String[GAME_FORMATS.length + 1];
+		timers = new Timer[stages.length][GAME_FORMATS.length + 1][MAX_DECK_SETS_TAG + 1];
+		rejected = new Counter[GAME_FORMATS.length + 1][MAX_DECK_SETS_TAG + 1];
+		for (int format = 0; format <= GAME_FORMATS.length; format++) {
+			final String gameFormatTag = format < GAME_FORMATS.length ? GAME_FORMATS[format].name().toLowerCase() : INVALID_GAME_FORMAT_TAG;
+			gameFormatTags[format] = gameFormatTag;
+			for (int deckSets = 0; deckSets <= MAX_DECK_SETS_TAG; deckSets++) {
+				final String deckSetsTag = deckSets < MAX_DECK_SETS_TAG ? String.valueOf(deckSets) : MAX_DECK_SETS_TAG + "+";
+				for (final Stage stage : stages) {
+					timers[stage.ordinal()][format][deckSets] = Timer.builder(STAGE_TIMER_NAME)
+							.description("Time spent in a stage of deck generation")
+							.tag("stage", stage.getTag())
+							.tag("game.format", gameFormatTag)
+							.tag("deck.sets", deckSetsTag)
+							.register(meterRegistry);
+				}
+				rejected[format][deckSets] = Counter.builder(REJECTED_COUNTER_NAME)
+						.description("Deck requests failing validation")
+						.tag("game.format", gameFormatTag)
+						.tag("deck.sets", deckSetsTag)
+						.register(meterRegistry);
+			}
+		}
+		coalesced = Counter.builder(COALESCED_COUNTER_NAME)
+				.description("Deck request validations sharing the result of an identical request in progress")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Times a stage for the request.
+	 *
+	 * @param stage
+	 *            The {@link Stage} being timed.
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} The request the stage runs for.
+	 * @param call
+	 *            The work of the stage.
+	 * @return The result of the work.
+	 */
+	public <T> T record(final Stage stage, final DeckRequestModel deckRequestModel, final Supplier<T> call) {
+		final int formatIndex = gameFormatIndex(deckRequestModel);
+		final DeckStageEvent event = new DeckStageEvent();
+		event.begin();
+		final long start = System.nanoTime();
+		try {
+			return call.get();
+		} finally {
+			final long durationNanos = System.nanoTime() - start;
+			timers[stage.ordinal()][formatIndex][deckSetsIndex(deckRequestModel)].record(durationNanos, TimeUnit.NANOSECONDS);
+			StageTimings.add(stage, durationNanos);
+			event.commit(stage.getTag(), gameFormatTags[formatIndex], deckSets(deckRequestModel));
+		}
+	}
+
+	/**
+	 * Times a stage for the request.
+	 *
+	 * @param stage
+	 *            The {@link Stage} being timed.
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} The request the stage runs for.
+	 * @param call
+	 *            The work of the stage.
+	 */
+	public void record(final Stage stage, final DeckRequestModel deckRequestModel, final Runnable call) {
+		record(stage, deckRequestModel, () -> {
+			call.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Retrieves the timer of a stage for the shape of the request.
+	 *
+	 * @param stage
+	 *            The {@link Stage}.
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} The request the stage runs for.
+	 * @return The {@link Timer} of the stage.
+	 */
+	public Timer timer(final Stage stage, final DeckRequestModel deckRequestModel) {
+		return timers[stage.ordinal()][gameFormatIndex(deckRequestModel)][deckSetsIndex(deckRequestModel)];
+	}
+
+	/**
+	 * Resolves the game format tag of the request.
+	 *
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} The request.
+	 * @return The lowercase game format of the request, or {@code invalid} if it is not a {@link GameFormat}.
+	 */
+	public String gameFormatTag(final DeckRequestModel deckRequestModel) {
+		return gameFormatTags[gameFormatIndex(deckRequestModel)];
+	}
+
+	/**
+	 * Counts a request failing validation.
+	 *
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} The rejected request.
+	 */
+	public void recordRejected(final DeckRequestModel deckRequestModel) {
+		rejected[gameFormatIndex(deckRequestModel)][deckSetsIndex(deckRequestModel)].increment();
+	}
+
+	/**
+	 * Counts a validation sharing the result of an identical request in progress.
+	 */
+	public void recordCoalesced() {
+		coalesced.increment();
+	}
+
+	private static int gameFormatIndex(final DeckRequestModel deckRequestModel) {
+		final String gameFormat = deckRequestModel.getGameFormat();
+		for (final GameFormat format : GAME_FORMATS) {
+			if (format.name().equalsIgnoreCase(gameFormat)) {
+				return format.ordinal();
+			}
+		}
+		return GAME_FORMATS.length;
+	}
+
+	private static int deckSetsIndex(final DeckRequestModel deckRequestModel) {
+		return Math.min(deckSets(deckRequestModel), MAX_DECK_SETS_TAG);
+	}
+
+	/**
+	 * @param deckRequestModel
+	 *            {@link DeckRequestModel} The request.
+	 * @return The number of deck sets of the request.
+	 */
+	public static int deckSets(final DeckRequestModel deckRequestModel) {
+		final List<?> deckSets = deckRequestModel.getDeckSets();
+		return deckSets == null ? 0 : deckSets.size();
+	}
+}
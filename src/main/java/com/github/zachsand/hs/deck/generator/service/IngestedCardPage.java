@@ -0,0 +1,71 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+/**
+ * Outcome of the ingestion of a card page by {@link CardService#retrieveAndPersistCardPage(int)}: the time spent in
+ * each stage and what it downloaded and wrote.
+ */
+public final class IngestedCardPage {
+
+	private final long fetchNanos;
+	private final long bytes;
+	private final long parseNanos;
+	private final long persistNanos;
+	private final int cardsWritten;
+
+	/**
+	 * Constructs the outcome of the ingestion of a card page.
+	 *
+	 * @param fetchNanos
+	 *            Time spent downloading the page from the Blizzard API.
+	 * @param bytes
+	 *            Size of the downloaded page.
+	 * @param parseNanos
+	 *            Time spent parsing the page.
+	 * @param persistNanos
+	 *            Time spent mapping and saving the cards of the page.
+	 * @param cardsWritten
+	 *            Number of cards saved.
+	 */
+	public IngestedCardPage(final long fetchNanos, final long bytes, final long parseNanos, final long persistNanos, final int cardsWritten) {
+		this.fetchNanos = fetchNanos;
+		this.bytes = bytes;
+		this.parseNanos = parseNanos;
+		this.persistNanos = persistNanos;
+		this.cardsWritten = cardsWritten;
+	}
+
+	/**
+	 * @return The time spent downloading the page, in nanoseconds.
+	 */
+	public long getFetchNanos() {
+		return fetchNanos;
+	}
+
+	/**
+	 * @return The size of the downloaded page, in bytes.
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * @return The time spent parsing the page, in nanoseconds.
+	 */
+	public long getParseNanos() {
+		return parseNanos;
+	}
+
+	/**
+	 * @return The time spent mapping and saving the cards of the page, in nanoseconds.
+	 */
+	public long getPersistNanos() {
+		return persistNanos;
+	}
+
+	/**
+	 * @return The number of cards saved.
+	 */
+	public int getCardsWritten() {
+		return cardsWritten;
+	}
+}
@@ -0,0 +1,108 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls of a deterministic operation, so that a burst of equal requests computes the
+ * result once. The first call with a key computes the result on its own thread, and the calls with an equal key arriving
+ * while it runs wait for it, until the {@link RequestDeadline} of their request, and share its result. Nothing is kept
+ * once the computation completes, so a later call with the key computes it again.
+ * <p>
+ * A computation that fails is failed for the waiting calls as well, except when the deadline of the computing request
+ * passed, in which case the waiting calls compute the result themselves within their own deadline. The shared results
+ * must not be modified, and the keys must not be modified while they are in use.
+ * </p>
+ *
+ * @param <K>
+ *            The type of the keys identifying equal calls.
+ * @param <V>
+ *            The type of the results.
+ */
+public final class RequestCoalescer<K, V> {
+
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final Runnable onCoalesced;
+
+	/**
+	 * Constructs the request coalescer.
+	 *
+	 * @param onCoalesced
+	 *            Called for each call sharing the result of another, to count them.
+	 */
+	public RequestCoalescer(final Runnable onCoalesced) {
+		this.onCoalesced = onCoalesced;
+	}
+
+	/**
+	 * Computes the result for the key, or waits for the computation of an equal call in progress.
+	 *
+	 * @param key
+	 *            The key identifying equal calls.
+	 * @param call
+	 *            The computation of the result.
+	 * @return The result of this call or of an equal call in progress.
+	 * @throws DeadlineExceededException
+	 *             If the deadline of the request passes while waiting for the result of another call.
+	 */
+	public V execute(final K key, final Supplier<V> call) {
+		while (true) {
+			final CompletableFuture<V> computation = new CompletableFuture<>();
+			final CompletableFuture<V> pending = inFlight.putIfAbsent(key, computation);
+			if (pending == null) {
+				return compute(key, computation, call);
+			}
+			onCoalesced.run();
+			try {
+				return await(pending);
+			} catch (final DeadlineExceededException e) {
+				if (RequestDeadline.isExpired()) {
+					throw e;
+				}
+				/* The deadline of the computing request passed, so the result is computed again within this one */
+			}
+		}
+	}
+
+	/**
+	 * @return The number of computations in progress.
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	private V compute(final K key, final CompletableFuture<V> computation, final Supplier<V> call) {
+		try {
+			final V result = call.get();
+			inFlight.remove(key, computation);
+			computation.complete(result);
+			return result;
+		} catch (final RuntimeException | Error e) {
+			inFlight.remove(key, computation);
+			computation.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private static <V> V await(final CompletableFuture<V> pending) {
+		RequestDeadline.check("waiting for an identical request");
+		try {
+			return pending.get(RequestDeadline.remainingNanos(), TimeUnit.NANOSECONDS);
+		} catch (final TimeoutException e) {
+			throw new DeadlineExceededException("Timed out waiting for an identical request");
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for an identical request", e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Error encountered while waiting for an identical request", e.getCause());
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import java.time.Duration;
+
+/**
+ * Deadline of the request handled by the current thread. The work of the request checks the deadline between its
+ * stages with {@link #check(String)}, and the JDBC statements it executes are given the {@link #remainingNanos()
+ * remaining time} as their timeout, so that a request abandoned by its client stops using the database once its deadline
+ * passes.
+ */
+public final class RequestDeadline {
+
+	private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+	private final long timeoutNanos;
+	private final long deadlineNanos;
+
+	private RequestDeadline(final long timeoutNanos) {
+		this.timeoutNanos = timeoutNanos;
+		this.deadlineNanos = System.nanoTime() + timeoutNanos;
+	}
+
+	/**
+	 * Starts the deadline of the request handled by the current thread, until {@link #stop()} is called.
+	 *
+	 * @param timeout
+	 *            The time the request has from now.
+	 */
+	public static void start(final Duration timeout) {
+		CURRENT.set(new RequestDeadline(timeout.toNanos()));
+	}
+
+	/**
+	 * Stops the deadline of the current thread.
+	 */
+	public static void stop() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Runs work of the current thread without its deadline, which is restored afterwards. Used for the bookkeeping that
+	 * must complete once the result of the request is committed, however little time is left.
+	 *
+	 * @param work
+	 *            The work to run without the deadline.
+	 */
+	public static void suspend(final Runnable work) {
+		final RequestDeadline requestDeadline = CURRENT.get();
+		CURRENT.remove();
+		try {
+			work.run();
+		} finally {
+			if (requestDeadline != null) {
+				CURRENT.set(requestDeadline);
+			}
+		}
+	}
+
+	/**
+	 * @return The nanoseconds left until the deadline of the current thread, negative once it has passed, or
+	 *         {@link Long#MAX_VALUE} if the thread has no deadline.
+	 */
+	public static long remainingNanos() {
+		final RequestDeadline requestDeadline = CURRENT.get();
+		return requestDeadline == null ? Long.MAX_VALUE : requestDeadline.deadlineNanos - System.nanoTime();
+	}
+
+	/**
+	 * @return Whether the current thread has a deadline that has passed.
+	 */
+	public static boolean isExpired() {
+		return remainingNanos() <= 0;
+	}
+
+	/**
+	 * Aborts the work of the current thread if its deadline has passed.
+	 *
+	 * @param work
+	 *            Description of the work about to start, for the exception message.
+	 * @throws DeadlineExceededException
+	 *             If the deadline has passed.
+	 */
+	public static void check(final String work) {
+		final RequestDeadline requestDeadline = CURRENT.get();
+		if (requestDeadline != null && requestDeadline.deadlineNanos - System.nanoTime() <= 0) {
+			throw new DeadlineExceededException("Deadline of " + Duration.ofNanos(requestDeadline.timeoutNanos).toMillis()
+					+ " ms exceeded before " + work);
+		}
+	}
+}
@@ -5,7 +5,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -52,10 +51,10 @@ public class SetGroupMetadataService {
 	}
 
 	/**
-	 * Retrieves all the set group metadata and persists it to the database.
+	 * Retrieves all the set group metadata and persists it to the database. Existing metadata is updated in place, as the
+	 * cards refer to it.
 	 */
 	public void retrieveAndPersistSetGroupMetadata() {
-		setGroupMetadataRepository.deleteAllInBatch();
 		setGroupMetadataRepository.saveAll(retrieveAllSetGroupMetadata());
 	}
 
@@ -69,18 +68,18 @@ public class SetGroupMetadataService {
 	}
 
 	private List<SetGroupMetadataEntity> mapSetGroupModelToEntity(final List<SetGroupMetadataModel> setGroups) {
-		final ModelMapper modelMapper = new ModelMapper();
-		modelMapper
-				.typeMap(SetGroupMetadataModel.class, SetGroupMetadataEntity.class)
-				.addMappings(mapper -> mapper.skip(SetGroupMetadataEntity::setCardSets));
-
 		return setGroups.stream()
-				.map(setGroupModel -> mapSetGroupModelToEntityHelper(setGroupModel, modelMapper))
+				.map(this::mapSetGroupModelToEntityHelper)
 				.collect(Collectors.toList());
 	}
 
-	private SetGroupMetadataEntity mapSetGroupModelToEntityHelper(final SetGroupMetadataModel setGroupModel, final ModelMapper modelMapper) {
-		final SetGroupMetadataEntity setGroupMetadata = modelMapper.map(setGroupModel, SetGroupMetadataEntity.class);
+	private SetGroupMetadataEntity mapSetGroupModelToEntityHelper(final SetGroupMetadataModel setGroupModel) {
+		final SetGroupMetadataEntity setGroupMetadata = new SetGroupMetadataEntity();
+		setGroupMetadata.setSlug(setGroupModel.getSlug());
+		setGroupMetadata.setYear(setGroupModel.getYear());
+		setGroupMetadata.setName(setGroupModel.getName());
+		setGroupMetadata.setStandard(setGroupModel.isStandard());
+		setGroupMetadata.setIcon(setGroupModel.getIcon());
 		setGroupMetadata.setCardSets(setMetadataService.getSetMetadataBySlugNames(setGroupModel.getCardSets()));
 		return setGroupMetadata;
 	}
@@ -47,10 +47,10 @@ public class SetMetadataService {
 	}
 
 	/**
-	 * Retrieves all the set metadata and persists it to the database.
+	 * Retrieves all the set metadata and persists it to the database. Existing metadata is updated in place, as the
+	 * cards refer to it.
 	 */
 	public void retrieveAndPersistSetMetadata() {
-		setMetadataRepository.deleteAllInBatch();
 		setMetadataRepository.saveAll(retrieveAllSetMetadata());
 	}
 
@@ -0,0 +1,58 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics.Stage;
+
+/**
+ * Durations of the {@link Stage}s of a single request, collected by {@link DeckMetrics} on the thread handling the
+ * request while the timings are started. Stages that run more than once, such as the card sampling, are summed.
+ */
+public final class StageTimings {
+
+	private static final ThreadLocal<StageTimings> CURRENT = new ThreadLocal<>();
+
+	private final long[] nanos = new long[Stage.values().length];
+
+	private StageTimings() {}
+
+	/**
+	 * Starts collecting the stage durations of the current thread, until {@link #stop()} is called.
+	 *
+	 * @return The {@link StageTimings} collecting the durations.
+	 */
+	public static StageTimings start() {
+		final StageTimings stageTimings = new StageTimings();
+		CURRENT.set(stageTimings);
+		return stageTimings;
+	}
+
+	/**
+	 * Stops collecting the stage durations of the current thread.
+	 */
+	public static void stop() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Adds the duration of a stage to the timings of the current thread, if they are started.
+	 *
+	 * @param stage
+	 *            The {@link Stage}.
+	 * @param durationNanos
+	 *            The duration of the stage in nanoseconds.
+	 */
+	static void add(final Stage stage, final long durationNanos) {
+		final StageTimings stageTimings = CURRENT.get();
+		if (stageTimings != null) {
+			stageTimings.nanos[stage.ordinal()] += durationNanos;
+		}
+	}
+
+	/**
+	 * @param stage
+	 *            The {@link Stage}.
+	 * @return The nanoseconds spent in the stage.
+	 */
+	public long getNanos(final Stage stage) {
+		return nanos[stage.ordinal()];
+	}
+}
@@ -48,10 +48,10 @@ public class TypeMetadataService {
 	}
 
 	/**
-	 * Retrieves all the type metadata and persists it to the database.
+	 * Retrieves all the type metadata and persists it to the database. Existing metadata is updated in place, as the
+	 * cards refer to it.
 	 */
 	public void retrieveAndPersistTypeMetadata() {
-		typeMetadataRepository.deleteAllInBatch();
 		typeMetadataRepository.saveAll(retrieveAllTypeMetadata());
 	}
 
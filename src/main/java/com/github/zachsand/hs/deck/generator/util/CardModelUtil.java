@@ -0,0 +1,134 @@
+package com.github.zachsand.hs.deck.generator.util;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+
+/**
+ * Utility class for mapping between the {@link CardEntity} and the {@link CardModel}. The deck responses hold only the
+ * card attributes of a {@link DeckView}. The attributes are copied field by field, so the mapping does not use
+ * reflection.
+ */
+public class CardModelUtil {
+
+	private CardModelUtil() {}
+
+	/**
+	 * Maps the cards to their models, holding only the card attributes of the view.
+	 *
+	 * @param cards
+	 *            The {@link CardEntity} to map.
+	 * @param deckView
+	 *            The {@link DeckView} selecting the card attributes to map.
+	 * @return The {@link CardModel} of the cards, in the same order.
+	 */
+	public static List<CardModel> toCardModels(final List<CardEntity> cards, final DeckView deckView) {
+		switch (deckView) {
+			case CODE:
+				return cards.stream()
+						.map(cardEntity -> toIdCardModel((long) cardEntity.getId()))
+						.collect(Collectors.toList());
+			case SLIM:
+				return cards.stream()
+						.map(CardModelUtil::toSlimCardModel)
+						.collect(Collectors.toList());
+			default:
+				return cards.stream()
+						.map(CardModelUtil::toFullCardModel)
+						.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Maps the card model of the Blizzard API to a card entity. The metadata of the card are left to the caller, since
+	 * they are resolved from the metadata services.
+	 *
+	 * @param cardModel
+	 *            The {@link CardModel} to map.
+	 * @return The {@link CardEntity} holding the attributes of the card model, without its metadata.
+	 */
+	public static CardEntity toCardEntity(final CardModel cardModel) {
+		final CardEntity cardEntity = new CardEntity();
+		cardEntity.setId(cardModel.getId() == null ? null : cardModel.getId().intValue());
+		cardEntity.setCollectible(cardModel.getCollectible());
+		cardEntity.setSlug(cardModel.getSlug());
+		cardEntity.setRarityId(cardModel.getRarityId());
+		cardEntity.setArtistName(cardModel.getArtistName());
+		cardEntity.setManaCost(cardModel.getManaCost());
+		cardEntity.setName(cardModel.getName());
+		cardEntity.setText(cardModel.getText());
+		cardEntity.setImage(cardModel.getImage());
+		cardEntity.setImageGold(cardModel.getImageGold());
+		cardEntity.setFlavorText(cardModel.getFlavorText());
+		cardEntity.setCropImage(cardModel.getCropImage());
+		return cardEntity;
+	}
+
+	/**
+	 * Copies the card model, keeping only the card attributes of the view.
+	 *
+	 * @param card
+	 *            The full {@link CardModel} to copy.
+	 * @param deckView
+	 *            The {@link DeckView} selecting the card attributes to keep.
+	 * @return The {@link CardModel} holding the attributes of the view, or the given model for the full view.
+	 */
+	public static CardModel toCardModel(final CardModel card, final DeckView deckView) {
+		switch (deckView) {
+			case CODE:
+				return toIdCardModel(card.getId());
+			case SLIM:
+				final CardModel cardModel = toIdCardModel(card.getId());
+				cardModel.setCollectible(card.getCollectible());
+				cardModel.setSlug(card.getSlug());
+				cardModel.setClassId(card.getClassId());
+				cardModel.setCardTypeId(card.getCardTypeId());
+				cardModel.setCardSetId(card.getCardSetId());
+				cardModel.setRarityId(card.getRarityId());
+				cardModel.setManaCost(card.getManaCost());
+				cardModel.setName(card.getName());
+				return cardModel;
+			default:
+				return card;
+		}
+	}
+
+	private static CardModel toFullCardModel(final CardEntity cardEntity) {
+		final CardModel cardModel = toSlimCardModel(cardEntity);
+		cardModel.setArtistName(cardEntity.getArtistName());
+		cardModel.setText(cardEntity.getText());
+		cardModel.setImage(cardEntity.getImage());
+		cardModel.setImageGold(cardEntity.getImageGold());
+		cardModel.setFlavorText(cardEntity.getFlavorText());
+		cardModel.setCropImage(cardEntity.getCropImage());
+		return cardModel;
+	}
+
+	private static CardModel toSlimCardModel(final CardEntity cardEntity) {
+		final CardModel cardModel = toIdCardModel(cardEntity.getId() == null ? null : (long) cardEntity.getId());
+		cardModel.setCollectible(cardEntity.getCollectible());
+		cardModel.setSlug(cardEntity.getSlug());
+		if (cardEntity.getClassMetadata() != null && cardEntity.getClassMetadata().getId() != null) {
+			cardModel.setClassId(cardEntity.getClassMetadata().getId());
+		}
+		if (cardEntity.getTypeMetadata() != null) {
+			cardModel.setCardTypeId(cardEntity.getTypeMetadata().getId());
+		}
+		if (cardEntity.getSetMetadata() != null && cardEntity.getSetMetadata().getId() != null) {
+			cardModel.setCardSetId(cardEntity.getSetMetadata().getId());
+		}
+		cardModel.setRarityId(cardEntity.getRarityId());
+		cardModel.setManaCost(cardEntity.getManaCost());
+		cardModel.setName(cardEntity.getName());
+		return cardModel;
+	}
+
+	private static CardModel toIdCardModel(final Long id) {
+		final CardModel cardModel = new CardModel();
+		cardModel.setId(id);
+		return cardModel;
+	}
+}
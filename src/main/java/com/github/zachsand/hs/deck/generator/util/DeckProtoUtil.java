@@ -0,0 +1,111 @@
+package com.github.zachsand.hs.deck.generator.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckSetModel;
+import com.github.zachsand.hs.deck.generator.proto.Card;
+import com.github.zachsand.hs.deck.generator.proto.DeckRequest;
+import com.github.zachsand.hs.deck.generator.proto.DeckResponse;
+import com.github.zachsand.hs.deck.generator.proto.DeckSet;
+import com.github.zachsand.hs.deck.generator.proto.DeckStatus;
+
+/**
+ * Utility class for mapping the deck models to and from their protobuf messages defined in {@code deck.proto}.
+ */
+public class DeckProtoUtil {
+
+	private DeckProtoUtil() {}
+
+	/**
+	 * Maps the {@link DeckResponseModel} to its protobuf message. Absent fields are left at their protobuf defaults.
+	 *
+	 * @param deckResponseModel
+	 *            The {@link DeckResponseModel} to map.
+	 * @return The {@link DeckResponse} protobuf message.
+	 */
+	public static DeckResponse toDeckResponse(final DeckResponseModel deckResponseModel) {
+		final DeckResponse.Builder deckResponse = DeckResponse.newBuilder().setId(deckResponseModel.getId());
+		setIfPresent(deckResponseModel.getDeckCode(), deckResponse::setDeckCode);
+		if (deckResponseModel.getStatus() != null) {
+			deckResponse.setStatus(toDeckStatus(deckResponseModel.getStatus()));
+		}
+		if (deckResponseModel.getCards() != null) {
+			deckResponseModel.getCards().forEach(card -> deckResponse.addCards(toCard(card)));
+		}
+		return deckResponse.build();
+	}
+
+	/**
+	 * Maps the {@link DeckRequest} protobuf message to the {@link DeckRequestModel} used by the generation engine.
+	 *
+	 * @param deckRequest
+	 *            The {@link DeckRequest} protobuf message to map.
+	 * @return The {@link DeckRequestModel}.
+	 */
+	public static DeckRequestModel toDeckRequestModel(final DeckRequest deckRequest) {
+		final DeckRequestModel deckRequestModel = new DeckRequestModel();
+		deckRequestModel.setClassName(deckRequest.getClassName());
+		deckRequestModel.setGameFormat(deckRequest.getGameFormat());
+		deckRequestModel.setDeckSets(deckRequest.getDeckSetsList().stream()
+				.map(DeckProtoUtil::toDeckSetModel)
+				.collect(Collectors.toList()));
+		return deckRequestModel;
+	}
+
+	private static DeckSetModel toDeckSetModel(final DeckSet deckSet) {
+		final DeckSetModel deckSetModel = new DeckSetModel();
+		deckSetModel.setSetName(deckSet.getSetName());
+		deckSetModel.setClassSetCount(deckSet.hasClassSetCount() ? deckSet.getClassSetCount() : null);
+		deckSetModel.setNeutralSetCount(deckSet.hasNeutralSetCount() ? deckSet.getNeutralSetCount() : null);
+		return deckSetModel;
+	}
+
+	private static DeckStatus toDeckStatus(final DeckResponseStatus deckResponseStatus) {
+		final DeckStatus.Builder deckStatus = DeckStatus.newBuilder();
+		setIfPresent(deckResponseStatus.getStatus(), deckStatus::setStatus);
+		if (deckResponseStatus.getMessage() != null) {
+			deckStatus.addAllMessage(deckResponseStatus.getMessage());
+		}
+		return deckStatus.build();
+	}
+
+	private static Card toCard(final CardModel cardModel) {
+		final Card.Builder card = Card.newBuilder()
+				.setCollectible(cardModel.getCollectible())
+				.setClassId(cardModel.getClassId())
+				.setCardTypeId(cardModel.getCardTypeId())
+				.setCardSetId(cardModel.getCardSetId())
+				.setRarityId(cardModel.getRarityId())
+				.setManaCost(cardModel.getManaCost());
+		if (cardModel.getId() != null) {
+			card.setId(cardModel.getId());
+		}
+		if (cardModel.getMultiClassIds() != null) {
+			Arrays.stream(cardModel.getMultiClassIds()).forEach(card::addMultiClassIds);
+		}
+		if (cardModel.getChildIds() != null) {
+			Arrays.stream(cardModel.getChildIds()).forEach(card::addChildIds);
+		}
+		setIfPresent(cardModel.getSlug(), card::setSlug);
+		setIfPresent(cardModel.getArtistName(), card::setArtistName);
+		setIfPresent(cardModel.getName(), card::setName);
+		setIfPresent(cardModel.getText(), card::setText);
+		setIfPresent(cardModel.getImage(), card::setImage);
+		setIfPresent(cardModel.getImageGold(), card::setImageGold);
+		setIfPresent(cardModel.getFlavorText(), card::setFlavorText);
+		setIfPresent(cardModel.getCropImage(), card::setCropImage);
+		return card.build();
+	}
+
+	private static void setIfPresent(final String value, final Consumer<String> setter) {
+		if (value != null) {
+			setter.accept(value);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.github.zachsand.hs.deck.generator;
+
+import java.util.List;
+import java.util.Set;
+
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.TypeMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckSetModel;
+import com.github.zachsand.hs.deck.generator.service.CardCatalog;
+
+/**
+ * Factories of the cards, metadata and deck requests shared by the tests and benchmarks.
+ */
+public final class TestFixtures {
+
+	private TestFixtures() {}
+
+	/**
+	 * @return A card with only the attributes needed to draw it.
+	 */
+	public static CardEntity card(final int id, final ClassMetadataEntity classMetadata, final SetMetadataEntity setMetadata) {
+		final CardEntity card = new CardEntity();
+		card.setId(id);
+		card.setClassMetadata(classMetadata);
+		card.setSetMetadata(setMetadata);
+		return card;
+	}
+
+	/**
+	 * @return The metadata of a class, with the ID of the hero card of the class.
+	 */
+	public static ClassMetadataEntity classMetadata(final int id, final String slug, final int cardId) {
+		final ClassMetadataEntity classMetadata = new ClassMetadataEntity();
+		classMetadata.setId(id);
+		classMetadata.setSlug(slug);
+		classMetadata.setCardId(cardId);
+		return classMetadata;
+	}
+
+	/**
+	 * @return The metadata of a card set.
+	 */
+	public static SetMetadataEntity setMetadata(final int id, final String slug) {
+		final SetMetadataEntity setMetadata = new SetMetadataEntity();
+		setMetadata.setId(id);
+		setMetadata.setSlug(slug);
+		return setMetadata;
+	}
+
+	/**
+	 * @return The metadata of a card type.
+	 */
+	public static TypeMetadataEntity typeMetadata(final int id) {
+		final TypeMetadataEntity typeMetadata = new TypeMetadataEntity();
+		typeMetadata.setId(id);
+		return typeMetadata;
+	}
+
+	/**
+	 * @return The number of class and neutral cards to draw from a set.
+	 */
+	public static DeckSetModel deckSet(final String setName, final int classSetCount, final int neutralSetCount) {
+		final DeckSetModel deckSetModel = new DeckSetModel();
+		deckSetModel.setSetName(setName);
+		deckSetModel.setClassSetCount(classSetCount);
+		deckSetModel.setNeutralSetCount(neutralSetCount);
+		return deckSetModel;
+	}
+
+	/**
+	 * @return A deck request drawing from the given sets.
+	 */
+	public static DeckRequestModel deckRequest(final String className, final String gameFormat, final DeckSetModel... deckSets) {
+		final DeckRequestModel deckRequestModel = new DeckRequestModel();
+		deckRequestModel.setClassName(className);
+		deckRequestModel.setGameFormat(gameFormat);
+		deckRequestModel.setDeckSets(List.of(deckSets));
+		return deckRequestModel;
+	}
+
+	/**
+	 * @return Catalog with two hunter cards of the core set, so a single card hunter deck has two distinct variants.
+	 */
+	public static CardCatalog hunterCatalog() {
+		final ClassMetadataEntity hunter = classMetadata(3, "hunter", 31);
+		final SetMetadataEntity core = setMetadata(1, "core");
+		return new CardCatalog(List.of(card(1, hunter, core), card(2, hunter, core)), List.of(hunter), List.of(core), Set.of(core), 1);
+	}
+}
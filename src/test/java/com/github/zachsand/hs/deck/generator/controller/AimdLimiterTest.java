@@ -0,0 +1,88 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AimdLimiterTest {
+
+	private static final long THRESHOLD_NANOS = Duration.ofMillis(100).toNanos();
+	private static final long FAST_NANOS = Duration.ofMillis(1).toNanos();
+	private static final long WAIT_NANOS = Duration.ofSeconds(5).toNanos();
+
+	@Test
+	void whenFastRequestsUseHalfTheLimit_shouldIncreaseLimit() throws InterruptedException {
+		final AimdLimiter limiter = new AimdLimiter(4, 1, 5, 0.5, THRESHOLD_NANOS, 0);
+
+		assertTrue(limiter.tryAcquire(0));
+		limiter.release(FAST_NANOS, false);
+		assertEquals(4, limiter.getLimit());
+
+		for (int i = 0; i < 2; i++) {
+			assertTrue(limiter.tryAcquire(0));
+		}
+		limiter.release(FAST_NANOS, false);
+		limiter.release(FAST_NANOS, false);
+		assertEquals(5, limiter.getLimit());
+		assertEquals(0, limiter.getInFlight());
+	}
+
+	@Test
+	void whenRequestsFailOrAreSlow_shouldBackOffDownToMinLimit() throws InterruptedException {
+		final AimdLimiter limiter = new AimdLimiter(8, 3, 10, 0.5, THRESHOLD_NANOS, 0);
+
+		assertTrue(limiter.tryAcquire(0));
+		limiter.release(FAST_NANOS, true);
+		assertEquals(4, limiter.getLimit());
+
+		assertTrue(limiter.tryAcquire(0));
+		limiter.release(THRESHOLD_NANOS + 1, false);
+		assertEquals(3, limiter.getLimit());
+	}
+
+	@Test
+	void whenLimitIsReachedAndQueueIsFull_shouldRejectRightAway() throws InterruptedException {
+		final AimdLimiter limiter = new AimdLimiter(1, 1, 1, 0.5, THRESHOLD_NANOS, 0);
+
+		assertTrue(limiter.tryAcquire(0));
+		assertFalse(limiter.tryAcquire(WAIT_NANOS));
+		assertEquals(1, limiter.getInFlight());
+	}
+
+	@Test
+	void whenSlotIsReleased_shouldAdmitQueuedRequest() throws Exception {
+		final AimdLimiter limiter = new AimdLimiter(1, 1, 1, 0.5, THRESHOLD_NANOS, 1);
+		assertTrue(limiter.tryAcquire(0));
+
+		final CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> {
+			try {
+				return limiter.tryAcquire(WAIT_NANOS);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		});
+		while (limiter.getQueued() == 0) {
+			Thread.onSpinWait();
+		}
+		assertFalse(limiter.tryAcquire(WAIT_NANOS));
+
+		limiter.release(FAST_NANOS, false);
+		assertTrue(queued.get(5, TimeUnit.SECONDS));
+		assertEquals(1, limiter.getInFlight());
+		assertEquals(0, limiter.getQueued());
+	}
+
+	@Test
+	void whenLimitsAreInconsistent_shouldThrow() {
+		assertThrows(IllegalStateException.class, () -> new AimdLimiter(10, 1, 5, 0.5, THRESHOLD_NANOS, 0));
+		assertThrows(IllegalStateException.class, () -> new AimdLimiter(2, 1, 5, 1.5, THRESHOLD_NANOS, 0));
+	}
+}
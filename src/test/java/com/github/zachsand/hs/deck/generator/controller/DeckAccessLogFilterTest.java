@@ -0,0 +1,66 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.logging.log4j.message.MapMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.github.zachsand.hs.deck.generator.config.DeckAccessLogConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckSetModel;
+
+class DeckAccessLogFilterTest {
+
+	private static final long SLOW_NANOS = Duration.ofMillis(500).toNanos();
+
+	private final DeckAccessLogFilter unsampledFilter = new DeckAccessLogFilter(new DeckAccessLogConfig(true, 0, Duration.ofMillis(500)));
+
+	@Test
+	void whenRequestSucceedsAndIsNotSampled_shouldNotLog() {
+		assertNull(unsampledFilter.accessLogMessage(deckRequest(), 201, 1_000_000, null));
+	}
+
+	@Test
+	void whenEveryRequestIsSampled_shouldLogSuccessfulRequest() {
+		final DeckAccessLogFilter sampledFilter = new DeckAccessLogFilter(new DeckAccessLogConfig(true, 1, Duration.ofMillis(500)));
+
+		final MapMessage<?, Object> message = sampledFilter.accessLogMessage(deckRequest(), 201, 1_000_000, null);
+
+		assertNotNull(message);
+		assertEquals("sampled", message.get("reason"));
+	}
+
+	@Test
+	void whenRequestFailsOrIsSlow_shouldAlwaysLogIt() {
+		assertEquals("error", unsampledFilter.accessLogMessage(deckRequest(), 400, 1_000_000, null).get("reason"));
+		assertEquals("error", unsampledFilter.accessLogMessage(deckRequest(), 500, 1_000_000, new IllegalStateException()).get("reason"));
+		assertEquals("slow", unsampledFilter.accessLogMessage(deckRequest(), 201, SLOW_NANOS, null).get("reason"));
+	}
+
+	@Test
+	void whenLogged_shouldWriteRequestShapeAndLatencyAsJson() {
+		final String json = unsampledFilter.accessLogMessage(deckRequest(), 400, 2_500_000, null).asString("JSON");
+
+		assertEquals("{\"className\":\"warrior\",\"deckSets\":2,\"gameFormat\":\"wild\",\"latencyMs\":2.5,\"method\":\"POST\","
+				+ "\"path\":\"/api/deck\",\"reason\":\"error\",\"status\":400,\"view\":\"slim\"}", json);
+	}
+
+	private static MockHttpServletRequest deckRequest() {
+		final DeckRequestModel deckRequestModel = new DeckRequestModel();
+		deckRequestModel.setClassName("warrior");
+		deckRequestModel.setGameFormat("wild");
+		deckRequestModel.setDeckSets(List.of(new DeckSetModel(), new DeckSetModel()));
+
+		final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/deckgenerator/api/deck");
+		request.setServletPath("/api/deck");
+		request.setParameter("view", "slim");
+		request.setAttribute(DeckAccessLogFilter.DECK_REQUEST_ATTRIBUTE, deckRequestModel);
+		return request;
+	}
+}
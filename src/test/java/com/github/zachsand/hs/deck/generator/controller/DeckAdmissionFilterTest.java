@@ -0,0 +1,69 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.config.DeckAdmissionConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DeckAdmissionFilterTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final DeckAdmissionFilter filter = new DeckAdmissionFilter(
+			new DeckAdmissionConfig(true, 1, 1, 1, 0.5, Duration.ofSeconds(1), 0, Duration.ZERO), meterRegistry, new ObjectMapper());
+
+	@Test
+	void whenEndpointIsAtItsLimit_shouldRejectWithServiceUnavailable() throws Exception {
+		final MockHttpServletResponse nestedResponse = new MockHttpServletResponse();
+
+		filter.doFilter(request("POST", "/api/deck"), new MockHttpServletResponse(), (request, response) -> {
+			assertEquals(1.0, meterRegistry.get(DeckAdmissionFilter.IN_FLIGHT_GAUGE_NAME).tag("endpoint", "generate").gauge().value());
+			filter.doFilter(request("POST", "/api/deck"), nestedResponse, (nestedRequest, ignored) -> {
+				throw new IllegalStateException("Request over the limit must not be processed");
+			});
+		});
+
+		assertEquals(503, nestedResponse.getStatus());
+		assertEquals("1", nestedResponse.getHeader(HttpHeaders.RETRY_AFTER));
+		assertEquals(1.0, meterRegistry.get(DeckAdmissionFilter.REJECTED_COUNTER_NAME).tag("endpoint", "generate").counter().count());
+		assertEquals(0.0, meterRegistry.get(DeckAdmissionFilter.IN_FLIGHT_GAUGE_NAME).tag("endpoint", "generate").gauge().value());
+	}
+
+	@Test
+	void whenOtherEndpointIsAtItsLimit_shouldAdmitRequest() throws Exception {
+		final MockHttpServletResponse nestedResponse = new MockHttpServletResponse();
+
+		filter.doFilter(request("POST", "/api/deck"), new MockHttpServletResponse(),
+				(request, response) -> filter.doFilter(request("GET", "/api/deck/1"), nestedResponse, (nestedRequest, ignored) -> {}));
+
+		assertEquals(200, nestedResponse.getStatus());
+		assertEquals(0.0, meterRegistry.get(DeckAdmissionFilter.REJECTED_COUNTER_NAME).tag("endpoint", "get").counter().count());
+	}
+
+	@Test
+	void shouldResolveLimitedEndpoints() {
+		assertEquals(DeckAdmissionFilter.Endpoint.GENERATE, DeckAdmissionFilter.endpointOf(request("POST", "/api/deck")));
+		assertEquals(DeckAdmissionFilter.Endpoint.GET, DeckAdmissionFilter.endpointOf(request("GET", "/api/deck/42")));
+		assertEquals(DeckAdmissionFilter.Endpoint.DELETE, DeckAdmissionFilter.endpointOf(request("DELETE", "/api/deck/42")));
+		assertNull(DeckAdmissionFilter.endpointOf(request("POST", "/api/decks/batch")));
+		assertNull(DeckAdmissionFilter.endpointOf(request("GET", "/api/async/deck/42")));
+	}
+
+	private static MockHttpServletRequest request(final String method, final String path) {
+		final MockHttpServletRequest request = new MockHttpServletRequest(method, "/deckgenerator" + path);
+		request.setContextPath("/deckgenerator");
+		request.setServletPath(path);
+		return request;
+	}
+}
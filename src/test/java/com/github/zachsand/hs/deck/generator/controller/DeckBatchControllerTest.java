@@ -0,0 +1,97 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.config.DeckAccessLogConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckAdmissionConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckBatchConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.service.CardJsonFragments;
+import com.github.zachsand.hs.deck.generator.service.DeckBatchService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for the Deck batch controller.
+ */
+@WebMvcTest(DeckBatchController.class)
+@EnableConfigurationProperties({ DeckBatchConfig.class, DeckAccessLogConfig.class, DeckAdmissionConfig.class })
+@Import(SimpleMeterRegistry.class)
+class DeckBatchControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private DeckBatchConfig deckBatchConfig;
+
+	@MockBean
+	private DeckBatchService deckBatchService;
+
+	@MockBean
+	private CardJsonFragments cardJsonFragments;
+
+	@Test
+	void streamDecksShouldUseStreamTimeout() throws Exception {
+		when(deckBatchService.validateDeckStreamRequest(any(DeckBatchRequestModel.class))).thenReturn(DeckResponseStatus.SUCCESS_RESPONSE);
+		doAnswer(invocation -> {
+			invocation.<OutputStream> getArgument(2).write("{}\n".getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).when(deckBatchService).streamDecks(any(DeckBatchRequestModel.class), eq(DeckView.FULL), any(OutputStream.class));
+
+		final MvcResult mvcResult = mockMvc.perform(post("/api/decks/stream")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(new ObjectMapper().writeValueAsString(new DeckBatchRequestModel())))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		assertEquals(Duration.ofMinutes(10), deckBatchConfig.getStreamTimeout());
+		assertEquals(deckBatchConfig.getStreamTimeout().toMillis(), mvcResult.getRequest().getAsyncContext().getTimeout());
+		mockMvc.perform(asyncDispatch(mvcResult))
+				.andExpect(status().isCreated())
+				.andExpect(content().string("{}\n"));
+	}
+
+	@Test
+	void streamDecksWithInvalidRequestShouldReturnBadRequest() throws Exception {
+		when(deckBatchService.validateDeckStreamRequest(any(DeckBatchRequestModel.class)))
+				.thenReturn(new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(), List.of("unique: not supported when streaming")));
+
+		final MvcResult mvcResult = mockMvc.perform(post("/api/decks/stream")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(new ObjectMapper().writeValueAsString(new DeckBatchRequestModel())))
+				.andReturn();
+		mockMvc.perform(asyncDispatch(mvcResult))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.status.message[0]").value("unique: not supported when streaming"));
+	}
+}
@@ -0,0 +1,104 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.github.zachsand.hs.deck.generator.config.DeckDeadlineConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckHttpCacheConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckServerTimingConfig;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+import com.github.zachsand.hs.deck.generator.service.DeckETagIndex;
+import com.github.zachsand.hs.deck.generator.service.DeckGeneratorService;
+import com.github.zachsand.hs.deck.generator.service.DeckIdempotencyService;
+
+/**
+ * Tests the compression of the deck responses by the embedded Tomcat, which skips responses with a strong ETag.
+ */
+@SpringBootTest(classes = DeckGeneratorController.class, webEnvironment = WebEnvironment.RANDOM_PORT)
+@ImportAutoConfiguration({ ServletWebServerFactoryAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+		WebMvcAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class, JacksonAutoConfiguration.class })
+@EnableConfigurationProperties({ DeckHttpCacheConfig.class, DeckServerTimingConfig.class, DeckDeadlineConfig.class })
+class DeckCompressionTest {
+
+	@LocalServerPort
+	private int port;
+
+	@MockBean
+	private DeckGeneratorService deckGeneratorService;
+
+	@MockBean
+	private DeckRequestValidator deckRequestValidator;
+
+	@MockBean
+	private DeckETagIndex deckETagIndex;
+
+	@MockBean
+	private DeckIdempotencyService deckIdempotencyService;
+
+	@Test
+	void getDeckShouldBeCompressed() throws Exception {
+		final DeckResponseModel deckResponseModel = new DeckResponseModel();
+		deckResponseModel.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+		deckResponseModel.setId(1);
+		deckResponseModel.setDeckCode("AAECAQcAAAA=");
+		deckResponseModel.setCards(IntStream.range(0, 30).mapToObj(DeckCompressionTest::card).collect(Collectors.toList()));
+
+		when(deckETagIndex.get(1, DeckView.FULL)).thenReturn(Optional.empty());
+		when(deckGeneratorService.getDeck(1, DeckView.FULL)).thenReturn(Optional.of(deckResponseModel));
+		final HttpResponse<byte[]> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder()
+				.uri(URI.create("http://localhost:" + port + "/deckgenerator/api/deck/1"))
+				.header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+				.build(), HttpResponse.BodyHandlers.ofByteArray());
+
+		assertEquals(200, response.statusCode());
+		assertEquals(Optional.of("W/\"AAECAQcAAAA=:full\""), response.headers().firstValue(HttpHeaders.ETAG));
+		assertEquals(Optional.of("gzip"), response.headers().firstValue(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(deckResponseModel.getDeckCode(), gunzip(response.body()).replaceAll(".*\"deckCode\":\"([^\"]*)\".*", "$1"));
+	}
+
+	private static CardModel card(final int id) {
+		final CardModel card = new CardModel();
+		card.setId((long) id);
+		card.setName("Alleycat " + id);
+		card.setText("Battlecry: Summon a 1/1 Cat.");
+		return card;
+	}
+
+	private static String gunzip(final byte[] body) throws IOException {
+		try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -1,34 +1,67 @@
 package com.github.zachsand.hs.deck.generator.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.config.DeckAccessLogConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckAdmissionConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckDeadlineConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckHttpCacheConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckServerTimingConfig;
 import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
 import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+import com.github.zachsand.hs.deck.generator.proto.DeckResponse;
+import com.github.zachsand.hs.deck.generator.service.CardJsonFragments;
+import com.github.zachsand.hs.deck.generator.service.DeckETagIndex;
 import com.github.zachsand.hs.deck.generator.service.DeckGeneratorService;
+import com.github.zachsand.hs.deck.generator.service.DeckIdempotencyService;
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics;
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics.Stage;
+import com.github.zachsand.hs.deck.generator.service.RequestDeadline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Tests for the Deck generator controller.
  */
 @WebMvcTest(DeckGeneratorController.class)
+@EnableConfigurationProperties({ DeckHttpCacheConfig.class, DeckServerTimingConfig.class, DeckAccessLogConfig.class, DeckAdmissionConfig.class,
+		DeckDeadlineConfig.class })
+@Import(SimpleMeterRegistry.class)
 class DeckGeneratorControllerTest {
 
 	@Autowired
@@ -40,6 +73,15 @@ class DeckGeneratorControllerTest {
 	@MockBean
 	private DeckRequestValidator deckRequestValidator;
 
+	@MockBean
+	private DeckETagIndex deckETagIndex;
+
+	@MockBean
+	private CardJsonFragments cardJsonFragments;
+
+	@MockBean
+	private DeckIdempotencyService deckIdempotencyService;
+
 	@Test
 	void deckGeneratorShouldReturnDeckCode() throws Exception {
 		final DeckResponseModel expectedResponse = new DeckResponseModel();
@@ -52,7 +94,7 @@ class DeckGeneratorControllerTest {
 		final String expectedJson = objectMapper.writeValueAsString(expectedResponse);
 
 		when(deckRequestValidator.validateDeckRequest(any(DeckRequestModel.class))).thenReturn(DeckResponseStatus.SUCCESS_RESPONSE);
-		when(deckGeneratorService.generateDeck(any(DeckRequestModel.class))).thenReturn(expectedResponse);
+		when(deckGeneratorService.generateDeck(any(DeckRequestModel.class), eq(DeckView.FULL))).thenReturn(expectedResponse);
 		mockMvc.perform(post("/api/deck")
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(new DeckRequestModel())))
@@ -61,6 +103,173 @@ class DeckGeneratorControllerTest {
 				.andExpect(content().json(expectedJson));
 	}
 
+	@Test
+	void deckGeneratorShouldReturnServerTimingOfStages() throws Exception {
+		final DeckMetrics deckMetrics = new DeckMetrics(new SimpleMeterRegistry());
+		final DeckResponseModel expectedResponse = new DeckResponseModel();
+		expectedResponse.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+
+		when(deckRequestValidator.validateDeckRequest(any(DeckRequestModel.class))).thenReturn(DeckResponseStatus.SUCCESS_RESPONSE);
+		doAnswer(invocation -> deckMetrics.record(Stage.SAVE, invocation.getArgument(0), () -> expectedResponse))
+				.when(deckGeneratorService).generateDeck(any(DeckRequestModel.class), eq(DeckView.FULL));
+		mockMvc.perform(post("/api/deck")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(new ObjectMapper().writeValueAsString(new DeckRequestModel())))
+				.andExpect(status().isCreated())
+				.andExpect(header().string("Server-Timing", matchesPattern("persist;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}")));
+	}
+
+	@Test
+	void deckGeneratorShouldOmitServerTimingWhenSwitchedOff() throws Exception {
+		when(deckRequestValidator.validateDeckRequest(any(DeckRequestModel.class))).thenReturn(DeckResponseStatus.SUCCESS_RESPONSE);
+		when(deckGeneratorService.generateDeck(any(DeckRequestModel.class), eq(DeckView.FULL))).thenReturn(new DeckResponseModel());
+		mockMvc.perform(post("/api/deck")
+				.header("X-Server-Timing", "false")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(new ObjectMapper().writeValueAsString(new DeckRequestModel())))
+				.andExpect(status().isCreated())
+				.andExpect(header().doesNotExist("Server-Timing"));
+	}
+
+	@Test
+	void deckGeneratorShouldReturnGatewayTimeoutOnceDeadlinePassed() throws Exception {
+		when(deckRequestValidator.validateDeckRequest(any(DeckRequestModel.class))).thenReturn(DeckResponseStatus.SUCCESS_RESPONSE);
+		doAnswer(invocation -> {
+			RequestDeadline.check("saving the deck");
+			return new DeckResponseModel();
+		}).when(deckGeneratorService).generateDeck(any(DeckRequestModel.class), eq(DeckView.FULL));
+		mockMvc.perform(post("/api/deck")
+				.header("X-Request-Timeout", "0")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(new ObjectMapper().writeValueAsString(new DeckRequestModel())))
+				.andExpect(status().isGatewayTimeout())
+				.andExpect(jsonPath("$.status.message[0]").value("Deadline of 0 ms exceeded before saving the deck"));
+	}
+
+	@Test
+	void deckGeneratorShouldRejectOverlongIdempotencyKey() throws Exception {
+		mockMvc.perform(post("/api/deck")
+				.header("Idempotency-Key", "k".repeat(DeckIdempotencyService.MAX_KEY_LENGTH + 1))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(new ObjectMapper().writeValueAsString(new DeckRequestModel())))
+				.andExpect(status().isBadRequest());
+		verify(deckGeneratorService, never()).generateDeck(any(DeckRequestModel.class), any(DeckView.class));
+	}
+
+	@Test
+	void getDeckShouldReturnCachingHeaders() throws Exception {
+		final DeckResponseModel expectedResponse = new DeckResponseModel();
+		expectedResponse.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+		expectedResponse.setId(1);
+		expectedResponse.setDeckCode("AAECAQcAAAA=");
+
+		when(deckETagIndex.get(1, DeckView.FULL)).thenReturn(Optional.empty());
+		when(deckGeneratorService.getDeck(1, DeckView.FULL)).thenReturn(Optional.of(expectedResponse));
+		mockMvc.perform(get("/api/deck/1"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"AAECAQcAAAA=:full\""))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("must-revalidate")))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("immutable"))));
+	}
+
+	@Test
+	void getDeckWithMatchingETagShouldNotLoadDeck() throws Exception {
+		when(deckETagIndex.get(1, DeckView.FULL)).thenReturn(Optional.of("W/\"AAECAQcAAAA=:full\""));
+		mockMvc.perform(get("/api/deck/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"AAECAQcAAAA=:full\""))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"AAECAQcAAAA=:full\""));
+		verify(deckGeneratorService, never()).getDeck(any(Integer.class), any(DeckView.class));
+	}
+
+	@Test
+	void getDeckWithETagMatchingLoadedDeckShouldReturnNotModified() throws Exception {
+		final DeckResponseModel expectedResponse = new DeckResponseModel();
+		expectedResponse.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+		expectedResponse.setId(1);
+		expectedResponse.setDeckCode("AAECAQcAAAA=");
+
+		when(deckETagIndex.get(1, DeckView.SLIM)).thenReturn(Optional.empty());
+		when(deckGeneratorService.getDeck(1, DeckView.SLIM)).thenReturn(Optional.of(expectedResponse));
+		mockMvc.perform(get("/api/deck/1").param("view", "slim").header(HttpHeaders.IF_NONE_MATCH, "\"AAECAQcAAAA=:slim\""))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"AAECAQcAAAA=:slim\""));
+	}
+
+	@Test
+	void getDeckWithETagOfAnotherViewShouldReturnDeck() throws Exception {
+		final DeckResponseModel expectedResponse = new DeckResponseModel();
+		expectedResponse.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+		expectedResponse.setId(1);
+		expectedResponse.setDeckCode("AAECAQcAAAA=");
+
+		when(deckETagIndex.get(1, DeckView.FULL)).thenReturn(Optional.of("W/\"AAECAQcAAAA=:full\""));
+		when(deckGeneratorService.getDeck(1, DeckView.FULL)).thenReturn(Optional.of(expectedResponse));
+		mockMvc.perform(get("/api/deck/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"AAECAQcAAAA=:code\""))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"AAECAQcAAAA=:full\""));
+	}
+
+	@Test
+	void getDeckShouldNegotiateBinaryEncodings() throws Exception {
+		final DeckResponseModel expectedResponse = new DeckResponseModel();
+		expectedResponse.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+		expectedResponse.setId(1);
+		expectedResponse.setDeckCode("AAECAQcAAAA=");
+		expectedResponse.setCards(Collections.singletonList(new CardModel()));
+
+		when(deckETagIndex.get(1, DeckView.FULL)).thenReturn(Optional.empty());
+		when(deckGeneratorService.getDeck(1, DeckView.FULL)).thenReturn(Optional.of(expectedResponse));
+		mockMvc.perform(get("/api/deck/1").accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+
+		final byte[] protobuf = mockMvc.perform(get("/api/deck/1").accept(DeckMediaTypes.APPLICATION_PROTOBUF))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(DeckMediaTypes.APPLICATION_PROTOBUF))
+				.andReturn().getResponse().getContentAsByteArray();
+		final DeckResponse deckResponse = DeckResponse.parseFrom(protobuf);
+		assertEquals("AAECAQcAAAA=", deckResponse.getDeckCode());
+		assertEquals(1, deckResponse.getCardsCount());
+	}
+
+	@Test
+	void getDeckWithSlimViewShouldOmitFullCardAttributes() throws Exception {
+		final CardModel card = new CardModel();
+		card.setId(1L);
+		card.setName("Alleycat");
+		card.setText("Battlecry: Summon a 1/1 Cat.");
+		final DeckResponseModel expectedResponse = new DeckResponseModel();
+		expectedResponse.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+		expectedResponse.setId(1);
+		expectedResponse.setDeckCode("AAECAQcAAAA=");
+		expectedResponse.setCards(Collections.singletonList(card));
+
+		when(deckETagIndex.get(1, DeckView.SLIM)).thenReturn(Optional.empty());
+		when(deckGeneratorService.getDeck(1, DeckView.SLIM)).thenReturn(Optional.of(expectedResponse));
+		mockMvc.perform(get("/api/deck/1").param("view", "slim"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.deckCode").value("AAECAQcAAAA="))
+				.andExpect(jsonPath("$.status.status").value(DeckResponseStatus.ResponseStatus.SUCCESS.name()))
+				.andExpect(jsonPath("$.cards[0].name").value("Alleycat"))
+				.andExpect(jsonPath("$.cards[0].text").doesNotExist());
+	}
+
+	@Test
+	void getDeckWithUnknownViewShouldReturnBadRequest() throws Exception {
+		mockMvc.perform(get("/api/deck/1").param("view", "tiny"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getUnknownDeckShouldReturnNotFound() throws Exception {
+		when(deckETagIndex.get(1, DeckView.FULL)).thenReturn(Optional.empty());
+		when(deckGeneratorService.getDeck(1, DeckView.FULL)).thenReturn(Optional.empty());
+		mockMvc.perform(get("/api/deck/1"))
+				.andExpect(status().isNotFound())
+				.andExpect(header().doesNotExist(HttpHeaders.ETAG));
+	}
+
 	@Test
 	void shouldDeleteDeck() throws Exception {
 		doNothing().when(deckGeneratorService).deleteDeck(any(Integer.class));
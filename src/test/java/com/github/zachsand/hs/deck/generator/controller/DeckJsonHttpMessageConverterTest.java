@@ -0,0 +1,135 @@
+package com.github.zachsand.hs.deck.generator.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.lenient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.TypeMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.service.CardCatalog;
+import com.github.zachsand.hs.deck.generator.service.CardCatalogService;
+import com.github.zachsand.hs.deck.generator.service.CardJsonFragments;
+import com.github.zachsand.hs.deck.generator.util.CardModelUtil;
+
+@ExtendWith(MockitoExtension.class)
+class DeckJsonHttpMessageConverterTest {
+
+	@Mock
+	private CardCatalogService cardCatalogService;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+			.featuresToEnable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+			.build();
+
+	private DeckJsonHttpMessageConverter converter;
+	private List<CardModel> cards;
+
+	@BeforeEach
+	void setup() {
+		final ClassMetadataEntity hunter = new ClassMetadataEntity();
+		hunter.setId(3);
+		hunter.setSlug("hunter");
+		final SetMetadataEntity core = new SetMetadataEntity();
+		core.setId(1);
+		core.setSlug("core");
+		final TypeMetadataEntity minion = new TypeMetadataEntity();
+		minion.setId(4);
+		minion.setSlug("minion");
+
+		final CardEntity card = new CardEntity();
+		card.setId(7);
+		card.setClassMetadata(hunter);
+		card.setSetMetadata(core);
+		card.setTypeMetadata(minion);
+		card.setName("Snake \"Charmer\" ☃");
+		card.setText("<b>Battlecry:</b> Summon a snake.");
+		card.setManaCost(2);
+
+		lenient().when(cardCatalogService.getCatalog()).thenReturn(new CardCatalog(List.of(card), List.of(hunter), List.of(core), List.of(core), 1));
+		converter = new DeckJsonHttpMessageConverter(objectMapper, new CardJsonFragments(cardCatalogService, objectMapper));
+
+		final CardModel missingCard = new CardModel();
+		missingCard.setId(99L);
+		missingCard.setName("Not in the catalog");
+		missingCard.setText("Serialized with the object mapper.");
+		cards = Arrays.asList(CardModelUtil.toCardModels(List.of(card), DeckView.FULL).get(0), missingCard);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void whenWritingDeck_shouldMatchObjectMapperInEachView() throws IOException {
+		for (final DeckView deckView : DeckView.values()) {
+			final DeckResponseModel deck = deck(deckView);
+
+			assertEquals(objectMapper.writerWithView(deckView.getJsonView()).writeValueAsString(deck), write(deck, deckView));
+		}
+	}
+
+	@Test
+	void whenWritingDeckBatch_shouldMatchObjectMapperInEachView() throws IOException {
+		for (final DeckView deckView : DeckView.values()) {
+			final DeckBatchResponseModel batch = new DeckBatchResponseModel();
+			batch.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+			batch.setDecks(List.of(deck(deckView), deck(deckView)));
+
+			assertEquals(objectMapper.writerWithView(deckView.getJsonView()).writeValueAsString(batch), write(batch, deckView));
+		}
+	}
+
+	@Test
+	void whenWritingErrorResponse_shouldMatchObjectMapper() throws IOException {
+		final DeckResponseModel deck = new DeckResponseModel();
+		deck.setStatus(new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(), Collections.singletonList("Invalid class name.")));
+
+		assertEquals(objectMapper.writeValueAsString(deck), write(deck, DeckView.FULL));
+	}
+
+	private DeckResponseModel deck(final DeckView deckView) {
+		final DeckResponseModel deck = new DeckResponseModel();
+		deck.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+		deck.setId(12);
+		deck.setDeckCode("AAECAR8AAA==");
+		deck.setCards(List.of(CardModelUtil.toCardModel(cards.get(0), deckView), CardModelUtil.toCardModel(cards.get(1), deckView)));
+		return deck;
+	}
+
+	private String write(final Object response, final DeckView deckView) throws IOException {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAttribute(DeckResponses.DECK_VIEW_ATTRIBUTE, deckView);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		final MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		converter.write(response, MediaType.APPLICATION_JSON, outputMessage);
+		return outputMessage.getBodyAsString(StandardCharsets.UTF_8);
+	}
+}
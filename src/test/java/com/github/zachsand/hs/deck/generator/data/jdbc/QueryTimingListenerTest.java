@@ -0,0 +1,86 @@
+package com.github.zachsand.hs.deck.generator.data.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import com.github.zachsand.hs.deck.generator.config.SlowQueryConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+class QueryTimingListenerTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final QueryTimingListener listener = new QueryTimingListener(meterRegistry,
+			new SlowQueryConfig(Duration.ofMillis(50), false, Duration.ofMinutes(1), 1), null, Runnable::run);
+
+	@Test
+	void whenStatementRunsOutsideRepository_shouldTimeItAsUnnamed() {
+		execute();
+
+		assertEquals(1, meterRegistry.get(QueryTimingListener.QUERY_TIMER_NAME).tag("query", QueryNames.UNNAMED).timer().count());
+	}
+
+	@Test
+	void whenStatementRunsInRepositoryMethod_shouldTimeItWithRepositoryMethodName() {
+		final CardLookup cardLookup = proxy(() -> {
+			execute();
+			execute();
+		});
+
+		cardLookup.findCards();
+
+		assertEquals(2, meterRegistry.get(QueryTimingListener.QUERY_TIMER_NAME).tag("query", "CardLookup.findCards").timer().count());
+		assertNull(meterRegistry.find(QueryTimingListener.QUERY_TIMER_NAME).tag("query", QueryNames.UNNAMED).timer());
+	}
+
+	@Test
+	void whenRepositoryCallsAnotherRepository_shouldKeepOutermostName() {
+		final CardLookup innerLookup = proxy(this::execute);
+		final CardLookup outerLookup = proxy(innerLookup::findCards);
+
+		outerLookup.findCards();
+
+		assertEquals(1, meterRegistry.get(QueryTimingListener.QUERY_TIMER_NAME).timers().size());
+		assertEquals(QueryNames.UNNAMED, QueryNames.current());
+	}
+
+	@Test
+	void whenSlowQueryLogged_shouldMaskBindValues() throws NoSuchMethodException {
+		final ParameterSetOperation secret = new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+				new Object[] { 1, "client-secret" });
+		final ParameterSetOperation slug = new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+				new Object[] { 2, Types.VARCHAR });
+
+		assertEquals(List.of(List.of("String", "null")), QueryTimingListener.bindTypes(List.of(List.of(secret, slug))));
+	}
+
+	private void execute() {
+		final ExecutionInfo executionInfo = new ExecutionInfo();
+		final List<QueryInfo> queryInfoList = List.of(new QueryInfo("select * from card"));
+		listener.beforeQuery(executionInfo, queryInfoList);
+		listener.afterQuery(executionInfo, queryInfoList);
+	}
+
+	private static CardLookup proxy(final CardLookup target) {
+		final ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.addInterface(CardLookup.class);
+		proxyFactory.addAdvice(new QueryNames(CardLookup.class));
+		return (CardLookup) proxyFactory.getProxy();
+	}
+
+	private interface CardLookup {
+
+		void findCards();
+	}
+}
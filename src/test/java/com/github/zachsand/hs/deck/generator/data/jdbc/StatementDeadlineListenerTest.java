@@ -0,0 +1,84 @@
+package com.github.zachsand.hs.deck.generator.data.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.jdbc.PgStatement;
+
+import com.github.zachsand.hs.deck.generator.service.DeadlineExceededException;
+import com.github.zachsand.hs.deck.generator.service.RequestDeadline;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+class StatementDeadlineListenerTest {
+
+	private static final List<QueryInfo> QUERIES = List.of(new QueryInfo("select * from card"));
+
+	private final StatementDeadlineListener listener = new StatementDeadlineListener();
+
+	@AfterEach
+	void stopDeadline() {
+		RequestDeadline.stop();
+	}
+
+	@Test
+	void whenThreadHasNoDeadline_shouldLeaveStatementAlone() {
+		final Statement statement = mock(Statement.class);
+
+		listener.beforeQuery(executionInfo(statement), QUERIES);
+
+		verifyNoInteractions(statement);
+	}
+
+	@Test
+	void whenDeadlineIsRunning_shouldSetRemainingTimeAsPostgresTimeout() throws SQLException {
+		final Statement statement = mock(Statement.class);
+		final PgStatement pgStatement = mock(PgStatement.class);
+		when(statement.isWrapperFor(PgStatement.class)).thenReturn(true);
+		when(statement.unwrap(PgStatement.class)).thenReturn(pgStatement);
+		RequestDeadline.start(Duration.ofSeconds(30));
+
+		listener.beforeQuery(executionInfo(statement), QUERIES);
+
+		verify(pgStatement).setQueryTimeoutMs(longThat(timeoutMillis -> timeoutMillis > 29_000 && timeoutMillis <= 30_000));
+		verify(statement, never()).setQueryTimeout(anyInt());
+	}
+
+	@Test
+	void whenDriverOnlyTakesSeconds_shouldRoundTimeoutUp() throws SQLException {
+		final Statement statement = mock(Statement.class);
+
+		StatementDeadlineListener.setQueryTimeout(statement, Duration.ofMillis(1_200).toNanos());
+
+		verify(statement).setQueryTimeout(2);
+	}
+
+	@Test
+	void whenDeadlineHasPassed_shouldNotExecuteStatement() {
+		final Statement statement = mock(Statement.class);
+		RequestDeadline.start(Duration.ZERO);
+
+		assertThrows(DeadlineExceededException.class, () -> listener.beforeQuery(executionInfo(statement), QUERIES));
+		verifyNoInteractions(statement);
+	}
+
+	private static ExecutionInfo executionInfo(final Statement statement) {
+		final ExecutionInfo executionInfo = new ExecutionInfo();
+		executionInfo.setStatement(statement);
+		return executionInfo;
+	}
+}
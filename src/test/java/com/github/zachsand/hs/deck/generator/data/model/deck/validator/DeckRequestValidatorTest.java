@@ -1,16 +1,27 @@
 package com.github.zachsand.hs.deck.generator.data.model.deck.validator;
 
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckRequest;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckSet;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.setMetadata;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
@@ -18,7 +29,12 @@ import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
 import com.github.zachsand.hs.deck.generator.data.model.deck.DeckSetModel;
 import com.github.zachsand.hs.deck.generator.data.model.deck.GameFormat;
+import com.github.zachsand.hs.deck.generator.service.CardService;
 import com.github.zachsand.hs.deck.generator.service.ClassMetadataService;
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics;
+import com.github.zachsand.hs.deck.generator.service.SetMetadataService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class DeckRequestValidatorTest {
@@ -26,6 +42,17 @@ class DeckRequestValidatorTest {
 	@Mock
 	private ClassMetadataService classMetadataService;
 
+	@Mock
+	private SetMetadataService setMetadataService;
+
+	@Mock
+	private CardService cardService;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Spy
+	private DeckMetrics deckMetrics = new DeckMetrics(meterRegistry);
+
 	@InjectMocks
 	private DeckRequestValidator deckRequestValidator;
 
@@ -56,7 +83,85 @@ class DeckRequestValidatorTest {
 		assertEquals(DeckResponseStatus.ResponseStatus.ERROR.name(), deckResponseStatus.getStatus());
 		assertFalse(deckResponseStatus.getMessage().isEmpty());
 		assertTrue(deckResponseStatus.getMessage().toString().contains(invalidGameFormat));
+		assertEquals(1, meterRegistry.get(DeckMetrics.REJECTED_COUNTER_NAME).tag("game.format", "invalid").tag("deck.sets", "1").counter().count());
+	}
+
+	@Test
+	void whenValidating_shouldTimeBeanValidationAndSlugChecks() {
+		final ClassMetadataEntity classMetadataEntity = new ClassMetadataEntity();
+		classMetadataEntity.setSlug("hunter");
 
+		when(classMetadataService.getClassMetadata()).thenReturn(Collections.singletonList(classMetadataEntity));
+
+		deckRequestValidator.validateDeckRequest(getValidDeckRequestModel());
+
+		for (final DeckMetrics.Stage stage : new DeckMetrics.Stage[] { DeckMetrics.Stage.BEAN_VALIDATION, DeckMetrics.Stage.SLUG_CHECKS }) {
+			assertEquals(1, meterRegistry.get(DeckMetrics.STAGE_TIMER_NAME)
+					.tag("stage", stage.getTag())
+					.tag("game.format", "standard")
+					.tag("deck.sets", "1")
+					.timer()
+					.count());
+		}
+	}
+
+	@Test
+	void whenIdenticalRequestIsBeingValidated_shouldShareItsResult() throws Exception {
+		final ClassMetadataEntity classMetadataEntity = new ClassMetadataEntity();
+		classMetadataEntity.setSlug("hunter");
+		final CountDownLatch slugChecksStarted = new CountDownLatch(1);
+		final CountDownLatch releaseSlugChecks = new CountDownLatch(1);
+
+		when(classMetadataService.getClassMetadata()).thenAnswer(invocation -> {
+			slugChecksStarted.countDown();
+			assertTrue(releaseSlugChecks.await(5, TimeUnit.SECONDS));
+			return Collections.singletonList(classMetadataEntity);
+		});
+
+		final CompletableFuture<DeckResponseStatus> first = CompletableFuture.supplyAsync(() -> deckRequestValidator.validateDeckRequest(getValidDeckRequestModel()));
+		assertTrue(slugChecksStarted.await(5, TimeUnit.SECONDS));
+		final CompletableFuture<DeckResponseStatus> second = CompletableFuture.supplyAsync(() -> deckRequestValidator.validateDeckRequest(getValidDeckRequestModel()));
+		while (meterRegistry.get(DeckMetrics.COALESCED_COUNTER_NAME).counter().count() < 1) {
+			Thread.onSpinWait();
+		}
+		releaseSlugChecks.countDown();
+
+		assertEquals(DeckResponseStatus.SUCCESS_RESPONSE, first.get(5, TimeUnit.SECONDS));
+		assertEquals(DeckResponseStatus.SUCCESS_RESPONSE, second.get(5, TimeUnit.SECONDS));
+		verify(classMetadataService, times(1)).getClassMetadata();
+	}
+
+	@Test
+	void whenRequestDifferingInCaseAndSetOrderIsBeingValidated_shouldShareItsResult() throws Exception {
+		final ClassMetadataEntity classMetadataEntity = new ClassMetadataEntity();
+		classMetadataEntity.setSlug("hunter");
+		final CountDownLatch slugChecksStarted = new CountDownLatch(1);
+		final CountDownLatch releaseSlugChecks = new CountDownLatch(1);
+
+		when(classMetadataService.getClassMetadata()).thenAnswer(invocation -> {
+			slugChecksStarted.countDown();
+			assertTrue(releaseSlugChecks.await(5, TimeUnit.SECONDS));
+			return Collections.singletonList(classMetadataEntity);
+		});
+		when(setMetadataService.getSetMetadata()).thenReturn(List.of(setMetadata(1, "core"), setMetadata(2, "legacy")));
+		when(cardService.getCardCountForClassAndSet(anyString(), anyString())).thenReturn(30);
+
+		final DeckRequestModel firstRequest = deckRequest("hunter", "wild", deckSet("core", 5, 5), deckSet("legacy", 5, 5));
+		final DeckRequestModel secondRequest = deckRequest("Hunter", "WILD", deckSet("Legacy", 5, 5), deckSet("CORE", 5, 5));
+		final CompletableFuture<DeckResponseStatus> first = CompletableFuture.supplyAsync(() -> deckRequestValidator.validateDeckRequest(firstRequest));
+		assertTrue(slugChecksStarted.await(5, TimeUnit.SECONDS));
+		final CompletableFuture<DeckResponseStatus> second = CompletableFuture.supplyAsync(() -> deckRequestValidator.validateDeckRequest(secondRequest));
+		while (meterRegistry.get(DeckMetrics.COALESCED_COUNTER_NAME).counter().count() < 1) {
+			Thread.onSpinWait();
+		}
+		releaseSlugChecks.countDown();
+
+		assertEquals(DeckResponseStatus.SUCCESS_RESPONSE, first.get(5, TimeUnit.SECONDS));
+		assertEquals(DeckResponseStatus.SUCCESS_RESPONSE, second.get(5, TimeUnit.SECONDS));
+		verify(classMetadataService, times(1)).getClassMetadata();
+		assertEquals("hunter", secondRequest.getClassName());
+		assertEquals("wild", secondRequest.getGameFormat());
+		assertEquals("legacy", secondRequest.getDeckSets().get(0).getSetName());
 	}
 
 	private DeckRequestModel getValidDeckRequestModel() {
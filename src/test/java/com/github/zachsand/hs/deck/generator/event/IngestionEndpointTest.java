@@ -0,0 +1,88 @@
+package com.github.zachsand.hs.deck.generator.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import com.github.zachsand.hs.deck.generator.event.IngestionEndpoint.IngestionDescriptor;
+import com.github.zachsand.hs.deck.generator.event.IngestionProgress.Phase;
+import com.github.zachsand.hs.deck.generator.event.IngestionProgress.Stage;
+import com.github.zachsand.hs.deck.generator.service.IngestedCardPage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class IngestionEndpointTest {
+
+	@Mock
+	private LoadHearthstoneDataOnStartUpEvent loadHearthstoneDataOnStartUpEvent;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final IngestionProgress ingestionProgress = new IngestionProgress(meterRegistry);
+
+	@Test
+	void whenRefreshIsStarted_shouldAnswerAccepted() {
+		when(loadHearthstoneDataOnStartUpEvent.refresh()).thenReturn(true);
+
+		assertEquals(202, endpoint().refresh().getStatus());
+	}
+
+	@Test
+	void whenLoadIsRunning_shouldRejectRefreshWithConflict() {
+		when(loadHearthstoneDataOnStartUpEvent.refresh()).thenReturn(false);
+		ingestionProgress.tryStart();
+
+		final WebEndpointResponse<IngestionDescriptor> response = endpoint().refresh();
+
+		assertEquals(409, response.getStatus());
+		assertTrue(response.getBody().isRunning());
+		assertFalse(ingestionProgress.tryStart());
+	}
+
+	@Test
+	void whenCardPagesAreIngested_shouldDescribeProgressAndThroughput() {
+		ingestionProgress.tryStart();
+		ingestionProgress.startCardPages(4);
+		ingestionProgress.recordPage(new IngestedCardPage(2_000_000, 1000, 1_000_000, 4_000_000, 500));
+		ingestionProgress.recordPage(new IngestedCardPage(2_000_000, 1000, 1_000_000, 4_000_000, 500));
+
+		final IngestionDescriptor descriptor = endpoint().ingestion();
+
+		assertEquals(Phase.CARD_PAGES, descriptor.getPhase());
+		assertEquals(2, descriptor.getPagesDone());
+		assertEquals(4, descriptor.getPagesTotal());
+		assertEquals(1000, descriptor.getCardsWritten());
+		assertEquals(2000, descriptor.getBytesDownloaded());
+		assertEquals(500_000, descriptor.getStages().get(Stage.FETCH).getThroughputPerSecond(), 0.001);
+		assertEquals(125_000, descriptor.getStages().get(Stage.PERSIST).getThroughputPerSecond(), 0.001);
+		assertNotNull(descriptor.getEstimatedCompletion());
+		assertEquals(1000, meterRegistry.get("deck.ingestion.cards").counter().count());
+	}
+
+	@Test
+	void whenLoadFails_shouldKeepLastErrorAndAllowNextLoad() {
+		ingestionProgress.tryStart();
+		ingestionProgress.fail(new IllegalStateException("Blizzard API unavailable"));
+
+		final IngestionDescriptor descriptor = endpoint().ingestion();
+
+		assertEquals(Phase.FAILED, descriptor.getPhase());
+		assertNull(descriptor.getEstimatedCompletion());
+		assertEquals("java.lang.IllegalStateException: Blizzard API unavailable", descriptor.getLastError());
+		assertTrue(ingestionProgress.tryStart());
+		assertEquals("java.lang.IllegalStateException: Blizzard API unavailable", endpoint().ingestion().getLastError());
+	}
+
+	private IngestionEndpoint endpoint() {
+		return new IngestionEndpoint(ingestionProgress, loadHearthstoneDataOnStartUpEvent);
+	}
+}
@@ -0,0 +1,101 @@
+package com.github.zachsand.hs.deck.generator.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.zachsand.hs.deck.generator.data.model.card.CardPageModel;
+import com.github.zachsand.hs.deck.generator.event.IngestionProgress.Phase;
+import com.github.zachsand.hs.deck.generator.service.CardCatalogService;
+import com.github.zachsand.hs.deck.generator.service.CardService;
+import com.github.zachsand.hs.deck.generator.service.ClassMetadataService;
+import com.github.zachsand.hs.deck.generator.service.IngestedCardPage;
+import com.github.zachsand.hs.deck.generator.service.SetGroupMetadataService;
+import com.github.zachsand.hs.deck.generator.service.SetMetadataService;
+import com.github.zachsand.hs.deck.generator.service.TypeMetadataService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LoadHearthstoneDataOnStartUpEventTest {
+
+	@Mock
+	private CardService cardService;
+
+	@Mock
+	private ClassMetadataService classMetadataService;
+
+	@Mock
+	private SetMetadataService setMetadataService;
+
+	@Mock
+	private SetGroupMetadataService setGroupMetadataService;
+
+	@Mock
+	private TypeMetadataService typeMetadataService;
+
+	@Mock
+	private CardCatalogService cardCatalogService;
+
+	private final List<Runnable> ingestionTasks = new ArrayList<>();
+	private final IngestionProgress ingestionProgress = new IngestionProgress(new SimpleMeterRegistry());
+	private LoadHearthstoneDataOnStartUpEvent loadHearthstoneDataOnStartUpEvent;
+
+	@BeforeEach
+	void setup() {
+		final Executor ingestionTaskExecutor = ingestionTasks::add;
+		loadHearthstoneDataOnStartUpEvent = new LoadHearthstoneDataOnStartUpEvent(cardService, classMetadataService, setMetadataService,
+				setGroupMetadataService, typeMetadataService, cardCatalogService, ingestionTaskExecutor, ingestionProgress);
+
+		final CardPageModel cardPageModel = new CardPageModel();
+		cardPageModel.setPageCount(2);
+		cardPageModel.setCardCount(1000);
+		when(cardService.retrieveCardSearchPageData()).thenReturn(cardPageModel);
+	}
+
+	@Test
+	void whenStartedWithAllCards_shouldSkipCardPages() {
+		when(cardService.getTotalCardCount()).thenReturn(1000L);
+
+		loadHearthstoneDataOnStartUpEvent.loadHearthstoneDataOnStartUp();
+
+		verify(cardService, never()).retrieveAndPersistCardPage(anyInt());
+		verify(cardCatalogService).refresh();
+		assertEquals(Phase.COMPLETED, ingestionProgress.getPhase());
+	}
+
+	@Test
+	void whenRefreshed_shouldIngestCardPagesOnIngestionExecutor() {
+		when(cardService.retrieveAndPersistCardPage(anyInt())).thenReturn(new IngestedCardPage(1_000_000, 1000, 1_000_000, 1_000_000, 500));
+
+		assertTrue(loadHearthstoneDataOnStartUpEvent.refresh());
+		verify(setMetadataService, never()).retrieveAndPersistSetMetadata();
+
+		runIngestionTasks();
+
+		verify(cardService).retrieveAndPersistCardPage(1);
+		verify(cardService).retrieveAndPersistCardPage(2);
+		verify(cardCatalogService).refresh();
+		assertEquals(Phase.COMPLETED, ingestionProgress.getPhase());
+		assertEquals(1000, ingestionProgress.getCardsWritten());
+	}
+
+	private void runIngestionTasks() {
+		while (!ingestionTasks.isEmpty()) {
+			ingestionTasks.remove(0).run();
+		}
+	}
+}
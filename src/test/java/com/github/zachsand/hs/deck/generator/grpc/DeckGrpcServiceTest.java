@@ -0,0 +1,166 @@
+package com.github.zachsand.hs.deck.generator.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.zachsand.hs.deck.generator.config.GrpcConfig;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+import com.github.zachsand.hs.deck.generator.proto.DeckGeneratorGrpc;
+import com.github.zachsand.hs.deck.generator.proto.DeckRequest;
+import com.github.zachsand.hs.deck.generator.proto.DeckResponse;
+import com.github.zachsand.hs.deck.generator.proto.DeckSet;
+import com.github.zachsand.hs.deck.generator.proto.GenerateDecksRequest;
+import com.github.zachsand.hs.deck.generator.service.CardCatalog;
+import com.github.zachsand.hs.deck.generator.service.CardCatalogService;
+import com.github.zachsand.hs.deck.generator.service.DeckGeneratorService;
+import com.google.common.collect.ImmutableList;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class DeckGrpcServiceTest {
+
+	private static final DeckRequest DECK_REQUEST = DeckRequest.newBuilder()
+			.setClassName("hunter")
+			.setGameFormat("standard")
+			.addDeckSets(DeckSet.newBuilder().setSetName("all").setClassSetCount(15).setNeutralSetCount(15))
+			.build();
+
+	@Mock
+	private DeckGeneratorService deckGeneratorService;
+
+	@Mock
+	private DeckRequestValidator deckRequestValidator;
+
+	@Mock
+	private CardCatalogService cardCatalogService;
+
+	private ExecutorService executor;
+	private Server server;
+	private ManagedChannel channel;
+	private DeckGeneratorGrpc.DeckGeneratorBlockingStub stub;
+
+	@BeforeEach
+	void setup() throws IOException {
+		final String serverName = InProcessServerBuilder.generateName();
+		executor = Executors.newSingleThreadExecutor();
+		server = InProcessServerBuilder.forName(serverName)
+				.addService(new DeckGrpcService(deckGeneratorService, deckRequestValidator, cardCatalogService, new GrpcConfig(true, 0, 10)))
+				.executor(executor)
+				.build()
+				.start();
+		channel = InProcessChannelBuilder.forName(serverName).build();
+		stub = DeckGeneratorGrpc.newBlockingStub(channel);
+	}
+
+	@AfterEach
+	void tearDown() {
+		channel.shutdownNow();
+		server.shutdownNow();
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldGenerateDeck() {
+		final CardCatalog cardCatalog = CardCatalog.empty();
+		when(cardCatalogService.getCardSource()).thenReturn(cardCatalog);
+		when(deckRequestValidator.validateDeckRequest(any(DeckRequestModel.class))).thenReturn(DeckResponseStatus.SUCCESS_RESPONSE);
+		when(deckGeneratorService.generateDeck(any(DeckRequestModel.class), eq(cardCatalog), eq(DeckView.CODE))).thenReturn(deckResponse(1));
+
+		final DeckResponse deckResponse = stub.generateDeck(DECK_REQUEST.toBuilder().setCodeOnly(true).build());
+
+		assertEquals("AAECAQcAAAA=", deckResponse.getDeckCode());
+		assertEquals(7L, deckResponse.getCards(0).getId());
+		assertEquals(DeckResponseStatus.ResponseStatus.SUCCESS.name(), deckResponse.getStatus().getStatus());
+	}
+
+	@Test
+	void whenRequestIsInvalid_shouldFailWithInvalidArgument() {
+		when(deckRequestValidator.validateDeckRequest(any(DeckRequestModel.class)))
+				.thenReturn(new DeckResponseStatus(DeckResponseStatus.ResponseStatus.ERROR.name(), List.of("className: must not be blank")));
+
+		final StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, () -> stub.generateDeck(DECK_REQUEST));
+
+		assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+		assertEquals("className: must not be blank", exception.getStatus().getDescription());
+		verify(deckGeneratorService, never()).generateDeck(any(DeckRequestModel.class), any(), any(DeckView.class));
+	}
+
+	@Test
+	void whenValidationFails_shouldFailWithInternal() {
+		when(deckRequestValidator.validateDeckRequest(any(DeckRequestModel.class))).thenThrow(new IllegalStateException("Database down"));
+
+		final StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, () -> stub.generateDeck(DECK_REQUEST));
+		final StatusRuntimeException streamException = assertThrows(StatusRuntimeException.class,
+				() -> stub.generateDecks(GenerateDecksRequest.newBuilder().setRequest(DECK_REQUEST).setCount(3).build()).hasNext());
+
+		assertEquals(Status.Code.INTERNAL, exception.getStatus().getCode());
+		assertEquals("Database down", exception.getStatus().getDescription());
+		assertEquals(Status.Code.INTERNAL, streamException.getStatus().getCode());
+	}
+
+	@Test
+	void shouldStreamDecksAndValidateOnce() {
+		when(cardCatalogService.getCardSource()).thenReturn(CardCatalog.empty());
+		when(deckRequestValidator.validateDeckRequest(any(DeckRequestModel.class))).thenReturn(DeckResponseStatus.SUCCESS_RESPONSE);
+		when(deckGeneratorService.generateDeck(any(DeckRequestModel.class), any(), eq(DeckView.FULL))).thenReturn(deckResponse(1), deckResponse(2), deckResponse(3));
+
+		final List<DeckResponse> deckResponses = ImmutableList.copyOf(stub.generateDecks(GenerateDecksRequest.newBuilder()
+				.setRequest(DECK_REQUEST)
+				.setCount(3)
+				.build()));
+
+		assertEquals(3, deckResponses.size());
+		assertEquals(3, deckResponses.get(2).getId());
+		verify(deckRequestValidator, times(1)).validateDeckRequest(any(DeckRequestModel.class));
+	}
+
+	@Test
+	void whenStreamCountExceedsMaximum_shouldFailWithInvalidArgument() {
+		final GenerateDecksRequest request = GenerateDecksRequest.newBuilder().setRequest(DECK_REQUEST).setCount(11).build();
+
+		final StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, () -> stub.generateDecks(request).hasNext());
+
+		assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+	}
+
+	private static DeckResponseModel deckResponse(final int id) {
+		final CardModel cardModel = new CardModel();
+		cardModel.setId(7L);
+		final DeckResponseModel deckResponseModel = new DeckResponseModel();
+		deckResponseModel.setId(id);
+		deckResponseModel.setDeckCode("AAECAQcAAAA=");
+		deckResponseModel.setCards(Collections.singletonList(cardModel));
+		deckResponseModel.setStatus(DeckResponseStatus.SUCCESS_RESPONSE);
+		return deckResponseModel;
+	}
+}
@@ -0,0 +1,191 @@
+package com.github.zachsand.hs.deck.generator.grpc;
+
+import static com.github.zachsand.hs.deck.generator.TestFixtures.card;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.classMetadata;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.setMetadata;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.typeMetadata;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.config.DeckDeadlineConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckHttpCacheConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckServerTimingConfig;
+import com.github.zachsand.hs.deck.generator.config.GrpcConfig;
+import com.github.zachsand.hs.deck.generator.controller.DeckGeneratorController;
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.DeckEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.TypeMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+import com.github.zachsand.hs.deck.generator.data.repository.DeckRepository;
+import com.github.zachsand.hs.deck.generator.proto.DeckGeneratorGrpc;
+import com.github.zachsand.hs.deck.generator.proto.DeckRequest;
+import com.github.zachsand.hs.deck.generator.proto.DeckSet;
+import com.github.zachsand.hs.deck.generator.service.CardCatalog;
+import com.github.zachsand.hs.deck.generator.service.CardCatalogService;
+import com.github.zachsand.hs.deck.generator.service.CardService;
+import com.github.zachsand.hs.deck.generator.service.DeckCache;
+import com.github.zachsand.hs.deck.generator.service.DeckETagIndex;
+import com.github.zachsand.hs.deck.generator.service.DeckGeneratorService;
+import com.github.zachsand.hs.deck.generator.service.DeckIdempotencyService;
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics;
+import com.github.zachsand.hs.deck.generator.util.DeckProtoUtil;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compares the deck generation throughput of the REST endpoint against the gRPC service. Both paths share the
+ * generation engine drawing from an in-memory catalog, with the database and validation lookups stubbed out, so the
+ * difference is the request decoding and response encoding of the two transports.
+ * <p>
+ * Run with {@code mvn test -Dtest=DeckGrpcThroughputTest -Dthroughput=true}.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "throughput", matches = "true")
+class DeckGrpcThroughputTest {
+
+	private static final int WARMUP_ITERATIONS = 500;
+	private static final int MEASURED_ITERATIONS = 2_000;
+	private static final int CARDS_PER_CLASS = 200;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private MockMvc mockMvc;
+	private Server server;
+	private ManagedChannel channel;
+	private DeckGeneratorGrpc.DeckGeneratorBlockingStub stub;
+	private byte[] jsonRequest;
+	private DeckRequest protoRequest;
+
+	@BeforeEach
+	void setup() throws IOException {
+		final CardCatalog cardCatalog = cardCatalog();
+		final DeckRepository deckRepository = mock(DeckRepository.class);
+		when(deckRepository.save(any(DeckEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		final DeckGeneratorService engine = new DeckGeneratorService(mock(CardService.class), deckRepository, mock(DeckETagIndex.class),
+				mock(DeckCache.class), new DeckMetrics(new SimpleMeterRegistry()));
+
+		final DeckRequestValidator deckRequestValidator = mock(DeckRequestValidator.class);
+		when(deckRequestValidator.validateDeckRequest(any(DeckRequestModel.class))).thenReturn(DeckResponseStatus.SUCCESS_RESPONSE);
+
+		final DeckGeneratorService restDeckGeneratorService = mock(DeckGeneratorService.class);
+		when(restDeckGeneratorService.generateDeck(any(DeckRequestModel.class), any(DeckView.class)))
+				.thenAnswer(invocation -> engine.generateDeck(invocation.getArgument(0), cardCatalog, invocation.getArgument(1)));
+		mockMvc = MockMvcBuilders.standaloneSetup(new DeckGeneratorController(restDeckGeneratorService, deckRequestValidator,
+				mock(DeckETagIndex.class), mock(DeckIdempotencyService.class), new DeckHttpCacheConfig(Duration.ofDays(1), 1),
+				new DeckServerTimingConfig(false), new DeckDeadlineConfig(Duration.ofSeconds(10), Duration.ofSeconds(60)))).build();
+
+		final CardCatalogService cardCatalogService = mock(CardCatalogService.class);
+		when(cardCatalogService.getCardSource()).thenReturn(cardCatalog);
+		final String serverName = InProcessServerBuilder.generateName();
+		server = InProcessServerBuilder.forName(serverName)
+				.addService(new DeckGrpcService(engine, deckRequestValidator, cardCatalogService, new GrpcConfig(true, 0, 1)))
+				.directExecutor()
+				.build()
+				.start();
+		channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+		stub = DeckGeneratorGrpc.newBlockingStub(channel);
+
+		protoRequest = DeckRequest.newBuilder()
+				.setClassName("hunter")
+				.setGameFormat("standard")
+				.addDeckSets(DeckSet.newBuilder().setSetName("all").setClassSetCount(15).setNeutralSetCount(15))
+				.build();
+		jsonRequest = objectMapper.writeValueAsBytes(DeckProtoUtil.toDeckRequestModel(protoRequest));
+	}
+
+	@AfterEach
+	void tearDown() {
+		channel.shutdownNow();
+		server.shutdownNow();
+	}
+
+	@Test
+	void compareRestAndGrpcThroughput() throws Exception {
+		final double rest = measure(this::callRest);
+		final double grpc = measure(() -> stub.generateDeck(protoRequest));
+		final DeckRequest codeOnlyRequest = protoRequest.toBuilder().setCodeOnly(true).build();
+		final double grpcCodeOnly = measure(() -> stub.generateDeck(codeOnlyRequest));
+
+		System.out.printf("REST JSON:         %,.0f decks/s, %,d bytes per response%n", rest, callRest());
+		System.out.printf("gRPC:              %,.0f decks/s, %,d bytes per response%n", grpc, stub.generateDeck(protoRequest).getSerializedSize());
+		System.out.printf("gRPC code only:    %,.0f decks/s, %,d bytes per response%n", grpcCodeOnly,
+				stub.generateDeck(codeOnlyRequest).getSerializedSize());
+		assertTrue(rest > 0 && grpc > 0 && grpcCodeOnly > 0);
+	}
+
+	private int callRest() throws Exception {
+		return mockMvc.perform(post("/api/deck").contentType(MediaType.APPLICATION_JSON).content(jsonRequest))
+				.andReturn()
+				.getResponse()
+				.getContentAsByteArray().length;
+	}
+
+	private static double measure(final Call call) throws Exception {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			call.run();
+		}
+		final long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			call.run();
+		}
+		return MEASURED_ITERATIONS / ((System.nanoTime() - start) / 1e9);
+	}
+
+	private static CardCatalog cardCatalog() {
+		final ClassMetadataEntity hunter = classMetadata(3, "hunter", 31);
+		final ClassMetadataEntity neutral = classMetadata(12, "neutral", 0);
+		final SetMetadataEntity core = setMetadata(1, "core");
+		final TypeMetadataEntity minion = typeMetadata(4);
+
+		final List<CardEntity> cards = new ArrayList<>();
+		for (int i = 0; i < CARDS_PER_CLASS * 2; i++) {
+			final CardEntity card = card(i + 1, i < CARDS_PER_CLASS ? hunter : neutral, core);
+			card.setTypeMetadata(minion);
+			card.setMultiClassMetadata(Collections.emptySet());
+			card.setSlug("card-" + i);
+			card.setName("Card " + i);
+			card.setText("<b>Battlecry:</b> Deal 2 damage to a random enemy minion and give your other minions +1/+1.");
+			card.setFlavorText("A flavor text of roughly the length found on the collectible cards of the game.");
+			card.setArtistName("Artist " + i);
+			card.setImage("https://d15f34w2p8l1cc.cloudfront.net/hearthstone/" + i + "-image.png");
+			card.setImageGold("https://d15f34w2p8l1cc.cloudfront.net/hearthstone/" + i + "-image-gold.png");
+			card.setCropImage("https://d15f34w2p8l1cc.cloudfront.net/hearthstone/" + i + "-crop-image.png");
+			cards.add(card);
+		}
+		return new CardCatalog(cards, List.of(hunter, neutral), List.of(core), Set.of(core), 1);
+	}
+
+	@FunctionalInterface
+	private interface Call {
+
+		Object run() throws Exception;
+	}
+}
@@ -0,0 +1,96 @@
+package com.github.zachsand.hs.deck.generator.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import com.github.zachsand.hs.deck.generator.config.FlightRecordingConfig;
+import com.github.zachsand.hs.deck.generator.jfr.FlightRecordingEndpoint.RecordingDescriptor;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecordingEndpointTest {
+
+	@TempDir
+	Path tempDir;
+
+	private FlightRecordingEndpoint flightRecordingEndpoint;
+
+	@BeforeEach
+	void setup() {
+		flightRecordingEndpoint = new FlightRecordingEndpoint(new FlightRecordingConfig("default", Duration.ofMinutes(5), DataSize.ofMegabytes(16)));
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		if (flightRecordingEndpoint.recording().getStatus() == WebEndpointResponse.STATUS_OK) {
+			flightRecordingEndpoint.stop().getBody().getInputStream().close();
+		}
+	}
+
+	@Test
+	void whenRecordingStopped_shouldReturnRecordingWithDeckEvents() throws IOException {
+		final WebEndpointResponse<RecordingDescriptor> started = flightRecordingEndpoint.start(null);
+		assertEquals(WebEndpointResponse.STATUS_OK, started.getStatus());
+		assertEquals("default", started.getBody().getSettings());
+
+		final DeckStageEvent event = new DeckStageEvent();
+		event.begin();
+		event.commit("deck-code", "standard", 2);
+
+		final WebEndpointResponse<Resource> stopped = flightRecordingEndpoint.stop();
+		assertEquals(WebEndpointResponse.STATUS_OK, stopped.getStatus());
+		final Path file = tempDir.resolve("recording.jfr");
+		try (InputStream inputStream = stopped.getBody().getInputStream()) {
+			Files.copy(inputStream, file);
+		}
+
+		final List<RecordedEvent> stageEvents = RecordingFile.readAllEvents(file);
+		assertTrue(stageEvents.stream().noneMatch(recordedEvent -> recordedEvent.getEventType().getName().equals("jdk.InitialEnvironmentVariable")),
+				"The recording should not contain the environment variables");
+		stageEvents.removeIf(recordedEvent -> !recordedEvent.getEventType().getName().equals(DeckStageEvent.NAME));
+		assertEquals(1, stageEvents.size());
+		assertEquals("deck-code", stageEvents.get(0).getString("stage"));
+		assertEquals(2, stageEvents.get(0).getInt("deckSets"));
+		assertFalse(stopped.getBody().exists(), "The temporary recording file should be deleted once read");
+	}
+
+	@Test
+	void whenRecordingRunning_shouldRejectSecondStart() {
+		flightRecordingEndpoint.start("profile");
+
+		final WebEndpointResponse<RecordingDescriptor> response = flightRecordingEndpoint.start(null);
+
+		assertEquals(409, response.getStatus());
+		assertEquals("profile", response.getBody().getSettings());
+	}
+
+	@Test
+	void whenSettingsUnknown_shouldAnswerBadRequest() {
+		assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, flightRecordingEndpoint.start("notasetting").getStatus());
+		assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, flightRecordingEndpoint.recording().getStatus());
+	}
+
+	@Test
+	void whenNoRecordingRunning_shouldAnswerNotFound() {
+		assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, flightRecordingEndpoint.stop().getStatus());
+		assertNull(flightRecordingEndpoint.recording().getBody());
+	}
+}
@@ -0,0 +1,197 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import static com.github.zachsand.hs.deck.generator.TestFixtures.card;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.classMetadata;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckRequest;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckSet;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.setMetadata;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.typeMetadata;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.config.DeckCacheConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckHttpCacheConfig;
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.DeckEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetGroupMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.TypeMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+import com.github.zachsand.hs.deck.generator.data.repository.DeckRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Fails when an operation of the request path allocates more bytes than its budget in {@code allocation-budgets.properties}.
+ * A budget can be overridden with a system property of the same name, for example
+ * {@code -Dallocation.budget.generateDeck=40000}.
+ * <p>
+ * The bytes are counted with the allocation counter of the current thread, averaged over many calls after a warm up so
+ * that the JIT compiled code is measured. The collaborators are plain in-memory implementations rather than mocks, since
+ * mocks allocate on every call.
+ * </p>
+ */
+class AllocationBudgetTest {
+
+	private static final int WARMUP_CALLS = 20_000;
+	private static final int MEASURED_CALLS = 5_000;
+	private static final String[] SET_SLUGS = { "core", "legacy" };
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private static Properties budgets;
+
+	private DeckGeneratorService deckGeneratorService;
+	private DeckRequestValidator deckRequestValidator;
+	private CardCatalog cardCatalog;
+	private DeckRequestModel deckRequestModel;
+
+	@BeforeAll
+	static void loadBudgets() throws IOException {
+		assumeTrue(THREAD_MX_BEAN.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported by this JVM");
+		THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+		budgets = new Properties();
+		try (InputStream inputStream = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+			budgets.load(inputStream);
+		}
+	}
+
+	@BeforeEach
+	void setup() {
+		final List<ClassMetadataEntity> classMetadata = List.of(classMetadata(1, "neutral", 0), classMetadata(3, "hunter", 31));
+		final List<SetMetadataEntity> setMetadata = List.of(setMetadata(1, SET_SLUGS[0]), setMetadata(2, SET_SLUGS[1]));
+		final TypeMetadataEntity minion = typeMetadata(4);
+		final List<CardEntity> cards = new ArrayList<>();
+		for (final ClassMetadataEntity classMetadataEntity : classMetadata) {
+			for (final SetMetadataEntity setMetadataEntity : setMetadata) {
+				for (int index = 0; index < 40; index++) {
+					cards.add(minionCard(1000 + cards.size(), classMetadataEntity, setMetadataEntity, minion));
+				}
+			}
+		}
+		cardCatalog = new CardCatalog(cards, classMetadata, setMetadata, setMetadata.subList(0, 1), 1);
+
+		final SetGroupMetadataEntity standard = new SetGroupMetadataEntity();
+		standard.setSlug("standard");
+		standard.setCardSets(Set.of(setMetadata.get(0)));
+		final ClassMetadataService classMetadataService = new ClassMetadataService(null, null, null) {
+
+			@Override
+			public List<ClassMetadataEntity> getClassMetadata() {
+				return classMetadata;
+			}
+		};
+		final SetMetadataService setMetadataService = new SetMetadataService(null, null, null) {
+
+			@Override
+			public List<SetMetadataEntity> getSetMetadata() {
+				return setMetadata;
+			}
+		};
+		final SetGroupMetadataService setGroupMetadataService = new SetGroupMetadataService(null, null, null, setMetadataService) {
+
+			@Override
+			public List<SetGroupMetadataEntity> getSetGroupMetadata() {
+				return List.of(standard);
+			}
+		};
+		final CardService cardService = new CardService(null, new ObjectMapper(), null, classMetadataService, null, setMetadataService) {
+
+			@Override
+			public int getCardCountForClassAndSet(final String classSlugName, final String setSlugName) {
+				return 40;
+			}
+		};
+		final DeckMetrics deckMetrics = new DeckMetrics(new SimpleMeterRegistry());
+		deckRequestValidator = new DeckRequestValidator(setGroupMetadataService, setMetadataService, classMetadataService, cardService, deckMetrics);
+		deckGeneratorService = new DeckGeneratorService(cardService, deckRepository(), new DeckETagIndex(new DeckHttpCacheConfig(Duration.ofDays(1), 1000)),
+				new DeckCache(new DeckCacheConfig(1024 * 1024, Duration.ofHours(1), Duration.ofMinutes(1)), new SimpleMeterRegistry()), deckMetrics);
+
+		deckRequestModel = deckRequest("hunter", "standard", deckSet(SET_SLUGS[0], 15, 15));
+	}
+
+	@Test
+	void generateDeckShouldStayWithinBudget() {
+		assertWithinBudget("generateDeck", () -> deckGeneratorService.generateDeck(deckRequestModel, cardCatalog, DeckView.FULL));
+	}
+
+	@Test
+	void getDeckShouldStayWithinBudget() {
+		final int id = deckGeneratorService.generateDeck(deckRequestModel, cardCatalog, DeckView.FULL).getId();
+
+		assertWithinBudget("getDeck", () -> deckGeneratorService.getDeck(id, DeckView.SLIM));
+	}
+
+	@Test
+	void validateDeckRequestShouldStayWithinBudget() {
+		assertEquals(DeckResponseStatus.SUCCESS_RESPONSE, deckRequestValidator.validateDeckRequest(deckRequestModel));
+
+		assertWithinBudget("validateDeckRequest", () -> deckRequestValidator.validateDeckRequest(deckRequestModel));
+	}
+
+	private static void assertWithinBudget(final String operation, final Supplier<?> call) {
+		final String budgetName = "allocation.budget." + operation;
+		final long budget = Long.parseLong(System.getProperty(budgetName, budgets.getProperty(budgetName)));
+		for (int i = 0; i < WARMUP_CALLS; i++) {
+			call.get();
+		}
+
+		final long threadId = Thread.currentThread().getId();
+		final long before = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < MEASURED_CALLS; i++) {
+			call.get();
+		}
+		final long bytesPerCall = (THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - before) / MEASURED_CALLS;
+
+		assertTrue(bytesPerCall <= budget, operation + " allocated " + bytesPerCall + " bytes per call, over its budget of " + budget + " bytes");
+	}
+
+	private static DeckRepository deckRepository() {
+		final AtomicInteger ids = new AtomicInteger();
+		return (DeckRepository) Proxy.newProxyInstance(DeckRepository.class.getClassLoader(), new Class<?>[] { DeckRepository.class },
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+						case "save":
+							final DeckEntity deckEntity = (DeckEntity) args[0];
+							deckEntity.setId(ids.incrementAndGet());
+							return deckEntity;
+						case "findWithCardsById":
+							return Optional.empty();
+						default:
+							throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+
+	private static CardEntity minionCard(final int id, final ClassMetadataEntity classMetadata, final SetMetadataEntity setMetadata,
+			final TypeMetadataEntity typeMetadata) {
+		final CardEntity card = card(id, classMetadata, setMetadata);
+		card.setSlug(id + "-card");
+		card.setTypeMetadata(typeMetadata);
+		card.setName("Card " + id);
+		card.setText("<b>Battlecry:</b> Draw a card.");
+		return card;
+	}
+}
@@ -0,0 +1,97 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import static com.github.zachsand.hs.deck.generator.TestFixtures.card;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.classMetadata;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.setMetadata;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.zachsand.hs.deck.generator.data.entity.CardEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.ClassMetadataEntity;
+import com.github.zachsand.hs.deck.generator.data.entity.SetMetadataEntity;
+
+class CardCatalogTest {
+
+	private static final int HUNTER_ID = 3;
+	private static final int MAGE_ID = 4;
+	private static final int NEUTRAL_ID = 12;
+	private static final int STANDARD_SET_ID = 1;
+	private static final int WILD_SET_ID = 2;
+
+	private CardCatalog cardCatalog;
+
+	@BeforeEach
+	void setup() {
+		final ClassMetadataEntity hunter = classMetadata(HUNTER_ID, "hunter", 31);
+		final ClassMetadataEntity mage = classMetadata(MAGE_ID, "mage", 637);
+		final ClassMetadataEntity neutral = classMetadata(NEUTRAL_ID, "neutral", 0);
+		final SetMetadataEntity standardSet = setMetadata(STANDARD_SET_ID, "core");
+		final SetMetadataEntity wildSet = setMetadata(WILD_SET_ID, "naxxramas");
+
+		final CardEntity dualClassCard = card(5, neutral, standardSet);
+		dualClassCard.setMultiClassMetadata(Set.of(hunter, mage));
+
+		cardCatalog = new CardCatalog(
+				List.of(card(1, hunter, standardSet), card(2, hunter, wildSet), card(3, neutral, standardSet), card(4, neutral, wildSet), dualClassCard),
+				List.of(hunter, mage, neutral),
+				List.of(standardSet, wildSet),
+				List.of(standardSet),
+				1);
+	}
+
+	@Test
+	void whenDrawingMoreThanAvailable_shouldDrawEachCardTwice() {
+		final List<CardEntity> cards = cardCatalog.getRandomCards("hunter", 30);
+
+		assertEquals(Map.of(1, 2L, 2, 2L, 5, 2L), countById(cards));
+	}
+
+	@Test
+	void whenDrawingStandardCards_shouldOnlyDrawFromStandardSets() {
+		final List<CardEntity> cards = cardCatalog.getRandomStandardCards("neutral", 30);
+
+		assertEquals(Map.of(3, 2L), countById(cards));
+	}
+
+	@Test
+	void whenDrawingSetCards_shouldOnlyDrawFromSetAndClass() {
+		final List<CardEntity> cards = cardCatalog.getRandomSetCards("core", "mage", 30);
+
+		assertEquals(Map.of(5, 2L), countById(cards));
+	}
+
+	@Test
+	void whenDrawingLimitedCards_shouldDrawLimit() {
+		final List<CardEntity> cards = cardCatalog.getRandomCards("hunter", 5);
+
+		assertEquals(5, cards.size());
+		assertTrue(countById(cards).values().stream().allMatch(count -> count <= 2));
+	}
+
+	@Test
+	void whenUnknownClass_shouldDrawNothing() {
+		assertTrue(cardCatalog.getRandomCards("notaclass", 10).isEmpty());
+		assertTrue(cardCatalog.getRandomSetCards("core", "notaclass", 10).isEmpty());
+		assertTrue(cardCatalog.getRandomCards("hunter", 0).isEmpty());
+		assertThrows(IllegalStateException.class, () -> cardCatalog.getHeroCardId("notaclass"));
+	}
+
+	@Test
+	void shouldReturnHeroCardId() {
+		assertEquals(637, cardCatalog.getHeroCardId("mage"));
+	}
+
+	private static Map<Integer, Long> countById(final List<CardEntity> cards) {
+		return cards.stream().map(CardEntity::getId).collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+	}
+}
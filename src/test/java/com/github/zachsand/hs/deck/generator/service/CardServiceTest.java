@@ -1,5 +1,6 @@
 package com.github.zachsand.hs.deck.generator.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -7,6 +8,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -73,7 +75,7 @@ class CardServiceTest {
 	}
 
 	@Test
-	void testRetrieveAndPersistCardPage() throws JsonProcessingException {
+	void testRetrieveAndPersistCardPage() throws IOException {
 		int pageNum = 1;
 		int cardId = 10;
 		int classId = 3;
@@ -92,8 +94,9 @@ class CardServiceTest {
 		SetMetadataEntity setMetadataEntity = new SetMetadataEntity();
 		setMetadataEntity.setId(setId);
 
-		when(battlenetClient.retrieveCardPage(pageNum)).thenReturn(StringUtils.EMPTY);
-		when(objectMapper.readValue(StringUtils.EMPTY, CardsModel.class)).thenReturn(cardsModel);
+		final byte[] cardPage = new byte[16];
+		when(battlenetClient.retrieveCardPage(pageNum)).thenReturn(cardPage);
+		when(objectMapper.readValue(cardPage, CardsModel.class)).thenReturn(cardsModel);
 		when(setMetadataService.getSetMetadata()).thenReturn(List.of(setMetadataEntity));
 		when(typeMetadataService.getTypeIdForHeroCards()).thenReturn(1);
 		when(typeMetadataService.getTypeMetadataById(cardTypeId)).thenReturn(new TypeMetadataEntity());
@@ -102,9 +105,11 @@ class CardServiceTest {
 
 		when(cardRepository.saveAll(anyList())).thenReturn(List.of());
 
-		cardService.retrieveAndPersistCardPage(1);
+		final IngestedCardPage ingestedCardPage = cardService.retrieveAndPersistCardPage(1);
 
 		verify(objectMapper).configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+		assertEquals(cardPage.length, ingestedCardPage.getBytes());
+		assertEquals(0, ingestedCardPage.getCardsWritten());
 	}
 
 }
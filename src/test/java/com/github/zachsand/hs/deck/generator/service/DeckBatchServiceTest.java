@@ -0,0 +1,159 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckRequest;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckSet;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.hunterCatalog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.zachsand.hs.deck.generator.config.DeckBatchConfig;
+import com.github.zachsand.hs.deck.generator.data.entity.DeckEntity;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseStatus;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckSetModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.data.model.deck.validator.DeckRequestValidator;
+import com.github.zachsand.hs.deck.generator.data.repository.DeckRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class DeckBatchServiceTest {
+
+	@Mock
+	private CardService cardService;
+
+	@Mock
+	private DeckRepository deckRepository;
+
+	@Mock
+	private DeckETagIndex deckETagIndex;
+
+	@Mock
+	private DeckCache deckCache;
+
+	@Mock
+	private DeckRequestValidator deckRequestValidator;
+
+	@Mock
+	private CardCatalogService cardCatalogService;
+
+	private ForkJoinPool forkJoinPool;
+	private DeckBatchService deckBatchService;
+
+	@BeforeEach
+	void setup() {
+		forkJoinPool = new ForkJoinPool(2);
+		final DeckGeneratorService deckGeneratorService = new DeckGeneratorService(cardService, deckRepository, deckETagIndex, deckCache,
+				new DeckMetrics(new SimpleMeterRegistry()));
+		deckBatchService = new DeckBatchService(deckGeneratorService, deckRequestValidator, cardCatalogService, new DeckBatchConfig(10, 2, 100, 4, 1, 0, Duration.ofMinutes(1)),
+				forkJoinPool, new ObjectMapper());
+	}
+
+	@AfterEach
+	void tearDown() {
+		forkJoinPool.shutdown();
+	}
+
+	@Test
+	void whenRequestIsRepeated_shouldValidateOnce() {
+		when(deckRequestValidator.validateDeckRequest(any(DeckRequestModel.class))).thenReturn(DeckResponseStatus.SUCCESS_RESPONSE);
+		final DeckBatchRequestModel deckBatchRequestModel = new DeckBatchRequestModel();
+		deckBatchRequestModel.setRequests(List.of(singleCardRequest("hunter"), singleCardRequest("hunter"), singleCardRequest("mage")));
+
+		assertEquals(DeckResponseStatus.SUCCESS_RESPONSE, deckBatchService.validateDeckBatchRequest(deckBatchRequestModel));
+		verify(deckRequestValidator, times(2)).validateDeckRequest(any(DeckRequestModel.class));
+	}
+
+	@Test
+	void whenBatchIsTooLarge_shouldReturnError() {
+		final DeckBatchRequestModel deckBatchRequestModel = new DeckBatchRequestModel();
+		deckBatchRequestModel.setRequest(singleCardRequest("hunter"));
+		deckBatchRequestModel.setCount(11);
+
+		assertEquals(DeckResponseStatus.ResponseStatus.ERROR.name(), deckBatchService.validateDeckBatchRequest(deckBatchRequestModel).getStatus());
+	}
+
+	@Test
+	void whenUnique_shouldGenerateDistinctDecksInOneBatchInsert() {
+		when(cardCatalogService.getCardSource()).thenReturn(hunterCatalog());
+		when(deckRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		final DeckBatchRequestModel deckBatchRequestModel = uniqueBatch(2);
+
+		final List<DeckResponseModel> decks = deckBatchService.generateDecks(deckBatchRequestModel, DeckView.FULL);
+
+		assertEquals(2, decks.size());
+		assertEquals(2, decks.stream().map(deck -> deck.getCards().get(0).getId()).collect(Collectors.toSet()).size());
+		verify(deckRepository, times(1)).saveAll(anyList());
+		verify(deckRepository, times(0)).save(any(DeckEntity.class));
+	}
+
+	@Test
+	void whenUniqueDecksAreExhausted_shouldThrow() {
+		when(cardCatalogService.getCardSource()).thenReturn(hunterCatalog());
+		final DeckBatchRequestModel deckBatchRequestModel = uniqueBatch(3);
+
+		assertThrows(IllegalStateException.class, () -> deckBatchService.generateDecks(deckBatchRequestModel, DeckView.FULL));
+	}
+
+	@Test
+	void whenStreamingUnique_shouldReturnError() {
+		assertEquals(DeckResponseStatus.ResponseStatus.ERROR.name(), deckBatchService.validateDeckStreamRequest(uniqueBatch(2)).getStatus());
+	}
+
+	@Test
+	void whenStreaming_shouldWriteOneLinePerDeckInChunks() throws IOException {
+		when(cardCatalogService.getCardSource()).thenReturn(hunterCatalog());
+		when(deckRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		final DeckBatchRequestModel deckBatchRequestModel = new DeckBatchRequestModel();
+		deckBatchRequestModel.setRequest(singleCardRequest("hunter"));
+		deckBatchRequestModel.setCount(10);
+		deckBatchRequestModel.setCodeOnly(true);
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		deckBatchService.streamDecks(deckBatchRequestModel, DeckView.FULL, outputStream);
+
+		final String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(10, lines.length);
+		for (final String line : lines) {
+			assertEquals(1, new ObjectMapper().readValue(line, DeckResponseModel.class).getCards().size());
+		}
+		verify(deckRepository, times(3)).saveAll(anyList());
+	}
+
+	private static DeckBatchRequestModel uniqueBatch(final int count) {
+		final DeckBatchRequestModel deckBatchRequestModel = new DeckBatchRequestModel();
+		deckBatchRequestModel.setRequest(singleCardRequest("hunter"));
+		deckBatchRequestModel.setCount(count);
+		deckBatchRequestModel.setUnique(true);
+		deckBatchRequestModel.setCodeOnly(true);
+		return deckBatchRequestModel;
+	}
+
+	private static DeckRequestModel singleCardRequest(final String className) {
+		return deckRequest(className, "wild", deckSet(DeckSetModel.CUSTOM_SET_USE_ALL, 1, 0));
+	}
+}
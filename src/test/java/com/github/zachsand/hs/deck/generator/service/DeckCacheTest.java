@@ -0,0 +1,83 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.zachsand.hs.deck.generator.config.DeckCacheConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DeckCacheTest {
+
+	private MeterRegistry meterRegistry;
+	private DeckCache deckCache;
+	private AtomicInteger loads;
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		deckCache = new DeckCache(new DeckCacheConfig(1024 * 1024, Duration.ofHours(1), Duration.ofMinutes(1)), meterRegistry);
+		loads = new AtomicInteger();
+	}
+
+	@Test
+	void whenDeckIsCached_shouldLoadOnce() {
+		assertEquals("AAECAQcAAAA=", deckCache.get(1, this::loadDeck).orElseThrow().getDeckCode());
+		assertEquals("AAECAQcAAAA=", deckCache.get(1, this::loadDeck).orElseThrow().getDeckCode());
+
+		assertEquals(1, loads.get());
+		assertEquals(0.5, meterRegistry.get("cache.hit.ratio").tag("cache", DeckCache.CACHE_NAME).gauge().value());
+	}
+
+	@Test
+	void whenDeckIsMissing_shouldCacheAbsence() {
+		assertTrue(deckCache.get(2, this::loadMissingDeck).isEmpty());
+		assertTrue(deckCache.get(2, this::loadMissingDeck).isEmpty());
+
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void whenDeckIsStored_shouldReplaceAbsence() {
+		deckCache.get(1, this::loadMissingDeck);
+		deckCache.put(deck(1));
+
+		assertTrue(deckCache.get(1, this::loadMissingDeck).isPresent());
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void whenDeckIsInvalidated_shouldLoadAgain() {
+		deckCache.get(1, this::loadDeck);
+		deckCache.invalidate(1);
+
+		assertTrue(deckCache.get(1, this::loadMissingDeck).isEmpty());
+		assertEquals(2, loads.get());
+	}
+
+	private Optional<DeckResponseModel> loadDeck(final Integer id) {
+		loads.incrementAndGet();
+		return Optional.of(deck(id));
+	}
+
+	private Optional<DeckResponseModel> loadMissingDeck(final Integer id) {
+		loads.incrementAndGet();
+		return Optional.empty();
+	}
+
+	private static DeckResponseModel deck(final int id) {
+		final DeckResponseModel deckResponseModel = new DeckResponseModel();
+		deckResponseModel.setId(id);
+		deckResponseModel.setDeckCode("AAECAQcAAAA=");
+		return deckResponseModel;
+	}
+}
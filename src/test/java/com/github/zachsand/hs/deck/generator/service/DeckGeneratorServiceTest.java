@@ -0,0 +1,119 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckRequest;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckSet;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.hunterCatalog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.zachsand.hs.deck.generator.config.DeckCacheConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckHttpCacheConfig;
+import com.github.zachsand.hs.deck.generator.data.entity.DeckEntity;
+import com.github.zachsand.hs.deck.generator.data.model.card.CardModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckSetModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+import com.github.zachsand.hs.deck.generator.data.repository.DeckRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class DeckGeneratorServiceTest {
+
+	@Mock
+	private CardService cardService;
+
+	@Mock
+	private DeckRepository deckRepository;
+
+	private DeckCache deckCache;
+	private DeckGeneratorService deckGeneratorService;
+
+	@BeforeEach
+	void setup() {
+		deckCache = new DeckCache(new DeckCacheConfig(1024 * 1024, Duration.ofHours(1), Duration.ofMinutes(1)), new SimpleMeterRegistry());
+		deckGeneratorService = new DeckGeneratorService(cardService, deckRepository, new DeckETagIndex(new DeckHttpCacheConfig(Duration.ofDays(1), 10)),
+				deckCache, new DeckMetrics(new SimpleMeterRegistry()));
+	}
+
+	@Test
+	void whenDeckIsEvictedFromCache_shouldLoadItsPersistedCards() {
+		when(deckRepository.save(any(DeckEntity.class))).thenAnswer(invocation -> {
+			final DeckEntity deckEntity = invocation.getArgument(0);
+			deckEntity.setId(1);
+			return deckEntity;
+		});
+		final DeckResponseModel generated = deckGeneratorService.generateDeck(deckRequest("hunter", "wild", deckSet(DeckSetModel.CUSTOM_SET_USE_ALL, 2, 0)),
+				hunterCatalog());
+
+		final ArgumentCaptor<DeckEntity> saved = ArgumentCaptor.forClass(DeckEntity.class);
+		verify(deckRepository).save(saved.capture());
+		deckCache.invalidate(1);
+		when(deckRepository.findWithCardsById(1)).thenReturn(Optional.of(saved.getValue()));
+
+		final DeckResponseModel loaded = deckGeneratorService.getDeck(1, DeckView.FULL).orElseThrow();
+		assertEquals(generated.getDeckCode(), loaded.getDeckCode());
+		assertEquals(2, loaded.getCards().size());
+		assertEquals(cardIds(generated), cardIds(loaded));
+	}
+
+	@Test
+	void whenUnknownDeckIsBatchCreated_shouldNoLongerAnswerNotFound() {
+		when(deckRepository.findWithCardsById(1)).thenReturn(Optional.empty());
+		assertTrue(deckGeneratorService.getDeck(1, DeckView.FULL).isEmpty());
+
+		when(deckRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			final List<DeckEntity> deckEntities = invocation.getArgument(0);
+			deckEntities.get(0).setId(1);
+			return deckEntities;
+		});
+		final List<DeckResponseModel> generated = deckGeneratorService.generateDecks(
+				List.of(deckRequest("hunter", "wild", deckSet(DeckSetModel.CUSTOM_SET_USE_ALL, 2, 0))), hunterCatalog(), false, DeckView.CODE,
+				ForkJoinPool.commonPool());
+		final ArgumentCaptor<List<DeckEntity>> saved = ArgumentCaptor.forClass(List.class);
+		verify(deckRepository).saveAll(saved.capture());
+		when(deckRepository.findWithCardsById(1)).thenReturn(Optional.of(saved.getValue().get(0)));
+
+		assertEquals(generated.get(0).getDeckCode(), deckGeneratorService.getDeck(1, DeckView.FULL).orElseThrow().getDeckCode());
+	}
+
+	@Test
+	void whenUnknownDeckIsCreatedWithCodeView_shouldNoLongerAnswerNotFound() {
+		when(deckRepository.findWithCardsById(1)).thenReturn(Optional.empty());
+		assertTrue(deckGeneratorService.getDeck(1, DeckView.FULL).isEmpty());
+
+		when(deckRepository.save(any(DeckEntity.class))).thenAnswer(invocation -> {
+			final DeckEntity deckEntity = invocation.getArgument(0);
+			deckEntity.setId(1);
+			return deckEntity;
+		});
+		final DeckResponseModel generated = deckGeneratorService.generateDeck(deckRequest("hunter", "wild", deckSet(DeckSetModel.CUSTOM_SET_USE_ALL, 2, 0)),
+				hunterCatalog(), DeckView.CODE);
+		final ArgumentCaptor<DeckEntity> saved = ArgumentCaptor.forClass(DeckEntity.class);
+		verify(deckRepository).save(saved.capture());
+		when(deckRepository.findWithCardsById(1)).thenReturn(Optional.of(saved.getValue()));
+
+		assertEquals(generated.getDeckCode(), deckGeneratorService.getDeck(1, DeckView.FULL).orElseThrow().getDeckCode());
+	}
+
+	private static List<Long> cardIds(final DeckResponseModel deckResponseModel) {
+		return deckResponseModel.getCards().stream().map(CardModel::getId).collect(Collectors.toList());
+	}
+}
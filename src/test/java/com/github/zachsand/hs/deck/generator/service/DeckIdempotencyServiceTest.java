@@ -0,0 +1,199 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckRequest;
+import static com.github.zachsand.hs.deck.generator.TestFixtures.deckSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.github.zachsand.hs.deck.generator.config.DeckIdempotencyConfig;
+import com.github.zachsand.hs.deck.generator.data.entity.IdempotencyKeyEntity;
+import com.github.zachsand.hs.deck.generator.data.repository.IdempotencyKeyRepository;
+import com.github.zachsand.hs.deck.generator.service.DeckIdempotencyService.Claim;
+import com.github.zachsand.hs.deck.generator.service.DeckIdempotencyService.ClaimState;
+
+class DeckIdempotencyServiceTest {
+
+	private static final String KEY = "retry-1";
+	private static final String REQUEST_HASH = "hash-1";
+
+	private IdempotencyKeyRepository idempotencyKeyRepository;
+	private DeckIdempotencyService deckIdempotencyService;
+
+	@BeforeEach
+	void setUp() {
+		idempotencyKeyRepository = mock(IdempotencyKeyRepository.class);
+		deckIdempotencyService = new DeckIdempotencyService(idempotencyKeyRepository,
+				new DeckIdempotencyConfig(100, Duration.ofHours(24), Duration.ofHours(1), Duration.ofMinutes(2)));
+	}
+
+	@Test
+	void whenKeyIsNew_shouldStoreDeckAndReplayItWithoutDatabase() {
+		when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty());
+
+		final Claim claim = deckIdempotencyService.claim(KEY, REQUEST_HASH);
+		assertEquals(ClaimState.NEW, claim.getState());
+		final ArgumentCaptor<IdempotencyKeyEntity> claimed = ArgumentCaptor.forClass(IdempotencyKeyEntity.class);
+		verify(idempotencyKeyRepository).saveAndFlush(claimed.capture());
+		assertEquals(KEY, claimed.getValue().getId());
+		assertNull(claimed.getValue().getDeckId());
+		assertEquals(REQUEST_HASH, claimed.getValue().getRequestHash());
+
+		deckIdempotencyService.complete(claim, 7);
+		verify(idempotencyKeyRepository).complete(KEY, 7);
+
+		final Claim replay = deckIdempotencyService.claim(KEY, REQUEST_HASH);
+		assertEquals(ClaimState.REPLAY, replay.getState());
+		assertEquals(7, replay.getDeckId());
+		verify(idempotencyKeyRepository, times(1)).findById(KEY);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestDeadline.stop();
+	}
+
+	@Test
+	void whenDeadlinePassesBetweenSaveAndCompletion_shouldStillStoreAndReleaseKeys() {
+		when(idempotencyKeyRepository.findById(any(String.class))).thenReturn(Optional.empty());
+		/* Like the statement deadline listener, the repository refuses statements once the request deadline has passed */
+		final AtomicInteger statements = new AtomicInteger();
+		doAnswer(invocation -> {
+			RequestDeadline.check("completing the idempotency key");
+			statements.incrementAndGet();
+			return 1;
+		}).when(idempotencyKeyRepository).complete(KEY, 7);
+		doAnswer(invocation -> {
+			RequestDeadline.check("releasing the idempotency key");
+			statements.incrementAndGet();
+			return 1;
+		}).when(idempotencyKeyRepository).deletePending("retry-2");
+
+		RequestDeadline.start(Duration.ofMinutes(1));
+		final Claim completed = deckIdempotencyService.claim(KEY, REQUEST_HASH);
+		final Claim abandoned = deckIdempotencyService.claim("retry-2", REQUEST_HASH);
+		RequestDeadline.start(Duration.ZERO);
+		deckIdempotencyService.complete(completed, 7);
+		deckIdempotencyService.abandon(abandoned);
+
+		assertEquals(2, statements.get());
+		assertTrue(RequestDeadline.isExpired(), "The deadline of the request should be restored");
+	}
+
+	@Test
+	void whenDuplicateArrivesWhileFirstRequestRuns_shouldWaitForItsDeck() throws Exception {
+		when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty());
+		final Claim claim = deckIdempotencyService.claim(KEY, REQUEST_HASH);
+
+		final CompletableFuture<Claim> duplicate = CompletableFuture.supplyAsync(() -> deckIdempotencyService.claim(KEY, REQUEST_HASH));
+		deckIdempotencyService.complete(claim, 7);
+
+		final Claim replay = duplicate.get(5, TimeUnit.SECONDS);
+		assertEquals(ClaimState.REPLAY, replay.getState());
+		assertEquals(7, replay.getDeckId());
+	}
+
+	@Test
+	void whenFirstRequestGeneratesNoDeck_shouldLetDuplicateClaimKey() throws Exception {
+		when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty());
+		final Claim claim = deckIdempotencyService.claim(KEY, REQUEST_HASH);
+
+		final CompletableFuture<Claim> duplicate = CompletableFuture.supplyAsync(() -> deckIdempotencyService.claim(KEY, REQUEST_HASH));
+		deckIdempotencyService.abandon(claim);
+
+		assertEquals(ClaimState.NEW, duplicate.get(5, TimeUnit.SECONDS).getState());
+		verify(idempotencyKeyRepository, times(2)).findById(KEY);
+		verify(idempotencyKeyRepository).deletePending(KEY);
+	}
+
+	@Test
+	void whenKeyIsStored_shouldReplayItsDeckForSameRequestOnly() {
+		when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.of(new IdempotencyKeyEntity(KEY, 7, REQUEST_HASH, Instant.now())));
+
+		final Claim replay = deckIdempotencyService.claim(KEY, REQUEST_HASH);
+		assertEquals(ClaimState.REPLAY, replay.getState());
+		assertEquals(7, replay.getDeckId());
+
+		assertEquals(ClaimState.MISMATCH, deckIdempotencyService.claim(KEY, "hash-2").getState());
+	}
+
+	@Test
+	void whenStoredKeyHasExpired_shouldClaimItAgain() {
+		when(idempotencyKeyRepository.findById(KEY))
+				.thenReturn(Optional.of(new IdempotencyKeyEntity(KEY, 7, REQUEST_HASH, Instant.now().minus(Duration.ofDays(2)))), Optional.empty());
+
+		assertEquals(ClaimState.NEW, deckIdempotencyService.claim(KEY, REQUEST_HASH).getState());
+		verify(idempotencyKeyRepository).deleteByKeyCreatedBefore(eq(KEY), any(Instant.class));
+	}
+
+	@Test
+	void whenKeyIsClaimedOnAnotherNode_shouldAnswerInProgress() {
+		when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.of(new IdempotencyKeyEntity(KEY, null, REQUEST_HASH, Instant.now())));
+
+		assertEquals(ClaimState.IN_PROGRESS, deckIdempotencyService.claim(KEY, REQUEST_HASH).getState());
+		assertEquals(ClaimState.IN_PROGRESS, deckIdempotencyService.claim(KEY, REQUEST_HASH).getState());
+		verify(idempotencyKeyRepository, times(0)).saveAndFlush(any(IdempotencyKeyEntity.class));
+	}
+
+	@Test
+	void whenClaimOnAnotherNodeHasTimedOut_shouldClaimItAgain() {
+		when(idempotencyKeyRepository.findById(KEY))
+				.thenReturn(Optional.of(new IdempotencyKeyEntity(KEY, null, REQUEST_HASH, Instant.now().minus(Duration.ofMinutes(5)))), Optional.empty());
+
+		assertEquals(ClaimState.NEW, deckIdempotencyService.claim(KEY, REQUEST_HASH).getState());
+		verify(idempotencyKeyRepository).deleteByKeyCreatedBefore(eq(KEY), any(Instant.class));
+	}
+
+	@Test
+	void whenAnotherNodeInsertsKeyFirst_shouldReplayItsDeck() {
+		when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty(),
+				Optional.of(new IdempotencyKeyEntity(KEY, 7, REQUEST_HASH, Instant.now())));
+		when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKeyEntity.class))).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+		final Claim replay = deckIdempotencyService.claim(KEY, REQUEST_HASH);
+
+		assertEquals(ClaimState.REPLAY, replay.getState());
+		assertEquals(7, replay.getDeckId());
+	}
+
+	@Test
+	void requestHashShouldOnlyMatchEqualRequests() {
+		final String requestHash = DeckIdempotencyService.requestHash(deckRequest("hunter", "standard", deckSet("core", 15, 15)));
+
+		assertEquals(64, requestHash.length());
+		assertEquals(requestHash, DeckIdempotencyService.requestHash(deckRequest("hunter", "standard", deckSet("core", 15, 15))));
+		assertNotEquals(requestHash, DeckIdempotencyService.requestHash(deckRequest("hunter", "standard", deckSet("core", 15, 14))));
+	}
+
+	@Test
+	void whenKeyCannotBeStored_shouldStillReleaseDuplicates() throws Exception {
+		when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty());
+		when(idempotencyKeyRepository.complete(KEY, 7)).thenThrow(new IllegalStateException("Database down"));
+		final Claim claim = deckIdempotencyService.claim(KEY, REQUEST_HASH);
+
+		deckIdempotencyService.complete(claim, 7);
+
+		assertEquals(7, deckIdempotencyService.claim(KEY, REQUEST_HASH).getDeckId());
+	}
+}
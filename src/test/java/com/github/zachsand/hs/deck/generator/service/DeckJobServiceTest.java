@@ -0,0 +1,171 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.zachsand.hs.deck.generator.config.DeckBatchConfig;
+import com.github.zachsand.hs.deck.generator.config.DeckJobConfig;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckBatchRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel.JobPriority;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckJobResponseModel.JobState;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckResponseModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckView;
+
+@ExtendWith(MockitoExtension.class)
+class DeckJobServiceTest {
+
+	@Mock
+	private DeckBatchService deckBatchService;
+
+	@Mock
+	private CardCatalogService cardCatalogService;
+
+	private ThreadPoolExecutor executor;
+	private ForkJoinPool jobPool;
+	private DeckJobService deckJobService;
+	private final AtomicInteger deckIds = new AtomicInteger();
+
+	@BeforeEach
+	void setup() {
+		executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>());
+		jobPool = new ForkJoinPool(1);
+		deckJobService = new DeckJobService(deckBatchService, cardCatalogService, new DeckBatchConfig(10, 2, 100, 4, 1, 0, Duration.ofMinutes(1)),
+				new DeckJobConfig(1, 1, 1, 100, Duration.ofMinutes(1)), executor, jobPool);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+		jobPool.shutdown();
+	}
+
+	@Test
+	void whenJobCompletes_shouldReturnDeckCodesInChunks() throws InterruptedException {
+		when(deckBatchService.generateDeckChunk(anyList(), any(), eq(DeckView.CODE), eq(jobPool))).thenAnswer(invocation -> decks(invocation.getArgument(0)));
+
+		final String id = deckJobService.submitJob(batch("hunter", 10), JobPriority.NORMAL).orElseThrow().getId();
+		final DeckJobResponseModel job = awaitFinished(id);
+
+		assertEquals(JobState.COMPLETED.name(), job.getState());
+		assertEquals(10, job.getCompleted());
+		assertEquals(10, job.getDecks().size());
+		assertEquals("code-10", job.getDecks().get(9).getDeckCode());
+	}
+
+	@Test
+	void whenQueueIsFull_shouldRejectJob() throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		blockFirstChunk(started, release);
+
+		deckJobService.submitJob(batch("hunter", 1), JobPriority.NORMAL).orElseThrow();
+		started.await();
+		deckJobService.submitJob(batch("hunter", 1), JobPriority.NORMAL).orElseThrow();
+
+		assertTrue(deckJobService.submitJob(batch("hunter", 1), JobPriority.NORMAL).isEmpty());
+		release.countDown();
+	}
+
+	@Test
+	void whenQueuedJobIsCancelled_shouldNeverRun() throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		blockFirstChunk(started, release);
+
+		final String running = deckJobService.submitJob(batch("hunter", 1), JobPriority.NORMAL).orElseThrow().getId();
+		started.await();
+		final String queued = deckJobService.submitJob(batch("mage", 1), JobPriority.NORMAL).orElseThrow().getId();
+
+		assertEquals(JobState.CANCELLED.name(), deckJobService.cancelJob(queued).orElseThrow().getState());
+		assertEquals(0, executor.getQueue().size());
+		release.countDown();
+		assertEquals(JobState.COMPLETED.name(), awaitFinished(running).getState());
+	}
+
+	@Test
+	void whenJobsAreWaiting_shouldRunHigherPriorityFirst() throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final List<String> classNames = new CopyOnWriteArrayList<>();
+		when(deckBatchService.generateDeckChunk(anyList(), any(), eq(DeckView.CODE), eq(jobPool))).thenAnswer(invocation -> {
+			final List<DeckRequestModel> chunk = invocation.getArgument(0);
+			classNames.add(chunk.get(0).getClassName());
+			started.countDown();
+			release.await();
+			return decks(chunk);
+		});
+		deckJobService = new DeckJobService(deckBatchService, cardCatalogService, new DeckBatchConfig(10, 2, 100, 4, 1, 0, Duration.ofMinutes(1)),
+				new DeckJobConfig(1, 1, 2, 100, Duration.ofMinutes(1)), executor, jobPool);
+
+		deckJobService.submitJob(batch("hunter", 1), JobPriority.NORMAL).orElseThrow();
+		started.await();
+		deckJobService.submitJob(batch("mage", 1), JobPriority.LOW).orElseThrow();
+		final String last = deckJobService.submitJob(batch("priest", 1), JobPriority.HIGH).orElseThrow().getId();
+		release.countDown();
+		awaitFinished(last);
+
+		assertEquals(List.of("hunter", "priest"), classNames.subList(0, 2));
+	}
+
+	private void blockFirstChunk(final CountDownLatch started, final CountDownLatch release) {
+		when(deckBatchService.generateDeckChunk(anyList(), any(), eq(DeckView.CODE), eq(jobPool))).thenAnswer(invocation -> {
+			started.countDown();
+			release.await();
+			return decks(invocation.getArgument(0));
+		});
+	}
+
+	private DeckJobResponseModel awaitFinished(final String id) throws InterruptedException {
+		for (int attempt = 0; attempt < 500; attempt++) {
+			final DeckJobResponseModel job = deckJobService.getJob(id).orElseThrow();
+			if (!job.getState().equals(JobState.QUEUED.name()) && !job.getState().equals(JobState.RUNNING.name())) {
+				return job;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError("Job " + id + " did not finish");
+	}
+
+	private List<DeckResponseModel> decks(final List<DeckRequestModel> chunk) {
+		return IntStream.range(0, chunk.size()).mapToObj(i -> {
+			final DeckResponseModel deck = new DeckResponseModel();
+			deck.setId(deckIds.incrementAndGet());
+			deck.setDeckCode("code-" + deck.getId());
+			return deck;
+		}).collect(Collectors.toList());
+	}
+
+	private static DeckBatchRequestModel batch(final String className, final int count) {
+		final DeckRequestModel deckRequestModel = new DeckRequestModel();
+		deckRequestModel.setClassName(className);
+		final DeckBatchRequestModel deckBatchRequestModel = new DeckBatchRequestModel();
+		deckBatchRequestModel.setRequest(deckRequestModel);
+		deckBatchRequestModel.setCount(count);
+		return deckBatchRequestModel;
+	}
+}
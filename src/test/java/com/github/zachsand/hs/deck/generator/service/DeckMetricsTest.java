@@ -0,0 +1,60 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckRequestModel;
+import com.github.zachsand.hs.deck.generator.data.model.deck.DeckSetModel;
+import com.github.zachsand.hs.deck.generator.service.DeckMetrics.Stage;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DeckMetricsTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final DeckMetrics deckMetrics = new DeckMetrics(meterRegistry);
+
+	@Test
+	void whenRecording_shouldTagGameFormatAndDeckSetCount() {
+		assertEquals("card", deckMetrics.record(Stage.CARD_SAMPLING, request("WILD", 2), () -> "card"));
+
+		assertEquals(1, timer(Stage.CARD_SAMPLING, "wild", "2").count());
+		assertEquals(0, timer(Stage.CARD_SAMPLING, "standard", "2").count());
+	}
+
+	@Test
+	void whenRequestShapeIsUnbounded_shouldUseBoundedTags() {
+		deckMetrics.timer(Stage.MAPPING, request("notagameformat", 12)).record(() -> {});
+		deckMetrics.timer(Stage.MAPPING, request(null, 0)).record(() -> {});
+
+		assertEquals(1, timer(Stage.MAPPING, "invalid", DeckMetrics.MAX_DECK_SETS_TAG + "+").count());
+		assertEquals(1, timer(Stage.MAPPING, "invalid", "0").count());
+	}
+
+	@Test
+	void whenConstructed_shouldRegisterEveryMeterUpFront() {
+		final int shapes = 3 * (DeckMetrics.MAX_DECK_SETS_TAG + 1);
+
+		assertEquals(shapes * Stage.values().length, meterRegistry.get(DeckMetrics.STAGE_TIMER_NAME).timers().size());
+		assertEquals(shapes, meterRegistry.get(DeckMetrics.REJECTED_COUNTER_NAME).counters().size());
+	}
+
+	private Timer timer(final Stage stage, final String gameFormat, final String deckSets) {
+		return meterRegistry.get(DeckMetrics.STAGE_TIMER_NAME)
+				.tag("stage", stage.getTag())
+				.tag("game.format", gameFormat)
+				.tag("deck.sets", deckSets)
+				.timer();
+	}
+
+	private static DeckRequestModel request(final String gameFormat, final int deckSetCount) {
+		final DeckRequestModel deckRequestModel = new DeckRequestModel();
+		deckRequestModel.setGameFormat(gameFormat);
+		deckRequestModel.setDeckSets(deckSetCount == 0 ? null : Collections.nCopies(deckSetCount, new DeckSetModel()));
+		return deckRequestModel;
+	}
+}
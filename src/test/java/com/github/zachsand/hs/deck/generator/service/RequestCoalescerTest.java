@@ -0,0 +1,113 @@
+package com.github.zachsand.hs.deck.generator.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+	private final AtomicInteger coalesced = new AtomicInteger();
+	private final RequestCoalescer<String, Integer> coalescer = new RequestCoalescer<>(coalesced::incrementAndGet);
+	private final CountDownLatch computationStarted = new CountDownLatch(1);
+	private final CountDownLatch releaseComputation = new CountDownLatch(1);
+
+	@AfterEach
+	void stopDeadline() {
+		RequestDeadline.stop();
+	}
+
+	@Test
+	void whenIdenticalCallIsInProgress_shouldShareItsResult() throws Exception {
+		final AtomicInteger computations = new AtomicInteger();
+		final CompletableFuture<Integer> first = executeAsync(() -> {
+			blockComputation();
+			return computations.incrementAndGet();
+		});
+		assertTrue(computationStarted.await(5, TimeUnit.SECONDS));
+		final CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> coalescer.execute("hunter", computations::incrementAndGet));
+		awaitCoalesced(1);
+		releaseComputation.countDown();
+
+		assertEquals(1, first.get(5, TimeUnit.SECONDS));
+		assertEquals(1, second.get(5, TimeUnit.SECONDS));
+		assertEquals(0, coalescer.getInFlightCount());
+		assertEquals(2, coalescer.execute("hunter", computations::incrementAndGet));
+	}
+
+	@Test
+	void whenComputationFails_shouldFailIdenticalCalls() throws Exception {
+		final IllegalStateException failure = new IllegalStateException("Database down");
+		final CompletableFuture<Integer> first = executeAsync(() -> {
+			blockComputation();
+			throw failure;
+		});
+		assertTrue(computationStarted.await(5, TimeUnit.SECONDS));
+		final CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> coalescer.execute("hunter", () -> 2));
+		awaitCoalesced(1);
+		releaseComputation.countDown();
+
+		assertSame(failure, assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+		assertSame(failure, assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS)).getCause());
+	}
+
+	@Test
+	void whenComputingRequestRunsOutOfTime_shouldComputeWithinOwnDeadline() throws Exception {
+		final CompletableFuture<Integer> first = executeAsync(() -> {
+			blockComputation();
+			throw new DeadlineExceededException("Deadline of 10 ms exceeded before the slug checks");
+		});
+		assertTrue(computationStarted.await(5, TimeUnit.SECONDS));
+		final CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> coalescer.execute("hunter", () -> 2));
+		awaitCoalesced(1);
+		releaseComputation.countDown();
+
+		assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+		assertEquals(2, second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void whenDeadlinePassesWhileWaiting_shouldThrowDeadlineExceeded() throws Exception {
+		final CompletableFuture<Integer> first = executeAsync(() -> {
+			blockComputation();
+			return 1;
+		});
+		assertTrue(computationStarted.await(5, TimeUnit.SECONDS));
+		RequestDeadline.start(Duration.ofMillis(20));
+
+		assertThrows(DeadlineExceededException.class, () -> coalescer.execute("hunter", () -> 2));
+		releaseComputation.countDown();
+		assertEquals(1, first.get(5, TimeUnit.SECONDS));
+	}
+
+	private CompletableFuture<Integer> executeAsync(final Supplier<Integer> call) {
+		return CompletableFuture.supplyAsync(() -> coalescer.execute("hunter", call));
+	}
+
+	private void blockComputation() {
+		computationStarted.countDown();
+		try {
+			assertTrue(releaseComputation.await(5, TimeUnit.SECONDS));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void awaitCoalesced(final int calls) {
+		while (coalesced.get() < calls) {
+			Thread.onSpinWait();
+		}
+	}
+}